@@ -0,0 +1,119 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.flowpowered.noise.module.Module;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many chunks per second get the density of the Skylands
+ * terrain sampled, point by point with {@link Module#getValue} as before,
+ * and with {@link SkylandsGridNoise}. {@link #fastNoise()} also includes the
+ * interpolation of the whole chunk.
+ *
+ * <p>Each operation samples the next chunk of a row, so that the values
+ * differ between operations.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkylandsNoiseBenchmark {
+
+    private static final int SEED = 12345;
+    private static final int CHUNK_SIZE = 16;
+    private static final int HEIGHT = 256;
+    private static final int SAMPLING_RATE_XZ = 4;
+    private static final int SAMPLING_RATE_Y = 8;
+    private static final int CHUNKS = 64;
+    private static final Vector3i SAMPLING_RATE = new Vector3i(SAMPLING_RATE_XZ, SAMPLING_RATE_Y, SAMPLING_RATE_XZ);
+
+    private final Module density = SkylandsTerrainGenerator.createDensityModule(SEED);
+    private int chunk;
+
+    private int nextChunkX() {
+        this.chunk = (this.chunk + 1) % CHUNKS;
+        return this.chunk * CHUNK_SIZE;
+    }
+
+    /**
+     * Sample a chunk point by point.
+     *
+     * @return The samples
+     */
+    @Benchmark
+    public double[] pointwise() {
+        final int x = nextChunkX();
+        final int xSamples = CHUNK_SIZE / SAMPLING_RATE_XZ + 1;
+        final int ySamples = HEIGHT / SAMPLING_RATE_Y + 1;
+        final double[] samples = new double[xSamples * ySamples * xSamples];
+        int i = 0;
+        for (int zz = 0; zz < xSamples; zz++) {
+            for (int yy = 0; yy < ySamples; yy++) {
+                for (int xx = 0; xx < xSamples; xx++) {
+                    samples[i++] = this.density.getValue(x + xx * SAMPLING_RATE_XZ, yy * SAMPLING_RATE_Y, zz * SAMPLING_RATE_XZ);
+                }
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Sample a chunk as a grid.
+     *
+     * @return The samples
+     */
+    @Benchmark
+    public double[] grid() {
+        final int x = nextChunkX();
+        return SkylandsGridNoise.getValues(this.density, x, 0, 0, SAMPLING_RATE_XZ, SAMPLING_RATE_Y, SAMPLING_RATE_XZ,
+                CHUNK_SIZE / SAMPLING_RATE_XZ + 1, HEIGHT / SAMPLING_RATE_Y + 1, CHUNK_SIZE / SAMPLING_RATE_XZ + 1);
+    }
+
+    /**
+     * Generate the noise map of a chunk, sampled as a grid and interpolated.
+     *
+     * @return The noise map
+     */
+    @Benchmark
+    public double[] fastNoise() {
+        final int x = nextChunkX();
+        return SkylandsUtil.fastNoise(this.density, SAMPLING_RATE, x, 0, 0, CHUNK_SIZE, HEIGHT, CHUNK_SIZE);
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.format;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares formatting the parts of chat lines with the shared
+ * {@link TextFormat}s against allocating a new format and style per part.
+ * Run with {@code -Pjmh.prof=gc} to compare the allocated bytes per
+ * operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFormatBenchmark {
+
+    private static final TextColor GRAY = new BenchmarkColor("gray", Color.GRAY);
+    private static final TextColor GOLD = new BenchmarkColor("gold", Color.ORANGE);
+    private static final TextColor AQUA = new BenchmarkColor("aqua", Color.CYAN);
+    private static final TextColor WHITE = new BenchmarkColor("white", Color.WHITE);
+
+    private static final TextStyle BOLD = TextStyle.of(true, null, null, null, null);
+    private static final TextStyle ITALIC = TextStyle.of(null, true, null, null, null);
+
+    /**
+     * The colors and styles of the parts of a chat line:
+     * {@code [Admin] <Notch> message (edited)}.
+     */
+    private final TextColor[] colors = {GRAY, GOLD, GRAY, AQUA, GRAY, WHITE, GRAY};
+    private final TextStyle[] styles = {TextStyles.NONE, BOLD, TextStyles.NONE, TextStyles.NONE, TextStyles.NONE, TextStyles.NONE, ITALIC};
+    private final TextFormat[] formats = new TextFormat[this.colors.length];
+
+    /**
+     * Format the parts through the shared instances, like
+     * {@code TextBuilder} and {@code Texts.of} do.
+     *
+     * @return The formats of the parts
+     */
+    @Benchmark
+    public TextFormat[] shared() {
+        TextFormat format = TextFormat.of();
+        for (int i = 0; i < this.formats.length; i++) {
+            format = format.color(this.colors[i]).style(TextStyles.NONE.and(this.styles[i]));
+            this.formats[i] = format;
+        }
+        return this.formats;
+    }
+
+    /**
+     * Format the parts by allocating a style and a format for each part.
+     *
+     * @return The formats of the parts
+     */
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public TextFormat[] allocated() {
+        for (int i = 0; i < this.formats.length; i++) {
+            TextStyle style = this.styles[i];
+            this.formats[i] = new TextFormat(new TextStyle(style.isBold().orNull(), style.isItalic().orNull(), style.hasUnderline().orNull(),
+                    style.hasStrikethrough().orNull(), style.isObfuscated().orNull()), this.colors[i]);
+        }
+        return this.formats;
+    }
+
+    /**
+     * A color outside of the catalog, which is not available to benchmarks.
+     */
+    private static final class BenchmarkColor implements TextColor {
+
+        private final String id;
+        private final Color color;
+
+        BenchmarkColor(String id, Color color) {
+            this.id = id;
+            this.color = color;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getName() {
+            return this.id;
+        }
+
+        @Override
+        public Color getColor() {
+            return this.color;
+        }
+
+    }
+
+}
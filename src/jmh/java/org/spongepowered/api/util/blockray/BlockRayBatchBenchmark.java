@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tracing a {@link BlockRayBatch} in parallel against tracing the
+ * same rays with the calling thread only.
+ *
+ * <p>The volume is a proxy which only implements
+ * {@link ImmutableBlockVolume#containsBlock(int, int, int)}, and the rays stop
+ * at a pseudo-random terrain surface.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockRayBatchBenchmark {
+
+    private static final int RAYS = 8192;
+    private static final double DISTANCE = 128;
+    private static final Executor CALLER = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            // Let the calling thread trace all chunks
+        }
+    };
+    private static final BlockRayFilter TERRAIN = new BlockRayFilter() {
+        @Override
+        public boolean accept(ImmutableBlockVolume volume, int blockX, int blockY, int blockZ, double distance) {
+            return blockY > 48 + ((blockX * 73856093 ^ blockZ * 19349663) & 15);
+        }
+    };
+
+    private final BlockRayBatch batch;
+
+    /**
+     * Create the benchmark with random rays.
+     */
+    public BlockRayBatchBenchmark() {
+        final ImmutableBlockVolume volume = (ImmutableBlockVolume) Proxy.newProxyInstance(ImmutableBlockVolume.class.getClassLoader(),
+                new Class<?>[] {ImmutableBlockVolume.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("containsBlock")) {
+                            return (Integer) args[1] >= 0 && (Integer) args[1] < 256;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        this.batch = BlockRay.batch(volume);
+        final Random random = new Random(42);
+        for (int i = 0; i < RAYS; i++) {
+            this.batch.add(random.nextDouble() * 256, 80 + random.nextDouble() * 16, random.nextDouble() * 256, random.nextGaussian(),
+                    -Math.abs(random.nextGaussian()) * 0.3, random.nextGaussian(), DISTANCE, TERRAIN);
+        }
+    }
+
+    /**
+     * Trace the batch on the shared pool and the calling thread.
+     *
+     * @return The results
+     */
+    @Benchmark
+    public BlockRayBatch.Results parallel() {
+        return this.batch.trace();
+    }
+
+    /**
+     * Trace the batch on the calling thread only.
+     *
+     * @return The results
+     */
+    @Benchmark
+    public BlockRayBatch.Results serial() {
+        return this.batch.trace(CALLER);
+    }
+
+}
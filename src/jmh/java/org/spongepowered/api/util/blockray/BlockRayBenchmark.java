@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tracing rays with {@link BlockRay#trace(Extent, Vector3d, Vector3d, double, BlockRayVisitor)}
+ * against iterating a {@link BlockRay}. Run with {@code -Pjmh.prof=gc} to
+ * compare the allocated bytes per operation.
+ *
+ * <p>The extent is a proxy which only implements
+ * {@link Extent#containsBlock(int, int, int)}. Both variants call it for every
+ * block, so its overhead is the same for both.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockRayBenchmark {
+
+    private static final int RAYS = 64;
+    private static final double DISTANCE = 64;
+    private static final Vector3d ORIGIN = new Vector3d(0.5, 64.62, 0.5);
+
+    private final Extent extent = (Extent) Proxy.newProxyInstance(Extent.class.getClassLoader(), new Class<?>[] {Extent.class},
+            new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    if (method.getName().equals("containsBlock")) {
+                        return (Integer) args[1] >= 0 && (Integer) args[1] < 256;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    private final Vector3d[] directions = new Vector3d[RAYS];
+    private int blocks;
+
+    private final BlockRayVisitor<Extent> counter = new BlockRayVisitor<Extent>() {
+        @Override
+        public boolean visit(MutableBlockRayHit<Extent> hit) {
+            BlockRayBenchmark.this.blocks++;
+            return true;
+        }
+    };
+
+    /**
+     * Create the benchmark with random ray directions.
+     */
+    public BlockRayBenchmark() {
+        Random random = new Random(42);
+        for (int i = 0; i < RAYS; i++) {
+            this.directions[i] = new Vector3d(random.nextGaussian(), random.nextGaussian() * 0.2, random.nextGaussian()).normalize();
+        }
+    }
+
+    /**
+     * Trace the rays with a visitor.
+     *
+     * @return The number of blocks visited
+     */
+    @Benchmark
+    public int trace() {
+        this.blocks = 0;
+        for (Vector3d direction : this.directions) {
+            BlockRay.trace(this.extent, ORIGIN, direction, DISTANCE, this.counter);
+        }
+        return this.blocks;
+    }
+
+    /**
+     * Iterate the rays, limited to the same distance with a filter.
+     *
+     * @return The number of blocks iterated
+     */
+    @Benchmark
+    public int iterate() {
+        int blocks = 0;
+        for (Vector3d direction : this.directions) {
+            BlockRay<Extent> ray = BlockRay.from(this.extent, ORIGIN)
+                    .direction(direction)
+                    .filter(BlockRay.<Extent>maxDistanceFilter(ORIGIN, DISTANCE))
+                    .build();
+            while (ray.hasNext()) {
+                ray.next();
+                blocks++;
+            }
+        }
+        return blocks;
+    }
+
+}
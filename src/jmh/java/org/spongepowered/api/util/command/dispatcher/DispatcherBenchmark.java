@@ -0,0 +1,180 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.dispatcher;
+
+import com.google.common.base.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.command.CommandCallable;
+import org.spongepowered.api.util.command.CommandException;
+import org.spongepowered.api.util.command.CommandMapping;
+import org.spongepowered.api.util.command.CommandResult;
+import org.spongepowered.api.util.command.CommandSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures command lookup and completion throughput of {@link SimpleDispatcher}
+ * while other threads read from it or register and remove commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherBenchmark {
+
+    private static final int COMMANDS = 2000;
+
+    private final SimpleDispatcher dispatcher = new SimpleDispatcher();
+    private final String[] aliases = new String[COMMANDS];
+
+    /**
+     * Register the commands to look up, each under a plain and a namespaced alias.
+     */
+    @Setup
+    public void setup() {
+        for (int i = 0; i < COMMANDS; i++) {
+            this.aliases[i] = "command" + i;
+            this.dispatcher.register(NoopCallable.INSTANCE, this.aliases[i], "plugin" + i % 50 + ":command" + i);
+        }
+    }
+
+    /**
+     * Per-thread position in the list of aliases to look up.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int position;
+
+        int next() {
+            this.position = (this.position + 7919) % COMMANDS;
+            return this.position;
+        }
+    }
+
+    /**
+     * Look up aliases without any concurrent modification.
+     *
+     * @param cursor The alias cursor of this thread
+     * @return The mapping found
+     */
+    @Benchmark
+    @Group("lookup")
+    @GroupThreads(4)
+    public Optional<CommandMapping> lookupOnly(Cursor cursor) {
+        return this.dispatcher.get(this.aliases[cursor.next()], null);
+    }
+
+    /**
+     * Look up aliases while another thread registers and removes commands.
+     *
+     * @param cursor The alias cursor of this thread
+     * @return The mapping found
+     */
+    @Benchmark
+    @Group("lookupWhileRegistering")
+    @GroupThreads(3)
+    public Optional<CommandMapping> lookupContended(Cursor cursor) {
+        return this.dispatcher.get(this.aliases[cursor.next()], null);
+    }
+
+    /**
+     * Register and remove a command, contending with the lookups.
+     *
+     * @return Whether the command was removed
+     */
+    @Benchmark
+    @Group("lookupWhileRegistering")
+    @GroupThreads(1)
+    public boolean registerAndRemove() {
+        Optional<CommandMapping> mapping = this.dispatcher.register(NoopCallable.INSTANCE, "churn");
+        return this.dispatcher.removeMapping(mapping.get()).isPresent();
+    }
+
+    /**
+     * Complete a partial alias matching several commands.
+     *
+     * @param cursor The alias cursor of this thread
+     * @return The suggestions
+     * @throws CommandException never
+     */
+    @Benchmark
+    @Group("complete")
+    @GroupThreads(4)
+    public List<String> complete(Cursor cursor) throws CommandException {
+        return this.dispatcher.getSuggestions(null, "command" + cursor.next() % 100);
+    }
+
+    private static final class NoopCallable implements CommandCallable {
+
+        static final NoopCallable INSTANCE = new NoopCallable();
+
+        @Override
+        public CommandResult process(CommandSource source, String arguments) throws CommandException {
+            return CommandResult.empty();
+        }
+
+        @Override
+        public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean testPermission(CommandSource source) {
+            return true;
+        }
+
+        @Override
+        public Optional<? extends Text> getShortDescription(CommandSource source) {
+            return Optional.absent();
+        }
+
+        @Override
+        public Optional<? extends Text> getHelp(CommandSource source) {
+            return Optional.absent();
+        }
+
+        @Override
+        public Text getUsage(CommandSource source) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the storage types of the block buffers on a terrain-like volume
+ * of 128x128x128 blocks. Run with {@code -Pjmh.prof=gc} to compare the
+ * memory used by the buffers: the bytes allocated by {@link #create()} are
+ * the size of a filled buffer, plus the few palettes that were outgrown.
+ * The off-heap buffers only allocate their palette on the heap; their
+ * direct memory is two bytes per block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockBufferBenchmark {
+
+    private static final Vector3i SIZE = new Vector3i(128, 128, 128);
+    private static final BlockState AIR = BenchmarkBlockStates.create();
+    private static final BlockState[] GROUND = new BlockState[8];
+
+    static {
+        for (int i = 0; i < GROUND.length; i++) {
+            GROUND[i] = BenchmarkBlockStates.create();
+        }
+    }
+
+    @Param({"STANDARD", "THREAD_SAFE", "PALETTED", "OFF_HEAP"})
+    private StorageType type;
+    private final BlockState[] terrain = new BlockState[SIZE.getX() * SIZE.getY() * SIZE.getZ()];
+    private MutableBlockVolume buffer;
+
+    /**
+     * Generate the terrain: mostly one block at the bottom with a few others
+     * mixed in, air above a noisy surface.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        int index = 0;
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    final int surface = 64 + (int) (8 * Math.sin(x * 0.1) * Math.cos(z * 0.07));
+                    if (y > surface) {
+                        this.terrain[index++] = AIR;
+                    } else if (y == surface) {
+                        this.terrain[index++] = GROUND[1];
+                    } else {
+                        this.terrain[index++] = random.nextInt(20) == 0 ? GROUND[2 + random.nextInt(GROUND.length - 2)] : GROUND[0];
+                    }
+                }
+            }
+        }
+        this.buffer = create();
+    }
+
+    private void fill(MutableBlockVolume buffer) {
+        int index = 0;
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    buffer.setBlock(x, y, z, this.terrain[index++]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a buffer and fill it with the terrain.
+     *
+     * @return The buffer
+     */
+    @Benchmark
+    public MutableBlockVolume create() {
+        final MutableBlockVolume buffer = BlockBuffers.create(Vector3i.ZERO, SIZE, this.type, AIR);
+        fill(buffer);
+        return buffer;
+    }
+
+    /**
+     * Overwrite all blocks of the buffer with the terrain.
+     *
+     * @return The buffer
+     */
+    @Benchmark
+    public MutableBlockVolume write() {
+        fill(this.buffer);
+        return this.buffer;
+    }
+
+    /**
+     * Read all blocks of the buffer.
+     *
+     * @return The number of air blocks
+     */
+    @Benchmark
+    public int read() {
+        int air = 0;
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    if (this.buffer.getBlock(x, y, z) == AIR) {
+                        air++;
+                    }
+                }
+            }
+        }
+        return air;
+    }
+
+}
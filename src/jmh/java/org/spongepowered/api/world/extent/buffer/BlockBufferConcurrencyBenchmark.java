@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writer threads populating disjoint layers of a shared buffer of
+ * 128x128x128 blocks. The thread-safe buffer is compared against a
+ * standard buffer behind a single lock, the obvious way of sharing one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockBufferConcurrencyBenchmark {
+
+    private static final Vector3i SIZE = new Vector3i(128, 128, 128);
+    private static final BlockState[] BLOCKS = new BlockState[8];
+
+    static {
+        for (int i = 0; i < BLOCKS.length; i++) {
+            BLOCKS[i] = BenchmarkBlockStates.create();
+        }
+    }
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+    @Param({"THREAD_SAFE", "LOCKED"})
+    private String buffer;
+    private MutableBlockVolume volume;
+    private ExecutorService executor;
+    private Writer[] writers;
+
+    /**
+     * Create the buffer and split its layers between the writers as evenly
+     * as possible.
+     */
+    @Setup
+    public void setup() {
+        final boolean locked = this.buffer.equals("LOCKED");
+        this.volume = BlockBuffers.create(Vector3i.ZERO, SIZE, locked ? StorageType.STANDARD : StorageType.THREAD_SAFE, BLOCKS[0]);
+        this.executor = Executors.newFixedThreadPool(this.threads);
+        this.writers = new Writer[this.threads];
+        for (int i = 0; i < this.threads; i++) {
+            this.writers[i] = new Writer(this.volume, SIZE.getY() * i / this.threads, SIZE.getY() * (i + 1) / this.threads, locked);
+        }
+    }
+
+    /**
+     * Stop the writer threads.
+     */
+    @TearDown
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Write every block of the buffer, each thread writing its own layers.
+     *
+     * @return The buffer
+     * @throws InterruptedException If interrupted while waiting on the writers
+     * @throws ExecutionException If a writer failed
+     */
+    @Benchmark
+    public MutableBlockVolume populate() throws InterruptedException, ExecutionException {
+        final Future<?>[] futures = new Future<?>[this.writers.length];
+        for (int i = 0; i < this.writers.length; i++) {
+            futures[i] = this.executor.submit(this.writers[i]);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return this.volume;
+    }
+
+    private static final class Writer implements Runnable {
+
+        private final MutableBlockVolume volume;
+        private final int yMin;
+        private final int yMax;
+        private final boolean locked;
+
+        Writer(MutableBlockVolume volume, int yMin, int yMax, boolean locked) {
+            this.volume = volume;
+            this.yMin = yMin;
+            this.yMax = yMax;
+            this.locked = locked;
+        }
+
+        @Override
+        public void run() {
+            for (int y = this.yMin; y < this.yMax; y++) {
+                for (int z = 0; z < SIZE.getZ(); z++) {
+                    for (int x = 0; x < SIZE.getX(); x++) {
+                        final BlockState block = BLOCKS[(x ^ y ^ z) & BLOCKS.length - 1];
+                        if (this.locked) {
+                            synchronized (this.volume) {
+                                this.volume.setBlock(x, y, z, block);
+                            }
+                        } else {
+                            this.volume.setBlock(x, y, z, block);
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk operations of the block buffers against the equivalent
+ * loops over single blocks, on a region of 64x64x64 blocks, and the cost of
+ * taking immutable copies of a region being edited.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockVolumeBulkBenchmark {
+
+    private static final Vector3i SIZE = new Vector3i(64, 64, 64);
+    private static final Vector3i MAX = SIZE.sub(Vector3i.ONE);
+
+    @Param({"STANDARD", "PALETTED"})
+    private StorageType type;
+    private final BlockState air = BenchmarkBlockStates.create();
+    private final BlockState stone = BenchmarkBlockStates.create();
+    private MutableBlockVolume source;
+    private MutableBlockVolume destination;
+    private int edits;
+
+    /**
+     * Create the buffers, with a pattern in the source.
+     */
+    @Setup
+    public void setup() {
+        this.source = BlockBuffers.create(Vector3i.ZERO, SIZE, this.type, this.air);
+        this.destination = BlockBuffers.create(Vector3i.ZERO, SIZE, this.type, this.air);
+        for (int y = 0; y < 32; y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    this.source.setBlock(x, y, z, (x ^ z) % 7 == 0 ? this.air : this.stone);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fill the destination with a single operation.
+     *
+     * @return The destination
+     */
+    @Benchmark
+    public MutableBlockVolume fill() {
+        this.destination.fill(Vector3i.ZERO, MAX, this.stone);
+        return this.destination;
+    }
+
+    /**
+     * Fill the destination one block at a time.
+     *
+     * @return The destination
+     */
+    @Benchmark
+    public MutableBlockVolume fillLoop() {
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    this.destination.setBlock(x, y, z, this.stone);
+                }
+            }
+        }
+        return this.destination;
+    }
+
+    /**
+     * Copy the source with a single operation.
+     *
+     * @return The destination
+     */
+    @Benchmark
+    public MutableBlockVolume copy() {
+        this.destination.copyFrom(this.source, Vector3i.ZERO, Vector3i.ZERO, SIZE);
+        return this.destination;
+    }
+
+    /**
+     * Copy the source one block at a time.
+     *
+     * @return The destination
+     */
+    @Benchmark
+    public MutableBlockVolume copyLoop() {
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    this.destination.setBlock(x, y, z, this.source.getBlock(x, y, z));
+                }
+            }
+        }
+        return this.destination;
+    }
+
+    /**
+     * Take an immutable copy of the source, then edit one of its blocks as
+     * a live region would be between two copies.
+     *
+     * @return The copy
+     */
+    @Benchmark
+    public ImmutableBlockVolume snapshot() {
+        final ImmutableBlockVolume snapshot = this.source.getImmutableBlockCopy();
+        this.edits++;
+        this.source.setBlock(this.edits & MAX.getX(), 0, 0, (this.edits & SIZE.getX()) == 0 ? this.air : this.stone);
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.util.ParallelTasks;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.buffer.BlockBuffers;
+import org.spongepowered.api.world.gen.GeneratorPopulator;
+
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs generator populators on columns of the buffer concurrently. The
+ * populators must be thread-safe, and each column must only depend on its
+ * own blocks, as is the case for the Skylands ones.
+ *
+ * <p>Every column is generated in its own buffer, copied from the column
+ * before the populators run and back into it after, so the buffer passed
+ * to {@link #populate} does not need to support concurrent writes.</p>
+ */
+class ParallelColumnPopulator implements GeneratorPopulator {
+
+    // A multiple of the sampling rate of the terrain noise, so the columns sample it at the same points as the whole buffer
+    private static final int COLUMN_SIZE = 8;
+    private final GeneratorPopulator[] populators;
+    private final Executor executor;
+
+    /**
+     * Constructs a new parallel populator.
+     *
+     * @param executor The executor to generate the columns on, or null to use
+     *     the pool shared through {@link ParallelTasks}
+     * @param populators The populators to run on each column, in order
+     */
+    ParallelColumnPopulator(@Nullable Executor executor, GeneratorPopulator... populators) {
+        this.executor = executor == null ? ParallelTasks.getSharedExecutor() : executor;
+        this.populators = populators.clone();
+    }
+
+    @Override
+    public void populate(final World world, final MutableBlockVolume buffer, final ImmutableBiomeArea biomes) {
+        final Vector3i size = buffer.getBlockSize();
+        final int xColumns = (size.getX() + COLUMN_SIZE - 1) / COLUMN_SIZE;
+        final int zColumns = (size.getZ() + COLUMN_SIZE - 1) / COLUMN_SIZE;
+        if (xColumns * zColumns == 1) {
+            for (GeneratorPopulator populator : this.populators) {
+                populator.populate(world, buffer, biomes);
+            }
+            return;
+        }
+        final MutableBlockVolume[] columns = new MutableBlockVolume[xColumns * zColumns];
+        ParallelTasks.run(this.executor, columns.length, new ParallelTasks.Task() {
+            @Override
+            public void run(int column) {
+                columns[column] = generate(world, buffer, biomes, column % xColumns, column / xColumns);
+            }
+        });
+        // Only the calling thread writes to the buffer
+        for (MutableBlockVolume column : columns) {
+            buffer.copyFrom(column, column.getBlockMin(), column.getBlockMin(), column.getBlockSize());
+        }
+    }
+
+    private MutableBlockVolume generate(World world, MutableBlockVolume buffer, ImmutableBiomeArea biomes, int xColumn, int zColumn) {
+        final Vector3i bufferMin = buffer.getBlockMin();
+        final Vector3i bufferMax = buffer.getBlockMax();
+        final Vector3i min = bufferMin.add(xColumn * COLUMN_SIZE, 0, zColumn * COLUMN_SIZE);
+        final Vector3i max = new Vector3i(Math.min(min.getX() + COLUMN_SIZE - 1, bufferMax.getX()), bufferMax.getY(),
+                Math.min(min.getZ() + COLUMN_SIZE - 1, bufferMax.getZ()));
+        // Concurrent reads of the buffer are safe while nothing writes to it
+        final MutableBlockVolume column = BlockBuffers.copy(buffer.getBlockView(min, max), StorageType.STANDARD);
+        for (GeneratorPopulator populator : this.populators) {
+            populator.populate(world, column, biomes);
+        }
+        return column;
+    }
+
+}
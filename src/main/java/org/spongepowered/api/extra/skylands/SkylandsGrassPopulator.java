@@ -42,7 +42,8 @@
 import org.spongepowered.api.world.gen.GeneratorPopulator;
 
 /**
- * Places tall grass with groups of flowers.
+ * Places tall grass with groups of flowers. A single instance can populate
+ * chunks from multiple threads at once.
  */
 public class SkylandsGrassPopulator implements GeneratorPopulator {
 
@@ -66,9 +67,15 @@ public class SkylandsGrassPopulator implements GeneratorPopulator {
         null,
         null
     };
-    private final Voronoi flowerCells = new Voronoi();
-    private final Voronoi flowerDensities = new Voronoi();
-    private final RarityCurve flowerOdds = new RarityCurve();
+    // Each thread has its own modules for both layers of flower cells, as their seed changes with the world
+    private final ThreadLocal<FlowerNoise[]> flowerNoise = new ThreadLocal<FlowerNoise[]>() {
+
+        @Override
+        protected FlowerNoise[] initialValue() {
+            return new FlowerNoise[] {new FlowerNoise(), new FlowerNoise()};
+        }
+
+    };
 
     static {
         //noinspection ConstantConditions
@@ -77,20 +84,6 @@ public class SkylandsGrassPopulator implements GeneratorPopulator {
         TALL_GRASS = defaultGrass.with(Keys.SHRUB_TYPE, ShrubTypes.TALL_GRASS).get();
     }
 
-    /**
-     * Constructs a new grass populator for the Skylands.
-     */
-    public SkylandsGrassPopulator() {
-        this.flowerCells.setFrequency(0.1);
-        this.flowerCells.setDisplacement(FLOWERS.length - 1);
-        this.flowerCells.setEnableDistance(false);
-        this.flowerDensities.setFrequency(0.1);
-        this.flowerDensities.setDisplacement(0);
-        this.flowerDensities.setEnableDistance(true);
-        this.flowerOdds.setSourceModule(0, this.flowerDensities);
-        this.flowerOdds.setDegree(5);
-    }
-
     @Override
     @SuppressWarnings("ConstantConditions")
     public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea biomes) {
@@ -104,6 +97,11 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea
         final long seed = world.getProperties().getSeed();
         final int intSeed = (int) (seed >> 32 ^ seed);
         final int intSeed2 = intSeed * 28703;
+        final FlowerNoise[] flowerNoise = this.flowerNoise.get();
+        final FlowerNoise firstLayer = flowerNoise[0];
+        final FlowerNoise secondLayer = flowerNoise[1];
+        firstLayer.setSeed(intSeed);
+        secondLayer.setSeed(intSeed2);
         final int yStart = Math.min(yMax, SkylandsTerrainGenerator.MAX_HEIGHT);
         final int yEnd = Math.max(yMin, SkylandsTerrainGenerator.MIN_HEIGHT);
         final int xMin = min.getX();
@@ -122,17 +120,13 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea
                     // some random value to compare to odds
                     final float value = SkylandsUtil.hashToFloat(xx, zz, seed);
                     // get the flower for the current cell, may be null
-                    this.flowerCells.setSeed(intSeed);
-                    this.flowerDensities.setSeed(intSeed);
-                    Flower flower = FLOWERS[(int) this.flowerCells.getValue(xx, 0, zz)];
+                    Flower flower = firstLayer.getFlower(xx, zz);
                     // check if we have a flower based on odds for the cell
-                    if (flower == null || value < this.flowerOdds.getValue(xx, 0, zz)) {
+                    if (flower == null || value < firstLayer.getOdds(xx, zz)) {
                         // try with a different seed to create a second layer of flower cells, giving us some overlap
-                        this.flowerCells.setSeed(intSeed2);
-                        this.flowerDensities.setSeed(intSeed2);
-                        flower = FLOWERS[(int) this.flowerCells.getValue(xx, 0, zz)];
+                        flower = secondLayer.getFlower(xx, zz);
                         // try the check again if we have a flower
-                        if (flower != null && value < this.flowerOdds.getValue(xx, 0, zz)) {
+                        if (flower != null && value < secondLayer.getOdds(xx, zz)) {
                             // check failed, no flowers
                             flower = null;
                         }
@@ -211,6 +205,41 @@ private BlockState getUpperBlock() {
         }
     }
 
+    /**
+     * The noise modules for a layer of flower cells, used by a single thread.
+     */
+    private static class FlowerNoise {
+
+        private final Voronoi cells = new Voronoi();
+        private final Voronoi densities = new Voronoi();
+        private final RarityCurve odds = new RarityCurve();
+
+        private FlowerNoise() {
+            this.cells.setFrequency(0.1);
+            this.cells.setDisplacement(FLOWERS.length - 1);
+            this.cells.setEnableDistance(false);
+            this.densities.setFrequency(0.1);
+            this.densities.setDisplacement(0);
+            this.densities.setEnableDistance(true);
+            this.odds.setSourceModule(0, this.densities);
+            this.odds.setDegree(5);
+        }
+
+        private void setSeed(int seed) {
+            this.cells.setSeed(seed);
+            this.densities.setSeed(seed);
+        }
+
+        private Flower getFlower(int x, int z) {
+            // the cell values range from -displacement to displacement
+            return FLOWERS[(int) Math.abs(this.cells.getValue(x, 0, z))];
+        }
+
+        private double getOdds(int x, int z) {
+            return this.odds.getValue(x, 0, z);
+        }
+    }
+
     private static class RarityCurve extends Module {
 
         private double degree;
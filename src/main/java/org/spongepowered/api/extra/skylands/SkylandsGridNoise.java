@@ -0,0 +1,268 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import com.flowpowered.noise.Noise;
+import com.flowpowered.noise.NoiseQuality;
+import com.flowpowered.noise.Utils;
+import com.flowpowered.noise.module.Module;
+import com.flowpowered.noise.module.modifier.Exponent;
+import com.flowpowered.noise.module.modifier.ScaleBias;
+import com.flowpowered.noise.module.modifier.ScalePoint;
+import com.flowpowered.noise.module.source.Perlin;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates noise modules for all the points of a grid at once. A grid is
+ * given by the coordinates of its points on each axis, and the values are
+ * stored in a flat array, indexed like {@link SkylandsUtil#index3D}.
+ *
+ * <p>The modules used by the Skylands are evaluated with kernels which
+ * prepare everything that only depends on one coordinate once per axis,
+ * instead of once per point. Other modules are evaluated point by point.
+ * Both give exactly the same values as {@link Module#getValue}.</p>
+ */
+final class SkylandsGridNoise {
+
+    private SkylandsGridNoise() {
+    }
+
+    /**
+     * A module which can evaluate all the points of a grid by itself.
+     */
+    interface GridModule {
+
+        /**
+         * Evaluates the module for all the points of a grid.
+         *
+         * @param xs The x coordinates of the grid
+         * @param ys The y coordinates of the grid
+         * @param zs The z coordinates of the grid
+         * @param values The array in which to store the values, at least as
+         *     large as the grid
+         */
+        void getValues(double[] xs, double[] ys, double[] zs, double[] values);
+
+    }
+
+    /**
+     * Gets the coordinates of a regularly spaced axis of a grid.
+     *
+     * @param origin The first coordinate
+     * @param step The distance between coordinates
+     * @param size The number of coordinates
+     * @return The coordinates
+     */
+    static double[] axis(double origin, double step, int size) {
+        final double[] axis = new double[size];
+        for (int i = 0; i < size; i++) {
+            axis[i] = origin + i * step;
+        }
+        return axis;
+    }
+
+    /**
+     * Evaluates a module for all the points of a regular grid.
+     *
+     * @param module The module to evaluate
+     * @param x The x coordinate of the origin of the grid
+     * @param y The y coordinate of the origin of the grid
+     * @param z The z coordinate of the origin of the grid
+     * @param xStep The distance between points on x
+     * @param yStep The distance between points on y
+     * @param zStep The distance between points on z
+     * @param xSize The number of points on x
+     * @param ySize The number of points on y
+     * @param zSize The number of points on z
+     * @return The values, indexed like {@link SkylandsUtil#index3D}
+     */
+    static double[] getValues(Module module, double x, double y, double z, double xStep, double yStep, double zStep, int xSize, int ySize,
+            int zSize) {
+        final double[] values = new double[xSize * ySize * zSize];
+        getValues(module, axis(x, xStep, xSize), axis(y, yStep, ySize), axis(z, zStep, zSize), values);
+        return values;
+    }
+
+    /**
+     * Evaluates a module for all the points of a grid.
+     *
+     * @param module The module to evaluate
+     * @param xs The x coordinates of the grid
+     * @param ys The y coordinates of the grid
+     * @param zs The z coordinates of the grid
+     * @param values The array in which to store the values, at least as
+     *     large as the grid
+     */
+    static void getValues(Module module, double[] xs, double[] ys, double[] zs, double[] values) {
+        // Subclasses could override getValue, so only the exact classes use a kernel
+        final Class<?> type = module.getClass();
+        if (module instanceof GridModule) {
+            ((GridModule) module).getValues(xs, ys, zs, values);
+        } else if (type == Perlin.class) {
+            getPerlinValues((Perlin) module, xs, ys, zs, values);
+        } else if (type == ScalePoint.class) {
+            final ScalePoint scalePoint = (ScalePoint) module;
+            getValues(module.getSourceModule(0), scale(xs, scalePoint.getXScale()), scale(ys, scalePoint.getYScale()),
+                    scale(zs, scalePoint.getZScale()), values);
+        } else if (type == ScaleBias.class) {
+            final ScaleBias scaleBias = (ScaleBias) module;
+            final double scale = scaleBias.getScale();
+            final double bias = scaleBias.getBias();
+            final int size = xs.length * ys.length * zs.length;
+            getValues(module.getSourceModule(0), xs, ys, zs, values);
+            for (int i = 0; i < size; i++) {
+                values[i] = values[i] * scale + bias;
+            }
+        } else if (type == Exponent.class) {
+            final double exponent = ((Exponent) module).getExponent();
+            final int size = xs.length * ys.length * zs.length;
+            getValues(module.getSourceModule(0), xs, ys, zs, values);
+            for (int i = 0; i < size; i++) {
+                values[i] = Math.pow(Math.abs((values[i] + 1) / 2), exponent) * 2 - 1;
+            }
+        } else {
+            int i = 0;
+            for (double z : zs) {
+                for (double y : ys) {
+                    for (double x : xs) {
+                        values[i++] = module.getValue(x, y, z);
+                    }
+                }
+            }
+        }
+    }
+
+    private static double[] scale(double[] axis, double scale) {
+        final double[] scaled = new double[axis.length];
+        for (int i = 0; i < axis.length; i++) {
+            scaled[i] = axis[i] * scale;
+        }
+        return scaled;
+    }
+
+    private static void getPerlinValues(Perlin perlin, double[] xs, double[] ys, double[] zs, double[] values) {
+        final int size = xs.length * ys.length * zs.length;
+        Arrays.fill(values, 0, size, 0);
+        final PerlinAxis xAxis = new PerlinAxis(xs, perlin.getFrequency());
+        final PerlinAxis yAxis = new PerlinAxis(ys, perlin.getFrequency());
+        final PerlinAxis zAxis = new PerlinAxis(zs, perlin.getFrequency());
+        final NoiseQuality quality = perlin.getNoiseQuality();
+        final int octaves = perlin.getOctaveCount();
+        double persistence = 1;
+        for (int octave = 0; octave < octaves; octave++) {
+            xAxis.prepare(quality);
+            yAxis.prepare(quality);
+            zAxis.prepare(quality);
+            addGradientCoherentNoise(xAxis, yAxis, zAxis, perlin.getSeed() + octave, persistence, values);
+            xAxis.nextOctave(perlin.getLacunarity());
+            yAxis.nextOctave(perlin.getLacunarity());
+            zAxis.nextOctave(perlin.getLacunarity());
+            persistence *= perlin.getPersistence();
+        }
+    }
+
+    /**
+     * Adds gradient coherent noise, as evaluated by
+     * {@link Noise#gradientCoherentNoise3D}, multiplied by the persistence of
+     * the octave to the values.
+     */
+    private static void addGradientCoherentNoise(PerlinAxis xAxis, PerlinAxis yAxis, PerlinAxis zAxis, int seed, double persistence,
+            double[] values) {
+        int i = 0;
+        for (int zz = 0; zz < zAxis.size; zz++) {
+            final double z = zAxis.points[zz];
+            final int z0 = zAxis.lower[zz];
+            final int z1 = z0 + 1;
+            final double zs = zAxis.curve[zz];
+            for (int yy = 0; yy < yAxis.size; yy++) {
+                final double y = yAxis.points[yy];
+                final int y0 = yAxis.lower[yy];
+                final int y1 = y0 + 1;
+                final double ys = yAxis.curve[yy];
+                for (int xx = 0; xx < xAxis.size; xx++) {
+                    final double x = xAxis.points[xx];
+                    final int x0 = xAxis.lower[xx];
+                    final int x1 = x0 + 1;
+                    final double xs = xAxis.curve[xx];
+                    final double iy0z0 = Utils.linearInterp(Noise.gradientNoise3D(x, y, z, x0, y0, z0, seed),
+                            Noise.gradientNoise3D(x, y, z, x1, y0, z0, seed), xs);
+                    final double iy1z0 = Utils.linearInterp(Noise.gradientNoise3D(x, y, z, x0, y1, z0, seed),
+                            Noise.gradientNoise3D(x, y, z, x1, y1, z0, seed), xs);
+                    final double iy0z1 = Utils.linearInterp(Noise.gradientNoise3D(x, y, z, x0, y0, z1, seed),
+                            Noise.gradientNoise3D(x, y, z, x1, y0, z1, seed), xs);
+                    final double iy1z1 = Utils.linearInterp(Noise.gradientNoise3D(x, y, z, x0, y1, z1, seed),
+                            Noise.gradientNoise3D(x, y, z, x1, y1, z1, seed), xs);
+                    final double signal = Utils.linearInterp(Utils.linearInterp(iy0z0, iy1z0, ys), Utils.linearInterp(iy0z1, iy1z1, ys), zs);
+                    values[i++] += signal * persistence;
+                }
+            }
+        }
+    }
+
+    /**
+     * The coordinates of an axis of a grid for each octave of a
+     * {@link Perlin} module, with what only depends on them.
+     */
+    private static class PerlinAxis {
+
+        private final int size;
+        private final double[] coordinates;
+        private final double[] points;
+        private final int[] lower;
+        private final double[] curve;
+
+        private PerlinAxis(double[] coordinates, double frequency) {
+            this.size = coordinates.length;
+            this.coordinates = scale(coordinates, frequency);
+            this.points = new double[this.size];
+            this.lower = new int[this.size];
+            this.curve = new double[this.size];
+        }
+
+        private void prepare(NoiseQuality quality) {
+            for (int i = 0; i < this.size; i++) {
+                final double point = Utils.makeInt32Range(this.coordinates[i]);
+                final int lower = point > 0 ? (int) point : (int) point - 1;
+                this.points[i] = point;
+                this.lower[i] = lower;
+                if (quality == NoiseQuality.FAST) {
+                    this.curve[i] = point - lower;
+                } else if (quality == NoiseQuality.STANDARD) {
+                    this.curve[i] = Utils.sCurve3(point - lower);
+                } else {
+                    this.curve[i] = Utils.sCurve5(point - lower);
+                }
+            }
+        }
+
+        private void nextOctave(double lacunarity) {
+            for (int i = 0; i < this.size; i++) {
+                this.coordinates[i] *= lacunarity;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.flowpowered.noise.module.Module;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the samples of a noise module on the coarse grid used by
+ * {@link SkylandsUtil#fastNoise}, so that chunks share the samples on their
+ * borders, and buffers covering parts of the same chunk share all of them.
+ * The samples are grouped by chunk column, and the least recently used
+ * columns are evicted. Within a column, each vertical line of samples is
+ * only evaluated once it is needed.
+ *
+ * <p>The cache can be used by multiple threads, each evaluating its own
+ * copy of the module, as long as the copies have the same seed.</p>
+ */
+final class SkylandsNoiseCache {
+
+    private static final int CHUNK_SHIFT = 4;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    // About 4 KiB each for the Skylands
+    private static final int MAXIMUM_COLUMNS = 1024;
+    private final int seed;
+    private final Vector3i samplingRate;
+    private final int height;
+    private final int xLines;
+    private final LoadingCache<Long, AtomicReferenceArray<double[]>> columns;
+
+    /**
+     * Constructs a new cache.
+     *
+     * @param seed The seed of the module
+     * @param samplingRate The sampling rate of the grid, which must divide
+     *     the size of a chunk on x and z
+     * @param height The maximum y coordinate of the cached samples, starting
+     *     at zero
+     */
+    SkylandsNoiseCache(int seed, Vector3i samplingRate, int height) {
+        this.seed = seed;
+        this.samplingRate = samplingRate;
+        this.height = height;
+        this.xLines = (CHUNK_MASK + 1) / samplingRate.getX();
+        final int lines = this.xLines * ((CHUNK_MASK + 1) / samplingRate.getZ());
+        this.columns = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_COLUMNS)
+                .build(new CacheLoader<Long, AtomicReferenceArray<double[]>>() {
+                    @Override
+                    public AtomicReferenceArray<double[]> load(Long key) {
+                        return new AtomicReferenceArray<double[]>(lines);
+                    }
+                });
+    }
+
+    /**
+     * Gets the seed of the module sampled by this cache.
+     *
+     * @return The seed
+     */
+    int getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns whether the samples of a region of the noise are in the cache,
+     * which is the case if the region is aligned on the grid and between
+     * zero and the height of the cache.
+     *
+     * @param x The x position of the origin of the region
+     * @param y The y position of the origin of the region
+     * @param z The z position of the origin of the region
+     * @param ySize The size on y
+     * @return Whether the cache has the samples
+     */
+    boolean covers(int x, int y, int z, int ySize) {
+        return x % this.samplingRate.getX() == 0 && y % this.samplingRate.getY() == 0 && z % this.samplingRate.getZ() == 0
+                && y >= 0 && y + ySize <= this.height;
+    }
+
+    /**
+     * Gets the samples of a vertical line of the grid, evaluating them if
+     * needed.
+     *
+     * @param noiseGenerator The module to evaluate, with the seed of the
+     *     cache
+     * @param x The x position of the line, on the grid
+     * @param z The z position of the line, on the grid
+     * @return The samples for each y position of the grid, in order, which
+     *     must not be modified
+     */
+    double[] getSamples(Module noiseGenerator, int x, int z) {
+        final AtomicReferenceArray<double[]> column = this.columns.getUnchecked((long) (x >> CHUNK_SHIFT) << 32 | (z >> CHUNK_SHIFT) & 0xffffffffL);
+        final int index = (z & CHUNK_MASK) / this.samplingRate.getZ() * this.xLines + (x & CHUNK_MASK) / this.samplingRate.getX();
+        double[] samples = column.get(index);
+        if (samples == null) {
+            final int samplingRateY = this.samplingRate.getY();
+            samples = SkylandsGridNoise.getValues(noiseGenerator, x, 0, z, 1, samplingRateY, 1, 1, this.height / samplingRateY + 1, 1);
+            // Another thread may have evaluated the same line, with the same result
+            column.set(index, samples);
+        }
+        return samples;
+    }
+
+}
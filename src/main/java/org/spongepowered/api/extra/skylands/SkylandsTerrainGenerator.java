@@ -40,8 +40,13 @@
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.gen.GeneratorPopulator;
 
+import java.util.Arrays;
+
 /**
- * A terrain generator for a Skylands look-alike.
+ * A terrain generator for a Skylands look-alike. A single instance can
+ * populate chunks from multiple threads at once: every thread evaluates its
+ * own copy of the noise modules. The density samples are cached and shared
+ * between neighbouring chunks.
  */
 public class SkylandsTerrainGenerator implements GeneratorPopulator {
 
@@ -57,9 +62,19 @@ public class SkylandsTerrainGenerator implements GeneratorPopulator {
      */
     public static final int MIN_HEIGHT = MID_POINT - LOWER_SIZE + 1;
     private static final Vector3i NOISE_SAMPLING_RATE = new Vector3i(4, 8, 4);
+    private static final int CACHED_HEIGHT = 256;
     private static final double THRESHOLD = 0.215;
-    private final Perlin inputNoise = new Perlin();
-    private final VerticalScaling outputNoise = new VerticalScaling();
+    // The seed of the modules is set for each chunk, so threads can't share them
+    private final ThreadLocal<TerrainNoise> noise = new ThreadLocal<TerrainNoise>() {
+
+        @Override
+        protected TerrainNoise initialValue() {
+            return new TerrainNoise();
+        }
+
+    };
+    // Replaced when the seed changes, which only happens with another world
+    private volatile SkylandsNoiseCache noiseCache = new SkylandsNoiseCache(0, NOISE_SAMPLING_RATE, CACHED_HEIGHT);
     private final OreNoise[] oreNoises;
 
     /**
@@ -67,33 +82,6 @@ public class SkylandsTerrainGenerator implements GeneratorPopulator {
      */
     @SuppressWarnings("ConstantConditions")
     public SkylandsTerrainGenerator() {
-        this.inputNoise.setFrequency(0.04);
-        this.inputNoise.setLacunarity(2);
-        this.inputNoise.setNoiseQuality(NoiseQuality.STANDARD);
-        this.inputNoise.setPersistence(0.5);
-        this.inputNoise.setOctaveCount(4);
-
-        final ScaleBias scaleBias = new ScaleBias();
-        scaleBias.setSourceModule(0, this.inputNoise);
-        scaleBias.setScale(1 / getOutputMax(this.inputNoise));
-        scaleBias.setBias(0);
-
-        final ScalePoint scalePoint = new ScalePoint();
-        scalePoint.setSourceModule(0, scaleBias);
-        scalePoint.setXScale(0.5);
-        scalePoint.setYScale(1);
-        scalePoint.setZScale(0.5);
-
-        final Exponent exponent = new Exponent();
-        exponent.setSourceModule(0, scalePoint);
-        exponent.setExponent(2.2);
-
-        this.outputNoise.setSourceModule(0, exponent);
-        this.outputNoise.setMidPoint(MID_POINT);
-        this.outputNoise.setUpperSize(UPPER_SIZE);
-        this.outputNoise.setLowerSize(LOWER_SIZE);
-        this.outputNoise.setDegree(2);
-
         this.oreNoises = new OreNoise[]{
             new OreNoise(GenericMath.lerp(THRESHOLD, 1, 0.07), 0.3, 0.64, BlockTypes.DIAMOND_ORE),
             new OreNoise(GenericMath.lerp(THRESHOLD, 1, 0.06), 0.27, 0.64, BlockTypes.GOLD_ORE),
@@ -113,7 +101,13 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea
         }
         final long seed = world.getProperties().getSeed();
         final int intSeed = (int) (seed >> 32 ^ seed);
-        this.inputNoise.setSeed(intSeed);
+        final TerrainNoise terrainNoise = this.noise.get();
+        terrainNoise.setSeed(intSeed);
+        SkylandsNoiseCache cache = this.noiseCache;
+        if (cache.getSeed() != intSeed) {
+            cache = new SkylandsNoiseCache(intSeed, NOISE_SAMPLING_RATE, CACHED_HEIGHT);
+            this.noiseCache = cache;
+        }
         final Vector3i size = buffer.getBlockSize();
         final int xSize = size.getX();
         final int ySize = size.getY();
@@ -124,7 +118,7 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea
         final int xMax = max.getX();
         final int yMax = max.getY();
         final int zMax = max.getZ();
-        final double[] noise = SkylandsUtil.fastNoise(this.outputNoise, NOISE_SAMPLING_RATE, xMin, yMin, zMin, xSize, ySize, zSize);
+        final double[] noise = SkylandsUtil.fastNoise(terrainNoise.getOutput(), cache, NOISE_SAMPLING_RATE, xMin, yMin, zMin, xSize, ySize, zSize);
         for (int zz = zMin; zz <= zMax; zz++) {
             for (int yy = yMin; yy <= yMax; yy++) {
                 xIteration:
@@ -144,6 +138,19 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea
         }
     }
 
+    /**
+     * Creates the module generating the density of the terrain, as used by
+     * a new generator.
+     *
+     * @param seed The seed of the world
+     * @return The density module
+     */
+    static Module createDensityModule(int seed) {
+        final TerrainNoise terrainNoise = new TerrainNoise();
+        terrainNoise.setSeed(seed);
+        return terrainNoise.getOutput();
+    }
+
     private static double getOutputMax(Perlin perlin) {
         final int octaves = perlin.getOctaveCount();
         final double persistence = perlin.getPersistence();
@@ -154,7 +161,54 @@ private static double getOutputMax(Perlin perlin) {
         return max;
     }
 
-    private static class VerticalScaling extends Module {
+    /**
+     * The noise modules generating the density of the terrain, used by a
+     * single thread.
+     */
+    private static class TerrainNoise {
+
+        private final Perlin input = new Perlin();
+        private final VerticalScaling output = new VerticalScaling();
+
+        private TerrainNoise() {
+            this.input.setFrequency(0.04);
+            this.input.setLacunarity(2);
+            this.input.setNoiseQuality(NoiseQuality.STANDARD);
+            this.input.setPersistence(0.5);
+            this.input.setOctaveCount(4);
+
+            final ScaleBias scaleBias = new ScaleBias();
+            scaleBias.setSourceModule(0, this.input);
+            scaleBias.setScale(1 / getOutputMax(this.input));
+            scaleBias.setBias(0);
+
+            final ScalePoint scalePoint = new ScalePoint();
+            scalePoint.setSourceModule(0, scaleBias);
+            scalePoint.setXScale(0.5);
+            scalePoint.setYScale(1);
+            scalePoint.setZScale(0.5);
+
+            final Exponent exponent = new Exponent();
+            exponent.setSourceModule(0, scalePoint);
+            exponent.setExponent(2.2);
+
+            this.output.setSourceModule(0, exponent);
+            this.output.setMidPoint(MID_POINT);
+            this.output.setUpperSize(UPPER_SIZE);
+            this.output.setLowerSize(LOWER_SIZE);
+            this.output.setDegree(2);
+        }
+
+        private void setSeed(int seed) {
+            this.input.setSeed(seed);
+        }
+
+        private Module getOutput() {
+            return this.output;
+        }
+    }
+
+    private static class VerticalScaling extends Module implements SkylandsGridNoise.GridModule {
 
         private double midPoint;
         private double upperScale;
@@ -197,6 +251,41 @@ public double getValue(double x, double y, double z) {
             }
             return scale > 0 ? sourceModule[0].getValue(x, y, z) * scale : 0;
         }
+
+        @Override
+        public void getValues(double[] xs, double[] ys, double[] zs, double[] values) {
+            // Only evaluate the source for the layers where the scale is positive
+            final double[] scales = new double[ys.length];
+            final double[] scaledYs = new double[ys.length];
+            int scaledCount = 0;
+            for (int i = 0; i < ys.length; i++) {
+                final double y = ys[i] - this.midPoint;
+                if (y >= 0) {
+                    scales[i] = 1 - Math.pow(y / this.upperScale, this.degree);
+                } else {
+                    scales[i] = 1 - Math.pow(-y / this.lowerScale, this.degree);
+                }
+                if (scales[i] > 0) {
+                    scaledYs[scaledCount++] = y;
+                }
+            }
+            final double[] sourceValues = new double[xs.length * scaledCount * zs.length];
+            SkylandsGridNoise.getValues(this.sourceModule[0], xs, Arrays.copyOf(scaledYs, scaledCount), zs, sourceValues);
+            int i = 0;
+            int sourceIndex = 0;
+            for (int zz = 0; zz < zs.length; zz++) {
+                for (double scale : scales) {
+                    if (scale > 0) {
+                        for (int xx = 0; xx < xs.length; xx++) {
+                            values[i++] = sourceValues[sourceIndex++] * scale;
+                        }
+                    } else {
+                        Arrays.fill(values, i, i + xs.length, 0);
+                        i += xs.length;
+                    }
+                }
+            }
+        }
     }
 
     private static class OreNoise {
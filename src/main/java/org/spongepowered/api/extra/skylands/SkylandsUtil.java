@@ -56,20 +56,81 @@ class SkylandsUtil {
      *     to index it
      */
     static double[] fastNoise(Module noiseGenerator, Vector3i samplingRate, int x, int y, int z, int xSize, int ySize, int zSize) {
-        xSize += 1;
-        ySize += 1;
-        zSize += 1;
         final int samplingRateX = samplingRate.getX();
         final int samplingRateY = samplingRate.getY();
         final int samplingRateZ = samplingRate.getZ();
-        final double[] noiseArray = new double[xSize * ySize * zSize];
-        for (int zz = 0; zz < zSize; zz += samplingRateZ) {
-            for (int yy = 0; yy < ySize; yy += samplingRateY) {
-                for (int xx = 0; xx < xSize; xx += samplingRateX) {
-                    noiseArray[index3D(xx, yy, zz, xSize, ySize)] = noiseGenerator.getValue(x + xx, y + yy, z + zz);
+        final int xSamples = xSize / samplingRateX + 1;
+        final int ySamples = ySize / samplingRateY + 1;
+        final int zSamples = zSize / samplingRateZ + 1;
+        final double[] samples = SkylandsGridNoise.getValues(noiseGenerator, x, y, z, samplingRateX, samplingRateY, samplingRateZ,
+                xSamples, ySamples, zSamples);
+        final double[] noiseArray = new double[(xSize + 1) * (ySize + 1) * (zSize + 1)];
+        int i = 0;
+        for (int zz = 0; zz < zSamples; zz++) {
+            for (int yy = 0; yy < ySamples; yy++) {
+                for (int xx = 0; xx < xSamples; xx++) {
+                    noiseArray[index3D(xx * samplingRateX, yy * samplingRateY, zz * samplingRateZ, xSize + 1, ySize + 1)] = samples[i++];
+                }
+            }
+        }
+        interpolate(noiseArray, samplingRate, xSize, ySize, zSize);
+        return noiseArray;
+    }
+
+    /**
+     * Generates the same noise map as
+     * {@link #fastNoise(Module, Vector3i, int, int, int, int, int, int)},
+     * taking the samples from a cache when it has them.
+     *
+     * @param noiseGenerator The noise generator module, with the seed of the
+     *     cache
+     * @param cache The cache of the samples, with the same sampling rate
+     * @param samplingRate The sampling rate to use for each axis
+     * @param x The x position of the origin of the map in the noise space
+     * @param y The y position of the origin of the map in the noise space
+     * @param z The z position of the origin of the map in the noise space
+     * @param xSize The size on x
+     * @param ySize The size on y
+     * @param zSize the size on z
+     * @return A flat array containing the noise values,
+     *     use {@link #index3D(int, int, int, int, int)} with size + 1
+     *     to index it
+     */
+    static double[] fastNoise(Module noiseGenerator, SkylandsNoiseCache cache, Vector3i samplingRate, int x, int y, int z, int xSize, int ySize,
+            int zSize) {
+        if (!cache.covers(x, y, z, ySize)) {
+            return fastNoise(noiseGenerator, samplingRate, x, y, z, xSize, ySize, zSize);
+        }
+        final double[] noiseArray = new double[(xSize + 1) * (ySize + 1) * (zSize + 1)];
+        final int yOffset = y / samplingRate.getY();
+        for (int zz = 0; zz <= zSize; zz += samplingRate.getZ()) {
+            for (int xx = 0; xx <= xSize; xx += samplingRate.getX()) {
+                final double[] samples = cache.getSamples(noiseGenerator, x + xx, z + zz);
+                for (int yy = 0; yy <= ySize; yy += samplingRate.getY()) {
+                    noiseArray[index3D(xx, yy, zz, xSize + 1, ySize + 1)] = samples[yOffset + yy / samplingRate.getY()];
                 }
             }
         }
+        interpolate(noiseArray, samplingRate, xSize, ySize, zSize);
+        return noiseArray;
+    }
+
+    /**
+     * Interpolates the values of a noise map between its samples.
+     *
+     * @param noiseArray The noise map, with the samples set
+     * @param samplingRate The sampling rate of the samples
+     * @param xSize The size on x
+     * @param ySize The size on y
+     * @param zSize The size on z
+     */
+    private static void interpolate(double[] noiseArray, Vector3i samplingRate, int xSize, int ySize, int zSize) {
+        xSize += 1;
+        ySize += 1;
+        zSize += 1;
+        final int samplingRateX = samplingRate.getX();
+        final int samplingRateY = samplingRate.getY();
+        final int samplingRateZ = samplingRate.getZ();
         for (int zz = 0; zz < zSize - 1; zz++) {
             final int zFract = zz % samplingRateZ;
             final int zPrevious = zz - zFract;
@@ -99,7 +160,6 @@ static double[] fastNoise(Module noiseGenerator, Vector3i samplingRate, int x, i
             }
 
         }
-        return noiseArray;
     }
 
     /**
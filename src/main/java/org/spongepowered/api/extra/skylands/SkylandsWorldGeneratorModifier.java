@@ -24,27 +24,76 @@
  */
 package org.spongepowered.api.extra.skylands;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.world.WorldCreationSettings;
 import org.spongepowered.api.world.gen.GeneratorPopulator;
 import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.api.world.gen.WorldGeneratorModifier;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
 
 /**
  * A world generator modifier for a Skylands look-alike.
+ *
+ * <p>In parallel mode, the columns of each chunk are generated
+ * concurrently: first the terrain, as the base generator populator, then
+ * the ground cover and grass, as a generator populator. The generator
+ * populators of the biomes still run in between, so the same seed generates
+ * the same chunks in both modes.</p>
  */
 public class SkylandsWorldGeneratorModifier implements WorldGeneratorModifier {
 
+    /**
+     * The boolean setting enabling the parallel mode for a world, false by
+     * default.
+     */
+    public static final DataQuery PARALLEL = DataQuery.of("parallel");
+    private final boolean parallel;
+    @Nullable private final Executor executor;
+
+    /**
+     * Constructs a new Skylands modifier, which uses the parallel mode for
+     * the worlds with the {@link #PARALLEL} setting.
+     */
+    public SkylandsWorldGeneratorModifier() {
+        this.parallel = false;
+        this.executor = null;
+    }
+
+    /**
+     * Constructs a new Skylands modifier which always uses the parallel mode,
+     * generating the columns on the given executor and the generating thread.
+     *
+     * @param executor The executor to generate the columns on
+     */
+    public SkylandsWorldGeneratorModifier(Executor executor) {
+        this.parallel = true;
+        this.executor = checkNotNull(executor, "executor");
+    }
+
     @Override
     public void modifyWorldGenerator(WorldCreationSettings world, DataContainer settings, WorldGenerator worldGenerator) {
-        worldGenerator.setBaseGeneratorPopulator(new SkylandsTerrainGenerator());
+        final SkylandsTerrainGenerator terrain = new SkylandsTerrainGenerator();
+        final SkylandsGroundCoverPopulator groundCover = new SkylandsGroundCoverPopulator();
+        final SkylandsGrassPopulator grass = new SkylandsGrassPopulator();
         worldGenerator.setBiomeGenerator(new SkylandsBiomeGenerator());
         final List<GeneratorPopulator> generatorPopulators = worldGenerator.getGeneratorPopulators();
         generatorPopulators.clear();
-        generatorPopulators.add(new SkylandsGroundCoverPopulator());
-        generatorPopulators.add(new SkylandsGrassPopulator());
+        if (this.parallel || settings.getBoolean(PARALLEL).or(false)) {
+            // Keep the serial order, where the biome generator populators run after the base one
+            worldGenerator.setBaseGeneratorPopulator(new ParallelColumnPopulator(this.executor, terrain));
+            generatorPopulators.add(new ParallelColumnPopulator(this.executor, groundCover, grass));
+        } else {
+            worldGenerator.setBaseGeneratorPopulator(terrain);
+            generatorPopulators.add(groundCover);
+            generatorPopulators.add(grass);
+        }
         // TODO: temporary, need to decide what to use
         worldGenerator.getPopulators().clear();
     }
@@ -26,12 +26,14 @@
 
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.util.command.CommandCallable;
 import org.spongepowered.api.util.command.CommandMapping;
 import org.spongepowered.api.util.command.CommandResult;
 import org.spongepowered.api.util.command.CommandSource;
 import org.spongepowered.api.util.command.dispatcher.Dispatcher;
+import org.spongepowered.api.util.command.spec.CommandSpec;
 
 import java.util.List;
 import java.util.Set;
@@ -147,6 +149,30 @@ public interface CommandService extends Dispatcher {
     @Override
     CommandResult process(CommandSource source, String arguments);
 
+    /**
+     * Execute the command based on input arguments, running the command's
+     * executor off the calling thread if the command supports it.
+     *
+     * <p>The command event is fired and the arguments are parsed on the
+     * calling thread. Executors of commands built with
+     * {@link CommandSpec.Builder#async(boolean)} are then run on a bounded
+     * executor belonging to the plugin that registered the command; all other
+     * commands are executed immediately, as in
+     * {@link #process(CommandSource, String)}. For commands with children,
+     * the flag of the child selected by the arguments applies, as in
+     * {@link CommandSpec#isAsync(org.spongepowered.api.util.command.args.CommandContext)}.</p>
+     *
+     * <p>Asynchronous executors are given a source which sends messages to
+     * the caller on the server thread. The returned future is completed on
+     * the server thread as well, where any error messages resulting from the
+     * execution are also sent to the source.</p>
+     *
+     * @param source The caller of the command
+     * @param arguments The raw arguments for this command
+     * @return A future holding the result of the command being processed
+     */
+    ListenableFuture<CommandResult> processAsync(CommandSource source, String arguments);
+
     /**
      * Get a list of suggestions based on input.
      *
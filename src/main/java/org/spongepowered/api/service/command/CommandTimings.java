@@ -0,0 +1,209 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.command;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Objects;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency and exception statistics of command invocations, recorded
+ * separately for each {@link Phase} of handling a command.
+ *
+ * <p>Latencies are kept in a histogram of logarithmic buckets, each split
+ * into eight linear sub-buckets, so percentiles are accurate to within
+ * 12.5%. The maximum latency is exact. Recording is lock-free and may
+ * happen concurrently from any thread.</p>
+ */
+public final class CommandTimings {
+
+    /**
+     * A phase of handling a command.
+     */
+    public enum Phase {
+        /**
+         * Checking permissions and parsing arguments.
+         */
+        PARSE,
+        /**
+         * Running the command's executor.
+         */
+        EXECUTE,
+        /**
+         * Computing tab completion suggestions.
+         */
+        COMPLETE
+    }
+
+    private final PhaseTimings[] phases = new PhaseTimings[Phase.values().length];
+
+    CommandTimings() {
+        for (int i = 0; i < this.phases.length; i++) {
+            this.phases[i] = new PhaseTimings();
+        }
+    }
+
+    void record(Phase phase, long nanos, boolean exceptional) {
+        this.phases[phase.ordinal()].record(nanos, exceptional);
+    }
+
+    /**
+     * Get the number of times the given phase has been recorded.
+     *
+     * @param phase The phase
+     * @return The number of invocations
+     */
+    public long getCount(Phase phase) {
+        return this.phases[phase.ordinal()].count.get();
+    }
+
+    /**
+     * Get the number of times the given phase ended with an exception,
+     * including exceptions reporting invalid input to the source.
+     *
+     * @param phase The phase
+     * @return The number of exceptions
+     */
+    public long getExceptionCount(Phase phase) {
+        return this.phases[phase.ordinal()].exceptions.get();
+    }
+
+    /**
+     * Get an approximation of the latency below which the given fraction of
+     * invocations of a phase completed.
+     *
+     * @param phase The phase
+     * @param percentile The fraction of invocations, between 0 and 1
+     * @return The latency in nanoseconds, or 0 if none were recorded
+     */
+    public long getPercentile(Phase phase, double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+        return this.phases[phase.ordinal()].percentile(percentile);
+    }
+
+    /**
+     * Get the highest latency of the given phase.
+     *
+     * @param phase The phase
+     * @return The latency in nanoseconds, or 0 if none were recorded
+     */
+    public long getMax(Phase phase) {
+        return this.phases[phase.ordinal()].max.get();
+    }
+
+    @Override
+    public String toString() {
+        Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        for (Phase phase : Phase.values()) {
+            helper.add(phase.name().toLowerCase(), this.phases[phase.ordinal()]);
+        }
+        return helper.toString();
+    }
+
+    private static final class PhaseTimings {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        // Latencies above 2^40ns (about 18 minutes) share the last bucket
+        private static final int MAX_EXPONENT = 40;
+        private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong exceptions = new AtomicLong();
+        final AtomicLong max = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos, boolean exceptional) {
+            if (nanos < 0) {
+                nanos = 0;
+            }
+            this.buckets.incrementAndGet(bucketOf(nanos));
+            this.count.incrementAndGet();
+            if (exceptional) {
+                this.exceptions.incrementAndGet();
+            }
+            long previous;
+            while ((previous = this.max.get()) < nanos) {
+                if (this.max.compareAndSet(previous, nanos)) {
+                    break;
+                }
+            }
+        }
+
+        long percentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += this.buckets.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += this.buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), this.max.get());
+                }
+            }
+            return this.max.get();
+        }
+
+        static int bucketOf(long nanos) {
+            if (nanos < SUB_BUCKETS) {
+                return (int) nanos;
+            }
+            final int exponent = Math.min(63 - Long.numberOfLeadingZeros(nanos), MAX_EXPONENT);
+            if (exponent == MAX_EXPONENT && nanos >= 1L << (MAX_EXPONENT + 1)) {
+                return BUCKETS - 1;
+            }
+            final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        static long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            final long subBucket = bucket % SUB_BUCKETS;
+            return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("count", this.count.get())
+                    .add("exceptions", this.exceptions.get())
+                    .add("p50", percentile(0.5))
+                    .add("p99", percentile(0.99))
+                    .add("max", this.max.get())
+                    .toString();
+        }
+    }
+
+}
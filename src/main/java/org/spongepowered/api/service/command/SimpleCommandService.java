@@ -26,35 +26,57 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+import static org.spongepowered.api.util.command.CommandMessageFormatting.NEWLINE_TEXT;
 import static org.spongepowered.api.util.command.CommandMessageFormatting.error;
 
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.base.Optional;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.message.CommandEvent;
 import org.spongepowered.api.event.message.CommandSuggestionsEvent;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectCollection;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.service.permission.context.Context;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TextBuilder;
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.sink.MessageSink;
 import org.spongepowered.api.util.TextMessageException;
+import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.util.command.CommandCallable;
 import org.spongepowered.api.util.command.CommandException;
 import org.spongepowered.api.util.command.CommandMapping;
+import org.spongepowered.api.util.command.CommandNotFoundException;
 import org.spongepowered.api.util.command.CommandPermissionException;
 import org.spongepowered.api.util.command.CommandResult;
 import org.spongepowered.api.util.command.CommandSource;
 import org.spongepowered.api.util.command.InvocationCommandException;
+import org.spongepowered.api.util.command.args.CommandContext;
 import org.spongepowered.api.util.command.dispatcher.Disambiguator;
 import org.spongepowered.api.util.command.dispatcher.SimpleDispatcher;
+import org.spongepowered.api.util.command.spec.CommandExecutor;
+import org.spongepowered.api.util.command.spec.CommandSpec;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -62,10 +84,19 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 /**
@@ -73,11 +104,18 @@
  * This service calls the appropriate events for a command.
  */
 public class SimpleCommandService implements CommandService {
+    private static final int ASYNC_THREADS = 2;
+    private static final int ASYNC_QUEUE_SIZE = 32;
     private final Game game;
     private final Logger log;
     private final SimpleDispatcher dispatcher;
-    private final Multimap<PluginContainer, CommandMapping> owners = HashMultimap.create();
+    // Guarded by the lock, readers use the snapshot which is only rebuilt once after a batch of changes
+    private final SetMultimap<PluginContainer, CommandMapping> owners = LinkedHashMultimap.create();
+    @Nullable private volatile ImmutableSetMultimap<PluginContainer, CommandMapping> ownersSnapshot = ImmutableSetMultimap.of();
     private final Object lock = new Object();
+    private final ConcurrentMap<PluginContainer, ListeningExecutorService> asyncExecutors = Maps.newConcurrentMap();
+    private final ConcurrentMap<CommandMapping, CommandTimings> mappingTimings = Maps.newConcurrentMap();
+    private final ConcurrentMap<PluginContainer, CommandTimings> pluginTimings = Maps.newConcurrentMap();
 
     /**
      * Construct a simple {@link CommandService}.
@@ -146,6 +184,7 @@ public Optional<CommandMapping> register(Object plugin, CommandCallable callable
 
             if (mapping.isPresent()) {
                 this.owners.put(container, mapping.get());
+                this.ownersSnapshot = null;
             }
 
             return mapping;
@@ -166,20 +205,29 @@ public Optional<CommandMapping> removeMapping(CommandMapping mapping) {
     }
 
     private void forgetMapping(CommandMapping mapping) {
-        Iterator<CommandMapping> it = this.owners.values().iterator();
-        while (it.hasNext()) {
-            if (it.next().equals(mapping)) {
-                it.remove();
-                break;
+        if (this.owners.values().removeAll(Collections.singleton(mapping))) {
+            this.ownersSnapshot = null;
+        }
+        this.mappingTimings.remove(mapping);
+    }
+
+    private ImmutableSetMultimap<PluginContainer, CommandMapping> getOwners() {
+        ImmutableSetMultimap<PluginContainer, CommandMapping> snapshot = this.ownersSnapshot;
+        if (snapshot == null) {
+            synchronized (this.lock) {
+                snapshot = this.ownersSnapshot;
+                if (snapshot == null) {
+                    snapshot = ImmutableSetMultimap.copyOf(this.owners);
+                    this.ownersSnapshot = snapshot;
+                }
             }
         }
+        return snapshot;
     }
 
     @Override
     public Set<PluginContainer> getPluginContainers() {
-        synchronized (this.lock) {
-            return ImmutableSet.copyOf(this.owners.keySet());
-        }
+        return getOwners().keySet();
     }
 
     @Override
@@ -195,9 +243,7 @@ public Set<CommandMapping> getOwnedBy(Object instance) {
                             + "(in other words, is 'plugin' actually your plugin object?)");
         }
 
-        synchronized (this.lock) {
-            return ImmutableSet.copyOf(this.owners.get(container.get()));
-        }
+        return getOwners().get(container.get());
     }
 
     @Override
@@ -237,65 +283,505 @@ public boolean containsMapping(CommandMapping mapping) {
 
     @Override
     public CommandResult process(CommandSource source, String commandLine) {
-        final String[] argSplit = commandLine.split(" ", 2);
-        final CommandEvent event = SpongeEventFactory.createCommand(this.game, argSplit.length > 1 ? argSplit[1] : "", source, argSplit[0],
-                CommandResult.empty());
+        // Split once, sharing the alias and arguments between the event and the dispatcher
+        final int split = commandLine.indexOf(' ');
+        final String alias = split == -1 ? commandLine : commandLine.substring(0, split);
+        final String arguments = split == -1 ? "" : commandLine.substring(split + 1);
+        final CommandEvent event = SpongeEventFactory.createCommand(this.game, arguments, source, alias, CommandResult.empty());
         this.game.getEventManager().post(event);
         if (event.isCancelled()) {
             return event.getResult();
         }
 
         try {
+            return dispatch(source, alias, arguments);
+        } catch (Throwable thr) {
+            handleException(source, commandLine, alias, thr);
+        }
+        return CommandResult.empty();
+    }
+
+    @Override
+    public ListenableFuture<CommandResult> processAsync(final CommandSource source, final String commandLine) {
+        final int split = commandLine.indexOf(' ');
+        final String alias = split == -1 ? commandLine : commandLine.substring(0, split);
+        final String arguments = split == -1 ? "" : commandLine.substring(split + 1);
+        final CommandEvent event = SpongeEventFactory.createCommand(this.game, arguments, source, alias, CommandResult.empty());
+        this.game.getEventManager().post(event);
+        if (event.isCancelled()) {
+            return Futures.immediateFuture(event.getResult());
+        }
+
+        final Optional<CommandMapping> mapping = this.dispatcher.get(alias, source);
+        final PluginContainer owner = mapping.isPresent() ? Iterables.getFirst(getOwners().inverse().get(mapping.get()), null) : null;
+        if (owner == null || !(mapping.get().getCallable() instanceof CommandSpec)) {
+            try {
+                return Futures.immediateFuture(dispatch(source, alias, arguments));
+            } catch (Throwable thr) {
+                handleException(source, commandLine, alias, thr);
+            }
+            return Futures.immediateFuture(CommandResult.empty());
+        }
+
+        // Parse on the calling thread, only the executor is run asynchronously
+        final CommandSpec spec = (CommandSpec) mapping.get().getCallable();
+        final CommandContext context;
+        try {
+            context = parse(source, mapping.get(), spec, arguments);
+        } catch (Throwable thr) {
+            handleException(source, commandLine, alias, thr);
+            return Futures.immediateFuture(CommandResult.empty());
+        }
+        // The parsed arguments select the executor, which may be a child's
+        if (!spec.isAsync(context)) {
             try {
-                return this.dispatcher.process(source, commandLine);
-            } catch (InvocationCommandException ex) {
-                if (ex.getCause() != null) {
-                    throw ex.getCause();
+                return Futures.immediateFuture(execute(source, mapping.get(), spec, context));
+            } catch (Throwable thr) {
+                handleException(source, commandLine, alias, thr);
+            }
+            return Futures.immediateFuture(CommandResult.empty());
+        }
+
+        // The executor only gets to send messages to the source, on the server thread
+        final ServerThreadExecutor serverThread = new ServerThreadExecutor(owner);
+        final CommandSource asyncSource = new ServerThreadCommandSource(source, serverThread);
+        ListenableFuture<CommandResult> execution;
+        try {
+            execution = getAsyncExecutor(owner).submit(new Callable<CommandResult>() {
+                @Override
+                public CommandResult call() throws CommandException {
+                    return execute(asyncSource, mapping.get(), spec, context);
                 }
-            } catch (CommandPermissionException ex) {
-                Text text = ex.getText();
-                if (text != null) {
-                    source.sendMessage(error(text));
+            });
+        } catch (RejectedExecutionException e) {
+            execution = Futures.immediateFailedFuture(new CommandException(t("Too many commands of %s are already running, try again later",
+                    owner.getName())));
+        }
+
+        final SettableFuture<CommandResult> result = SettableFuture.create();
+        Futures.addCallback(execution, new FutureCallback<CommandResult>() {
+            @Override
+            public void onSuccess(CommandResult commandResult) {
+                result.set(commandResult);
+            }
+
+            @Override
+            public void onFailure(Throwable thr) {
+                handleException(source, commandLine, alias, thr);
+                result.set(CommandResult.empty());
+            }
+        }, serverThread);
+        return result;
+    }
+
+    private CommandResult dispatch(CommandSource source, String alias, String arguments) throws CommandException {
+        final Optional<CommandMapping> mapping = this.dispatcher.get(alias, source);
+        if (!mapping.isPresent()) {
+            throw new CommandNotFoundException(t("commands.generic.notFound"), alias);
+        }
+        final CommandCallable callable = mapping.get().getCallable();
+        if (callable instanceof CommandSpec) {
+            final CommandSpec spec = (CommandSpec) callable;
+            return execute(source, mapping.get(), spec, parse(source, mapping.get(), spec, arguments));
+        }
+        final long start = System.nanoTime();
+        boolean exceptional = true;
+        try {
+            final CommandResult result = callable.process(source, arguments);
+            exceptional = false;
+            return result;
+        } catch (CommandNotFoundException e) {
+            throw childNotFound(e);
+        } finally {
+            recordTiming(mapping.get(), CommandTimings.Phase.EXECUTE, start, exceptional);
+        }
+    }
+
+    private static CommandException childNotFound(CommandNotFoundException e) {
+        return new CommandException(t("No such child command: %s", e.getCommand()));
+    }
+
+    private CommandContext parse(CommandSource source, CommandMapping mapping, CommandSpec spec, String arguments) throws CommandException {
+        final long start = System.nanoTime();
+        boolean exceptional = true;
+        try {
+            final CommandContext context = spec.parseContext(source, arguments);
+            exceptional = false;
+            return context;
+        } finally {
+            recordTiming(mapping, CommandTimings.Phase.PARSE, start, exceptional);
+        }
+    }
+
+    private CommandResult execute(CommandSource source, CommandMapping mapping, CommandSpec spec, CommandContext context) throws CommandException {
+        final long start = System.nanoTime();
+        boolean exceptional = true;
+        try {
+            final CommandResult result = spec.getExecutor().execute(source, context);
+            exceptional = false;
+            return result;
+        } catch (CommandNotFoundException e) {
+            throw childNotFound(e);
+        } finally {
+            recordTiming(mapping, CommandTimings.Phase.EXECUTE, start, exceptional);
+        }
+    }
+
+    private void recordTiming(CommandMapping mapping, CommandTimings.Phase phase, long start, boolean exceptional) {
+        final long nanos = System.nanoTime() - start;
+        getOrCreateTimings(this.mappingTimings, mapping).record(phase, nanos, exceptional);
+        final PluginContainer owner = Iterables.getFirst(getOwners().inverse().get(mapping), null);
+        if (owner != null) {
+            getOrCreateTimings(this.pluginTimings, owner).record(phase, nanos, exceptional);
+        }
+    }
+
+    private static <K> CommandTimings getOrCreateTimings(ConcurrentMap<K, CommandTimings> timings, K key) {
+        CommandTimings ret = timings.get(key);
+        if (ret == null) {
+            ret = new CommandTimings();
+            final CommandTimings existing = timings.putIfAbsent(key, ret);
+            if (existing != null) {
+                ret = existing;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Get the timings recorded for commands invoked through the given
+     * mapping.
+     *
+     * @param mapping The mapping
+     * @return The timings, if the mapping has been used since it was
+     *     registered or timings were last reset
+     */
+    public Optional<CommandTimings> getTimings(CommandMapping mapping) {
+        return Optional.fromNullable(this.mappingTimings.get(mapping));
+    }
+
+    /**
+     * Get the timings recorded for all commands registered by the given
+     * plugin.
+     *
+     * @param plugin The plugin
+     * @return The timings, if any of the plugin's commands have been used
+     *     since timings were last reset
+     */
+    public Optional<CommandTimings> getTimings(PluginContainer plugin) {
+        return Optional.fromNullable(this.pluginTimings.get(plugin));
+    }
+
+    /**
+     * Discard all recorded timings.
+     */
+    public void resetTimings() {
+        this.mappingTimings.clear();
+        this.pluginTimings.clear();
+    }
+
+    /**
+     * Create a report of the recorded timings, listing each plugin followed
+     * by its commands, slowest first.
+     *
+     * @return The report
+     */
+    public Text getTimingsReport() {
+        final TextBuilder builder = Texts.builder("Command timings (invocations, p50/p99/max latency):");
+        final List<PluginContainer> plugins = new ArrayList<PluginContainer>(this.pluginTimings.keySet());
+        Collections.sort(plugins, new Comparator<PluginContainer>() {
+            @Override
+            public int compare(PluginContainer o1, PluginContainer o2) {
+                return o1.getId().compareTo(o2.getId());
+            }
+        });
+        for (PluginContainer plugin : plugins) {
+            builder.append(NEWLINE_TEXT, Texts.of(plugin.getId() + ": " + formatTimings(this.pluginTimings.get(plugin))));
+            final List<Map.Entry<CommandMapping, CommandTimings>> mappings = new ArrayList<Map.Entry<CommandMapping, CommandTimings>>();
+            for (CommandMapping mapping : getOwners().get(plugin)) {
+                final CommandTimings timings = this.mappingTimings.get(mapping);
+                if (timings != null) {
+                    mappings.add(Maps.immutableEntry(mapping, timings));
                 }
-            } catch (CommandException ex) {
-                Text text = ex.getText();
-                if (text != null) {
-                    source.sendMessage(error(text));
+            }
+            Collections.sort(mappings, new Comparator<Map.Entry<CommandMapping, CommandTimings>>() {
+                @Override
+                public int compare(Map.Entry<CommandMapping, CommandTimings> o1, Map.Entry<CommandMapping, CommandTimings> o2) {
+                    return Longs.compare(maxLatency(o2.getValue()), maxLatency(o1.getValue()));
                 }
+            });
+            for (Map.Entry<CommandMapping, CommandTimings> entry : mappings) {
+                builder.append(NEWLINE_TEXT, Texts.of("  /" + entry.getKey().getPrimaryAlias() + ": " + formatTimings(entry.getValue())));
+            }
+        }
+        return builder.build();
+    }
 
-                final Optional<CommandMapping> mapping = this.dispatcher.get(argSplit[0], source);
-                if (mapping.isPresent()) {
-                    source.sendMessage(error(t("Usage: /%s %s", argSplit[0], mapping.get().getCallable().getUsage(source))));
-                }
+    /**
+     * Create a command sending the {@link #getTimingsReport() timings report}
+     * to its source, to be registered by the implementation.
+     *
+     * @return The command
+     */
+    public CommandSpec createTimingsCommand() {
+        return CommandSpec.builder()
+                .description(Texts.of("Show the time taken by commands and their completions"))
+                .permission("sponge.command.timings")
+                .executor(new CommandExecutor() {
+                    @Override
+                    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                        src.sendMessage(getTimingsReport());
+                        return CommandResult.success();
+                    }
+                })
+                .build();
+    }
+
+    private static long maxLatency(CommandTimings timings) {
+        long max = 0;
+        for (CommandTimings.Phase phase : CommandTimings.Phase.values()) {
+            max = Math.max(max, timings.getMax(phase));
+        }
+        return max;
+    }
+
+    private static String formatTimings(CommandTimings timings) {
+        final StringBuilder builder = new StringBuilder();
+        for (CommandTimings.Phase phase : CommandTimings.Phase.values()) {
+            final long count = timings.getCount(phase);
+            if (count == 0) {
+                continue;
             }
-        } catch (Throwable thr) {
-            TextBuilder excBuilder;
-            if (thr instanceof TextMessageException) {
-                Text text = ((TextMessageException) thr).getText();
-                excBuilder = text == null ? Texts.builder("null") : text.builder();
-            } else {
-                excBuilder = Texts.builder(String.valueOf(thr.getMessage()));
+            if (builder.length() > 0) {
+                builder.append(", ");
             }
-            if (source.hasPermission("sponge.debug.hover-stacktrace")) {
-                final StringWriter writer = new StringWriter();
-                thr.printStackTrace(new PrintWriter(writer));
-                excBuilder.onHover(TextActions.showText(Texts.of(writer.toString()
-                        .replace("\t", "    ")
-                        .replace("\r\n", "\n")
-                        .replace("\r", "\n")))); // I mean I guess somebody could be running this on like OS 9?
+            builder.append(phase.name().toLowerCase()).append(' ').append(count).append(String.format("x %.2f/%.2f/%.2fms",
+                    timings.getPercentile(phase, 0.5) / 1e6, timings.getPercentile(phase, 0.99) / 1e6, timings.getMax(phase) / 1e6));
+            final long exceptions = timings.getExceptionCount(phase);
+            if (exceptions > 0) {
+                builder.append(" (").append(exceptions).append(" failed)");
             }
-            source.sendMessage(error(t("Error occurred while executing command: %s", excBuilder.build())));
-            this.log.error(Texts.toPlain(t("Error occurred while executing command '%s' for source %s: %s", commandLine, source.toString(), String
-                    .valueOf(thr.getMessage()))), thr);
         }
-        return CommandResult.empty();
+        return builder.toString();
+    }
+
+    private void handleException(CommandSource source, String commandLine, String alias, Throwable thr) {
+        if (thr instanceof InvocationCommandException) {
+            if (thr.getCause() == null) {
+                return;
+            }
+            thr = thr.getCause();
+        } else if (thr instanceof CommandPermissionException) {
+            Text text = ((CommandPermissionException) thr).getText();
+            if (text != null) {
+                source.sendMessage(error(text));
+            }
+            return;
+        } else if (thr instanceof CommandException) {
+            Text text = ((CommandException) thr).getText();
+            if (text != null) {
+                source.sendMessage(error(text));
+            }
+
+            final Optional<CommandMapping> mapping = this.dispatcher.get(alias, source);
+            if (mapping.isPresent()) {
+                source.sendMessage(error(t("Usage: /%s %s", alias, mapping.get().getCallable().getUsage(source))));
+            }
+            return;
+        }
+
+        TextBuilder excBuilder;
+        if (thr instanceof TextMessageException) {
+            Text text = ((TextMessageException) thr).getText();
+            excBuilder = text == null ? Texts.builder("null") : text.builder();
+        } else {
+            excBuilder = Texts.builder(String.valueOf(thr.getMessage()));
+        }
+        if (source.hasPermission("sponge.debug.hover-stacktrace")) {
+            final StringWriter writer = new StringWriter();
+            thr.printStackTrace(new PrintWriter(writer));
+            excBuilder.onHover(TextActions.showText(Texts.of(writer.toString()
+                    .replace("\t", "    ")
+                    .replace("\r\n", "\n")
+                    .replace("\r", "\n")))); // I mean I guess somebody could be running this on like OS 9?
+        }
+        source.sendMessage(error(t("Error occurred while executing command: %s", excBuilder.build())));
+        this.log.error(Texts.toPlain(t("Error occurred while executing command '%s' for source %s: %s", commandLine, source.toString(), String
+                .valueOf(thr.getMessage()))), thr);
+    }
+
+    private ListeningExecutorService getAsyncExecutor(PluginContainer container) {
+        ListeningExecutorService executor = this.asyncExecutors.get(container);
+        if (executor == null) {
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(ASYNC_THREADS, ASYNC_THREADS, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<Runnable>(ASYNC_QUEUE_SIZE), new ThreadFactoryBuilder()
+                            .setNameFormat("Command Executor - " + container.getId() + " - #%d")
+                            .setDaemon(true)
+                            .build());
+            pool.allowCoreThreadTimeOut(true);
+            executor = MoreExecutors.listeningDecorator(pool);
+            final ListeningExecutorService existing = this.asyncExecutors.putIfAbsent(container, executor);
+            if (existing != null) {
+                executor.shutdown();
+                executor = existing;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Runs tasks on the server thread as synchronous tasks of a plugin.
+     */
+    private class ServerThreadExecutor implements Executor {
+        private final PluginContainer owner;
+
+        ServerThreadExecutor(PluginContainer owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            SimpleCommandService.this.game.getScheduler().createTaskBuilder()
+                    .execute(command)
+                    .submit(this.owner.getInstance());
+        }
+    }
+
+    /**
+     * A source given to asynchronous executors, which sends messages to the
+     * actual source on the server thread. Everything else is forwarded
+     * directly.
+     */
+    private static class ServerThreadCommandSource implements CommandSource {
+        private final CommandSource source;
+        private final Executor serverThread;
+
+        ServerThreadCommandSource(CommandSource source, Executor serverThread) {
+            this.source = source;
+            this.serverThread = serverThread;
+        }
+
+        @Override
+        public String getName() {
+            return this.source.getName();
+        }
+
+        @Override
+        public void sendMessage(Text... messages) {
+            sendMessage(Arrays.asList(messages));
+        }
+
+        @Override
+        public void sendMessage(Iterable<Text> messages) {
+            // Copied now, the caller may change them before the task is run
+            final List<Text> copy = ImmutableList.copyOf(messages);
+            this.serverThread.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ServerThreadCommandSource.this.source.sendMessage(copy);
+                }
+            });
+        }
+
+        @Override
+        public MessageSink getMessageSink() {
+            return this.source.getMessageSink();
+        }
+
+        @Override
+        public void setMessageSink(MessageSink sink) {
+            this.source.setMessageSink(sink);
+        }
+
+        @Override
+        public String getIdentifier() {
+            return this.source.getIdentifier();
+        }
+
+        @Override
+        public Optional<CommandSource> getCommandSource() {
+            return Optional.<CommandSource>of(this);
+        }
+
+        @Override
+        public SubjectCollection getContainingCollection() {
+            return this.source.getContainingCollection();
+        }
+
+        @Override
+        public SubjectData getSubjectData() {
+            return this.source.getSubjectData();
+        }
+
+        @Override
+        public SubjectData getTransientSubjectData() {
+            return this.source.getTransientSubjectData();
+        }
+
+        @Override
+        public boolean hasPermission(Set<Context> contexts, String permission) {
+            return this.source.hasPermission(contexts, permission);
+        }
+
+        @Override
+        public boolean hasPermission(String permission) {
+            return this.source.hasPermission(permission);
+        }
+
+        @Override
+        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+            return this.source.getPermissionValue(contexts, permission);
+        }
+
+        @Override
+        public boolean isChildOf(Subject parent) {
+            return this.source.isChildOf(parent);
+        }
+
+        @Override
+        public boolean isChildOf(Set<Context> contexts, Subject parent) {
+            return this.source.isChildOf(contexts, parent);
+        }
+
+        @Override
+        public List<Subject> getParents() {
+            return this.source.getParents();
+        }
+
+        @Override
+        public List<Subject> getParents(Set<Context> contexts) {
+            return this.source.getParents(contexts);
+        }
+
+        @Override
+        public Set<Context> getActiveContexts() {
+            return this.source.getActiveContexts();
+        }
+
+        @Override
+        public String toString() {
+            return this.source.toString();
+        }
     }
 
     @Override
     public List<String> getSuggestions(CommandSource src, String arguments) {
         try {
             final String[] argSplit = arguments.split(" ", 2);
-            List<String> suggestions = new ArrayList<String>(this.dispatcher.getSuggestions(src, arguments));
+            List<String> suggestions;
+            final Optional<CommandMapping> mapping = argSplit.length > 1 ? this.dispatcher.get(argSplit[0], src) : Optional.<CommandMapping>absent();
+            if (mapping.isPresent()) {
+                final long start = System.nanoTime();
+                boolean exceptional = true;
+                try {
+                    suggestions = new ArrayList<String>(mapping.get().getCallable().getSuggestions(src, argSplit[1]));
+                    exceptional = false;
+                } finally {
+                    recordTiming(mapping.get(), CommandTimings.Phase.COMPLETE, start, exceptional);
+                }
+            } else {
+                suggestions = new ArrayList<String>(this.dispatcher.getSuggestions(src, arguments));
+            }
             final CommandSuggestionsEvent event = SpongeEventFactory.createCommandSuggestions(this.game, argSplit.length > 1 ? argSplit[1] : "", src,
                     argSplit[0], suggestions);
             this.game.getEventManager().post(event);
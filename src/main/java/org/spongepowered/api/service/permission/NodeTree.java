@@ -24,11 +24,17 @@
  */
 package org.spongepowered.api.service.permission;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import org.spongepowered.api.util.Tristate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -38,6 +44,10 @@
  */
 public class NodeTree {
 
+    /**
+     * The segment that matches any single segment of a node in queries.
+     */
+    public static final String WILDCARD = "*";
     private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
     private final Node rootNode;
 
@@ -69,22 +79,11 @@ public static NodeTree of(Map<String, Boolean> values) {
      * @return The newly created node tree
      */
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
-        NodeTree newTree = new NodeTree(defaultValue);
+        Builder builder = new NodeTree(defaultValue).toBuilder();
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
-            Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<String, Node>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
-                }
-            }
-            currentNode.value = Tristate.fromBoolean(value.getValue());
+            builder.set(value.getKey(), Tristate.fromBoolean(value.getValue()));
         }
-        return newTree;
+        return builder.build();
     }
 
     /**
@@ -96,7 +95,7 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
     public Tristate get(String node) {
         String[] parts = SPLIT_REGEX.split(node.toLowerCase());
         Node currentNode = this.rootNode;
-        Tristate lastUndefinedVal = Tristate.UNDEFINED;
+        Tristate lastUndefinedVal = this.rootNode.value;
         for (String str : parts) {
             if (!currentNode.children.containsKey(str)) {
                 break;
@@ -110,6 +109,87 @@ public Tristate get(String node) {
 
     }
 
+    /**
+     * Return the node tree rooted at the given node. The returned tree shares its structure with this tree, and its
+     * root value is the value of the given node in this tree, so that lookups relative to the returned tree resolve
+     * the same way as the equivalent lookups in this tree.
+     *
+     * @param node The path of the node to use as the new root
+     * @return The subtree rooted at the given node
+     */
+    public NodeTree getSubtree(String node) {
+        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+        Node currentNode = this.rootNode;
+        Tristate lastUndefinedVal = this.rootNode.value;
+        for (String part : parts) {
+            currentNode = currentNode.children.get(part);
+            if (currentNode == null) {
+                return new NodeTree(lastUndefinedVal);
+            }
+            if (currentNode.value != Tristate.UNDEFINED) {
+                lastUndefinedVal = currentNode.value;
+            }
+        }
+        Node newRoot = new Node(currentNode.children);
+        newRoot.value = lastUndefinedVal;
+        return new NodeTree(newRoot);
+    }
+
+    /**
+     * Get the names of the direct children of the given node.
+     *
+     * @param node The path of the node to get the children of
+     * @return An immutable set of child segments, empty if the node does not exist
+     */
+    public Set<String> getChildren(String node) {
+        Node currentNode = this.rootNode;
+        for (String part : SPLIT_REGEX.split(node.toLowerCase())) {
+            currentNode = currentNode.children.get(part);
+            if (currentNode == null) {
+                return ImmutableSet.of();
+            }
+        }
+        return ImmutableSet.copyOf(currentNode.children.keySet());
+    }
+
+    /**
+     * Get all nodes that are defined at or below the given prefix. Segments of the prefix equal to {@link #WILDCARD}
+     * match any single segment, so that {@code myplugin.*.admin} will return the values defined under the admin
+     * node of every direct child of {@code myplugin}.
+     *
+     * <p>Only the parts of the tree matching the prefix are visited, so this is considerably cheaper than
+     * filtering the result of {@link #asMap()}.</p>
+     *
+     * @param prefix The node path to query, possibly containing wildcard segments
+     * @return An immutable map of the full node paths to their defined values
+     */
+    public Map<String, Boolean> getAll(String prefix) {
+        ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
+        collectMatching(ret, SPLIT_REGEX.split(prefix.toLowerCase()), 0, null, this.rootNode);
+        return ret.build();
+    }
+
+    private void collectMatching(ImmutableMap.Builder<String, Boolean> values, String[] parts, int index, String path, Node currentNode) {
+        if (index == parts.length) {
+            populateMap(values, path, currentNode);
+            return;
+        }
+        if (WILDCARD.equals(parts[index])) {
+            for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
+                collectMatching(values, parts, index + 1, join(path, ent.getKey()), ent.getValue());
+            }
+        } else {
+            Node child = currentNode.children.get(parts[index]);
+            if (child != null) {
+                collectMatching(values, parts, index + 1, join(path, parts[index]), child);
+            }
+        }
+    }
+
+    private static String join(String prefix, String part) {
+        return prefix == null ? part : prefix + '.' + part;
+    }
+
     /**
      * Convert this node tree into a map of the defined nodes in this tree.
      *
@@ -140,21 +220,7 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<String, Node>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<String, Node>(oldChild.children) : new HashMap<String, Node>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        return toBuilder().set(node, value).build();
     }
 
     /**
@@ -164,11 +230,101 @@ public NodeTree withValue(String node, Tristate value) {
      * @return The new node tree
      */
     public NodeTree withAll(Map<String, Tristate> values) {
-        NodeTree ret = this;
+        Builder builder = toBuilder();
         for (Map.Entry<String, Tristate> ent : values.entrySet()) {
-            ret = ret.withValue(ent.getKey(), ent.getValue());
+            builder.set(ent.getKey(), ent.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a builder to apply several changes to this tree at once. Each node of this tree is copied at most once
+     * by the builder, no matter how many changes touch it, so bulk edits do not create intermediate trees.
+     *
+     * @return A new builder based on this tree
+     */
+    public Builder toBuilder() {
+        return new Builder(this.rootNode);
+    }
+
+    /**
+     * A builder applying a batch of changes to a node tree. This tree is not modified.
+     */
+    public static final class Builder {
+
+        private final Set<Node> owned = Sets.newIdentityHashSet();
+        private Node root;
+
+        Builder(Node root) {
+            this.root = root;
+        }
+
+        /**
+         * Set the value of a single node.
+         *
+         * @param node The node path to change the value of
+         * @param value The value to change, or UNDEFINED to remove
+         * @return This builder, for chaining
+         */
+        public Builder set(String node, Tristate value) {
+            checkNotNull(value, "value");
+            checkState(this.root != null, "Builder has already been built");
+            String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+            this.root = own(this.root);
+            Node currentNode = this.root;
+            for (String part : parts) {
+                Node oldChild = currentNode.children.get(part);
+                Node newChild = oldChild == null ? newNode() : own(oldChild);
+                if (newChild != oldChild) {
+                    currentNode.children.put(part, newChild);
+                }
+                currentNode = newChild;
+            }
+            currentNode.value = value;
+            return this;
+        }
+
+        /**
+         * Set the values of every node in the given map.
+         *
+         * @param values The values to set
+         * @return This builder, for chaining
+         */
+        public Builder setAll(Map<String, Tristate> values) {
+            for (Map.Entry<String, Tristate> ent : values.entrySet()) {
+                set(ent.getKey(), ent.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Create the new node tree. The builder may not be used anymore afterwards.
+         *
+         * @return The new node tree
+         */
+        public NodeTree build() {
+            checkState(this.root != null, "Builder has already been built");
+            NodeTree ret = new NodeTree(this.root);
+            this.root = null;
+            this.owned.clear();
+            return ret;
+        }
+
+        private Node newNode() {
+            Node node = new Node(new HashMap<String, Node>());
+            this.owned.add(node);
+            return node;
+        }
+
+        private Node own(Node node) {
+            if (this.owned.contains(node)) {
+                return node;
+            }
+            Node copy = new Node(new HashMap<String, Node>(node.children));
+            copy.value = node.value;
+            this.owned.add(copy);
+            return copy;
         }
-        return ret;
     }
 
     private static class Node {
@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.CharStreams;
+import org.spongepowered.api.network.ChannelBuf;
+import org.spongepowered.api.util.TextMessageException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+/**
+ * A base implementation of {@link TextRepresentation}, implementing the
+ * streaming methods on top of the string based ones.
+ *
+ * <p>Implementations able to encode texts incrementally should override
+ * {@link #writeTo(Text, Locale, Appendable)}, which the byte buffer variants
+ * write through without creating intermediate strings. Likewise, streaming
+ * parsers should override {@link #from(Reader)}.</p>
+ */
+public abstract class AbstractTextRepresentation implements TextRepresentation {
+
+    @Override
+    public void writeTo(Text text, Locale locale, Appendable output) throws IOException {
+        output.append(to(text, locale));
+    }
+
+    @Override
+    public void writeTo(Text text, Locale locale, final ByteBuffer output) {
+        writeUtf8(text, locale, new Utf8Appendable() {
+            @Override
+            void write(int b) {
+                output.put((byte) b);
+            }
+        });
+    }
+
+    @Override
+    public void writeTo(Text text, Locale locale, final ChannelBuf output) {
+        writeUtf8(text, locale, new Utf8Appendable() {
+            @Override
+            void write(int b) {
+                output.writeByte((byte) b);
+            }
+        });
+    }
+
+    private void writeUtf8(Text text, Locale locale, Utf8Appendable output) {
+        try {
+            writeTo(text, locale, output);
+        } catch (IOException e) {
+            throw new AssertionError(e); // Not thrown by the buffers
+        }
+        output.finish();
+    }
+
+    @Override
+    public Text from(Reader input) throws IOException, TextMessageException {
+        return from(CharStreams.toString(input));
+    }
+
+    @Override
+    public Text from(ByteBuffer input) throws TextMessageException {
+        return from(Charsets.UTF_8.decode(input).toString());
+    }
+
+    @Override
+    public Text from(ChannelBuf input) throws TextMessageException {
+        final byte[] bytes = new byte[input.available()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = input.readByte();
+        }
+        return from(new String(bytes, Charsets.UTF_8));
+    }
+
+}
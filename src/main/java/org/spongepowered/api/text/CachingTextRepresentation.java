@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import org.spongepowered.api.network.ChannelBuf;
+import org.spongepowered.api.util.TextMessageException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TextRepresentation} caching the encoded forms produced by a
+ * representation of a {@link TextFactory} on the encoded {@link Text}s.
+ */
+final class CachingTextRepresentation extends AbstractTextRepresentation {
+
+    private final TextFactory factory;
+    private final TextRepresentation delegate;
+
+    CachingTextRepresentation(TextFactory factory, TextRepresentation delegate) {
+        this.factory = factory;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns whether this representation was obtained from the given
+     * factory.
+     *
+     * @param factory The factory
+     * @return Whether the representation belongs to the factory
+     */
+    boolean isFrom(TextFactory factory) {
+        return this.factory == factory;
+    }
+
+    @Override
+    public String to(Text text) {
+        return to(text, null);
+    }
+
+    @Override
+    public String to(Text text, Locale locale) {
+        String encoded = text.getCachedEncoding(this, locale);
+        if (encoded == null) {
+            encoded = locale == null ? this.delegate.to(text) : this.delegate.to(text, locale);
+            text.cacheEncoding(this, locale, encoded);
+        }
+        return encoded;
+    }
+
+    @Override
+    public void writeTo(Text text, Locale locale, Appendable output) throws IOException {
+        String encoded = text.getCachedEncoding(this, locale);
+        if (encoded != null) {
+            output.append(encoded);
+        } else {
+            this.delegate.writeTo(text, locale, output);
+        }
+    }
+
+    @Override
+    public Text from(String input) throws TextMessageException {
+        return this.delegate.from(input);
+    }
+
+    @Override
+    public Text from(Reader input) throws IOException, TextMessageException {
+        return this.delegate.from(input);
+    }
+
+    @Override
+    public Text from(ByteBuffer input) throws TextMessageException {
+        return this.delegate.from(input);
+    }
+
+    @Override
+    public Text from(ChannelBuf input) throws TextMessageException {
+        return this.delegate.from(input);
+    }
+
+    @Override
+    public Text fromUnchecked(String input) {
+        return this.delegate.fromUnchecked(input);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || o instanceof CachingTextRepresentation && this.delegate.equals(((CachingTextRepresentation) o).delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.delegate.toString();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import com.google.common.base.Objects;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * A small cache of the encoded forms of a single {@link Text}, keyed by the
+ * encoder that produced them and the locale they were encoded in.
+ *
+ * <p>The entries are held in an immutable array that is replaced on every
+ * update, so lookups need no locking. At most {@link #MAX_ENTRIES} forms are
+ * kept, evicting the oldest, and every form is only softly referenced so it
+ * can be reclaimed under memory pressure.</p>
+ */
+final class EncodingCache {
+
+    static final int MAX_ENTRIES = 4;
+    private static final Entry[] EMPTY = new Entry[0];
+
+    /**
+     * The cache of texts whose encoded forms may change over time, for which
+     * nothing is ever cached.
+     */
+    static final EncodingCache DISABLED = new EncodingCache();
+
+    private volatile Entry[] entries = EMPTY;
+
+    @Nullable
+    String get(Object encoder, @Nullable Locale locale) {
+        for (Entry entry : this.entries) {
+            if (entry.matches(encoder, locale)) {
+                return entry.value.get();
+            }
+        }
+        return null;
+    }
+
+    void put(Object encoder, @Nullable Locale locale, String value) {
+        if (this == DISABLED) {
+            return;
+        }
+        final Entry[] entries = this.entries;
+        final Entry[] updated = new Entry[Math.min(entries.length + 1, MAX_ENTRIES)];
+        int size = 0;
+        updated[size++] = new Entry(encoder, locale, value);
+        for (Entry entry : entries) {
+            if (size == updated.length) {
+                break;
+            }
+            if (!entry.matches(encoder, locale) && entry.value.get() != null) {
+                updated[size++] = entry;
+            }
+        }
+        // Concurrent puts may drop each other's entries, which only costs a recomputation
+        this.entries = size == updated.length ? updated : Arrays.copyOf(updated, size);
+    }
+
+    private static final class Entry {
+        final Object encoder;
+        @Nullable final Locale locale;
+        final SoftReference<String> value;
+
+        Entry(Object encoder, @Nullable Locale locale, String value) {
+            this.encoder = encoder;
+            this.locale = locale;
+            this.value = new SoftReference<String>(value);
+        }
+
+        boolean matches(Object encoder, @Nullable Locale locale) {
+            return this.encoder == encoder && Objects.equal(this.locale, locale);
+        }
+    }
+
+}
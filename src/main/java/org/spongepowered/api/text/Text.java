@@ -40,6 +40,7 @@
 import org.spongepowered.api.text.translation.Translation;
 
 import java.util.Iterator;
+import java.util.Locale;
 
 import javax.annotation.Nullable;
 
@@ -71,6 +72,8 @@ public abstract class Text implements TextRepresentable {
     protected final Optional<HoverAction<?>> hoverAction;
     protected final Optional<ShiftClickAction<?>> shiftClickAction;
 
+    @Nullable private volatile EncodingCache encodings;
+
     /**
      * An {@link Iterable} providing an {@link Iterator} over this {@link Text}
      * as well as all children text and their children.
@@ -85,7 +88,7 @@ public Iterator<Text> iterator() {
     };
 
     Text() {
-        this(new TextFormat(), ImmutableList.<Text>of(), null, null, null);
+        this(TextFormat.of(), ImmutableList.<Text>of(), null, null, null);
     }
 
     /**
@@ -237,6 +240,62 @@ public final Text toText() {
         return this;
     }
 
+    /**
+     * Returns the encoded form of this text previously cached for the given
+     * encoder and locale, if it is still available.
+     *
+     * @param encoder The encoder that produced the encoded form
+     * @param locale The locale the text was encoded in
+     * @return The cached encoded form, or {@code null} if not cached
+     */
+    @Nullable
+    final String getCachedEncoding(Object encoder, @Nullable Locale locale) {
+        final EncodingCache encodings = this.encodings;
+        return encodings == null ? null : encodings.get(encoder, locale);
+    }
+
+    /**
+     * Caches the encoded form of this text for the given encoder and locale.
+     * Nothing is cached if the encoded form of this text may change over time,
+     * for example if it displays a score.
+     *
+     * @param encoder The encoder that produced the encoded form
+     * @param locale The locale the text was encoded in
+     * @param encoded The encoded form
+     */
+    final void cacheEncoding(Object encoder, @Nullable Locale locale, String encoded) {
+        EncodingCache encodings = this.encodings;
+        if (encodings == null) {
+            this.encodings = encodings = isImmutable() ? new EncodingCache() : EncodingCache.DISABLED;
+        }
+        encodings.put(encoder, locale, encoded);
+    }
+
+    /**
+     * Returns whether this text, its actions and its children are deeply
+     * immutable, so that their encoded forms never change.
+     *
+     * @return Whether this text is deeply immutable
+     */
+    boolean isImmutable() {
+        if (this.clickAction.isPresent() && this.clickAction.get() instanceof ClickAction.ExecuteCallback) {
+            return false;
+        }
+        if (this.hoverAction.isPresent()) {
+            final HoverAction<?> hoverAction = this.hoverAction.get();
+            if (hoverAction instanceof HoverAction.ShowItem
+                    || hoverAction instanceof HoverAction.ShowText && !((HoverAction.ShowText) hoverAction).getResult().isImmutable()) {
+                return false;
+            }
+        }
+        for (Text child : this.children) {
+            if (!child.isImmutable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Represents a {@link Text} containing a plain text {@link String}.
      *
@@ -453,6 +512,22 @@ public static class Translatable extends Text {
             this.arguments = checkNotNull(arguments, "arguments");
         }
 
+        @Override
+        boolean isImmutable() {
+            for (Object argument : this.arguments) {
+                if (argument instanceof Text ? !((Text) argument).isImmutable() : !isImmutableValue(argument)) {
+                    return false;
+                }
+            }
+            return super.isImmutable();
+        }
+
+        private static boolean isImmutableValue(@Nullable Object value) {
+            return value == null || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte || value instanceof Double || value instanceof Float || value instanceof Boolean
+                    || value instanceof Character || value instanceof Enum;
+        }
+
         /**
          * Returns the translation of this {@link Text}.
          *
@@ -624,6 +699,12 @@ public static class Score extends Text {
             this.override = Optional.fromNullable(override);
         }
 
+        @Override
+        boolean isImmutable() {
+            // The value of the score may change at any time
+            return false;
+        }
+
         /**
          * Returns the score displayed by this {@link Text}.
          *
@@ -52,7 +52,7 @@
  */
 public abstract class TextBuilder implements TextRepresentable {
 
-    protected TextFormat format = new TextFormat();
+    protected TextFormat format = TextFormat.of();
     protected List<Text> children = Lists.newArrayList();
     @Nullable protected ClickAction<?> clickAction;
     @Nullable protected HoverAction<?> hoverAction;
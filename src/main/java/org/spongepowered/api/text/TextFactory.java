@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.text;
 
+import java.io.IOException;
 import java.util.Locale;
 
 /**
@@ -51,6 +52,17 @@ public interface TextFactory {
      */
     String toPlain(Text text, Locale locale);
 
+    /**
+     * Appends a plain text representation of the {@link Text} without any
+     * formatting in the provided Locale to the given output.
+     *
+     * @param text The text to convert
+     * @param locale The language to get the plain string in
+     * @param output The output to append the plain text to
+     * @throws IOException if the output throws an exception
+     */
+    void toPlain(Text text, Locale locale, Appendable output) throws IOException;
+
     /**
      * Get a {@link TextRepresentation} for the Mojangson representation of a {@link Text} object.
      *
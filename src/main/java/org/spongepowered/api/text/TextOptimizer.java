@@ -0,0 +1,285 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.action.ClickAction;
+import org.spongepowered.api.text.action.HoverAction;
+import org.spongepowered.api.text.action.ShiftClickAction;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextFormat;
+import org.spongepowered.api.text.format.TextStyle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Normalizes {@link Text} trees for {@link Texts#optimize(Text)}.
+ *
+ * <p>A text inherits the color, the style properties and the actions it does
+ * not set itself from its parent. Formats and actions equal to the inherited
+ * ones are therefore redundant, and so are empty literals that only group
+ * their children. Once these are removed, the own format of two siblings is
+ * equal exactly if their effective format is equal, so adjacent literals can
+ * be merged by comparing their own formats.</p>
+ */
+final class TextOptimizer {
+
+    private static final Inherited ROOT = new Inherited(TextFormat.of(), null, null, null);
+
+    private TextOptimizer() {
+    }
+
+    /**
+     * Optimizes the given text.
+     *
+     * @param text The text to optimize
+     * @return The optimized text
+     */
+    static Text optimize(Text text) {
+        List<Text> result = optimize(text, ROOT);
+        if (result.size() == 1) {
+            return result.get(0);
+        } else if (text instanceof Text.Literal && ((Text.Literal) text).content.isEmpty()
+                && isUnchanged(text, text.format, null, null, null, result)) {
+            // Root only grouping its children
+            return text;
+        } else if (result.isEmpty()) {
+            return Texts.EMPTY;
+        } else {
+            return new Text.Literal(TextFormat.of(), ImmutableList.copyOf(result), null, null, null, "");
+        }
+    }
+
+    /**
+     * Optimizes a text in the context of its parent.
+     *
+     * @param text The text to optimize
+     * @param parent The effective format and actions of the parent
+     * @return The texts replacing the text in the children of its parent
+     */
+    private static List<Text> optimize(Text text, Inherited parent) {
+        TextFormat format = reduce(text.format, parent.format);
+        ClickAction<?> clickAction = reduce(text.clickAction, parent.clickAction);
+        HoverAction<?> hoverAction = reduce(text.hoverAction, parent.hoverAction);
+        ShiftClickAction<?> shiftClickAction = reduce(text.shiftClickAction, parent.shiftClickAction);
+        Inherited effective = parent.with(format, clickAction, hoverAction, shiftClickAction);
+
+        List<Text> children = new ArrayList<Text>(text.children.size());
+        for (Text child : text.children) {
+            for (Text optimized : optimize(child, effective)) {
+                int last = children.size() - 1;
+                if (last >= 0 && canMerge(children.get(last), optimized)) {
+                    Text.Literal previous = (Text.Literal) children.get(last);
+                    children.set(last, new Text.Literal(previous.format, previous.children, previous.clickAction.orNull(),
+                            previous.hoverAction.orNull(), previous.shiftClickAction.orNull(),
+                            previous.content + ((Text.Literal) optimized).content));
+                } else {
+                    children.add(optimized);
+                }
+            }
+        }
+
+        if (!(text instanceof Text.Literal)) {
+            return ImmutableList.of(rebuild(text, format, clickAction, hoverAction, shiftClickAction, children));
+        }
+
+        String content = ((Text.Literal) text).content;
+        if (content.isEmpty()) {
+            if (isEmpty(format) && clickAction == null && hoverAction == null && shiftClickAction == null) {
+                // Only groups its children, which inherit the same from our parent
+                return children;
+            } else if (children.size() == 1) {
+                // Push our format and actions down to the only child
+                Text child = children.get(0);
+                TextFormat childFormat = reduce(inherit(child.format, format), parent.format);
+                ClickAction<?> childClickAction = reduce(child.clickAction.or(Optional.fromNullable(clickAction)), parent.clickAction);
+                HoverAction<?> childHoverAction = reduce(child.hoverAction.or(Optional.fromNullable(hoverAction)), parent.hoverAction);
+                ShiftClickAction<?> childShiftClickAction =
+                        reduce(child.shiftClickAction.or(Optional.fromNullable(shiftClickAction)), parent.shiftClickAction);
+                return ImmutableList.of(rebuild(child, childFormat, childClickAction, childHoverAction, childShiftClickAction,
+                        child.children));
+            } else if (children.isEmpty()) {
+                return ImmutableList.of();
+            }
+        }
+
+        // Move the content of plain leading children into our content
+        while (!children.isEmpty() && isPlain(children.get(0))) {
+            content += ((Text.Literal) children.remove(0)).content;
+        }
+
+        if (content.equals(((Text.Literal) text).content)
+                && isUnchanged(text, format, clickAction, hoverAction, shiftClickAction, children)) {
+            return ImmutableList.of(text);
+        }
+        return ImmutableList.<Text>of(new Text.Literal(format, ImmutableList.copyOf(children), clickAction, hoverAction, shiftClickAction,
+                content));
+    }
+
+    private static Text rebuild(Text text, TextFormat format, @Nullable ClickAction<?> clickAction, @Nullable HoverAction<?> hoverAction,
+            @Nullable ShiftClickAction<?> shiftClickAction, List<Text> children) {
+        if (isUnchanged(text, format, clickAction, hoverAction, shiftClickAction, children)) {
+            return text;
+        } else if (text instanceof Text.Literal) {
+            return new Text.Literal(format, ImmutableList.copyOf(children), clickAction, hoverAction, shiftClickAction,
+                    ((Text.Literal) text).content);
+        }
+        return text.builder()
+                .format(format)
+                .onClick(clickAction)
+                .onHover(hoverAction)
+                .onShiftClick(shiftClickAction)
+                .removeAll()
+                .append(children)
+                .build();
+    }
+
+    private static boolean isUnchanged(Text text, TextFormat format, @Nullable ClickAction<?> clickAction,
+            @Nullable HoverAction<?> hoverAction, @Nullable ShiftClickAction<?> shiftClickAction, List<Text> children) {
+        if (!text.format.equals(format) || text.clickAction.orNull() != clickAction || text.hoverAction.orNull() != hoverAction
+                || text.shiftClickAction.orNull() != shiftClickAction || text.children.size() != children.size()) {
+            return false;
+        }
+        for (int i = 0; i < children.size(); i++) {
+            if (text.children.get(i) != children.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean canMerge(Text previous, Text next) {
+        return previous instanceof Text.Literal && next instanceof Text.Literal
+                && previous.children.isEmpty() && next.children.isEmpty()
+                && previous.format.equals(next.format)
+                && previous.clickAction.equals(next.clickAction)
+                && previous.hoverAction.equals(next.hoverAction)
+                && previous.shiftClickAction.equals(next.shiftClickAction);
+    }
+
+    private static boolean isPlain(Text text) {
+        return text instanceof Text.Literal && text.children.isEmpty() && isEmpty(text.format) && !text.clickAction.isPresent()
+                && !text.hoverAction.isPresent() && !text.shiftClickAction.isPresent();
+    }
+
+    private static boolean isEmpty(TextFormat format) {
+        return format.getColor().equals(TextColors.NONE) && format.getStyle().isEmpty();
+    }
+
+    /**
+     * Returns the effective format of a text with the given own format.
+     *
+     * @param format The own format of the text
+     * @param parent The effective format of the parent
+     * @return The effective format
+     */
+    private static TextFormat inherit(TextFormat format, TextFormat parent) {
+        TextColor color = format.getColor().equals(TextColors.NONE) ? parent.getColor() : format.getColor();
+        TextStyle style = format.getStyle();
+        TextStyle parentStyle = parent.getStyle();
+        if (style.isEmpty()) {
+            return color == parent.getColor() ? parent : TextFormat.of(parentStyle, color);
+        }
+        return TextFormat.of(TextStyle.of(
+                style.isBold().or(parentStyle.isBold()).orNull(),
+                style.isItalic().or(parentStyle.isItalic()).orNull(),
+                style.hasUnderline().or(parentStyle.hasUnderline()).orNull(),
+                style.hasStrikethrough().or(parentStyle.hasStrikethrough()).orNull(),
+                style.isObfuscated().or(parentStyle.isObfuscated()).orNull()), color);
+    }
+
+    /**
+     * Removes the color and style properties equal to the inherited ones from
+     * the given format.
+     *
+     * @param format The own format of the text
+     * @param parent The effective format of the parent
+     * @return The reduced format, or the given format if nothing was removed
+     */
+    private static TextFormat reduce(TextFormat format, TextFormat parent) {
+        TextColor color = format.getColor().equals(parent.getColor()) ? TextColors.NONE : format.getColor();
+        TextStyle style = format.getStyle();
+        TextStyle parentStyle = parent.getStyle();
+        if (!style.isEmpty()) {
+            TextStyle reduced = TextStyle.of(
+                    reduceProperty(style.isBold(), parentStyle.isBold()),
+                    reduceProperty(style.isItalic(), parentStyle.isItalic()),
+                    reduceProperty(style.hasUnderline(), parentStyle.hasUnderline()),
+                    reduceProperty(style.hasStrikethrough(), parentStyle.hasStrikethrough()),
+                    reduceProperty(style.isObfuscated(), parentStyle.isObfuscated()));
+            if (!reduced.equals(style)) {
+                style = reduced;
+            }
+        }
+        if (color == format.getColor() && style == format.getStyle()) {
+            return format;
+        }
+        return TextFormat.of(style, color);
+    }
+
+    @Nullable
+    private static <T> T reduce(Optional<? extends T> value, @Nullable T parent) {
+        return value.isPresent() && !value.get().equals(parent) ? value.get() : null;
+    }
+
+    @Nullable
+    private static Boolean reduceProperty(Optional<Boolean> value, Optional<Boolean> parent) {
+        return value.equals(parent) ? null : value.orNull();
+    }
+
+    /**
+     * The effective format and actions a text passes on to its children.
+     */
+    private static final class Inherited {
+
+        final TextFormat format;
+        @Nullable final ClickAction<?> clickAction;
+        @Nullable final HoverAction<?> hoverAction;
+        @Nullable final ShiftClickAction<?> shiftClickAction;
+
+        Inherited(TextFormat format, @Nullable ClickAction<?> clickAction, @Nullable HoverAction<?> hoverAction,
+                @Nullable ShiftClickAction<?> shiftClickAction) {
+            this.format = format;
+            this.clickAction = clickAction;
+            this.hoverAction = hoverAction;
+            this.shiftClickAction = shiftClickAction;
+        }
+
+        Inherited with(TextFormat format, @Nullable ClickAction<?> clickAction, @Nullable HoverAction<?> hoverAction,
+                @Nullable ShiftClickAction<?> shiftClickAction) {
+            return new Inherited(inherit(format, this.format),
+                    clickAction != null ? clickAction : this.clickAction,
+                    hoverAction != null ? hoverAction : this.hoverAction,
+                    shiftClickAction != null ? shiftClickAction : this.shiftClickAction);
+        }
+
+    }
+
+}
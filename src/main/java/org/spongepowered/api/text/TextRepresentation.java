@@ -24,12 +24,20 @@
  */
 package org.spongepowered.api.text;
 
+import org.spongepowered.api.network.ChannelBuf;
 import org.spongepowered.api.util.TextMessageException;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Locale;
 
 /**
  * Interface for a certain representation of a Text object.
+ *
+ * @see AbstractTextRepresentation for an implementation of the streaming
+ *     methods on top of the string based ones
  */
 public interface TextRepresentation {
 
@@ -52,6 +60,44 @@ public interface TextRepresentation {
      */
     String to(Text text, Locale locale);
 
+    /**
+     * Write the string representation of the provided text, as returned by
+     * {@link #to(Text, Locale)}, to the given output without materializing it
+     * as a string first.
+     *
+     * @param text The text to serialize
+     * @param locale The locale to serialize this text in
+     * @param output The output to append the representation to
+     * @throws IOException if the output throws an exception
+     */
+    void writeTo(Text text, Locale locale, Appendable output) throws IOException;
+
+    /**
+     * Write the string representation of the provided text, as returned by
+     * {@link #to(Text, Locale)}, to the given buffer as UTF-8 bytes.
+     *
+     * @param text The text to serialize
+     * @param locale The locale to serialize this text in
+     * @param output The buffer to write the encoded bytes to, starting at its
+     *     current position
+     * @throws BufferOverflowException if the buffer does not have enough
+     *     space remaining
+     */
+    void writeTo(Text text, Locale locale, ByteBuffer output);
+
+    /**
+     * Write the string representation of the provided text, as returned by
+     * {@link #to(Text, Locale)}, to the given buffer as UTF-8 bytes. Unlike
+     * {@link ChannelBuf#writeString(String)}, the bytes are not prefixed with
+     * their length.
+     *
+     * @param text The text to serialize
+     * @param locale The locale to serialize this text in
+     * @param output The buffer to write the encoded bytes to, starting at its
+     *     writer index
+     */
+    void writeTo(Text text, Locale locale, ChannelBuf output);
+
     /**
      * Return a {@link Text} instance from an appropriately formatted string.
      *
@@ -61,6 +107,37 @@ public interface TextRepresentation {
      */
     Text from(String input) throws TextMessageException;
 
+    /**
+     * Return a {@link Text} instance from an appropriately formatted input,
+     * reading it until the end of the input is reached.
+     *
+     * @param input The raw input to parse into a text
+     * @return An appropriate {@link Text} object from the input
+     * @throws IOException if the input cannot be read
+     * @throws TextMessageException if an error occurs while parsing the input
+     */
+    Text from(Reader input) throws IOException, TextMessageException;
+
+    /**
+     * Return a {@link Text} instance from the appropriately formatted UTF-8
+     * bytes remaining in the given buffer, consuming all of them.
+     *
+     * @param input The buffer to parse into a text
+     * @return An appropriate {@link Text} object from the input
+     * @throws TextMessageException if an error occurs while parsing the input
+     */
+    Text from(ByteBuffer input) throws TextMessageException;
+
+    /**
+     * Return a {@link Text} instance from the appropriately formatted UTF-8
+     * bytes available in the given buffer, consuming all of them.
+     *
+     * @param input The buffer to parse into a text
+     * @return An appropriate {@link Text} object from the input
+     * @throws TextMessageException if an error occurs while parsing the input
+     */
+    Text from(ChannelBuf input) throws TextMessageException;
+
     /**
      * Tries to return a {@link Text} instance from the provided input string. However, if the input string is not of a valid format, the returned
      * {@link Text} object will be of the raw input, rather than throwing an exception.
@@ -0,0 +1,256 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.Text.Placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A precompiled {@link Text} template, replacing {@link Placeholder}s like
+ * {@link Texts#format(Text, Object...)} and
+ * {@link Texts#format(Text, Map)} without walking the whole template again on
+ * every use.
+ *
+ * <p>The template is analyzed once when the {@link TextTemplate} is created.
+ * Applying it only visits the texts on the path to each placeholder; all other
+ * parts of the template are shared with the result.</p>
+ *
+ * @see Texts#format(Text, Object...)
+ */
+public final class TextTemplate {
+
+    private final Text template;
+    @Nullable private final Node root;
+
+    private TextTemplate(Text template, @Nullable Node root) {
+        this.template = template;
+        this.root = root;
+    }
+
+    /**
+     * Compiles the given template.
+     *
+     * @param template The template text containing {@link Placeholder}s
+     * @return The compiled template
+     */
+    public static TextTemplate of(Text template) {
+        checkNotNull(template, "template");
+        return new TextTemplate(template, compile(template));
+    }
+
+    /**
+     * Returns the template text this template was compiled from.
+     *
+     * @return The template text
+     */
+    public Text getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Creates a new Text instance with all {@link Placeholder}s replaced by the
+     * argument at the index given by their key, as in
+     * {@link Texts#format(Text, Object...)}.
+     *
+     * @param arguments The values to replace the placeholders with. May
+     *        contain null values to skip the placeholder
+     * @return The text with all possible placeholders replaced
+     */
+    public Text apply(Object... arguments) {
+        checkNotNull(arguments, "arguments");
+        if (this.root == null || arguments.length == 0) {
+            return this.template;
+        }
+        return this.root.apply(arguments, null);
+    }
+
+    /**
+     * Creates a new Text instance with all {@link Placeholder}s replaced by the
+     * value of their key, as in {@link Texts#format(Text, Map)}.
+     *
+     * @param arguments The values to replace the placeholders with
+     * @return The text with all possible placeholders replaced
+     */
+    public Text apply(Map<String, ?> arguments) {
+        checkNotNull(arguments, "arguments");
+        if (this.root == null || arguments.isEmpty()) {
+            return this.template;
+        }
+        return this.root.apply(null, arguments);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return this == o || o instanceof TextTemplate && this.template.equals(((TextTemplate) o).template);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("template", this.template)
+                .toString();
+    }
+
+    /**
+     * Compiles the given text, returning {@code null} if neither it nor any of
+     * its children are placeholders.
+     */
+    @Nullable
+    private static Node compile(Text text) {
+        final ImmutableList<Text> children = text.getChildren();
+        int firstChild = -1;
+        Node[] childNodes = null;
+        for (int i = 0; i < children.size(); i++) {
+            final Node child = compile(children.get(i));
+            if (child != null) {
+                if (childNodes == null) {
+                    firstChild = i;
+                    childNodes = new Node[children.size() - i];
+                }
+                childNodes[i - firstChild] = child;
+            }
+        }
+        if (text instanceof Placeholder) {
+            return new PlaceholderNode((Placeholder) text, firstChild, childNodes);
+        }
+        return childNodes == null ? null : new Node(text, firstChild, childNodes);
+    }
+
+    /**
+     * A text containing placeholders in its children.
+     */
+    private static class Node {
+
+        final Text text;
+        // The children before the first one containing placeholders are always kept
+        final int firstChild;
+        // The compiled children from firstChild, null for children without placeholders
+        @Nullable final Node[] children;
+
+        Node(Text text, int firstChild, @Nullable Node[] children) {
+            this.text = text;
+            this.firstChild = firstChild;
+            this.children = children;
+        }
+
+        Text apply(@Nullable Object[] arguments, @Nullable Map<String, ?> namedArguments) {
+            if (this.children == null) {
+                return this.text;
+            }
+            final ImmutableList<Text> children = this.text.getChildren();
+            TextBuilder builder = null;
+            for (int i = 0; i < this.children.length; i++) {
+                final Text child = children.get(this.firstChild + i);
+                final Text formatted = this.children[i] == null ? child : this.children[i].apply(arguments, namedArguments);
+                if (builder == null) {
+                    if (formatted == child) {
+                        continue;
+                    }
+                    builder = this.text.builder();
+                    builder.remove(children.subList(this.firstChild + i, children.size()));
+                }
+                builder.append(formatted);
+            }
+            return builder == null ? this.text : builder.build();
+        }
+
+    }
+
+    /**
+     * A placeholder, which may contain other placeholders in its children
+     * that are used if it is not replaced.
+     */
+    private static final class PlaceholderNode extends Node {
+
+        private final String key;
+        private final int index;
+        // The format and actions copied to the replacement, followed by room for the replacement
+        private final Object[] formats;
+
+        PlaceholderNode(Placeholder placeholder, int firstChild, @Nullable Node[] children) {
+            super(placeholder, firstChild, children);
+            this.key = placeholder.getKey();
+            this.index = parseIndex(this.key);
+            final List<Object> formats = new ArrayList<Object>(5);
+            formats.add(placeholder.getFormat());
+            if (placeholder.getHoverAction().isPresent()) {
+                formats.add(placeholder.getHoverAction().get());
+            }
+            if (placeholder.getClickAction().isPresent()) {
+                formats.add(placeholder.getClickAction().get());
+            }
+            if (placeholder.getShiftClickAction().isPresent()) {
+                formats.add(placeholder.getShiftClickAction().get());
+            }
+            this.formats = formats.toArray(new Object[formats.size() + 1]);
+        }
+
+        private static int parseIndex(String key) {
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) < '0' || key.charAt(i) > '9') {
+                    return -1;
+                }
+            }
+            try {
+                // Keys like "01" are not produced by Texts.format(Text, Object...)
+                return key.length() > 1 && key.charAt(0) == '0' ? -1 : Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        Text apply(@Nullable Object[] arguments, @Nullable Map<String, ?> namedArguments) {
+            final Object replacement;
+            if (arguments != null) {
+                replacement = this.index >= 0 && this.index < arguments.length ? arguments[this.index] : null;
+            } else {
+                replacement = namedArguments.get(this.key);
+            }
+            if (replacement == null) {
+                return super.apply(arguments, namedArguments);
+            }
+            final Object[] formats = this.formats.clone();
+            formats[formats.length - 1] = replacement;
+            return Texts.of(formats);
+        }
+
+    }
+
+}
@@ -30,6 +30,7 @@
 
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.text.Text.Placeholder;
 import org.spongepowered.api.text.action.ClickAction;
@@ -44,11 +45,13 @@
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Utility class to work with and create {@link Text}.
@@ -56,6 +59,9 @@
 public final class Texts {
 
     private static TextFactory factory = null;
+    private static final String JSON_REPRESENTATION = "json";
+    private static final String XML_REPRESENTATION = "xml";
+    private static final ConcurrentMap<Object, CachingTextRepresentation> representations = Maps.newConcurrentMap();
     static final Text.Literal EMPTY = new Text.Literal();
 
     private Texts() {
@@ -177,7 +183,7 @@ public static Text.Score of(Score score) {
      */
     public static Text of(Object... objects) {
         TextBuilder builder = builder();
-        TextFormat format = new TextFormat();
+        TextFormat format = TextFormat.of();
         HoverAction<?> hoverAction = null;
         ClickAction<?> clickAction = null;
         ShiftClickAction<?> shiftClickAction = null;
@@ -237,6 +243,26 @@ public static Text of(Object... objects) {
         return builder.build();
     }
 
+    /**
+     * Returns an equivalent {@link Text} with a normalized and compacted tree.
+     *
+     * <p>Colors, style properties and actions equal to the ones inherited from
+     * the parent are removed, empty literals only grouping their children are
+     * flattened into their parent and adjacent literals with the same
+     * effective format and actions are merged. The arguments of
+     * {@link Text.Translatable}s and the texts in {@link HoverAction}s are left
+     * as they are.</p>
+     *
+     * <p>Parts of the tree that cannot be optimized further are reused, so
+     * optimizing an already optimized text returns the same instance.</p>
+     *
+     * @param text The text to optimize
+     * @return The optimized text
+     */
+    public static Text optimize(Text text) {
+        return TextOptimizer.optimize(checkNotNull(text, "text"));
+    }
+
     /**
      * Creates a new Text instance with all {@link Placeholder}s replaced. All
      * placeholders without a non-null replacement are ignored. All replacements
@@ -265,11 +291,16 @@ public static Text format(Text template, Map<String, ?> replacements) {
      * color and the style from the placeholder are transfered to that method as
      * well.
      *
+     * <p>The whole template is walked on every call. Templates that are
+     * formatted repeatedly should be compiled once into a {@link TextTemplate}
+     * instead.</p>
+     *
      * @param template The template text in which all {@link Placeholder}s
      *        should be replaced
      * @param replacements The values available to replace the placeholders. May
      *        contain null values to skip the placeholder
      * @return The text with all possible placeholders replaced
+     * @see TextTemplate
      */
     public static Text format(Text template, Object... replacements) {
         checkNotNull(template, "template");
@@ -545,7 +576,12 @@ public static Text join(Text separator, Text... texts) {
      * @return The text converted to plain text
      */
     public static String toPlain(Text text) {
-        return factory.toPlain(text);
+        String plain = text.getCachedEncoding(factory, null);
+        if (plain == null) {
+            plain = factory.toPlain(text);
+            text.cacheEncoding(factory, null, plain);
+        }
+        return plain;
     }
 
     /**
@@ -557,7 +593,31 @@ public static String toPlain(Text text) {
      * @return The text converted to plain text
      */
     public static String toPlain(Text text, Locale locale) {
-        return factory.toPlain(text, locale);
+        String plain = text.getCachedEncoding(factory, locale);
+        if (plain == null) {
+            plain = factory.toPlain(text, locale);
+            text.cacheEncoding(factory, locale, plain);
+        }
+        return plain;
+    }
+
+    /**
+     * Appends a plain text representation of the {@link Text} without any
+     * formatting to the given output, without creating an intermediate
+     * string if the plain text wasn't computed before.
+     *
+     * @param text The text to convert
+     * @param locale The locale to translate
+     * @param output The output to append the plain text to
+     * @throws IOException if the output throws an exception
+     */
+    public static void toPlain(Text text, Locale locale, Appendable output) throws IOException {
+        String plain = text.getCachedEncoding(factory, locale);
+        if (plain != null) {
+            output.append(plain);
+        } else {
+            factory.toPlain(text, locale, output);
+        }
     }
 
     /**
@@ -568,7 +628,7 @@ public static String toPlain(Text text, Locale locale) {
      * @return The json serializer
      */
     public static TextRepresentation json() {
-        return factory.json();
+        return getRepresentation(JSON_REPRESENTATION);
     }
 
     /**
@@ -578,7 +638,7 @@ public static TextRepresentation json() {
      * @return The xml text serializer
      */
     public static TextRepresentation xml() {
-        return factory.xml();
+        return getRepresentation(XML_REPRESENTATION);
     }
 
     /**
@@ -612,7 +672,26 @@ public static TextRepresentation legacy() {
      */
     @Deprecated
     public static TextRepresentation legacy(char legacyChar) {
-        return factory.legacy(legacyChar);
+        return getRepresentation(legacyChar);
+    }
+
+    private static TextRepresentation getRepresentation(Object key) {
+        // Keep one caching representation of each kind, so their encodings are found on the texts again
+        final TextFactory factory = Texts.factory;
+        CachingTextRepresentation representation = representations.get(key);
+        if (representation == null || !representation.isFrom(factory)) {
+            final TextRepresentation delegate;
+            if (key == JSON_REPRESENTATION) {
+                delegate = factory.json();
+            } else if (key == XML_REPRESENTATION) {
+                delegate = factory.xml();
+            } else {
+                delegate = factory.legacy((Character) key);
+            }
+            representation = new CachingTextRepresentation(factory, delegate);
+            representations.put(key, representation);
+        }
+        return representation;
     }
 
     /**
@@ -0,0 +1,107 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+/**
+ * An {@link Appendable} encoding the appended characters as UTF-8 bytes.
+ * Unpaired surrogates are encoded as {@code '?'}, like
+ * {@link String#getBytes(java.nio.charset.Charset)} does.
+ */
+abstract class Utf8Appendable implements Appendable {
+
+    private char highSurrogate;
+
+    /**
+     * Write a single encoded byte.
+     *
+     * @param b The byte, in the lowest eight bits
+     */
+    abstract void write(int b);
+
+    @Override
+    public Appendable append(CharSequence csq) {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+        if (this.highSurrogate != 0) {
+            final char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                writeCodePoint(Character.toCodePoint(high, c));
+                return this;
+            }
+            write('?');
+        }
+        if (c < 0x80) {
+            write(c);
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            write('?');
+        } else {
+            writeCodePoint(c);
+        }
+        return this;
+    }
+
+    /**
+     * Complete the encoding after all characters have been appended.
+     */
+    void finish() {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            write('?');
+        }
+    }
+
+    private void writeCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            write(codePoint);
+        } else if (codePoint < 0x800) {
+            write(0xC0 | codePoint >> 6);
+            write(0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            write(0xE0 | codePoint >> 12);
+            write(0x80 | codePoint >> 6 & 0x3F);
+            write(0x80 | codePoint & 0x3F);
+        } else {
+            write(0xF0 | codePoint >> 18);
+            write(0x80 | codePoint >> 12 & 0x3F);
+            write(0x80 | codePoint >> 6 & 0x3F);
+            write(0x80 | codePoint & 0x3F);
+        }
+    }
+
+}
@@ -25,14 +25,37 @@
 package org.spongepowered.api.text.format;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.Maps;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Represents a pair of {@link TextStyle and {@link TextColor}}.
+ *
+ * <p>The {@code of} methods, {@link #style(TextStyle)} and
+ * {@link #color(TextColor)} return shared instances for formats with the same
+ * color and style, so they do not allocate when formatting texts.</p>
+ *
+ * <p>Equal formats are not always the same instance, so {@link #equals}
+ * still compares the style and the color. A format with a
+ * {@link TextStyle.Base} such as {@link TextStyles#BOLD} is shared separately
+ * from the format with the equal composite style, so that
+ * {@link #getStyle()} keeps returning the base style, and the deprecated
+ * constructors never return shared instances.</p>
  */
 public final class TextFormat {
 
+    /**
+     * The shared formats for each color, indexed by the style combination
+     * and whether the style is a {@link TextStyle.Base}.
+     */
+    private static final ConcurrentMap<TextColor, AtomicReferenceArray<TextFormat>> formats = Maps.newConcurrentMap();
+
     /**
      * The text style.
      */
@@ -43,22 +66,38 @@ public final class TextFormat {
      */
     private final TextColor color;
 
+    /**
+     * The shared formats with the color of this format, or {@code null} if
+     * this format is not shared.
+     */
+    @Nullable private final AtomicReferenceArray<TextFormat> siblings;
+
     /**
      * Constructs a new {@link TextFormat}.
      *
      * @param style The style
      * @param color The color
+     * @deprecated Use {@link #of(TextStyle, TextColor)}, which returns a shared
+     *     instance
      */
+    @Deprecated
     public TextFormat(TextStyle style, TextColor color) {
-        this.style = checkNotNull(style, "style");
-        this.color = checkNotNull(color, "color");
+        this(checkNotNull(style, "style"), checkNotNull(color, "color"), null);
+    }
+
+    private TextFormat(TextStyle style, TextColor color, @Nullable AtomicReferenceArray<TextFormat> siblings) {
+        this.style = style;
+        this.color = color;
+        this.siblings = siblings;
     }
 
     /**
      * Constructs a new {@link TextFormat} with the default color.
      *
      * @param style The style
+     * @deprecated Use {@link #of(TextStyle)}, which returns a shared instance
      */
+    @Deprecated
     public TextFormat(TextStyle style) {
         this(style, TextColors.NONE);
     }
@@ -67,18 +106,101 @@ public TextFormat(TextStyle style) {
      * Constructs a new {@link TextFormat} with the default style.
      *
      * @param color The color
+     * @deprecated Use {@link #of(TextColor)}, which returns a shared instance
      */
+    @Deprecated
     public TextFormat(TextColor color) {
         this(TextStyles.NONE, color);
     }
 
     /**
      * Constructs a new {@link TextFormat} with the default style and color.
+     *
+     * @deprecated Use {@link #of()}, which returns a shared instance
      */
+    @Deprecated
     public TextFormat() {
         this(TextStyles.NONE, TextColors.NONE);
     }
 
+    /**
+     * Returns the shared {@link TextFormat} with the given style and color.
+     * Composite styles are replaced by the equal shared instance returned by
+     * {@link TextStyle#of(Boolean, Boolean, Boolean, Boolean, Boolean)}.
+     *
+     * @param style The style
+     * @param color The color
+     * @return The text format
+     */
+    public static TextFormat of(TextStyle style, TextColor color) {
+        checkNotNull(color, "color");
+        AtomicReferenceArray<TextFormat> colorFormats = formats.get(color);
+        if (colorFormats == null) {
+            colorFormats = new AtomicReferenceArray<TextFormat>(TextStyle.COMBINATIONS * 2);
+            AtomicReferenceArray<TextFormat> previous = formats.putIfAbsent(color, colorFormats);
+            if (previous != null) {
+                colorFormats = previous;
+            }
+        }
+        return of(checkNotNull(style, "style"), color, colorFormats);
+    }
+
+    private static TextFormat of(TextStyle style, TextColor color, AtomicReferenceArray<TextFormat> colorFormats) {
+        final int slot;
+        if (style.isComposite()) {
+            style = TextStyle.intern(style);
+            slot = style.index * 2;
+        } else {
+            slot = style.index * 2 + 1;
+        }
+
+        TextFormat format = colorFormats.get(slot);
+        if (format != null && format.style == style) {
+            return format;
+        }
+        TextFormat created = new TextFormat(style, color, colorFormats);
+        if (format == null && !colorFormats.compareAndSet(slot, null, created)) {
+            format = colorFormats.get(slot);
+            if (format.style == style) {
+                return format;
+            }
+        }
+        // Other base styles with the same properties as the shared one are not
+        // shared themselves
+        return created;
+    }
+
+    /**
+     * Returns the shared {@link TextFormat} with the given style and the
+     * default color.
+     *
+     * @param style The style
+     * @return The text format
+     */
+    public static TextFormat of(TextStyle style) {
+        return of(style, TextColors.NONE);
+    }
+
+    /**
+     * Returns the shared {@link TextFormat} with the given color and the
+     * default style.
+     *
+     * @param color The color
+     * @return The text format
+     */
+    public static TextFormat of(TextColor color) {
+        return of(TextStyles.NONE, color);
+    }
+
+    /**
+     * Returns the shared {@link TextFormat} with the default style and color.
+     *
+     * @return The text format
+     */
+    public static TextFormat of() {
+        return of(TextStyles.NONE, TextColors.NONE);
+    }
+
     /**
      * Returns the {@link TextStyle} in this format.
      *
@@ -98,23 +220,26 @@ public final TextColor getColor() {
     }
 
     /**
-     * Returns a new {@link TextFormat} with the given style.
+     * Returns a {@link TextFormat} with the given style.
      *
      * @param style The style
-     * @return A new {@link TextFormat}
+     * @return The {@link TextFormat}
      */
     public final TextFormat style(TextStyle style) {
-        return new TextFormat(style, this.color);
+        if (style == this.style) {
+            return this;
+        }
+        return this.siblings != null ? of(checkNotNull(style, "style"), this.color, this.siblings) : of(style, this.color);
     }
 
     /**
-     * Returns a new {@link TextFormat} with the given color.
+     * Returns a {@link TextFormat} with the given color.
      *
      * @param color The color
-     * @return A new {@link TextFormat}
+     * @return The {@link TextFormat}
      */
     public final TextFormat color(TextColor color) {
-        return new TextFormat(this.style, color);
+        return color == this.color ? this : of(this.style, color);
     }
 
     @Override
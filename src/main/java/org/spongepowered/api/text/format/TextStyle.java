@@ -59,6 +59,28 @@
 @CatalogedBy(TextStyles.class)
 public class TextStyle {
 
+    /**
+     * The number of distinct combinations of the five properties.
+     */
+    static final int COMBINATIONS = 3 * 3 * 3 * 3 * 3;
+
+    /**
+     * The interned composite styles, indexed by {@link #index}.
+     */
+    private static final TextStyle[] composites = new TextStyle[COMBINATIONS];
+
+    static {
+        for (int i = 0; i < COMBINATIONS; i++) {
+            composites[i] = new TextStyle(
+                    propOf(i / (3 * 3 * 3 * 3)),
+                    propOf(i / (3 * 3 * 3)),
+                    propOf(i / (3 * 3)),
+                    propOf(i / 3),
+                    propOf(i)
+            );
+        }
+    }
+
     /**
      * Whether text where this style is applied is bolded.
      */
@@ -84,6 +106,11 @@ public class TextStyle {
      */
     protected final Optional<Boolean> obfuscated;
 
+    /**
+     * The index of the combination of properties of this style.
+     */
+    final int index;
+
     /**
      * Constructs a new {@link TextStyle}.
      *
@@ -128,20 +155,77 @@ private TextStyle(Optional<Boolean> bold,
         this.underline = underline;
         this.obfuscated = obfuscated;
         this.strikethrough = strikethrough;
+        this.index = index(bold, italic, underline, strikethrough, obfuscated);
     }
 
     /**
-     * Constructs an empty {@link TextStyle}.
+     * Returns the composite {@link TextStyle} with the given properties. Unlike
+     * the constructor, this returns a shared instance for each combination of
+     * properties.
+     *
+     * @param bold Whether text where this style is applied is bolded
+     * @param italic Whether text where this style is applied is italicized
+     * @param underline Whether text where this style is applied is underlined
+     * @param strikethrough Whether text where this style is applied has a
+     *        strikethrough
+     * @param obfuscated Whether text where this style is applied is obfuscated
+     * @return The text style
      */
-    TextStyle() {
-        this(
-                OptBool.ABSENT,
-                OptBool.ABSENT,
-                OptBool.ABSENT,
-                OptBool.ABSENT,
-                OptBool.ABSENT
+    public static TextStyle of(@Nullable Boolean bold,
+            @Nullable Boolean italic,
+            @Nullable Boolean underline,
+            @Nullable Boolean strikethrough,
+            @Nullable Boolean obfuscated) {
+        return intern(
+                OptBool.of(bold),
+                OptBool.of(italic),
+                OptBool.of(underline),
+                OptBool.of(strikethrough),
+                OptBool.of(obfuscated)
         );
+    }
 
+    /**
+     * Returns the shared composite {@link TextStyle} with the same properties
+     * as the given style.
+     *
+     * @param style The style
+     * @return The shared composite style
+     */
+    static TextStyle intern(TextStyle style) {
+        return composites[style.index];
+    }
+
+    private static TextStyle intern(Optional<Boolean> bold,
+            Optional<Boolean> italic,
+            Optional<Boolean> underline,
+            Optional<Boolean> strikethrough,
+            Optional<Boolean> obfuscated) {
+        return composites[index(bold, italic, underline, strikethrough, obfuscated)];
+    }
+
+    private static int index(Optional<Boolean> bold,
+            Optional<Boolean> italic,
+            Optional<Boolean> underline,
+            Optional<Boolean> strikethrough,
+            Optional<Boolean> obfuscated) {
+        return (((propIndex(bold) * 3 + propIndex(italic)) * 3 + propIndex(underline)) * 3 + propIndex(strikethrough)) * 3
+                + propIndex(obfuscated);
+    }
+
+    private static int propIndex(Optional<Boolean> prop) {
+        return prop.isPresent() ? prop.get() ? 2 : 1 : 0;
+    }
+
+    private static Optional<Boolean> propOf(int index) {
+        switch (index % 3) {
+            case 1:
+                return OptBool.FALSE;
+            case 2:
+                return OptBool.TRUE;
+            default:
+                return OptBool.ABSENT;
+        }
     }
 
     /**
@@ -175,7 +259,7 @@ public boolean isEmpty() {
      * @return The new text style
      */
     public TextStyle bold(@Nullable Boolean bold) {
-        return new TextStyle(
+        return intern(
                 OptBool.of(bold),
                 this.italic,
                 this.underline,
@@ -191,7 +275,7 @@ public TextStyle bold(@Nullable Boolean bold) {
      * @return The new text style
      */
     public TextStyle italic(@Nullable Boolean italic) {
-        return new TextStyle(
+        return intern(
                 this.bold,
                 OptBool.of(italic),
                 this.underline,
@@ -207,7 +291,7 @@ public TextStyle italic(@Nullable Boolean italic) {
      * @return The new text style
      */
     public TextStyle underline(@Nullable Boolean underline) {
-        return new TextStyle(
+        return intern(
                 this.bold,
                 this.italic,
                 OptBool.of(underline),
@@ -224,7 +308,7 @@ public TextStyle underline(@Nullable Boolean underline) {
      * @return The new text style
      */
     public TextStyle strikethrough(@Nullable Boolean strikethrough) {
-        return new TextStyle(
+        return intern(
                 this.bold,
                 this.italic,
                 this.underline,
@@ -241,7 +325,7 @@ public TextStyle strikethrough(@Nullable Boolean strikethrough) {
      * @return The new text style
      */
     public TextStyle obfuscated(@Nullable Boolean obfuscated) {
-        return new TextStyle(
+        return intern(
                 this.bold,
                 this.italic,
                 this.underline,
@@ -338,7 +422,7 @@ public boolean contains(TextStyle... styles) {
      */
     public TextStyle negate() {
         // Do a negation of each property
-        return new TextStyle(
+        return intern(
                 propNegate(this.obfuscated),
                 propNegate(this.bold),
                 propNegate(this.strikethrough),
@@ -413,7 +497,7 @@ private TextStyle compose(TextStyle[] styles, boolean negate) {
             }
         }
 
-        return new TextStyle(
+        return intern(
                 boldAcc,
                 italicAcc,
                 underlineAcc,
@@ -35,7 +35,7 @@ private TextStyles() {
     /**
      * Represents an empty {@link TextStyle}.
      */
-    public static final TextStyle NONE = new TextStyle();
+    public static final TextStyle NONE = TextStyle.of(null, null, null, null, null);
 
     public static final TextStyle.Base OBFUSCATED = null;
     public static final TextStyle.Base BOLD = null;
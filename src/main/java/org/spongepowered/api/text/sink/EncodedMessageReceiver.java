@@ -0,0 +1,67 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.sink;
+
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TextRepresentation;
+
+import java.util.Locale;
+
+/**
+ * A recipient of messages that accepts messages already encoded by a
+ * {@link TextRepresentation}.
+ *
+ * <p>When a {@link MessageSink} broadcasts a message without transforming
+ * it, the message is encoded once for each combination of representation and
+ * locale, and the encoded form is shared by all recipients of that
+ * combination.</p>
+ */
+public interface EncodedMessageReceiver {
+
+    /**
+     * Get the representation messages should be encoded with for this
+     * receiver.
+     *
+     * @return The representation
+     */
+    TextRepresentation getMessageRepresentation();
+
+    /**
+     * Get the locale messages should be encoded in for this receiver.
+     *
+     * @return The locale
+     */
+    Locale getLocale();
+
+    /**
+     * Send a message that has already been encoded for this receiver.
+     *
+     * @param message The message
+     * @param encoded The result of encoding {@code message} with
+     *     {@link #getMessageRepresentation()} in {@link #getLocale()}
+     */
+    void sendEncodedMessage(Text message, String encoded);
+
+}
@@ -24,28 +24,83 @@
  */
 package org.spongepowered.api.text.sink;
 
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TextRepresentation;
 import org.spongepowered.api.util.command.CommandSource;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Represents a function that takes a message and transforms it for distribution to the given targets.
  */
 public abstract class MessageSink {
+    private static final Map<Class<?>, Boolean> identityTransforms = new MapMaker().weakKeys().makeMap();
+
     /**
      * Process a message using this sink, transforming and sending it to the appropriate recipients.
      *
      * @param text The text to send
      */
     public final void sendMessage(Text text) {
+        if (!hasIdentityTransform(getClass())) {
+            for (CommandSource recipient : getRecipients()) {
+                Text transformed = transformMessage(recipient, text);
+                recipient.sendMessage(transformed == null ? text : transformed);
+            }
+            return;
+        }
+
+        // Every recipient receives the same message, so encode it once per representation and locale
+        Map<TextRepresentation, Map<Locale, String>> encodings = null;
         for (CommandSource recipient : getRecipients()) {
-            Text transformed = transformMessage(recipient, text);
-            recipient.sendMessage(transformed == null ? text : transformed);
+            if (recipient instanceof EncodedMessageReceiver) {
+                final EncodedMessageReceiver receiver = (EncodedMessageReceiver) recipient;
+                final TextRepresentation representation = receiver.getMessageRepresentation();
+                final Locale locale = receiver.getLocale();
+                if (encodings == null) {
+                    encodings = Maps.newIdentityHashMap();
+                }
+                Map<Locale, String> byLocale = encodings.get(representation);
+                if (byLocale == null) {
+                    byLocale = new HashMap<Locale, String>();
+                    encodings.put(representation, byLocale);
+                }
+                String encoded = byLocale.get(locale);
+                if (encoded == null) {
+                    encoded = representation.to(text, locale);
+                    byLocale.put(locale, encoded);
+                }
+                receiver.sendEncodedMessage(text, encoded);
+            } else {
+                recipient.sendMessage(text);
+            }
         }
     }
 
+    private static boolean hasIdentityTransform(Class<? extends MessageSink> sinkClass) {
+        Boolean identity = identityTransforms.get(sinkClass);
+        if (identity == null) {
+            try {
+                identity = sinkClass.getMethod("transformMessage", CommandSource.class, Text.class).getDeclaringClass() == MessageSink.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+            identityTransforms.put(sinkClass, identity);
+        }
+        return identity;
+    }
+
     /**
      * Handle transforming the input message appropriately.
      *
+     * <p>Sinks that do not override this method have their messages encoded
+     * only once for all {@link EncodedMessageReceiver}s sharing a
+     * representation and locale.</p>
+     *
      * @param target The target to transform the message for
      * @param text The message to send
      * @return The transformed text. May be input.
@@ -0,0 +1,164 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import com.google.common.base.Function;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the bundles returned by a bundle function of
+ * {@link ResourceBundleTranslation}s per locale, together with the compiled
+ * formats of the keys looked up in them. Locales that were not used for a
+ * while are evicted.
+ */
+final class BundleCache {
+
+    private static final long EXPIRE_MINUTES = 10;
+
+    // The caches do not reference the bundle functions, so they can be
+    // collected once no translation uses them anymore
+    private static final LoadingCache<Function<Locale, ResourceBundle>, BundleCache> caches = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<Function<Locale, ResourceBundle>, BundleCache>() {
+                @Override
+                public BundleCache load(Function<Locale, ResourceBundle> key) {
+                    return new BundleCache();
+                }
+            });
+
+    private final Cache<Locale, Formats> locales = CacheBuilder.newBuilder()
+            .expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    private BundleCache() {
+    }
+
+    /**
+     * Returns the cache for the given bundle function.
+     *
+     * @param bundleFunction The bundle function
+     * @return The cache of the function
+     */
+    static BundleCache of(Function<Locale, ResourceBundle> bundleFunction) {
+        return caches.getUnchecked(bundleFunction);
+    }
+
+    /**
+     * Discards the cached bundles and formats of all bundle functions.
+     */
+    static void invalidateAll() {
+        for (BundleCache cache : caches.asMap().values()) {
+            cache.locales.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the compiled format for the given key in the bundle for the
+     * given locale, or for the key itself if the bundle or the key is missing.
+     *
+     * @param bundleFunction The bundle function this cache belongs to
+     * @param locale The locale
+     * @param key The key to look up
+     * @return The compiled format
+     */
+    CompiledFormat get(final Function<Locale, ResourceBundle> bundleFunction, final Locale locale, String key) {
+        Formats formats = this.locales.getIfPresent(locale);
+        if (formats == null) {
+            try {
+                formats = this.locales.get(locale, new Callable<Formats>() {
+                    @Override
+                    public Formats call() {
+                        return new Formats(getBundle(bundleFunction, locale));
+                    }
+                });
+            } catch (ExecutionException e) {
+                throw new UncheckedExecutionException(e.getCause());
+            }
+        }
+        return formats.get(key);
+    }
+
+    @Nullable
+    private static ResourceBundle getBundle(Function<Locale, ResourceBundle> bundleFunction, Locale locale) {
+        try {
+            return bundleFunction.apply(locale);
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The compiled formats of a bundle.
+     */
+    private static final class Formats {
+
+        @Nullable private final ResourceBundle bundle;
+        private final ConcurrentMap<String, CompiledFormat> formats = Maps.newConcurrentMap();
+
+        Formats(@Nullable ResourceBundle bundle) {
+            this.bundle = bundle;
+        }
+
+        CompiledFormat get(String key) {
+            CompiledFormat format = this.formats.get(key);
+            if (format == null) {
+                format = CompiledFormat.compile(getString(key));
+                CompiledFormat previous = this.formats.putIfAbsent(key, format);
+                if (previous != null) {
+                    format = previous;
+                }
+            }
+            return format;
+        }
+
+        private String getString(String key) {
+            if (this.bundle == null) {
+                return key;
+            }
+            try {
+                return this.bundle.getString(key);
+            } catch (MissingResourceException e) {
+                return key;
+            }
+        }
+
+    }
+
+}
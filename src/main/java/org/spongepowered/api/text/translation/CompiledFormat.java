@@ -0,0 +1,201 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * A format string for {@link String#format(Locale, String, Object...)}
+ * parsed once, so formatting it does not parse it again.
+ *
+ * <p>The format string is split into literal text and format specifiers, and
+ * the argument of each specifier is resolved in advance. Plain {@code %s}
+ * specifiers are appended directly, all other specifiers are passed on to a
+ * {@link Formatter} one by one. Format strings that cannot be parsed, and calls
+ * with too few arguments, are handled by
+ * {@link String#format(Locale, String, Object...)} to produce the same result
+ * or exception.</p>
+ */
+final class CompiledFormat {
+
+    // %[argument_index$][flags][width][.precision][t]conversion, like Formatter
+    private static final Pattern SPECIFIER = Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private final String pattern;
+    /**
+     * The literal strings and {@link Specifier}s of the format, or
+     * {@code null} if it could not be compiled.
+     */
+    @Nullable private final Object[] parts;
+    private final int argumentCount;
+
+    private CompiledFormat(String pattern, @Nullable Object[] parts, int argumentCount) {
+        this.pattern = pattern;
+        this.parts = parts;
+        this.argumentCount = argumentCount;
+    }
+
+    /**
+     * Compiles the given format string.
+     *
+     * @param pattern The format string
+     * @return The compiled format
+     */
+    static CompiledFormat compile(String pattern) {
+        List<Object> parts = new ArrayList<Object>();
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = SPECIFIER.matcher(pattern);
+        int argumentCount = 0;
+        int ordinary = -1;
+        int last = -1;
+
+        int pos = 0;
+        int percent;
+        while ((percent = pattern.indexOf('%', pos)) != -1) {
+            literal.append(pattern, pos, percent);
+            matcher.region(percent, pattern.length());
+            if (!matcher.lookingAt()) {
+                return new CompiledFormat(pattern, null, 0);
+            }
+            pos = matcher.end();
+
+            String flags = matcher.group(2) == null ? "" : matcher.group(2);
+            char conversion = matcher.group(6).charAt(0);
+            if (conversion == '%' || conversion == 'n') {
+                if (matcher.group(1) != null || !flags.isEmpty() || matcher.group(3) != null || matcher.group(4) != null
+                        || matcher.group(5) != null) {
+                    return new CompiledFormat(pattern, null, 0);
+                }
+                literal.append(conversion == '%' ? "%" : LINE_SEPARATOR);
+                continue;
+            }
+
+            int index;
+            if (flags.indexOf('<') != -1) {
+                index = last;
+                flags = flags.replace("<", "");
+            } else if (matcher.group(1) != null) {
+                String explicit = matcher.group(1);
+                index = Integer.parseInt(explicit.substring(0, explicit.length() - 1)) - 1;
+            } else {
+                index = ++ordinary;
+            }
+            if (index < 0) {
+                return new CompiledFormat(pattern, null, 0);
+            }
+            last = index;
+            argumentCount = Math.max(argumentCount, index + 1);
+
+            if (literal.length() > 0) {
+                parts.add(literal.toString());
+                literal.setLength(0);
+            }
+            boolean plain = conversion == 's' && flags.isEmpty() && matcher.group(3) == null && matcher.group(4) == null;
+            parts.add(new Specifier(index, plain ? null : '%' + flags + nullToEmpty(matcher.group(3)) + nullToEmpty(matcher.group(4))
+                    + nullToEmpty(matcher.group(5)) + conversion));
+        }
+        literal.append(pattern, pos, pattern.length());
+        if (literal.length() > 0) {
+            parts.add(literal.toString());
+        }
+        return new CompiledFormat(pattern, parts.toArray(), argumentCount);
+    }
+
+    private static String nullToEmpty(@Nullable String s) {
+        return s == null ? "" : s;
+    }
+
+    /**
+     * Returns the format string this format was compiled from.
+     *
+     * @return The format string
+     */
+    String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Formats the given arguments like
+     * {@link String#format(Locale, String, Object...)}.
+     *
+     * @param locale The locale to format the arguments with
+     * @param args The arguments
+     * @return The formatted string
+     */
+    String format(Locale locale, @Nullable Object... args) {
+        if (this.parts == null || args == null || args.length < this.argumentCount) {
+            return String.format(locale, this.pattern, args);
+        }
+
+        StringBuilder builder = new StringBuilder(this.pattern.length() + 16 * this.argumentCount);
+        Formatter formatter = null;
+        for (Object part : this.parts) {
+            if (part instanceof String) {
+                builder.append((String) part);
+                continue;
+            }
+            Specifier specifier = (Specifier) part;
+            Object arg = args[specifier.index];
+            if (specifier.format == null && !(arg instanceof Formattable)) {
+                builder.append(arg);
+            } else {
+                if (formatter == null) {
+                    formatter = new Formatter(builder, locale);
+                }
+                formatter.format(specifier.format == null ? "%s" : specifier.format, arg);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A format specifier with a resolved argument index.
+     */
+    private static final class Specifier {
+
+        final int index;
+        /**
+         * The specifier without argument index, or {@code null} for a plain
+         * {@code %s}.
+         */
+        @Nullable final String format;
+
+        Specifier(int index, @Nullable String format) {
+            this.index = index;
+            this.format = format;
+        }
+
+    }
+
+}
@@ -26,11 +26,14 @@
 
 import java.util.Locale;
 
+import javax.annotation.Nullable;
+
 /**
  * A translation providing a fixed value.
  */
 public class FixedTranslation implements Translation {
     private final String value;
+    @Nullable private CompiledFormat format;
 
     /**
      * Create a new translation with an id and value that are the same.
@@ -53,6 +56,12 @@ public String get(Locale locale) {
 
     @Override
     public String get(Locale locale, Object... args) {
-        return String.format(locale, this.value, args);
+        // Racing threads compile the immutable format at most once each
+        CompiledFormat format = this.format;
+        if (format == null) {
+            format = CompiledFormat.compile(this.value);
+            this.format = format;
+        }
+        return format.format(locale, args);
     }
 }
@@ -29,7 +29,6 @@
 import com.google.common.base.Function;
 
 import java.util.Locale;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 /**
@@ -53,10 +52,16 @@
  *     }
  *
  * </pre>
+ *
+ * <p>The bundles returned by a bundle function are cached per locale for all
+ * translations using the function, and the format strings looked up in them
+ * are only parsed once. Locales that were not used for a while are evicted;
+ * use {@link #clearCache()} to pick up changes to the bundles right away.</p>
  */
 public class ResourceBundleTranslation implements Translation {
     private final String key;
     private final Function<Locale, ResourceBundle> bundleFunction;
+    private final BundleCache cache;
 
     /**
      * Create a ResourceBundle-backed translation for the given key and bundle factory.
@@ -67,6 +72,15 @@ public class ResourceBundleTranslation implements Translation {
     public ResourceBundleTranslation(String key, Function<Locale, ResourceBundle> bundleFunction) {
         this.key = key;
         this.bundleFunction = bundleFunction;
+        this.cache = BundleCache.of(bundleFunction);
+    }
+
+    /**
+     * Clears the cached bundles and format strings of all resource bundle
+     * translations, for example after the bundles were reloaded.
+     */
+    public static void clearCache() {
+        BundleCache.invalidateAll();
     }
 
     @Override
@@ -76,17 +90,15 @@ public String getId() {
 
     @Override
     public String get(Locale locale) {
-        checkNotNull(locale, "locale");
-        try {
-            ResourceBundle bundle = this.bundleFunction.apply(locale);
-            return bundle == null ? this.key : bundle.getString(this.key);
-        } catch (MissingResourceException ex) {
-            return this.key;
-        }
+        return getFormat(locale).getPattern();
     }
 
     @Override
     public String get(Locale locale, Object... args) {
-        return String.format(locale, get(locale), args);
+        return getFormat(locale).format(locale, args);
+    }
+
+    private CompiledFormat getFormat(Locale locale) {
+        return this.cache.get(this.bundleFunction, checkNotNull(locale, "locale"), this.key);
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs independent pieces of work on the calling thread and helper tasks,
+ * which claim the pieces by index until all of them have been run.
+ *
+ * <p>The calling thread also runs pieces, so the work completes even if the
+ * executor is saturated or rejects the helper tasks. A single pool of daemon
+ * threads, sized to leave a processor to the calling thread, is shared by
+ * all callers that do not provide their own executor.</p>
+ */
+public final class ParallelTasks {
+
+    // The calling thread runs pieces too
+    private static final int HELPERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * A piece of work identified by its index.
+     */
+    public interface Task {
+
+        /**
+         * Runs the piece of work with the given index.
+         *
+         * @param index The index of the piece, from zero to the count passed
+         *     to {@link ParallelTasks#run(Executor, int, Task)}
+         */
+        void run(int index);
+
+    }
+
+    /**
+     * Gets the pool of daemon threads shared by the callers that do not
+     * provide their own executor.
+     *
+     * @return The shared executor
+     */
+    public static Executor getSharedExecutor() {
+        return SharedExecutor.INSTANCE;
+    }
+
+    /**
+     * Runs the pieces of work with the indices from zero to the given count,
+     * on the given executor and the calling thread, and waits for all of them
+     * to complete. Once a piece throws, the pieces that were not started yet
+     * are skipped and the first throwable is rethrown on the calling thread.
+     *
+     * @param executor The executor to run the helper tasks on
+     * @param count The number of pieces
+     * @param task The work to run for each piece, from any thread
+     */
+    public static void run(Executor executor, int count, Task task) {
+        checkNotNull(executor, "executor");
+        checkArgument(count >= 0, "count must not be negative");
+        checkNotNull(task, "task");
+        final Work work = new Work(count, task);
+        final int helpers = Math.min(count - 1, HELPERS);
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(work);
+            } catch (RejectedExecutionException ignored) {
+                // The calling thread runs the remaining pieces
+                break;
+            }
+        }
+        work.run();
+        Uninterruptibles.awaitUninterruptibly(work.remaining);
+        final Throwable failure = work.failure.get();
+        if (failure != null) {
+            throw Throwables.propagate(failure);
+        }
+    }
+
+    /**
+     * Runs pieces until all of them have been claimed. Run by the calling
+     * thread and the helper tasks.
+     */
+    private static final class Work implements Runnable {
+
+        private final int count;
+        private final Task task;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        private final CountDownLatch remaining;
+
+        Work(int count, Task task) {
+            this.count = count;
+            this.task = task;
+            this.remaining = new CountDownLatch(count);
+        }
+
+        @Override
+        public void run() {
+            int index;
+            while ((index = this.next.getAndIncrement()) < this.count) {
+                try {
+                    // Skip the work once a piece has failed, but still count the piece down
+                    if (this.failure.get() == null) {
+                        this.task.run(index);
+                    }
+                } catch (Throwable throwable) {
+                    this.failure.compareAndSet(null, throwable);
+                } finally {
+                    this.remaining.countDown();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Holds the shared pool of daemon threads, created on first use.
+     */
+    private static final class SharedExecutor {
+
+        static final Executor INSTANCE = Executors.newFixedThreadPool(HELPERS,
+                new ThreadFactoryBuilder().setNameFormat("Parallel Worker #%d").setDaemon(true).build());
+
+        private SharedExecutor() {
+        }
+
+    }
+
+}
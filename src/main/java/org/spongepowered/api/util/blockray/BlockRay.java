@@ -42,6 +42,7 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -72,6 +73,11 @@
  * {@code final Optional<BlockRayHit> block = BlockRay.from(entity).filter(BlockRay.ONLY_AIR_FILTER).end();}
  * </pre></p>
  *
+ * <p>Code casting many rays should use {@link #trace(Extent, Vector3d, Vector3d, double, BlockRayVisitor)}
+ * instead, which passes a single reused {@link MutableBlockRayHit} to a {@link BlockRayVisitor}.
+ * Rays cast against an {@link ImmutableBlockVolume} can be traced in parallel with a
+ * {@link BlockRayBatch}, see {@link #batch(ImmutableBlockVolume)}.</p>
+ *
  * @param <E> The extent in which this ray is being cast
  * @see BlockRayHit
  */
@@ -223,11 +229,11 @@ public final void reset() {
         this.hit = null;
     }
 
-    private void advance() {
+    private boolean advance() {
         // Check the block limit if in use
         if (this.blockLimit >= 0 && this.blockCount >= this.blockLimit) {
             this.hit = null;
-            throw new NoSuchElementException("Block limit reached");
+            return false;
         }
 
         /*
@@ -258,34 +264,29 @@ private void advance() {
             The iterator solves these equations and provides the solutions in increasing order with respect to t_s.
         */
 
-        if (this.xPlaneT == this.yPlaneT) {
+        if (this.xPlaneT < this.yPlaneT && this.xPlaneT < this.zPlaneT) {
+            // xPlaneT is smallest
+            xIntersect();
+        } else if (this.yPlaneT < this.xPlaneT && this.yPlaneT < this.zPlaneT) {
+            // yPlaneT is smallest
+            yIntersect();
+        } else if (this.zPlaneT < this.xPlaneT && this.zPlaneT < this.yPlaneT) {
+            // zPlaneT is smallest
+            zIntersect();
+        } else if (this.xPlaneT == this.yPlaneT) {
             if (this.xPlaneT == this.zPlaneT) {
                 // xPlaneT, yPlaneT and zPlaneT are equal
                 xyzIntersect();
             } else {
-                // xPlaneT and yPlaneT are equal
+                // xPlaneT and yPlaneT are equal and smallest
                 xyIntersect();
             }
         } else if (this.xPlaneT == this.zPlaneT) {
-            // xPlaneT and zPlaneT are equal
+            // xPlaneT and zPlaneT are equal and smallest
             xzIntersect();
-        } else if (this.yPlaneT == this.zPlaneT) {
-            // yPlaneT and zPlaneT are equal
-            yzIntersect();
-        } else if (this.xPlaneT < this.yPlaneT) {
-            if (this.xPlaneT < this.zPlaneT) {
-                // xPlaneT is smallest
-                xIntersect();
-            } else {
-                // zPlaneT is smallest
-                zIntersect();
-            }
-        } else if (this.yPlaneT < this.zPlaneT) {
-            // yPlaneT is smallest
-            yIntersect();
         } else {
-            // zPlaneT is smallest
-            zIntersect();
+            // yPlaneT and zPlaneT are equal and smallest
+            yzIntersect();
         }
 
         final BlockRayHit<E> hit = new BlockRayHit<E>(this.extent, this.xCurrent, this.yCurrent, this.zCurrent, this.direction, this.normalCurrent);
@@ -293,40 +294,32 @@ private void advance() {
         // Make sure we actually have a block
         if (!this.extent.containsBlock(hit.getBlockX(), hit.getBlockY(), hit.getBlockZ())) {
             this.hit = null;
-            throw new NoSuchElementException("Extent limit reached");
+            return false;
         }
         // Check the block filter
         if (!this.filter.apply(hit)) {
-            throw new NoSuchElementException("Filter limit reached");
+            return false;
         }
 
         this.hit = hit;
         this.blockCount++;
+        return true;
     }
 
     @Override
     public boolean hasNext() {
-        if (this.ahead) {
-            // We already checked
-            return true;
-        }
-        try {
-            advance();
-            this.ahead = true;
-            return true;
-        } catch (NoSuchElementException exception) {
-            return false;
+        if (!this.ahead) {
+            this.ahead = advance();
         }
+        return this.ahead;
     }
 
     @Override
     public BlockRayHit<E> next() {
-        if (this.ahead) {
-            // We already advanced in hasNext()
-            this.ahead = false;
-        } else {
-            advance();
+        if (!hasNext()) {
+            throw new NoSuchElementException("Block, extent or filter limit reached");
         }
+        this.ahead = false;
         return this.hit;
     }
 
@@ -505,6 +498,86 @@ public static BlockRayBuilder<World> from(Entity entity) {
         return from(location.getExtent(), position).direction(direction);
     }
 
+    /**
+     * Creates a batch of rays to be traced in parallel against an immutable
+     * volume. See {@link BlockRayBatch}.
+     *
+     * @param volume The volume in which to trace the rays
+     * @return A new empty batch
+     */
+    public static BlockRayBatch batch(ImmutableBlockVolume volume) {
+        return new BlockRayBatch(volume);
+    }
+
+    /**
+     * Traces a ray up to the given distance and passes the intersected blocks
+     * to the visitor, in the order of a {@link BlockRay} without filter. The
+     * trace stops when the visitor returns {@code false}, at the maximum
+     * distance or at the first block not contained in the extent.
+     *
+     * <p>Unlike iterating a {@link BlockRay}, this does not allocate a
+     * {@link BlockRayHit} for every block, which makes it suitable for
+     * casting many rays.</p>
+     *
+     * @param extent The extent in which to trace the ray
+     * @param origin The starting position
+     * @param direction The direction of the ray, does not need to be normalized
+     * @param maxDistance The maximum distance of the intersections from the
+     *     origin
+     * @param visitor The visitor to pass the blocks to
+     * @param <E> The type of the extent
+     * @return Whether the visitor stopped the trace
+     */
+    public static <E extends Extent> boolean trace(E extent, Vector3d origin, Vector3d direction, double maxDistance,
+            BlockRayVisitor<E> visitor) {
+        checkNotNull(origin, "origin");
+        checkNotNull(direction, "direction");
+        return trace(extent, origin.getX(), origin.getY(), origin.getZ(), direction.getX(), direction.getY(), direction.getZ(), maxDistance,
+                visitor);
+    }
+
+    /**
+     * Traces a ray up to the given distance and passes the intersected blocks
+     * to the visitor.
+     *
+     * @param extent The extent in which to trace the ray
+     * @param xOrigin The x coordinate of the starting position
+     * @param yOrigin The y coordinate of the starting position
+     * @param zOrigin The z coordinate of the starting position
+     * @param xDirection The x component of the direction of the ray
+     * @param yDirection The y component of the direction of the ray
+     * @param zDirection The z component of the direction of the ray
+     * @param maxDistance The maximum distance of the intersections from the
+     *     origin
+     * @param visitor The visitor to pass the blocks to
+     * @param <E> The type of the extent
+     * @return Whether the visitor stopped the trace
+     * @see #trace(Extent, Vector3d, Vector3d, double, BlockRayVisitor)
+     */
+    public static <E extends Extent> boolean trace(E extent, double xOrigin, double yOrigin, double zOrigin, double xDirection,
+            double yDirection, double zDirection, double maxDistance, final BlockRayVisitor<E> visitor) {
+        checkNotNull(extent, "extent");
+        checkNotNull(visitor, "visitor");
+        final double length = Math.sqrt(xDirection * xDirection + yDirection * yDirection + zDirection * zDirection);
+        checkArgument(length != 0, "Direction must be a non-zero vector");
+        xDirection /= length;
+        yDirection /= length;
+        zDirection /= length;
+
+        final MutableBlockRayHit<E> hit = new MutableBlockRayHit<E>(extent, xDirection, yDirection, zDirection);
+        return BlockRayTracer.trace(extent, xOrigin, yOrigin, zOrigin, xDirection, yDirection, zDirection, maxDistance,
+                new BlockRayTracer.Step() {
+
+                    @Override
+                    public boolean step(double x, double y, double z, double distance, int xBlock, int yBlock, int zBlock, int xNormal,
+                            int yNormal, int zNormal) {
+                        hit.set(x, y, z, distance, xBlock, yBlock, zBlock, xNormal, yNormal, zNormal);
+                        return visitor.visit(hit);
+                    }
+
+                });
+    }
+
     /**
      * A builder for block ray, which also implements {@link Iterable}, which makes it
      * useful for 'advanced for loops'. Use {@link #from(Location)} to get an instance.
@@ -0,0 +1,374 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.util.ParallelTasks;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Casts many rays against an {@link ImmutableBlockVolume} in parallel.
+ * Since the volume cannot change, the rays can be traced from any thread
+ * without synchronization. Each ray stops at the first block rejected by
+ * its {@link BlockRayFilter}, and the results are stored in primitive
+ * arrays instead of a {@link BlockRayHit} per ray.
+ *
+ * <p>A batch is not thread-safe, but may be traced again after adding more
+ * rays. Obtain one with {@link BlockRay#batch(ImmutableBlockVolume)}.</p>
+ */
+public final class BlockRayBatch {
+
+    // Rays are traced in chunks, so workers don't contend over each ray
+    private static final int CHUNK_SIZE = 32;
+    // Origin, direction and maximum distance
+    private static final int RAY_STRIDE = 7;
+    private final ImmutableBlockVolume volume;
+    private double[] rays = new double[CHUNK_SIZE * RAY_STRIDE];
+    private BlockRayFilter[] filters = new BlockRayFilter[CHUNK_SIZE];
+    private int size;
+
+    BlockRayBatch(ImmutableBlockVolume volume) {
+        this.volume = checkNotNull(volume, "volume");
+    }
+
+    /**
+     * Gets the volume in which the rays are traced.
+     *
+     * @return The volume
+     */
+    public ImmutableBlockVolume getVolume() {
+        return this.volume;
+    }
+
+    /**
+     * Gets the number of rays in this batch.
+     *
+     * @return The number of rays
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a ray to the batch.
+     *
+     * @param origin The starting position
+     * @param direction The direction of the ray, does not need to be normalized
+     * @param maxDistance The maximum distance of the hit from the origin
+     * @param filter The filter deciding at which block the ray stops
+     * @return The index of the ray in the results
+     */
+    public int add(Vector3d origin, Vector3d direction, double maxDistance, BlockRayFilter filter) {
+        checkNotNull(origin, "origin");
+        checkNotNull(direction, "direction");
+        return add(origin.getX(), origin.getY(), origin.getZ(), direction.getX(), direction.getY(), direction.getZ(), maxDistance, filter);
+    }
+
+    /**
+     * Adds a ray to the batch.
+     *
+     * @param xOrigin The x coordinate of the starting position
+     * @param yOrigin The y coordinate of the starting position
+     * @param zOrigin The z coordinate of the starting position
+     * @param xDirection The x component of the direction of the ray
+     * @param yDirection The y component of the direction of the ray
+     * @param zDirection The z component of the direction of the ray
+     * @param maxDistance The maximum distance of the hit from the origin
+     * @param filter The filter deciding at which block the ray stops
+     * @return The index of the ray in the results
+     * @see #add(Vector3d, Vector3d, double, BlockRayFilter)
+     */
+    public int add(double xOrigin, double yOrigin, double zOrigin, double xDirection, double yDirection, double zDirection,
+            double maxDistance, BlockRayFilter filter) {
+        checkNotNull(filter, "filter");
+        final double length = Math.sqrt(xDirection * xDirection + yDirection * yDirection + zDirection * zDirection);
+        checkArgument(length != 0, "Direction must be a non-zero vector");
+        final int index = this.size;
+        if (index == this.filters.length) {
+            this.rays = Arrays.copyOf(this.rays, this.rays.length * 2);
+            this.filters = Arrays.copyOf(this.filters, this.filters.length * 2);
+        }
+        final int offset = index * RAY_STRIDE;
+        this.rays[offset] = xOrigin;
+        this.rays[offset + 1] = yOrigin;
+        this.rays[offset + 2] = zOrigin;
+        this.rays[offset + 3] = xDirection / length;
+        this.rays[offset + 4] = yDirection / length;
+        this.rays[offset + 5] = zDirection / length;
+        this.rays[offset + 6] = maxDistance;
+        this.filters[index] = filter;
+        this.size++;
+        return index;
+    }
+
+    /**
+     * Traces all rays of the batch on a shared pool of daemon threads and
+     * the calling thread.
+     *
+     * @return The results of the rays
+     */
+    public Results trace() {
+        return trace(ParallelTasks.getSharedExecutor());
+    }
+
+    /**
+     * Traces all rays of the batch on the given executor and the calling
+     * thread. The calling thread also traces rays, so the batch completes
+     * even if the executor is saturated or rejects the tasks.
+     *
+     * @param executor The executor to trace the rays on
+     * @return The results of the rays
+     */
+    public Results trace(Executor executor) {
+        checkNotNull(executor, "executor");
+        final Results results = new Results(Arrays.copyOf(this.rays, this.size * RAY_STRIDE), this.size);
+        final BlockRayFilter[] filters = Arrays.copyOf(this.filters, this.size);
+        ParallelTasks.run(executor, (results.size + CHUNK_SIZE - 1) / CHUNK_SIZE, new ParallelTasks.Task() {
+            @Override
+            public void run(int chunk) {
+                final RayStep step = new RayStep(BlockRayBatch.this.volume, results);
+                final int end = Math.min((chunk + 1) * CHUNK_SIZE, results.size);
+                for (int ray = chunk * CHUNK_SIZE; ray < end; ray++) {
+                    step.trace(ray, filters[ray]);
+                }
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Records the block at which a ray is stopped by its filter. Every chunk
+     * of rays uses its own step, so tracing allocates nothing per ray.
+     */
+    private static final class RayStep implements BlockRayTracer.Step {
+
+        private final ImmutableBlockVolume volume;
+        private final Results results;
+        private BlockRayFilter filter;
+        private int ray;
+
+        RayStep(ImmutableBlockVolume volume, Results results) {
+            this.volume = volume;
+            this.results = results;
+        }
+
+        void trace(int ray, BlockRayFilter filter) {
+            this.ray = ray;
+            this.filter = filter;
+            final double[] rays = this.results.rays;
+            final int offset = ray * RAY_STRIDE;
+            BlockRayTracer.trace(this.volume, rays[offset], rays[offset + 1], rays[offset + 2], rays[offset + 3], rays[offset + 4],
+                    rays[offset + 5], rays[offset + 6], this);
+        }
+
+        @Override
+        public boolean step(double x, double y, double z, double distance, int xBlock, int yBlock, int zBlock, int xNormal, int yNormal,
+                int zNormal) {
+            if (this.filter.accept(this.volume, xBlock, yBlock, zBlock, distance)) {
+                return true;
+            }
+            final int offset = this.ray * 3;
+            this.results.blocks[offset] = xBlock;
+            this.results.blocks[offset + 1] = yBlock;
+            this.results.blocks[offset + 2] = zBlock;
+            this.results.normals[offset] = (byte) xNormal;
+            this.results.normals[offset + 1] = (byte) yNormal;
+            this.results.normals[offset + 2] = (byte) zNormal;
+            this.results.distances[this.ray] = distance;
+            return false;
+        }
+
+    }
+
+    /**
+     * The results of tracing a {@link BlockRayBatch}, indexed by the order in
+     * which the rays were added. A ray hits the block at which its filter
+     * stopped it; rays that reach their maximum distance or leave the volume
+     * miss.
+     */
+    public static final class Results {
+
+        private final double[] rays;
+        private final int size;
+        private final int[] blocks;
+        private final byte[] normals;
+        private final double[] distances;
+
+        Results(double[] rays, int size) {
+            this.rays = rays;
+            this.size = size;
+            this.blocks = new int[size * 3];
+            this.normals = new byte[size * 3];
+            this.distances = new double[size];
+            // Misses are marked by a NaN distance
+            Arrays.fill(this.distances, Double.NaN);
+        }
+
+        /**
+         * Gets the number of rays.
+         *
+         * @return The number of rays
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns whether the ray was stopped by its filter at a block.
+         *
+         * @param ray The index of the ray
+         * @return Whether the ray hit a block
+         */
+        public boolean isHit(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return !Double.isNaN(this.distances[ray]);
+        }
+
+        /**
+         * Gets the distance of the hit from the origin of the ray.
+         *
+         * @param ray The index of the ray
+         * @return The distance, or {@link Double#NaN} on a miss
+         */
+        public double getDistance(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.distances[ray];
+        }
+
+        /**
+         * Gets the x coordinate of the intersection with the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The x coordinate, or {@link Double#NaN} on a miss
+         */
+        public double getX(int ray) {
+            return getPosition(ray, 0);
+        }
+
+        /**
+         * Gets the y coordinate of the intersection with the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The y coordinate, or {@link Double#NaN} on a miss
+         */
+        public double getY(int ray) {
+            return getPosition(ray, 1);
+        }
+
+        /**
+         * Gets the z coordinate of the intersection with the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The z coordinate, or {@link Double#NaN} on a miss
+         */
+        public double getZ(int ray) {
+            return getPosition(ray, 2);
+        }
+
+        private double getPosition(int ray, int axis) {
+            checkElementIndex(ray, this.size, "ray");
+            final int offset = ray * RAY_STRIDE + axis;
+            return this.rays[offset] + this.rays[offset + 3] * this.distances[ray];
+        }
+
+        /**
+         * Gets the x coordinate of the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The x coordinate, undefined on a miss
+         */
+        public int getBlockX(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.blocks[ray * 3];
+        }
+
+        /**
+         * Gets the y coordinate of the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The y coordinate, undefined on a miss
+         */
+        public int getBlockY(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.blocks[ray * 3 + 1];
+        }
+
+        /**
+         * Gets the z coordinate of the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The z coordinate, undefined on a miss
+         */
+        public int getBlockZ(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.blocks[ray * 3 + 2];
+        }
+
+        /**
+         * Gets the x component of the normal of the face through which the
+         * ray entered the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The x component of the normal, zero on a miss
+         */
+        public int getNormalX(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.normals[ray * 3];
+        }
+
+        /**
+         * Gets the y component of the normal of the face through which the
+         * ray entered the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The y component of the normal, zero on a miss
+         */
+        public int getNormalY(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.normals[ray * 3 + 1];
+        }
+
+        /**
+         * Gets the z component of the normal of the face through which the
+         * ray entered the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The z component of the normal, zero on a miss
+         */
+        public int getNormalZ(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.normals[ray * 3 + 2];
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+
+/**
+ * Decides where a ray of a {@link BlockRayBatch} stops. Filters may be
+ * called from several threads at once and must be thread-safe if they are
+ * shared between rays.
+ */
+public interface BlockRayFilter {
+
+    /**
+     * Tests the next block intersected by the ray.
+     *
+     * @param volume The volume in which the ray is being traced
+     * @param blockX The x coordinate of the block
+     * @param blockY The y coordinate of the block
+     * @param blockZ The z coordinate of the block
+     * @param distance The distance of the intersection from the origin
+     * @return Whether to continue tracing the ray, {@code false} to stop
+     *     with a hit on the block
+     */
+    boolean accept(ImmutableBlockVolume volume, int blockX, int blockY, int blockZ, double distance);
+
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import com.flowpowered.math.GenericMath;
+import org.spongepowered.api.world.extent.BlockVolume;
+
+/**
+ * Traces rays through the blocks of a volume without allocating, for
+ * {@link BlockRay#trace(org.spongepowered.api.world.extent.Extent, double,
+ * double, double, double, double, double, double, BlockRayVisitor)} and
+ * {@link BlockRayBatch}. The blocks are visited in the same order as by a
+ * {@link BlockRay}.
+ */
+final class BlockRayTracer {
+
+    private BlockRayTracer() {
+    }
+
+    /**
+     * Receives the blocks intersected by a traced ray.
+     */
+    interface Step {
+
+        /**
+         * Visits the next block intersected by the ray.
+         *
+         * @param x The x coordinate of the intersection
+         * @param y The y coordinate of the intersection
+         * @param z The z coordinate of the intersection
+         * @param distance The distance of the intersection from the origin
+         * @param xBlock The x coordinate of the block
+         * @param yBlock The y coordinate of the block
+         * @param zBlock The z coordinate of the block
+         * @param xNormal The x component of the entered face normal
+         * @param yNormal The y component of the entered face normal
+         * @param zNormal The z component of the entered face normal
+         * @return Whether to continue tracing the ray
+         */
+        boolean step(double x, double y, double z, double distance, int xBlock, int yBlock, int zBlock, int xNormal, int yNormal,
+                int zNormal);
+
+    }
+
+    /**
+     * Traces a ray until the step returns {@code false}, the maximum distance
+     * is exceeded or the ray leaves the volume.
+     *
+     * @param volume The volume in which to trace the ray
+     * @param xOrigin The x coordinate of the starting position
+     * @param yOrigin The y coordinate of the starting position
+     * @param zOrigin The z coordinate of the starting position
+     * @param xDirection The x component of the normalized direction
+     * @param yDirection The y component of the normalized direction
+     * @param zDirection The z component of the normalized direction
+     * @param maxDistance The maximum distance of the intersections
+     * @param step The step to pass the blocks to
+     * @return Whether the step stopped the trace
+     */
+    static boolean trace(BlockVolume volume, double xOrigin, double yOrigin, double zOrigin, double xDirection, double yDirection,
+            double zDirection, double maxDistance, Step step) {
+        // The plane increments for the direction, the normals of the entered faces point the other way
+        final int xIncrement = xDirection >= 0 ? 1 : -1;
+        final int yIncrement = yDirection >= 0 ? 1 : -1;
+        final int zIncrement = zDirection >= 0 ? 1 : -1;
+        // First planes are for the block that contains the coordinates, see BlockRay.reset()
+        int xPlane = firstPlane(xOrigin, xDirection);
+        int yPlane = firstPlane(yOrigin, yDirection);
+        int zPlane = firstPlane(zOrigin, zDirection);
+        double xPlaneT = planeIntersection(xPlane, xOrigin, xDirection);
+        double yPlaneT = planeIntersection(yPlane, yOrigin, yDirection);
+        double zPlaneT = planeIntersection(zPlane, zOrigin, zDirection);
+
+        while (true) {
+            // Intersect all planes at the nearest solution, see BlockRay.advance()
+            final double t = Math.min(xPlaneT, Math.min(yPlaneT, zPlaneT));
+            if (t > maxDistance) {
+                return false;
+            }
+            double x;
+            double y;
+            double z;
+            int xNormal = 0;
+            int yNormal = 0;
+            int zNormal = 0;
+            if (xPlaneT == t) {
+                x = xPlane;
+                xNormal = -xIncrement;
+                xPlane += xIncrement;
+                xPlaneT = planeIntersection(xPlane, xOrigin, xDirection);
+            } else {
+                x = xDirection * t + xOrigin;
+            }
+            if (yPlaneT == t) {
+                y = yPlane;
+                yNormal = -yIncrement;
+                yPlane += yIncrement;
+                yPlaneT = planeIntersection(yPlane, yOrigin, yDirection);
+            } else {
+                y = yDirection * t + yOrigin;
+            }
+            if (zPlaneT == t) {
+                z = zPlane;
+                zNormal = -zIncrement;
+                zPlane += zIncrement;
+                zPlaneT = planeIntersection(zPlane, zOrigin, zDirection);
+            } else {
+                z = zDirection * t + zOrigin;
+            }
+
+            // Take into account the face through which we entered
+            // so we know which block is the correct one
+            final int xBlock = GenericMath.floor(x) - (xNormal > 0 ? 1 : 0);
+            //noinspection SuspiciousNameCombination
+            final int yBlock = GenericMath.floor(y) - (yNormal > 0 ? 1 : 0);
+            final int zBlock = GenericMath.floor(z) - (zNormal > 0 ? 1 : 0);
+            if (!volume.containsBlock(xBlock, yBlock, zBlock)) {
+                return false;
+            }
+            if (!step.step(x, y, z, t, xBlock, yBlock, zBlock, xNormal, yNormal, zNormal)) {
+                return true;
+            }
+        }
+    }
+
+    private static int firstPlane(double origin, double direction) {
+        final int plane = GenericMath.floor(origin);
+        // Correct the next plane for the direction when inside the block
+        return origin - plane != 0 && direction >= 0 ? plane + 1 : plane;
+    }
+
+    private static double planeIntersection(int plane, double origin, double direction) {
+        // Rays parallel to the planes never intersect them
+        return direction == 0 ? Double.POSITIVE_INFINITY : (plane - origin) / direction;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import org.spongepowered.api.world.extent.Extent;
+
+/**
+ * Receives the blocks intersected by a ray traced with
+ * {@link BlockRay#trace(Extent, com.flowpowered.math.vector.Vector3d,
+ * com.flowpowered.math.vector.Vector3d, double, BlockRayVisitor)}, in order.
+ *
+ * @param <E> The extent in which the ray is being traced
+ */
+public interface BlockRayVisitor<E extends Extent> {
+
+    /**
+     * Visits the next block intersected by the ray. The hit is reused for all
+     * blocks of the ray and must not be kept after returning; use
+     * {@link MutableBlockRayHit#toHit()} to keep a copy.
+     *
+     * @param hit The intersected block
+     * @return Whether to continue tracing the ray
+     */
+    boolean visit(MutableBlockRayHit<E> hit);
+
+}
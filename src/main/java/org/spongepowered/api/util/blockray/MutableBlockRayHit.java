@@ -0,0 +1,194 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.world.extent.Extent;
+
+/**
+ * A block intersected by a ray traced with a {@link BlockRayVisitor}. Unlike
+ * {@link BlockRayHit}, a single instance is updated for each block of the
+ * ray, and all values are available as primitives.
+ *
+ * @param <E> The extent containing the hit
+ */
+public final class MutableBlockRayHit<E extends Extent> {
+
+    private final E extent;
+    private final double xDirection;
+    private final double yDirection;
+    private final double zDirection;
+    private double x;
+    private double y;
+    private double z;
+    private double distance;
+    private int xNormal;
+    private int yNormal;
+    private int zNormal;
+    private int xBlock;
+    private int yBlock;
+    private int zBlock;
+
+    MutableBlockRayHit(E extent, double xDirection, double yDirection, double zDirection) {
+        this.extent = extent;
+        this.xDirection = xDirection;
+        this.yDirection = yDirection;
+        this.zDirection = zDirection;
+    }
+
+    void set(double x, double y, double z, double distance, int xBlock, int yBlock, int zBlock, int xNormal, int yNormal, int zNormal) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.distance = distance;
+        this.xBlock = xBlock;
+        this.yBlock = yBlock;
+        this.zBlock = zBlock;
+        this.xNormal = xNormal;
+        this.yNormal = yNormal;
+        this.zNormal = zNormal;
+    }
+
+    /**
+     * Returns the extent that contains the block.
+     *
+     * @return The extent
+     */
+    public E getExtent() {
+        return this.extent;
+    }
+
+    /**
+     * Returns the x coordinate of the intersection.
+     *
+     * @return The x coordinate
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Returns the y coordinate of the intersection.
+     *
+     * @return The y coordinate
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Returns the z coordinate of the intersection.
+     *
+     * @return The z coordinate
+     */
+    public double getZ() {
+        return this.z;
+    }
+
+    /**
+     * Returns the distance of the intersection from the origin of the ray.
+     *
+     * @return The distance
+     */
+    public double getDistance() {
+        return this.distance;
+    }
+
+    /**
+     * Returns the x coordinate of the block that was hit.
+     *
+     * @return The x coordinate
+     */
+    public int getBlockX() {
+        return this.xBlock;
+    }
+
+    /**
+     * Returns the y coordinate of the block that was hit.
+     *
+     * @return The y coordinate
+     */
+    public int getBlockY() {
+        return this.yBlock;
+    }
+
+    /**
+     * Returns the z coordinate of the block that was hit.
+     *
+     * @return The z coordinate
+     */
+    public int getBlockZ() {
+        return this.zBlock;
+    }
+
+    /**
+     * Returns the x component of the entered face, edge or corner, which is
+     * {@code -1}, {@code 0} or {@code 1}. Unlike {@link BlockRayHit#getNormal()},
+     * the normals of edges and corners are not normalized.
+     *
+     * @return The x component of the normal
+     */
+    public int getNormalX() {
+        return this.xNormal;
+    }
+
+    /**
+     * Returns the y component of the entered face, edge or corner, which is
+     * {@code -1}, {@code 0} or {@code 1}.
+     *
+     * @return The y component of the normal
+     * @see #getNormalX()
+     */
+    public int getNormalY() {
+        return this.yNormal;
+    }
+
+    /**
+     * Returns the z component of the entered face, edge or corner, which is
+     * {@code -1}, {@code 0} or {@code 1}.
+     *
+     * @return The z component of the normal
+     * @see #getNormalX()
+     */
+    public int getNormalZ() {
+        return this.zNormal;
+    }
+
+    /**
+     * Returns an immutable {@link BlockRayHit} for the current block.
+     *
+     * @return A block ray hit for the current block
+     */
+    public BlockRayHit<E> toHit() {
+        return new BlockRayHit<E>(this.extent, this.x, this.y, this.z, new Vector3d(this.xDirection, this.yDirection, this.zDirection),
+                new Vector3d(this.xNormal, this.yNormal, this.zNormal).normalize());
+    }
+
+    @Override
+    public String toString() {
+        return "MutableBlockRayHit{(" + this.x + ", " + this.y + ", " + this.z + ") in " + this.extent + "}";
+    }
+
+}
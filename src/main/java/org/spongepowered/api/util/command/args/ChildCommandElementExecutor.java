@@ -137,37 +137,66 @@ public boolean apply(@Nullable CommandMapping input) {
 
     @Override
     public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-        super.parse(source, args, context);
-        final CommandMapping mapping = context.<CommandMapping>getOne(getUntranslatedKey()).get();
+        tryParse(source, args, context).throwIfFailed();
+    }
+
+    @Override
+    public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+        ParseResult result = tryParseAndStore(source, args, context);
+        if (!result.isSuccess()) {
+            return result;
+        }
+        final CommandMapping mapping = (CommandMapping) result.getValue();
         if ((mapping.getCallable() instanceof CommandSpec)) {
             CommandSpec spec = ((CommandSpec) mapping.getCallable());
-            spec.populateContext(source, args, context);
+            return spec.tryPopulateContext(source, args, context);
         } else {
             if (args.hasNext()) {
-                args.next();
+                args.nextIfPresent();
             }
 
             context.putArg(getUntranslatedKey() + "_args", args.getRaw().substring(args.getRawPosition()));
             while (args.hasNext()) {
-                args.next();
+                args.nextIfPresent();
             }
+            return result;
         }
     }
 
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-        final String key = args.next();
-        final Optional<CommandMapping> mapping = this.dispatcher.get(key, source);
+        return tryParseValue(source, args).getValueOrThrow();
+    }
+
+    @Override
+    protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+        final Optional<String> key = args.nextIfPresent();
+        if (!key.isPresent()) {
+            return args.createFailure("Not enough arguments!");
+        }
+        final Optional<CommandMapping> mapping = this.dispatcher.get(key.get(), source);
         if (!mapping.isPresent()) {
-            throw args.createError(t("Input command %s was not a valid subcommand!", key));
+            return args.createFailure("Input command %s was not a valid subcommand!", key.get());
         }
 
-        return mapping.get();
+        return ParseResult.success(mapping.get());
+    }
+
+    /**
+     * Get the child command parsed into the given context, which is the one
+     * run by {@link #execute(CommandSource, CommandContext)}.
+     *
+     * @param args The parsed arguments
+     * @return The child command's mapping, or absent if the fallback
+     *     executor is run instead
+     */
+    public Optional<CommandMapping> getChild(CommandContext args) {
+        return args.getOne(getUntranslatedKey());
     }
 
     @Override
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
-        CommandMapping mapping = args.<CommandMapping>getOne(getUntranslatedKey()).orNull();
+        CommandMapping mapping = getChild(args).orNull();
         if (mapping == null) {
             if (this.fallbackExecutor != null) {
                 return this.fallbackExecutor.execute(src, args);
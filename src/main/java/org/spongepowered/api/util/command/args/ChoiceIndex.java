@@ -0,0 +1,131 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.args;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable index of the choices of a {@link PatternMatchingCommandElement}
+ * supporting case-insensitive prefix lookups.
+ *
+ * <p>Choices are kept sorted by their lowercase form, so the choices starting
+ * with a given prefix form a contiguous range found by binary search.</p>
+ */
+final class ChoiceIndex {
+    static final ChoiceIndex EMPTY = new ChoiceIndex(new String[0], new String[0], 0);
+
+    private final String[] keys;
+    private final String[] choices;
+    private final int sourceSize;
+
+    private ChoiceIndex(String[] keys, String[] choices, int sourceSize) {
+        this.keys = keys;
+        this.choices = choices;
+        this.sourceSize = sourceSize;
+    }
+
+    /**
+     * Create an index of the given choices. Null choices are skipped.
+     *
+     * @param choices The choices to index
+     * @param sourceSize The size of the collection the choices were derived
+     *     from, used to detect changes with {@link #isStale(Collection)}
+     * @return The new index
+     */
+    static ChoiceIndex of(Iterable<String> choices, int sourceSize) {
+        final List<String[]> entries = new ArrayList<String[]>();
+        for (String choice : choices) {
+            if (choice != null) {
+                entries.add(new String[] {choice.toLowerCase(Locale.ENGLISH), choice});
+            }
+        }
+        Collections.sort(entries, new Comparator<String[]>() {
+            @Override
+            public int compare(String[] o1, String[] o2) {
+                return o1[0].compareTo(o2[0]);
+            }
+        });
+        final String[] keys = new String[entries.size()];
+        final String[] values = new String[entries.size()];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = entries.get(i)[0];
+            values[i] = entries.get(i)[1];
+        }
+        return new ChoiceIndex(keys, values, sourceSize);
+    }
+
+    /**
+     * Return whether this index no longer reflects the given source
+     * collection. Registries only ever grow, so a change in size is used as a
+     * cheap signal that the source has changed.
+     *
+     * @param source The collection the index was built from
+     * @return Whether the index should be rebuilt
+     */
+    boolean isStale(Collection<?> source) {
+        return source.size() != this.sourceSize;
+    }
+
+    /**
+     * Get all choices starting with the given prefix, ignoring case, in
+     * lexicographic order of their lowercase forms.
+     *
+     * @param prefix The prefix to search for
+     * @return The matching choices
+     */
+    List<String> startingWith(String prefix) {
+        final String key = prefix.toLowerCase(Locale.ENGLISH);
+        int start = Arrays.binarySearch(this.keys, key);
+        if (start < 0) {
+            start = -start - 1;
+        } else {
+            // The search may find any of several equal keys
+            while (start > 0 && this.keys[start - 1].startsWith(key)) {
+                --start;
+            }
+        }
+        int end = start;
+        while (end < this.keys.length && this.keys[end].startsWith(key)) {
+            ++end;
+        }
+        return Collections.unmodifiableList(Arrays.asList(this.choices).subList(start, end));
+    }
+
+    /**
+     * Get all indexed choices.
+     *
+     * @return The choices
+     */
+    List<String> getChoices() {
+        return Collections.unmodifiableList(Arrays.asList(this.choices));
+    }
+
+}
@@ -112,6 +112,18 @@ public ArgumentParseException createError(Text message) {
         return new ArgumentParseException(message, this.rawInput, this.index < 0 ? 0 : this.args.get(this.index).getStartIdx());
     }
 
+    /**
+     * Create a failed parse result with the provided message which has the position of the last parsed argument attached.
+     * Unlike {@link #createError(Text)}, the message and exception are only created if the error is requested from the result.
+     *
+     * @param message The translation key of the error message
+     * @param messageArgs The arguments of the error message
+     * @return the failed result
+     */
+    public ParseResult createFailure(String message, Object... messageArgs) {
+        return ParseResult.failure(this.rawInput, getRawPosition(), message, messageArgs);
+    }
+
     /**
      * Get a list of all arguments as a string. The returned list is immutable.
      *
@@ -89,7 +89,75 @@ public String getUntranslatedKey() {
      * @throws ArgumentParseException if unable to extract a value
      */
     public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-        Object val = parseValue(source, args);
+        putValue(context, parseValue(source, args));
+    }
+
+    /**
+     * Attempt to extract a value for this element from the given arguments and
+     * put it in the given context, reporting failure through the returned
+     * result instead of throwing an exception. Elements that try several
+     * alternatives use this method, so that failed alternatives are cheap.
+     *
+     * <p>The default implementation delegates to
+     * {@link #parse(CommandSource, CommandArgs, CommandContext)}. Elements
+     * overriding this method should make that method delegate here
+     * instead.</p>
+     *
+     * @param source The source to parse for
+     * @param args The args to extract from
+     * @param context The context to supply to
+     * @return The result of parsing
+     */
+    public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+        try {
+            parse(source, args, context);
+            return ParseResult.success();
+        } catch (ArgumentParseException ex) {
+            return ParseResult.failure(ex);
+        }
+    }
+
+    /**
+     * Attempt to extract a value for this element from the given arguments,
+     * reporting failure through the returned result instead of throwing an
+     * exception.
+     *
+     * <p>The default implementation delegates to
+     * {@link #parseValue(CommandSource, CommandArgs)}.</p>
+     *
+     * @param source The source to parse for
+     * @param args the arguments
+     * @return The result of parsing, holding the extracted value if successful
+     */
+    protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+        try {
+            return ParseResult.success(parseValue(source, args));
+        } catch (ArgumentParseException ex) {
+            return ParseResult.failure(ex);
+        }
+    }
+
+    /**
+     * Extract a value with {@link #tryParseValue(CommandSource, CommandArgs)}
+     * and put it in the given context if successful. Elements implementing
+     * {@link #tryParseValue(CommandSource, CommandArgs)} without throwing
+     * exceptions can use this to implement
+     * {@link #tryParse(CommandSource, CommandArgs, CommandContext)}.
+     *
+     * @param source The source to parse for
+     * @param args The args to extract from
+     * @param context The context to supply to
+     * @return The result of parsing
+     */
+    protected final ParseResult tryParseAndStore(CommandSource source, CommandArgs args, CommandContext context) {
+        ParseResult result = tryParseValue(source, args);
+        if (result.isSuccess()) {
+            putValue(context, result.getValue());
+        }
+        return result;
+    }
+
+    private void putValue(CommandContext context, @Nullable Object val) {
         String key = getUntranslatedKey();
         if (key != null && val != null) {
             if (val instanceof Iterable<?>) {
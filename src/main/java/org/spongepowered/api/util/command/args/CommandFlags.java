@@ -24,7 +24,6 @@
  */
 package org.spongepowered.api.util.command.args;
 
-import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 import static org.spongepowered.api.util.command.args.GenericArguments.markTrue;
 import static org.spongepowered.api.util.command.args.GenericArguments.requiringPermission;
 
@@ -48,6 +47,11 @@
 import javax.annotation.Nullable;
 
 class CommandFlags extends CommandElement {
+    /**
+     * Value of a successful flag parse result for flags that should be treated as ordinary arguments.
+     */
+    private static final Object IGNORED = new Object();
+
     @Nullable
     private final CommandElement childElement;
     private final Map<List<String>, CommandElement> usageFlags;
@@ -72,21 +76,29 @@ protected CommandFlags(@Nullable CommandElement childElement, Map<List<String>,
 
     @Override
     public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+        tryParse(source, args, context).throwIfFailed();
+    }
+
+    @Override
+    public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
         Object startIdx = args.getState();
         String arg;
         while (args.hasNext()) {
-            arg = args.next();
-            boolean ignore;
+            arg = args.nextIfPresent().get();
             if (arg.startsWith("-")) {
                 Object flagStartIdx = args.getState();
+                ParseResult result;
                 if (arg.startsWith("--")) { // Long flag
                     String longFlag = arg.substring(2);
-                    ignore = !parseLongFlag(source, longFlag, args, context);
+                    result = parseLongFlag(source, longFlag, args, context);
                 } else {
                     arg = arg.substring(1);
-                    ignore = !parseShortFlags(source, arg, args, context);
+                    result = parseShortFlags(source, arg, args, context);
+                }
+                if (!result.isSuccess()) {
+                    return result;
                 }
-                if (!ignore) {
+                if (result.getValue() != IGNORED) {
                     args.removeArgs(flagStartIdx, args.getState());
                 }
             } else if (this.anchorFlags) {
@@ -96,12 +108,17 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
 
         args.setState(startIdx);
         if (this.childElement != null) {
-            this.childElement.parse(source, args, context);
+            return this.childElement.tryParse(source, args, context);
         }
-
+        return ParseResult.success();
     }
 
-    private boolean parseLongFlag(CommandSource source, String longFlag, CommandArgs args, CommandContext context) throws ArgumentParseException {
+    /**
+     * Parse a long flag.
+     *
+     * @return The result of parsing, with a value of {@link #IGNORED} if the flag should be treated as an ordinary argument
+     */
+    private ParseResult parseLongFlag(CommandSource source, String longFlag, CommandArgs args, CommandContext context) {
         if (longFlag.contains("=")) {
             final String[] flagSplit = longFlag.split("=", 2);
             longFlag = flagSplit[0];
@@ -110,71 +127,79 @@ private boolean parseLongFlag(CommandSource source, String longFlag, CommandArgs
             if (element == null) {
                 switch (this.unknownLongFlagBehavior) {
                     case ERROR:
-                        throw args.createError(t("Unknown long flag %s specified", args));
+                        return args.createFailure("Unknown long flag %s specified", longFlag);
                     case ACCEPT_NONVALUE:
                     case ACCEPT_VALUE:
                         context.putArg(longFlag, value);
                         break;
                     case IGNORE:
-                        return false;
+                        return ParseResult.success(IGNORED);
                     default:
                         throw new Error("New UnknownFlagBehavior added without corresponding case clauses");
                 }
             } else {
                 args.insertArg(value);
-                element.parse(source, args, context);
+                return element.tryParse(source, args, context);
             }
         } else {
             CommandElement element = this.longFlags.get(longFlag.toLowerCase());
             if (element == null) {
                 switch (this.unknownLongFlagBehavior) {
                     case ERROR:
-                        throw args.createError(t("Unknown long flag %s specified", args));
+                        return args.createFailure("Unknown long flag %s specified", longFlag);
                     case ACCEPT_NONVALUE:
                         context.putArg(longFlag, true);
                         break;
                     case ACCEPT_VALUE:
-                        GenericArguments.string(Texts.of(longFlag)).parse(source, args, context);
-                        break;
+                        return GenericArguments.string(Texts.of(longFlag)).tryParse(source, args, context);
                     case IGNORE:
-                        return false;
+                        return ParseResult.success(IGNORED);
                     default:
                         throw new Error("New UnknownFlagBehavior added without corresponding case clauses");
                 }
             } else {
-                element.parse(source, args, context);
+                return element.tryParse(source, args, context);
             }
         }
-        return true;
+        return ParseResult.success();
     }
 
+    /**
+     * Parse a group of short flags.
+     *
+     * @return The result of parsing, with a value of {@link #IGNORED} if the flags should be treated as an ordinary argument
+     */
     @SuppressWarnings("fallthrough")
-    private boolean parseShortFlags(CommandSource source, String shortFlags, CommandArgs args, CommandContext context) throws ArgumentParseException {
+    private ParseResult parseShortFlags(CommandSource source, String shortFlags, CommandArgs args, CommandContext context) {
         for (int i = 0; i < shortFlags.length(); ++i) {
             final String flagChar = shortFlags.substring(i, i + 1);
             CommandElement element = this.shortFlags.get(flagChar);
+            ParseResult result = ParseResult.success();
             if (element == null) {
                 switch (this.unknownShortFlagBehavior) {
                     case IGNORE:
                         if (i == 0) {
-                            return false;
+                            return ParseResult.success(IGNORED);
                         }
                     case ERROR:
-                        throw args.createError(t("Unknown short flag %s specified", flagChar));
+                        return args.createFailure("Unknown short flag %s specified", flagChar);
                     case ACCEPT_NONVALUE:
                         context.putArg(flagChar, true);
                         break;
                     case ACCEPT_VALUE:
-                        GenericArguments.string(Texts.of(flagChar)).parse(source, args, context);
+                        result = GenericArguments.string(Texts.of(flagChar)).tryParse(source, args, context);
                         break;
                     default:
                         throw new Error("New UnknownFlagBehavior added without corresponding case clauses");
                 }
             } else {
-                element.parse(source, args, context);
+                result = element.tryParse(source, args, context);
+            }
+            if (!result.isSuccess()) {
+                return result;
             }
         }
-        return true;
+        return ParseResult.success();
     }
 
     @Override
@@ -257,9 +282,7 @@ private List<String> tabCompleteLongFlag(String longFlag, CommandSource src, Com
                 args.insertArg(value);
                 final String finalLongFlag = longFlag;
                 Object position = args.getState();
-                try {
-                    element.parse(src, args, context);
-                } catch (ArgumentParseException ex) {
+                if (!element.tryParse(src, args, context).isSuccess()) {
                     args.setState(position);
                     return ImmutableList.copyOf(Iterables.transform(element.complete(src, args, context), new Function<String, String>() {
                         @Nullable
@@ -287,16 +310,8 @@ public String apply(@Nullable String input) {
                     return null;
                 }
             } else {
-                boolean complete = false;
                 Object state = args.getState();
-                try {
-                    element.parse(src, args, context);
-                } catch (ArgumentParseException ex) {
-                    complete = true;
-                }
-                if (!args.hasNext()) {
-                    complete = true;
-                }
+                boolean complete = !element.tryParse(src, args, context).isSuccess() || !args.hasNext();
                 if (complete) {
                     args.setState(state);
                     return element.complete(src, args, context);
@@ -320,9 +335,7 @@ private List<String> tabCompleteShortFlags(String shortFlags, CommandSource src,
                 continue;
             }
             Object start = args.getState();
-            try {
-                element.parse(src, args, context);
-            } catch (ArgumentParseException ex) {
+            if (!element.tryParse(src, args, context).isSuccess()) {
                 args.setState(start);
                 return element.complete(src, args, context);
             }
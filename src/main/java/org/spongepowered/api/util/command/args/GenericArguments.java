@@ -166,6 +166,30 @@ public static <T extends CatalogType> CommandElement catalogedElement(Text key,
         return new CatalogedTypeCommandElement<T>(key, game, catalogType);
     }
 
+    /**
+     * Parent class for elements that extract a single value, reporting invalid input without throwing exceptions.
+     */
+    private abstract static class ValueElement extends CommandElement {
+
+        protected ValueElement(@Nullable Text key) {
+            super(key);
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            return tryParseAndStore(source, args, context);
+        }
+
+        @Nullable
+        @Override
+        protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+            return tryParseValue(source, args).getValueOrThrow();
+        }
+
+        @Override
+        protected abstract ParseResult tryParseValue(CommandSource source, CommandArgs args);
+    }
+
     static class MarkTrueCommandElement extends CommandElement {
         public MarkTrueCommandElement(String flag) {
             super(Texts.of(flag));
@@ -211,9 +235,18 @@ private SequenceCommandElement(List<CommandElement> elements) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             for (CommandElement element : this.elements) {
-                element.parse(source, args, context);
+                ParseResult result = element.tryParse(source, args, context);
+                if (!result.isSuccess()) {
+                    return result;
+                }
             }
+            return ParseResult.success();
         }
 
         @Override
@@ -226,21 +259,20 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
             for (Iterator<CommandElement> it = this.elements.iterator(); it.hasNext(); ) {
                 CommandElement element = it.next();
                 Object startState = args.getState();
-                try {
-                    element.parse(src, args, context);
+                if (element.tryParse(src, args, context).isSuccess()) {
                     Object endState = args.getState();
                     if (!args.hasNext()) {
                         args.setState(startState);
                         List<String> inputs = element.complete(src, args, context);
                         args.previous();
-                        if (!inputs.contains(args.next())) { // Tabcomplete returns results to complete the last word in an argument.
-                            // If the last word is one of the completions, the command is most likely complete
+                        if (!inputs.contains(args.nextIfPresent().orNull())) { // Tabcomplete returns results to complete the last word in an
+                            // argument. If the last word is one of the completions, the command is most likely complete
                             return inputs;
                         }
 
                         args.setState(endState);
                     }
-                } catch (ArgumentParseException e) {
+                } else {
                     args.setState(startState);
                     return element.complete(src, args, context);
                 }
@@ -291,7 +323,7 @@ public static CommandElement choices(Text key, Map<String, ?> choices, boolean c
         return new ChoicesCommandElement(key, ImmutableMap.copyOf(choices), choicesInUsage);
     }
 
-    private static class ChoicesCommandElement extends CommandElement {
+    private static class ChoicesCommandElement extends ValueElement {
         private final Map<String, Object> choices;
         private final boolean choicesInUsage;
 
@@ -302,12 +334,16 @@ private ChoicesCommandElement(Text key, Map<String, Object> choices, boolean cho
         }
 
         @Override
-        public Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-            Object value = this.choices.get(args.next());
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+            Optional<String> next = args.nextIfPresent();
+            if (!next.isPresent()) {
+                return args.createFailure("Not enough arguments!");
+            }
+            Object value = this.choices.get(next.get());
             if (value == null) {
-                throw args.createError(t("Argument was not a valid choice. Valid choices: %s", this.choices.keySet().toString()));
+                return args.createFailure("Argument was not a valid choice. Valid choices: %s", this.choices.keySet().toString());
             }
-            return value;
+            return ParseResult.success(value);
         }
 
         @Override
@@ -357,20 +393,22 @@ private FirstParsingCommandElement(List<CommandElement> elements) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-            ArgumentParseException lastException = null;
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            ParseResult lastFailure = ParseResult.success();
             for (CommandElement element : this.elements) {
                 Object startState = args.getState();
-                try {
-                    element.parse(source, args, context);
-                    return;
-                } catch (ArgumentParseException ex) {
-                    lastException = ex;
-                    args.setState(startState);
+                ParseResult result = element.tryParse(source, args, context);
+                if (result.isSuccess()) {
+                    return result;
                 }
+                lastFailure = result;
+                args.setState(startState);
             }
-            if (lastException != null) {
-                throw lastException;
-            }
+            return lastFailure;
         }
 
         @Override
@@ -477,25 +515,28 @@ private OptionalCommandElement(CommandElement element, @Nullable Object value, b
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             if (!args.hasNext()) {
                 if (this.element.getKey() != null && this.value != null) {
                     context.putArg(Texts.toPlain(this.element.getKey()), this.value);
                 }
-                return;
+                return ParseResult.success();
             }
             Object startState = args.getState();
-            try {
-                this.element.parse(source, args, context);
-            } catch (ArgumentParseException ex) {
-                if (this.considerInvalidFormatEmpty || args.hasNext()) { // If there are more args, suppress. Otherwise, throw the error
-                    args.setState(startState);
-                    if (this.element.getKey() != null && this.value != null) {
-                        context.putArg(this.element.getUntranslatedKey(), this.value);
-                    }
-                } else {
-                    throw ex;
+            ParseResult result = this.element.tryParse(source, args, context);
+            if (!result.isSuccess() && (this.considerInvalidFormatEmpty || args.hasNext())) { // If there are more args, suppress. Otherwise,
+                // return the error
+                args.setState(startState);
+                if (this.element.getKey() != null && this.value != null) {
+                    context.putArg(this.element.getUntranslatedKey(), this.value);
                 }
+                return ParseResult.success();
             }
+            return result;
         }
 
         @Override
@@ -539,9 +580,18 @@ protected RepeatedCommandElement(CommandElement element, int times) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             for (int i = 0; i < this.times; ++i) {
-                this.element.parse(source, args, context);
+                ParseResult result = this.element.tryParse(source, args, context);
+                if (!result.isSuccess()) {
+                    return result;
+                }
             }
+            return ParseResult.success();
         }
 
         @Override
@@ -553,9 +603,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             for (int i = 0; i < this.times; ++i) {
                 Object startState = args.getState();
-                try {
-                    this.element.parse(src, args, context);
-                } catch (ArgumentParseException e) {
+                if (!this.element.tryParse(src, args, context).isSuccess()) {
                     args.setState(startState);
                     return this.element.complete(src, args, context);
                 }
@@ -591,9 +639,18 @@ protected AllOfCommandElement(CommandElement element) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             while (args.hasNext()) {
-                this.element.parse(source, args, context);
+                ParseResult result = this.element.tryParse(source, args, context);
+                if (!result.isSuccess()) {
+                    return result;
+                }
             }
+            return ParseResult.success();
         }
 
         @Override
@@ -605,9 +662,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             while (args.hasNext()) {
                 Object startState = args.getState();
-                try {
-                    this.element.parse(src, args, context);
-                } catch (ArgumentParseException e) {
+                if (!this.element.tryParse(src, args, context).isSuccess()) {
                     args.setState(startState);
                     return this.element.complete(src, args, context);
                 }
@@ -626,7 +681,7 @@ public Text getUsage(CommandSource context) {
     /**
      * Parent class that specifies elemenents as having no tab completions. Useful for inputs with a very large domain, like strings and integers
      */
-    private abstract static class KeyElement extends CommandElement {
+    private abstract static class KeyElement extends ValueElement {
         private KeyElement(Text key) {
             super(key);
         }
@@ -655,8 +710,12 @@ private StringElement(Text key) {
         }
 
         @Override
-        public Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-            return args.next();
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+            Optional<String> next = args.nextIfPresent();
+            if (!next.isPresent()) {
+                return args.createFailure("Not enough arguments!");
+            }
+            return ParseResult.success(next.get());
         }
     }
 
@@ -679,12 +738,15 @@ private IntegerElement(Text key) {
         }
 
         @Override
-        public Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-            final String input = args.next();
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+            final Optional<String> input = args.nextIfPresent();
+            if (!input.isPresent()) {
+                return args.createFailure("Not enough arguments!");
+            }
             try {
-                return Integer.parseInt(input);
+                return ParseResult.success(Integer.parseInt(input.get()));
             } catch (NumberFormatException ex) {
-                throw args.createError(t("Expected an integer, but input '%s' was not", input));
+                return args.createFailure("Expected an integer, but input '%s' was not", input.get());
             }
         }
     }
@@ -746,27 +808,40 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
 
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
+        private final ChoiceIndex index;
 
         private EnumValueElement(Text key, Class<T> type) {
             super(key);
             this.type = type;
-        }
-
-        @Override
-        protected Iterable<String> getChoices(CommandSource source) {
-            return Iterables.transform(Arrays.asList(this.type.getEnumConstants()), new Function<T, String>() {
+            final T[] constants = type.getEnumConstants();
+            this.index = ChoiceIndex.of(Iterables.transform(Arrays.asList(constants), new Function<T, String>() {
                 @Nullable
                 @Override
                 public String apply(@Nullable T input) {
                     return input == null ? null : input.name();
                 }
-            });
+            }), constants.length);
+        }
+
+        @Override
+        protected Iterable<String> getChoices(CommandSource source) {
+            return this.index.getChoices();
+        }
+
+        @Override
+        protected Iterable<String> getChoicesStartingWith(CommandSource source, String prefix) {
+            return this.index.startingWith(prefix);
         }
 
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             return Enum.valueOf(this.type, choice.toUpperCase());
         }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            return tryParseAndStore(source, args, context);
+        }
     }
 
     /**
@@ -789,20 +864,23 @@ private RemainingJoinedStringsCommandElement(Text key, boolean raw) {
         }
 
         @Override
-        protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+            final Optional<String> first = args.nextIfPresent();
+            if (!first.isPresent()) {
+                return args.createFailure("Not enough arguments!");
+            }
             if (this.raw) {
-                args.next();
                 String ret = args.getRaw().substring(args.getRawPosition());
                 while (args.hasNext()) { // Consume remaining args
-                    args.next();
+                    args.nextIfPresent();
                 }
-                return ret;
+                return ParseResult.success(ret);
             } else {
-                final StringBuilder ret = new StringBuilder(args.next());
+                final StringBuilder ret = new StringBuilder(first.get());
                 while (args.hasNext()) {
-                    ret.append(' ').append(args.next());
+                    ret.append(' ').append(args.nextIfPresent().get());
                 }
-                return ret.toString();
+                return ParseResult.success(ret.toString());
             }
         }
 
@@ -837,7 +915,7 @@ public static CommandElement literal(Text key, @Nullable Object putValue, String
         return new LiteralCommandElement(key, ImmutableList.copyOf(expectedArgs), putValue);
     }
 
-    private static class LiteralCommandElement extends CommandElement {
+    private static class LiteralCommandElement extends ValueElement {
         private final List<String> expectedArgs;
         @Nullable
         private final Object putValue;
@@ -848,16 +926,18 @@ protected LiteralCommandElement(@Nullable Text key, List<String> expectedArgs, @
             this.putValue = putValue;
         }
 
-        @Nullable
         @Override
-        protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
             for (String arg : this.expectedArgs) {
-                String current;
-                if (!(current = args.next()).equalsIgnoreCase(arg)) {
-                    throw args.createError(t("Argument %s did not match expected next argument %s", current, arg));
+                Optional<String> current = args.nextIfPresent();
+                if (!current.isPresent()) {
+                    return args.createFailure("Not enough arguments!");
+                }
+                if (!current.get().equalsIgnoreCase(arg)) {
+                    return args.createFailure("Argument %s did not match expected next argument %s", current.get(), arg);
                 }
             }
-            return this.putValue;
+            return ParseResult.success(this.putValue);
         }
 
         @Override
@@ -896,23 +976,24 @@ protected PlayerCommandElement(Text key, Game game, boolean returnSource) {
         }
 
         @Override
-        protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            return tryParseAndStore(source, args, context);
+        }
+
+        @Override
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
             // TODO: Make player name resolution better -- support selectors, etc
             if (!args.hasNext() && this.returnSource) {
                 return tryReturnSource(source, args);
             }
 
             Object state = args.getState();
-            try {
-                return super.parseValue(source, args);
-            } catch (ArgumentParseException ex) {
-                if (this.returnSource) {
-                    args.setState(state);
-                    return tryReturnSource(source, args);
-                } else {
-                    throw ex;
-                }
+            ParseResult result = super.tryParseValue(source, args);
+            if (!result.isSuccess() && this.returnSource) {
+                args.setState(state);
+                return tryReturnSource(source, args);
             }
+            return result;
         }
 
         @Override
@@ -935,11 +1016,11 @@ protected Object getValue(String choice) throws IllegalArgumentException {
             return ret.get();
         }
 
-        private Player tryReturnSource(CommandSource source, CommandArgs args) throws ArgumentParseException {
+        private ParseResult tryReturnSource(CommandSource source, CommandArgs args) {
             if (source instanceof Player) {
-                return ((Player) source);
+                return ParseResult.success(source);
             } else {
-                throw args.createError(t("No players matched and source was not a player!"));
+                return args.createFailure("No players matched and source was not a player!");
             }
         }
 
@@ -957,10 +1038,9 @@ protected WorldPropertiesCommandElement(@Nullable Text key, Game game) {
             this.game = game;
         }
 
-        @Nullable
         @Override
-        public Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-            return super.parseValue(source, args);
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            return tryParseAndStore(source, args, context);
         }
 
         @Override
@@ -991,35 +1071,43 @@ protected Object getValue(String choice) throws IllegalArgumentException {
      * each element can be relative to a location? so parseRelativeDouble() -- relative is ~(num)
      *
      */
-    private static class Vector3dCommandElement extends CommandElement {
+    private static class Vector3dCommandElement extends ValueElement {
 
         protected Vector3dCommandElement(@Nullable Text key) {
             super(key);
         }
 
         @Override
-        protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-            String xStr;
-            String yStr;
-            String zStr;
-            xStr = args.next();
-            if (xStr.contains(",")) {
-                String[] split = xStr.split(",");
-                if (split.length != 3) {
-                    throw args.createError(t("Comma-separated location must have 3 elements, not %s", split.length));
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+            String[] components;
+            Optional<String> xStr = args.nextIfPresent();
+            if (!xStr.isPresent()) {
+                return args.createFailure("Not enough arguments!");
+            }
+            if (xStr.get().contains(",")) {
+                components = xStr.get().split(",");
+                if (components.length != 3) {
+                    return args.createFailure("Comma-separated location must have 3 elements, not %s", components.length);
                 }
-                xStr = split[0];
-                yStr = split[1];
-                zStr = split[2];
             } else {
-                yStr = args.next();
-                zStr = args.next();
+                Optional<String> yStr = args.nextIfPresent();
+                Optional<String> zStr = args.nextIfPresent();
+                if (!zStr.isPresent()) {
+                    return args.createFailure("Not enough arguments!");
+                }
+                components = new String[] {xStr.get(), yStr.get(), zStr.get()};
+            }
+            final double[] relativeTo = source instanceof LocatedSource ? ((LocatedSource) source).getLocation().getPosition().toArray() : null;
+            final double[] coordinates = new double[3];
+            for (int i = 0; i < 3; i++) {
+                ParseResult result = parseRelativeDouble(args, components[i], relativeTo == null ? null : relativeTo[i]);
+                if (!result.isSuccess()) {
+                    return result;
+                }
+                coordinates[i] = (Double) result.getValue();
             }
-            final double x = parseRelativeDouble(args, xStr, source instanceof LocatedSource ? ((LocatedSource) source).getLocation().getX() : null);
-            final double y = parseRelativeDouble(args, yStr, source instanceof LocatedSource ? ((LocatedSource) source).getLocation().getY() : null);
-            final double z = parseRelativeDouble(args, zStr, source instanceof LocatedSource ? ((LocatedSource) source).getLocation().getZ() : null);
 
-            return new Vector3d(x, y, z);
+            return ParseResult.success(new Vector3d(coordinates[0], coordinates[1], coordinates[2]));
         }
 
         @Override
@@ -1042,24 +1130,24 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
             }
         }
 
-        private double parseRelativeDouble(CommandArgs args, String arg, @Nullable Double relativeTo) throws ArgumentParseException {
+        private ParseResult parseRelativeDouble(CommandArgs args, String arg, @Nullable Double relativeTo) {
             boolean relative = arg.startsWith("~");
             if (relative) {
                 if (relativeTo == null) {
-                    throw args.createError(t("Relative position specified but source does not have a postion"));
+                    return args.createFailure("Relative position specified but source does not have a postion");
                 }
                 arg = arg.substring(1);
             }
             try {
                 double ret = Double.parseDouble(arg);
-                return relative ? ret + relativeTo : ret;
+                return ParseResult.success(relative ? ret + relativeTo : ret);
             } catch (NumberFormatException e) {
-                throw args.createError(t("Expected input %s to be a double, but was not", arg));
+                return args.createFailure("Expected input %s to be a double, but was not", arg);
             }
         }
     }
 
-    private static class LocationCommandElement extends CommandElement {
+    private static class LocationCommandElement extends ValueElement {
         private final Game game;
         private final WorldPropertiesCommandElement worldParser;
         private final Vector3dCommandElement vectorParser;
@@ -1072,40 +1160,45 @@ protected LocationCommandElement(Text key, Game game) {
         }
 
         @Override
-        protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+        protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
             Object state = args.getState();
             Object world;
             Object vec = null;
-            try {
-                world = checkNotNull(this.worldParser.parseValue(source, args), "worldVal");
-            } catch (ArgumentParseException ex) {
+            ParseResult worldResult = this.worldParser.tryParseValue(source, args);
+            if (worldResult.isSuccess()) {
+                world = checkNotNull(worldResult.getValue(), "worldVal");
+            } else {
                 args.setState(state);
                 if (!(source instanceof LocatedSource)) {
-                    throw args.createError(t("Source must have a location in order to have a fallback world"));
+                    return args.createFailure("Source must have a location in order to have a fallback world");
                 }
                 world = ((LocatedSource) source).getWorld().getProperties();
-                try {
-                    vec = checkNotNull(this.vectorParser.parseValue(source, args), "vectorVal");
-                } catch (ArgumentParseException ex2) {
+                ParseResult vectorResult = this.vectorParser.tryParseValue(source, args);
+                if (!vectorResult.isSuccess()) {
                     args.setState(state);
-                    throw ex;
+                    return worldResult;
                 }
+                vec = checkNotNull(vectorResult.getValue(), "vectorVal");
             }
             if (vec == null) {
-                vec = checkNotNull(this.vectorParser.parseValue(source, args), "vectorVal");
+                ParseResult vectorResult = this.vectorParser.tryParseValue(source, args);
+                if (!vectorResult.isSuccess()) {
+                    return vectorResult;
+                }
+                vec = checkNotNull(vectorResult.getValue(), "vectorVal");
             }
 
             if (world instanceof Collection<?>) {
                 // multiple values
                 if (((Collection<?>) world).size() != 1) {
-                    throw args.createError(t("A location must be specified in only one world!"));
+                    return args.createFailure("A location must be specified in only one world!");
                 }
                 world = ((Collection<?>) world).iterator().next();
             }
             WorldProperties targetWorldProps = ((WorldProperties) world);
             Optional<World> targetWorld = this.game.getServer().getWorld(targetWorldProps.getUniqueId());
             Vector3d vector = (Vector3d) vec;
-            return new Location<World>(targetWorld.get(), vector);
+            return ParseResult.success(new Location<World>(targetWorld.get(), vector));
         }
 
         @Override
@@ -1123,6 +1216,7 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
     private static class CatalogedTypeCommandElement<T extends CatalogType> extends PatternMatchingCommandElement {
         private final Game game;
         private final Class<T> catalogType;
+        private volatile ChoiceIndex index = ChoiceIndex.EMPTY;
 
         protected CatalogedTypeCommandElement(Text key, Game game, Class<T> catalogType) {
             super(key);
@@ -1132,13 +1226,27 @@ protected CatalogedTypeCommandElement(Text key, Game game, Class<T> catalogType)
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Iterables.transform(this.game.getRegistry().getAllOf(this.catalogType), new Function<T, String>() {
-                @Nullable
-                @Override
-                public String apply(@Nullable T input) {
-                    return input == null ? null : input.getId(); // TODO: ids or names?
-                }
-            });
+            return getIndex().getChoices();
+        }
+
+        @Override
+        protected Iterable<String> getChoicesStartingWith(CommandSource source, String prefix) {
+            return getIndex().startingWith(prefix);
+        }
+
+        private ChoiceIndex getIndex() {
+            final Collection<T> types = this.game.getRegistry().getAllOf(this.catalogType);
+            ChoiceIndex index = this.index;
+            if (index.isStale(types)) {
+                this.index = index = ChoiceIndex.of(Iterables.transform(types, new Function<T, String>() {
+                    @Nullable
+                    @Override
+                    public String apply(@Nullable T input) {
+                        return input == null ? null : input.getId(); // TODO: ids or names?
+                    }
+                }), types.size());
+            }
+            return index;
         }
 
         @Override
@@ -1149,6 +1257,11 @@ protected Object getValue(String choice) throws IllegalArgumentException {
             }
             return ret.get();
         }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            return tryParseAndStore(source, args, context);
+        }
     }
 
     /**
@@ -1171,10 +1284,16 @@ protected OnlyOneCommandElement(CommandElement element) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-            this.element.parse(source, args, context);
-            if (context.getAll(this.element.getUntranslatedKey()).size() > 1) {
-                throw args.createError(t("Argument %s may have only one value!",  this.element.getKey()));
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            ParseResult result = this.element.tryParse(source, args, context);
+            if (result.isSuccess() && context.getAll(this.element.getUntranslatedKey()).size() > 1) {
+                return args.createFailure("Argument %s may have only one value!",  this.element.getKey());
             }
+            return result;
         }
 
         @Override
@@ -1238,8 +1357,15 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-            checkPermission(source, args);
-            super.parse(source, args, context);
+            tryParse(source, args, context).throwIfFailed();
+        }
+
+        @Override
+        public ParseResult tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            if (!source.hasPermission(this.permission)) {
+                return args.createFailure("You do not have permission to use the %s argument", getKey());
+            }
+            return this.element.tryParse(source, args, context);
         }
 
         @Override
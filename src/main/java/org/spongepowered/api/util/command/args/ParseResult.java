@@ -0,0 +1,187 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.args;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+
+import com.google.common.base.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * The outcome of an attempt to parse a {@link CommandElement}.
+ *
+ * <p>Failures do not create an {@link ArgumentParseException} until it is
+ * requested with {@link #getError()}, so elements that try several
+ * alternatives can discard failed attempts without paying for an exception
+ * and its message.</p>
+ *
+ * @see CommandElement#tryParse(org.spongepowered.api.util.command.CommandSource, CommandArgs, CommandContext)
+ */
+public final class ParseResult {
+
+    private static final ParseResult SUCCESS = new ParseResult(true, null, null, null, 0, null, null);
+
+    private final boolean success;
+    @Nullable private final Object value;
+    @Nullable private final String rawInput;
+    private final int position;
+    @Nullable private final String message;
+    @Nullable private final Object[] messageArgs;
+    @Nullable private ArgumentParseException error;
+
+    private ParseResult(boolean success, @Nullable Object value, @Nullable ArgumentParseException error, @Nullable String rawInput,
+            int position, @Nullable String message, @Nullable Object[] messageArgs) {
+        this.success = success;
+        this.value = value;
+        this.error = error;
+        this.rawInput = rawInput;
+        this.position = position;
+        this.message = message;
+        this.messageArgs = messageArgs;
+    }
+
+    /**
+     * Get a successful result without a value.
+     *
+     * @return The result
+     */
+    public static ParseResult success() {
+        return SUCCESS;
+    }
+
+    /**
+     * Get a successful result with the given parsed value.
+     *
+     * @param value The value, may be null
+     * @return The result
+     */
+    public static ParseResult success(@Nullable Object value) {
+        return value == null ? SUCCESS : new ParseResult(true, value, null, null, 0, null, null);
+    }
+
+    /**
+     * Get a failed result for an exception that has already been created.
+     *
+     * @param error The exception describing the failure
+     * @return The result
+     */
+    public static ParseResult failure(ArgumentParseException error) {
+        checkNotNull(error, "error");
+        return new ParseResult(false, null, error, null, 0, null, null);
+    }
+
+    /**
+     * Get a failed result whose exception is only created when requested.
+     *
+     * @param rawInput The raw input being parsed
+     * @param position The position of the failing argument in the raw input
+     * @param message The translation key of the error message
+     * @param messageArgs The arguments of the error message
+     * @return The result
+     * @see CommandArgs#createFailure(String, Object...)
+     */
+    public static ParseResult failure(String rawInput, int position, String message, Object... messageArgs) {
+        checkNotNull(message, "message");
+        return new ParseResult(false, null, null, rawInput, position, message, messageArgs);
+    }
+
+    /**
+     * Return whether parsing succeeded.
+     *
+     * @return Whether parsing succeeded
+     */
+    public boolean isSuccess() {
+        return this.success;
+    }
+
+    /**
+     * Get the parsed value of a successful result.
+     *
+     * @return The parsed value, may be null
+     * @throws IllegalStateException if this result is a failure
+     */
+    @Nullable
+    public Object getValue() {
+        checkState(this.success, "Cannot get the value of a failed parse");
+        return this.value;
+    }
+
+    /**
+     * Get the exception describing why parsing failed, creating it if
+     * necessary.
+     *
+     * @return The exception
+     * @throws IllegalStateException if this result is a success
+     */
+    public ArgumentParseException getError() {
+        checkState(!this.success, "Cannot get the error of a successful parse");
+        if (this.error == null) {
+            this.error = new ArgumentParseException(t(this.message, this.messageArgs), this.rawInput, this.position);
+        }
+        return this.error;
+    }
+
+    /**
+     * Get the parsed value, or throw the exception describing why parsing
+     * failed.
+     *
+     * @return The parsed value, may be null
+     * @throws ArgumentParseException if this result is a failure
+     */
+    @Nullable
+    public Object getValueOrThrow() throws ArgumentParseException {
+        if (!this.success) {
+            throw getError();
+        }
+        return this.value;
+    }
+
+    /**
+     * Throw the exception describing why parsing failed, if it did.
+     *
+     * @throws ArgumentParseException if this result is a failure
+     */
+    public void throwIfFailed() throws ArgumentParseException {
+        if (!this.success) {
+            throw getError();
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (this.success) {
+            return Objects.toStringHelper(this)
+                    .add("value", this.value)
+                    .toString();
+        }
+        return Objects.toStringHelper(this)
+                .add("message", this.error != null ? this.error.getMessage() : this.message)
+                .add("position", this.error != null ? this.error.getPosition() : this.position)
+                .toString();
+    }
+}
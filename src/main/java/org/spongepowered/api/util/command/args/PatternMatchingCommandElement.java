@@ -26,8 +26,10 @@
 
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import com.google.common.base.CharMatcher;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
@@ -44,6 +46,7 @@
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private static final CharMatcher REGEX_METACHARACTERS = CharMatcher.anyOf("\\^$.|?*+()[]{}");
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -52,12 +55,20 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Nullable
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-        final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), Predicates.contains(pattern));
+        return tryParseValue(source, args).getValueOrThrow();
+    }
+
+    @Override
+    protected ParseResult tryParseValue(CommandSource source, CommandArgs args) {
+        final Optional<String> next = args.nextIfPresent();
+        if (!next.isPresent()) {
+            return args.createFailure("Not enough arguments!");
+        }
+        final String unformattedPattern = next.get();
+        Iterable<String> filteredChoices = getMatchingChoices(source, unformattedPattern);
         for (String el : filteredChoices) { // Match a single value
             if (el.equalsIgnoreCase(unformattedPattern)) {
-                return getValue(el);
+                return ParseResult.success(getValue(el));
             }
         }
         Iterable<Object> ret = Iterables.transform(filteredChoices, new Function<String, Object>() {
@@ -69,20 +80,27 @@ public Object apply(@Nullable String input) {
         });
 
         if (!ret.iterator().hasNext()) {
-            throw args.createError(t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
-                                                                                                            ? nullKeyArg : getKey()));
+            return args.createFailure("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
+                                                                                                            ? nullKeyArg : getKey());
         }
-        return ret;
+        return ParseResult.success(ret);
     }
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
         final Optional<String> nextArg = args.nextIfPresent();
         if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, Predicates.contains(getFormattedPattern(nextArg.get())));
+            return ImmutableList.copyOf(getMatchingChoices(src, nextArg.get()));
         }
-        return ImmutableList.copyOf(choices);
+        return ImmutableList.copyOf(Iterables.filter(getChoices(src), Predicates.notNull()));
+    }
+
+    private Iterable<String> getMatchingChoices(CommandSource source, String input) {
+        if (REGEX_METACHARACTERS.matchesAnyOf(input)) {
+            return Iterables.filter(Iterables.filter(getChoices(source), Predicates.notNull()), Predicates.contains(getFormattedPattern(input)));
+        }
+        // Without metacharacters, the anchored pattern is simply a case-insensitive prefix
+        return getChoicesStartingWith(source, input);
     }
 
     private Pattern getFormattedPattern(String input) {
@@ -101,6 +119,28 @@ private Pattern getFormattedPattern(String input) {
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Get the available choices for this command source that start with the
+     * given prefix, ignoring case. This is used instead of a pattern when the
+     * input contains no regular expression metacharacters.
+     *
+     * <p>The default implementation filters {@link #getChoices(CommandSource)}.
+     * Implementations with many choices may override this to look the prefix
+     * up in an index instead.</p>
+     *
+     * @param source The source requesting choices
+     * @param prefix The prefix to search for
+     * @return the matching choices
+     */
+    protected Iterable<String> getChoicesStartingWith(CommandSource source, final String prefix) {
+        return Iterables.filter(getChoices(source), new Predicate<String>() {
+            @Override
+            public boolean apply(@Nullable String input) {
+                return input != null && input.regionMatches(true, 0, prefix, 0, prefix.length());
+            }
+        });
+    }
+
     /**
      * Get the value for a given choice. For any result in {@link #getChoices(CommandSource)}, this must return a non-null value. Otherwise, an
      * {@link IllegalArgumentException} may be throw.
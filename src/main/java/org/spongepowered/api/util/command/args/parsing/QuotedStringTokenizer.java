@@ -31,6 +31,8 @@
 import java.util.Collections;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 /**
  * Parser for converting a quoted string into a list of arguments.
  *
@@ -66,9 +68,7 @@ public List<SingleArg> tokenize(String arguments, boolean lenient) throws Argume
         List<SingleArg> returnedArgs = new ArrayList<SingleArg>(arguments.length() / 8);
         skipWhiteSpace(state);
         while (state.hasMore()) {
-            int startIdx = state.getIndex() + 1;
-            String arg = nextArg(state);
-            returnedArgs.add(new SingleArg(arg, startIdx, state.getIndex()));
+            returnedArgs.add(nextArg(state));
             skipWhiteSpace(state);
         }
         return returnedArgs;
@@ -85,19 +85,21 @@ private void skipWhiteSpace(TokenizerState state) throws ArgumentParseException
         }
     }
 
-    private String nextArg(TokenizerState state) throws ArgumentParseException {
-        StringBuilder argBuilder = new StringBuilder();
+    private SingleArg nextArg(TokenizerState state) throws ArgumentParseException {
+        final int startIdx = state.getIndex() + 1;
         int codePoint = state.peek();
         if (this.handleQuotedStrings && (codePoint == CHAR_DOUBLE_QUOTE || codePoint == CHAR_SINGLE_QUOTE)) {
             // quoted string
-            parseQuotedString(state, codePoint, argBuilder);
+            return parseQuotedString(state, codePoint, startIdx);
         } else {
-            parseUnquotedString(state, argBuilder);
+            return parseUnquotedString(state, startIdx);
         }
-        return argBuilder.toString();
     }
 
-    private void parseQuotedString(TokenizerState state, int startQuotation, StringBuilder builder) throws ArgumentParseException {
+    // Arguments without escapes are returned as views over the input. Once an escape is found,
+    // the value read so far is copied into a builder that collects the rest of the argument.
+
+    private SingleArg parseQuotedString(TokenizerState state, int startQuotation, int startIdx) throws ArgumentParseException {
         // Consume the start quotation character
         int nextCodePoint = state.next();
         if (nextCodePoint != startQuotation) {
@@ -105,40 +107,57 @@ private void parseQuotedString(TokenizerState state, int startQuotation, StringB
                     nextCodePoint, startQuotation)));
         }
 
+        final int valueStart = state.getIndex() + 1;
+        StringBuilder builder = null;
         while (true) {
             if (!state.hasMore()) {
                 if (state.isLenient() || this.forceLenient) {
-                    return;
+                    return createArg(state, builder, valueStart, state.getIndex() + 1, startIdx);
                 } else {
                     throw state.createException(Texts.of("Unterminated quoted string found"));
                 }
             }
             nextCodePoint = state.next();
             if (nextCodePoint == startQuotation) {
-                return;
+                return createArg(state, builder, valueStart, state.getIndex(), startIdx);
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = state.copyRegion(valueStart, state.getIndex());
+                }
                 parseEscape(state, builder);
-            } else {
+            } else if (builder != null) {
                 builder.appendCodePoint(nextCodePoint);
             }
         }
     }
 
-    private void parseUnquotedString(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
+    private SingleArg parseUnquotedString(TokenizerState state, int startIdx) throws ArgumentParseException {
+        StringBuilder builder = null;
         while (state.hasMore()) {
             int nextCodePoint = state.next();
             if (Character.isWhitespace(nextCodePoint)) {
-                return;
+                return createArg(state, builder, startIdx, state.getIndex(), startIdx);
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = state.copyRegion(startIdx, state.getIndex());
+                }
                 parseEscape(state, builder);
-            } else {
+            } else if (builder != null) {
                 builder.appendCodePoint(nextCodePoint);
             }
         }
+        return createArg(state, builder, startIdx, state.getIndex() + 1, startIdx);
     }
 
     private void parseEscape(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
         builder.appendCodePoint(state.next()); // TODO: Unicode character escapes (\u00A7 type thing)?
     }
 
+    private static SingleArg createArg(TokenizerState state, @Nullable StringBuilder builder, int valueStart, int valueEnd, int startIdx) {
+        if (builder == null) {
+            return new SingleArg(state.getBuffer(), valueStart, valueEnd, startIdx, state.getIndex());
+        }
+        return new SingleArg(builder.toString(), startIdx, state.getIndex());
+    }
+
 }
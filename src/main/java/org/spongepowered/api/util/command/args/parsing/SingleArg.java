@@ -24,11 +24,20 @@
  */
 package org.spongepowered.api.util.command.args.parsing;
 
+import javax.annotation.Nullable;
+
 /**
  * This represents a single argument with its start and end indexes in the associated raw input string.
+ *
+ * <p>Arguments created by the built-in tokenizers that contain no escapes
+ * are views over the raw input: their value is only copied out of the input
+ * string the first time {@link #getValue()} is called.</p>
  */
 public final class SingleArg {
-    private final String value;
+    @Nullable private final String input;
+    private final int valueStart;
+    private final int valueEnd;
+    @Nullable private String value;
     private final int startIdx;
     private final int endIdx;
 
@@ -40,18 +49,44 @@ public final class SingleArg {
      * @param endIdx The ending index of {@code value} in an input string
      */
     public SingleArg(String value, int startIdx, int endIdx) {
+        this.input = null;
+        this.valueStart = 0;
+        this.valueEnd = value.length();
         this.value = value;
         this.startIdx = startIdx;
         this.endIdx = endIdx;
     }
 
+    /**
+     * Create a new argument whose value is the region of {@code input}
+     * between {@code valueStart} and {@code valueEnd}.
+     *
+     * @param input The raw input string
+     * @param valueStart The index of the first character of the value, inclusive
+     * @param valueEnd The index of the last character of the value, exclusive
+     * @param startIdx The starting index of the argument in the input string
+     * @param endIdx The ending index of the argument in the input string
+     */
+    SingleArg(String input, int valueStart, int valueEnd, int startIdx, int endIdx) {
+        this.input = input;
+        this.valueStart = valueStart;
+        this.valueEnd = valueEnd;
+        this.startIdx = startIdx;
+        this.endIdx = endIdx;
+    }
+
     /**
      * Get the string used.
      *
      * @return The string used
      */
     public String getValue() {
-        return this.value;
+        String value = this.value;
+        if (value == null) {
+            // Racing threads compute equal strings, so no synchronization is needed
+            value = this.value = this.input.substring(this.valueStart, this.valueEnd);
+        }
+        return value;
     }
 
     /**
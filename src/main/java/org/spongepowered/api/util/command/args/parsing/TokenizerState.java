@@ -57,6 +57,18 @@ public int next() throws ArgumentParseException {
         return this.buffer.codePointAt(++this.index);
     }
 
+    /**
+     * Creates a builder containing a region of the buffer, with some room
+     * to append the rest of a token.
+     *
+     * @param start The index of the first character, inclusive
+     * @param end The index of the last character, exclusive
+     * @return A new builder with the region
+     */
+    StringBuilder copyRegion(int start, int end) {
+        return new StringBuilder(end - start + 16).append(this.buffer, start, end);
+    }
+
     public ArgumentParseException createException(Text message) {
         return new ArgumentParseException(message, this.buffer, this.index);
     }
@@ -68,4 +80,13 @@ public boolean isLenient() {
     public int getIndex() {
         return this.index;
     }
+
+    /**
+     * Gets the whole input being tokenized.
+     *
+     * @return The buffer
+     */
+    String getBuffer() {
+        return this.buffer;
+    }
 }
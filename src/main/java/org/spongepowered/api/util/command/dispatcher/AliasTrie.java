@@ -0,0 +1,275 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.dispatcher;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.util.command.CommandMapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * An immutable radix trie mapping lower-case aliases to the command mappings
+ * registered for them.
+ *
+ * <p>Modifications return a new trie that shares every untouched node with
+ * this one, so a single change costs time proportional to the length of the
+ * alias. Completion of a prefix only visits the part of the trie below that
+ * prefix, instead of every registered alias.</p>
+ */
+final class AliasTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * An empty trie.
+     */
+    static final AliasTrie EMPTY = new AliasTrie(new Node("", NO_CHILDREN, ImmutableList.<CommandMapping>of()));
+
+    private final Node root;
+
+    private AliasTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Get the mappings registered for the given alias.
+     *
+     * @param alias The lower-case alias
+     * @return The mappings, or an empty list if there are none
+     */
+    ImmutableList<CommandMapping> get(String alias) {
+        Node node = this.root;
+        int pos = 0;
+        while (pos < alias.length()) {
+            int index = node.indexOf(alias.charAt(pos));
+            if (index < 0) {
+                return ImmutableList.of();
+            }
+            node = node.children[index];
+            if (!alias.startsWith(node.label, pos)) {
+                return ImmutableList.of();
+            }
+            pos += node.label.length();
+        }
+        return node.mappings;
+    }
+
+    /**
+     * Return a trie where the given alias is associated with the given
+     * mappings. An empty list removes the alias.
+     *
+     * @param alias The lower-case alias
+     * @param mappings The new mappings for the alias
+     * @return The modified trie
+     */
+    AliasTrie with(String alias, ImmutableList<CommandMapping> mappings) {
+        checkNotNull(alias, "alias");
+        checkNotNull(mappings, "mappings");
+        Node newRoot = put(this.root, alias, 0, mappings);
+        return newRoot == this.root ? this : new AliasTrie(newRoot);
+    }
+
+    /**
+     * Add every alias starting with the given prefix to a collection, in
+     * lexicographic order.
+     *
+     * @param prefix The lower-case prefix
+     * @param out The collection to add the aliases to
+     */
+    void collectAliases(String prefix, Collection<? super String> out) {
+        Node node = this.root;
+        int nodeStart = 0;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(pos));
+            if (index < 0) {
+                return;
+            }
+            node = node.children[index];
+            nodeStart = pos;
+            int remaining = prefix.length() - pos;
+            if (remaining <= node.label.length()) {
+                if (!node.label.startsWith(prefix.substring(pos))) {
+                    return;
+                }
+            } else if (!prefix.startsWith(node.label, pos)) {
+                return;
+            }
+            pos += node.label.length();
+        }
+        collect(node, new StringBuilder(prefix.substring(0, nodeStart)), out);
+    }
+
+    /**
+     * Put every alias and its mappings into a map, in lexicographic order
+     * of the aliases.
+     *
+     * @param out The map to put the entries into
+     */
+    void collectEntries(Map<? super String, ? super ImmutableList<CommandMapping>> out) {
+        collectEntries(this.root, new StringBuilder(), out);
+    }
+
+    private static void collectEntries(Node node, StringBuilder path, Map<? super String, ? super ImmutableList<CommandMapping>> out) {
+        final int length = path.length();
+        path.append(node.label);
+        if (!node.mappings.isEmpty()) {
+            out.put(path.toString(), node.mappings);
+        }
+        for (Node child : node.children) {
+            collectEntries(child, path, out);
+        }
+        path.setLength(length);
+    }
+
+    private static void collect(Node node, StringBuilder path, Collection<? super String> out) {
+        final int length = path.length();
+        path.append(node.label);
+        if (!node.mappings.isEmpty()) {
+            out.add(path.toString());
+        }
+        for (Node child : node.children) {
+            collect(child, path, out);
+        }
+        path.setLength(length);
+    }
+
+    private static Node put(Node node, String alias, int pos, ImmutableList<CommandMapping> mappings) {
+        if (pos == alias.length()) {
+            return node.mappings.equals(mappings) ? node : new Node(node.label, node.children, mappings);
+        }
+        int index = node.indexOf(alias.charAt(pos));
+        if (index < 0) {
+            if (mappings.isEmpty()) {
+                return node;
+            }
+            return node.withChild(-(index + 1), new Node(alias.substring(pos), NO_CHILDREN, mappings), true);
+        }
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.label, alias, pos);
+        Node newChild;
+        if (common == child.label.length()) {
+            newChild = put(child, alias, pos + common, mappings);
+        } else {
+            if (mappings.isEmpty()) {
+                return node;
+            }
+            // Split the edge at the point where the alias diverges from it
+            Node lower = new Node(child.label.substring(common), child.children, child.mappings);
+            Node split = new Node(child.label.substring(0, common), new Node[] {lower}, ImmutableList.<CommandMapping>of());
+            newChild = put(split, alias, pos + common, mappings);
+        }
+        if (newChild == child) {
+            return node;
+        }
+        return node.withChild(index, compact(newChild), false);
+    }
+
+    private static Node compact(Node node) {
+        if (!node.mappings.isEmpty()) {
+            return node;
+        }
+        if (node.children.length == 0) {
+            return null;
+        }
+        if (node.children.length == 1) {
+            Node child = node.children[0];
+            return new Node(node.label + child.label, child.children, child.mappings);
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String label, String alias, int pos) {
+        int max = Math.min(label.length(), alias.length() - pos);
+        int i = 0;
+        while (i < max && label.charAt(i) == alias.charAt(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        final String label;
+        final Node[] children;
+        final ImmutableList<CommandMapping> mappings;
+
+        Node(String label, Node[] children, ImmutableList<CommandMapping> mappings) {
+            this.label = label;
+            this.children = children;
+            this.mappings = mappings;
+        }
+
+        /**
+         * Binary search for the child whose label starts with the given
+         * character.
+         *
+         * @param c The character
+         * @return The index of the child, or (-(insertion point) - 1)
+         */
+        int indexOf(char c) {
+            int low = 0;
+            int high = this.children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = this.children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Copy this node, inserting or replacing a child. A null child
+         * removes the child at the given index.
+         */
+        Node withChild(int index, Node child, boolean insert) {
+            Node[] newChildren;
+            if (insert) {
+                newChildren = new Node[this.children.length + 1];
+                System.arraycopy(this.children, 0, newChildren, 0, index);
+                newChildren[index] = child;
+                System.arraycopy(this.children, index, newChildren, index + 1, this.children.length - index);
+            } else if (child == null) {
+                newChildren = new Node[this.children.length - 1];
+                System.arraycopy(this.children, 0, newChildren, 0, index);
+                System.arraycopy(this.children, index + 1, newChildren, index, newChildren.length - index);
+            } else {
+                newChildren = Arrays.copyOf(this.children, this.children.length);
+                newChildren[index] = child;
+            }
+            return new Node(this.label, newChildren, this.mappings);
+        }
+    }
+}
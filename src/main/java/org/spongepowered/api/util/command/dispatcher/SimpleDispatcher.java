@@ -33,21 +33,18 @@
 import com.google.common.base.Functions;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
-import com.google.common.collect.ArrayListMultimap;
+import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TextBuilder;
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
-import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.util.command.CommandCallable;
 import org.spongepowered.api.util.command.CommandException;
 import org.spongepowered.api.util.command.CommandMapping;
@@ -57,18 +54,25 @@
 import org.spongepowered.api.util.command.CommandSource;
 import org.spongepowered.api.util.command.ImmutableCommandMapping;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
 
 /**
  * A simple implementation of a {@link Dispatcher}.
+ *
+ * <p>Registered commands are held in an immutable snapshot that is replaced
+ * as a whole whenever a command is registered or removed. Modifications are
+ * serialized, while lookups and completions only read the current snapshot
+ * and never block.</p>
  */
 public final class SimpleDispatcher implements Dispatcher {
 
@@ -89,7 +93,7 @@ public Optional<CommandMapping> disambiguate(CommandSource source, final String
     };
 
     private final Disambiguator disambiguatorFunc;
-    private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     /**
      * Creates a basic new dispatcher.
@@ -179,9 +183,13 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
             List<String> secondary = aliases.subList(1, aliases.size());
             CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
 
+            final Snapshot current = this.snapshot;
+            AliasTrie trie = current.trie;
             for (String alias : aliases) {
-                this.commands.put(alias.toLowerCase(), mapping);
+                String key = alias.toLowerCase();
+                trie = trie.with(key, ImmutableList.<CommandMapping>builder().addAll(trie.get(key)).add(mapping).build());
             }
+            this.snapshot = new Snapshot(trie, current.size + aliases.size());
 
             return Optional.of(mapping);
         } else {
@@ -196,7 +204,13 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @return The previous mapping associated with the alias, if one was found
      */
     public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+        final Snapshot current = this.snapshot;
+        String key = alias.toLowerCase();
+        List<CommandMapping> removed = current.trie.get(key);
+        if (!removed.isEmpty()) {
+            this.snapshot = new Snapshot(current.trie.with(key, ImmutableList.<CommandMapping>of()), current.size - removed.size());
+        }
+        return removed;
     }
 
     /**
@@ -211,7 +225,7 @@ public synchronized boolean removeAll(Collection<?> aliases) {
         boolean found = false;
 
         for (Object alias : aliases) {
-            if (!this.commands.removeAll(alias.toString().toLowerCase()).isEmpty()) {
+            if (!remove(alias.toString()).isEmpty()) {
                 found = true;
             }
         }
@@ -228,18 +242,21 @@ public synchronized boolean removeAll(Collection<?> aliases) {
     public synchronized Optional<CommandMapping> removeMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
+        // Return the registered instance, which may only be equal to the argument
         CommandMapping found = null;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            CommandMapping current = it.next();
-            if (current.equals(mapping)) {
-                it.remove();
-                found = current;
+        final AliasTrie trie = this.snapshot.trie;
+        for (String alias : mapping.getAllAliases()) {
+            for (CommandMapping current : trie.get(alias.toLowerCase())) {
+                if (current.equals(mapping)) {
+                    found = current;
+                }
             }
         }
-
-        return Optional.fromNullable(found);
+        if (found == null) {
+            return Optional.absent();
+        }
+        removeMappings(Collections.singleton(mapping));
+        return Optional.of(found);
     }
 
     /**
@@ -251,44 +268,45 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
     public synchronized boolean removeMappings(Collection<?> mappings) {
         checkNotNull(mappings, "mappings");
 
-        boolean found = false;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            if (mappings.contains(it.next())) {
-                it.remove();
-                found = true;
+        final Snapshot current = this.snapshot;
+        final Predicate<Object> retain = Predicates.not(Predicates.in(mappings));
+        AliasTrie trie = current.trie;
+        int size = current.size;
+        // A mapping can only be registered under its own aliases
+        for (Object mapping : mappings) {
+            if (!(mapping instanceof CommandMapping)) {
+                continue;
+            }
+            for (String alias : ((CommandMapping) mapping).getAllAliases()) {
+                String key = alias.toLowerCase();
+                List<CommandMapping> existing = trie.get(key);
+                ImmutableList<CommandMapping> retained = ImmutableList.copyOf(Iterables.filter(existing, retain));
+                if (retained.size() != existing.size()) {
+                    trie = trie.with(key, retained);
+                    size -= existing.size() - retained.size();
+                }
             }
         }
-
-        return found;
+        if (trie == current.trie) {
+            return false;
+        }
+        this.snapshot = new Snapshot(trie, size);
+        return true;
     }
 
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
-        return ImmutableSet.copyOf(this.commands.values());
+    public Set<CommandMapping> getCommands() {
+        return this.snapshot.getCommands();
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
-        Set<String> aliases = new HashSet<String>();
-
-        for (CommandMapping mapping : this.commands.values()) {
-            aliases.add(mapping.getPrimaryAlias());
-        }
-
-        return Collections.unmodifiableSet(aliases);
+    public Set<String> getPrimaryAliases() {
+        return this.snapshot.getPrimaryAliases();
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
-        Set<String> aliases = new HashSet<String>();
-
-        for (CommandMapping mapping : this.commands.values()) {
-            aliases.addAll(mapping.getAllAliases());
-        }
-
-        return Collections.unmodifiableSet(aliases);
+    public Set<String> getAliases() {
+        return this.snapshot.getAliases();
     }
 
     @Override
@@ -303,8 +321,8 @@ public Optional<CommandMapping> get(String alias) {
      * @param source The source this alias is being looked up for
      * @return the command if exactly one matches
      */
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
-        List<CommandMapping> results = this.commands.get(alias.toLowerCase());
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        List<CommandMapping> results = this.snapshot.trie.get(alias.toLowerCase());
         if (results.size() == 1) {
             return Optional.of(results.get(0));
         } else if (results.size() == 0 || source == null) {
@@ -315,31 +333,26 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
-        return this.commands.containsKey(alias.toLowerCase());
+    public boolean containsAlias(String alias) {
+        return !this.snapshot.trie.get(alias.toLowerCase()).isEmpty();
     }
 
     @Override
     public boolean containsMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
-        for (CommandMapping test : this.commands.values()) {
-            if (mapping.equals(test)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.snapshot.getCommands().contains(mapping);
     }
 
     @Override
     public CommandResult process(CommandSource source, String commandLine) throws CommandException {
-        final String[] argSplit = commandLine.split(" ", 2);
-        Optional<CommandMapping> cmdOptional = get(argSplit[0], source);
+        final int split = commandLine.indexOf(' ');
+        final String alias = split == -1 ? commandLine : commandLine.substring(0, split);
+        Optional<CommandMapping> cmdOptional = get(alias, source);
         if (!cmdOptional.isPresent()) {
-            throw new CommandNotFoundException(t("commands.generic.notFound"), argSplit[0]); // TODO: Fix properly to use a SpongeTranslation??
+            throw new CommandNotFoundException(t("commands.generic.notFound"), alias); // TODO: Fix properly to use a SpongeTranslation??
         }
-        final String arguments = argSplit.length > 1 ? argSplit[1] : "";
+        final String arguments = split == -1 ? "" : commandLine.substring(split + 1);
         final CommandCallable spec = cmdOptional.get().getCallable();
         try {
             return spec.process(source, arguments);
@@ -353,7 +366,7 @@ public List<String> getSuggestions(CommandSource src, final String arguments) th
         final String[] argSplit = arguments.split(" ", 2);
         Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
         if (argSplit.length == 1) {
-            return ImmutableList.copyOf(Iterables.filter(filterCommands(src), new StartsWithPredicate(argSplit[0])));
+            return filterCommands(src, argSplit[0]);
         } else if (!cmdOptional.isPresent()) {
             return ImmutableList.of();
         }
@@ -362,7 +375,7 @@ public List<String> getSuggestions(CommandSource src, final String arguments) th
 
     @Override
     public boolean testPermission(CommandSource source) {
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : getCommands()) {
             if (mapping.getCallable().testPermission(source)) {
                 return true;
             }
@@ -377,11 +390,11 @@ public Optional<Text> getShortDescription(CommandSource source) {
 
     @Override
     public Optional<Text> getHelp(CommandSource source) {
-        if (this.commands.isEmpty()) {
+        if (size() == 0) {
             return Optional.absent();
         }
         TextBuilder build = t("Available commands:\n").builder();
-        for (Iterator<String> it = filterCommands(source).iterator(); it.hasNext();) {
+        for (Iterator<String> it = filterCommands(source, "").iterator(); it.hasNext();) {
             final Optional<CommandMapping> mappingOpt = get(it.next(), source);
             if (!mappingOpt.isPresent()) {
                 continue;
@@ -401,14 +414,28 @@ public Optional<Text> getHelp(CommandSource source) {
         return Optional.of(build.build());
     }
 
-    private Iterable<String> filterCommands(final CommandSource src) {
-        return Multimaps.filterValues(this.commands, new Predicate<CommandMapping>() {
-
-            @Override
-            public boolean apply(@Nullable CommandMapping input) {
-                return input != null && input.getCallable().testPermission(src);
+    /**
+     * Get the aliases starting with the given prefix that have at least one
+     * command the source has permission to use, in lexicographic order.
+     *
+     * @param src The source to test permissions for
+     * @param prefix The case-insensitive alias prefix
+     * @return The matching aliases
+     */
+    private List<String> filterCommands(CommandSource src, String prefix) {
+        final AliasTrie trie = this.snapshot.trie;
+        List<String> aliases = new ArrayList<String>();
+        trie.collectAliases(prefix.toLowerCase(), aliases);
+        ImmutableList.Builder<String> ret = ImmutableList.builder();
+        for (String alias : aliases) {
+            for (CommandMapping mapping : trie.get(alias)) {
+                if (mapping.getCallable().testPermission(src)) {
+                    ret.add(alias);
+                    break;
+                }
             }
-        }).keys();
+        }
+        return ret.build();
     }
 
     /**
@@ -416,14 +443,14 @@ public boolean apply(@Nullable CommandMapping input) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
-        return this.commands.size();
+    public int size() {
+        return this.snapshot.size;
     }
 
     @Override
     public Text getUsage(final CommandSource source) {
         final TextBuilder build = Texts.builder();
-        Iterable<String> filteredCommands = Iterables.filter(filterCommands(source), new Predicate<String>() {
+        Iterable<String> filteredCommands = Iterables.filter(filterCommands(source, ""), new Predicate<String>() {
 
             @Override
             public boolean apply(@Nullable String input) {
@@ -445,12 +472,78 @@ public boolean apply(@Nullable String input) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
-        return ImmutableSet.copyOf(this.commands.get(alias));
+    public Set<CommandMapping> getAll(String alias) {
+        return ImmutableSet.copyOf(this.snapshot.trie.get(alias.toLowerCase()));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.snapshot.getMultimap();
+    }
+
+    /**
+     * An immutable view of the registered commands. The derived collections
+     * are only computed once they are first requested, so a batch of
+     * registrations does not rebuild them for every command. Concurrent
+     * readers may both compute a collection, but will always see equal
+     * results.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(AliasTrie.EMPTY, 0);
+
+        final AliasTrie trie;
+        final int size;
+        @Nullable private volatile ImmutableListMultimap<String, CommandMapping> multimap;
+        @Nullable private volatile ImmutableSet<CommandMapping> commands;
+        @Nullable private volatile ImmutableSet<String> primaryAliases;
+        @Nullable private volatile ImmutableSet<String> aliases;
+
+        Snapshot(AliasTrie trie, int size) {
+            this.trie = trie;
+            this.size = size;
+        }
+
+        ImmutableListMultimap<String, CommandMapping> getMultimap() {
+            if (this.multimap == null) {
+                Map<String, ImmutableList<CommandMapping>> entries = new LinkedHashMap<String, ImmutableList<CommandMapping>>();
+                this.trie.collectEntries(entries);
+                ImmutableListMultimap.Builder<String, CommandMapping> builder = ImmutableListMultimap.builder();
+                for (Map.Entry<String, ImmutableList<CommandMapping>> entry : entries.entrySet()) {
+                    builder.putAll(entry.getKey(), entry.getValue());
+                }
+                this.multimap = builder.build();
+            }
+            return this.multimap;
+        }
+
+        ImmutableSet<CommandMapping> getCommands() {
+            if (this.commands == null) {
+                this.commands = ImmutableSet.copyOf(getMultimap().values());
+            }
+            return this.commands;
+        }
+
+        ImmutableSet<String> getPrimaryAliases() {
+            if (this.primaryAliases == null) {
+                ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+                for (CommandMapping mapping : getCommands()) {
+                    builder.add(mapping.getPrimaryAlias());
+                }
+                this.primaryAliases = builder.build();
+            }
+            return this.primaryAliases;
+        }
+
+        ImmutableSet<String> getAliases() {
+            if (this.aliases == null) {
+                ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+                for (CommandMapping mapping : getCommands()) {
+                    builder.addAll(mapping.getAllAliases());
+                }
+                this.aliases = builder.build();
+            }
+            return this.aliases;
+        }
     }
 }
@@ -25,7 +25,6 @@
 package org.spongepowered.api.util.command.spec;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 import static org.spongepowered.api.util.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.util.command.args.GenericArguments.optional;
 
@@ -37,6 +36,7 @@
 import org.spongepowered.api.text.Texts;
 import org.spongepowered.api.util.command.CommandCallable;
 import org.spongepowered.api.util.command.CommandException;
+import org.spongepowered.api.util.command.CommandMapping;
 import org.spongepowered.api.util.command.CommandMessageFormatting;
 import org.spongepowered.api.util.command.CommandPermissionException;
 import org.spongepowered.api.util.command.CommandResult;
@@ -47,6 +47,7 @@
 import org.spongepowered.api.util.command.args.CommandContext;
 import org.spongepowered.api.util.command.args.CommandElement;
 import org.spongepowered.api.util.command.args.GenericArguments;
+import org.spongepowered.api.util.command.args.ParseResult;
 import org.spongepowered.api.util.command.args.parsing.InputTokenizer;
 import org.spongepowered.api.util.command.args.parsing.InputTokenizers;
 
@@ -67,15 +68,17 @@ public final class CommandSpec implements CommandCallable {
     @Nullable private final Text extendedDescription;
     @Nullable private final String permission;
     private final InputTokenizer argumentParser;
+    private final boolean async;
 
     private CommandSpec(CommandElement args, CommandExecutor executor, @Nullable Text description, @Nullable Text extendedDescription,
-            @Nullable String permission, InputTokenizer parser) {
+            @Nullable String permission, InputTokenizer parser, boolean async) {
         this.args = args;
         this.executor = executor;
         this.permission = permission;
         this.description = Optional.fromNullable(description);
         this.extendedDescription = extendedDescription;
         this.argumentParser = parser;
+        this.async = async;
     }
 
     /**
@@ -105,6 +108,7 @@ public static final class Builder {
         @Nullable
         private Map<List<String>, CommandCallable> childCommandMap;
         private InputTokenizer argumentParser = InputTokenizers.quotedStrings(false);
+        private boolean async;
 
         private Builder() {}
 
@@ -229,6 +233,33 @@ public Builder inputTokenizer(InputTokenizer parser) {
             return this;
         }
 
+        /**
+         * Set whether this command's executor may be run off the thread the
+         * command was issued on when processed through
+         * {@link org.spongepowered.api.service.command.CommandService#processAsync(CommandSource, String)}.
+         * Arguments are always parsed on the issuing thread; only the
+         * executor is run asynchronously, so it must not access game state
+         * that is not thread-safe.
+         *
+         * <p>The executor is given a source which sends messages to the
+         * actual source on the server thread, in order, and forwards
+         * everything else directly. It can therefore not be cast to the type
+         * of the actual source.</p>
+         *
+         * <p>For a command with children, only the flag of the command whose
+         * executor is run applies: a child command is run asynchronously if
+         * it was built as such, whether or not its parent was, and this
+         * command's own executor only if the arguments did not select a
+         * child.</p>
+         *
+         * @param async Whether the executor is safe to run asynchronously
+         * @return this
+         */
+        public Builder async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
         /**
          * Create a new {@link CommandSpec} based on the data provided in this builder.
          *
@@ -256,7 +287,7 @@ public CommandSpec build() {
             }
 
             return new CommandSpec(this.args, this.executor, this.description, this.extendedDescription, this.permission,
-                    this.argumentParser);
+                    this.argumentParser, this.async);
         }
     }
 
@@ -284,11 +315,26 @@ public void checkPermission(CommandSource source) throws CommandException {
      * @throws ArgumentParseException if an invalid argument is provided
      */
     public void populateContext(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-        this.args.parse(source, args, context);
-        if (args.hasNext()) {
-            args.next();
-            throw args.createError(t("Too many arguments!"));
+        tryPopulateContext(source, args, context).throwIfFailed();
+    }
+
+    /**
+     * Process this command with existing arguments and context objects,
+     * reporting invalid arguments through the returned result instead of
+     * throwing an exception.
+     *
+     * @param source The source to populate the context with
+     * @param args The arguments to process with
+     * @param context The context to put data in
+     * @return The result of parsing
+     */
+    public ParseResult tryPopulateContext(CommandSource source, CommandArgs args, CommandContext context) {
+        ParseResult result = this.args.tryParse(source, args, context);
+        if (result.isSuccess() && args.hasNext()) {
+            args.nextIfPresent();
+            return args.createFailure("Too many arguments!");
         }
+        return result;
     }
 
     /**
@@ -325,13 +371,64 @@ public InputTokenizer getInputTokenizer() {
         return this.argumentParser;
     }
 
-    @Override
-    public CommandResult process(CommandSource source, String arguments) throws CommandException {
+    /**
+     * Return whether this command's executor may be run asynchronously.
+     *
+     * @return Whether the executor is safe to run asynchronously
+     * @see Builder#async(boolean)
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * Return whether the executor run for the given parsed arguments may be
+     * run asynchronously. If the arguments select a child command, its own
+     * flag applies instead of the flag of this command, and children that
+     * are not {@link CommandSpec}s are never run asynchronously.
+     *
+     * @param context The arguments parsed by this command
+     * @return Whether the executor that will be run is safe to run
+     *     asynchronously
+     * @see Builder#async(boolean)
+     */
+    public boolean isAsync(CommandContext context) {
+        checkNotNull(context, "context");
+        CommandSpec spec = this;
+        while (spec.executor instanceof ChildCommandElementExecutor) {
+            final Optional<CommandMapping> child = ((ChildCommandElementExecutor) spec.executor).getChild(context);
+            if (!child.isPresent()) {
+                break;
+            }
+            if (!(child.get().getCallable() instanceof CommandSpec)) {
+                return false;
+            }
+            spec = (CommandSpec) child.get().getCallable();
+        }
+        return spec.async;
+    }
+
+    /**
+     * Check permissions and parse the given arguments into a new context,
+     * ready to be passed to this command's executor.
+     *
+     * @param source The source of the command
+     * @param arguments The raw arguments
+     * @return The populated context
+     * @throws CommandException if the source does not have permission or an
+     *     invalid argument is provided
+     */
+    public CommandContext parseContext(CommandSource source, String arguments) throws CommandException {
         checkPermission(source);
         final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, false));
         final CommandContext context = new CommandContext();
         this.populateContext(source, args, context);
-        return getExecutor().execute(source, context);
+        return context;
+    }
+
+    @Override
+    public CommandResult process(CommandSource source, String arguments) throws CommandException {
+        return getExecutor().execute(source, parseContext(source, arguments));
     }
 
     @Override
@@ -402,12 +499,14 @@ public boolean equals(@Nullable Object o) {
                 && Objects.equal(this.description, that.description)
                 && Objects.equal(this.extendedDescription, that.extendedDescription)
                 && Objects.equal(this.permission, that.permission)
-                && Objects.equal(this.argumentParser, that.argumentParser);
+                && Objects.equal(this.argumentParser, that.argumentParser)
+                && this.async == that.async;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.args, this.executor, this.description, this.extendedDescription, this.permission, this.argumentParser);
+        return Objects.hashCode(this.args, this.executor, this.description, this.extendedDescription, this.permission, this.argumentParser,
+                this.async);
     }
 
     @Override
@@ -419,6 +518,7 @@ public String toString() {
                 .add("extendedDescription", this.extendedDescription)
                 .add("permission", this.permission)
                 .add("argumentParser", this.argumentParser)
+                .add("async", this.async)
                 .toString();
     }
 }
@@ -29,6 +29,7 @@
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.util.DiscreteTransform3;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
 
 /**
  * A volume containing blocks that can be at least accessed.
@@ -201,4 +202,12 @@ public interface BlockVolume {
      */
     ImmutableBlockVolume getImmutableBlockCopy();
 
+    /**
+     * Gets a new worker performing operations over all blocks of this
+     * volume.
+     *
+     * @return A new worker
+     */
+    BlockVolumeWorker<? extends BlockVolume> getBlockWorker();
+
 }
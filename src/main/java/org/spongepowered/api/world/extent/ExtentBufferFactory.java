@@ -49,9 +49,31 @@ public interface ExtentBufferFactory {
      */
     MutableBiomeArea createBiomeBuffer(int xSize, int zSize);
 
+    /**
+     * Returns a new biome buffer of the desired size, using the
+     * given storage type.
+     *
+     * @param size The size of the buffer on x and z (y in the vector)
+     * @param type The type of storage used by the buffer
+     * @return A new biome buffer
+     */
+    MutableBiomeArea createBiomeBuffer(Vector2i size, StorageType type);
+
+    /**
+     * Returns a new biome buffer of the desired size, using the
+     * given storage type.
+     *
+     * @param xSize The size of the buffer on x
+     * @param zSize The size of the buffer on z
+     * @param type The type of storage used by the buffer
+     * @return A new biome buffer
+     */
+    MutableBiomeArea createBiomeBuffer(int xSize, int zSize, StorageType type);
+
     /**
      * Returns a new biome buffer of the desired size.
-     * This buffer is thread safe.
+     * This buffer is thread safe, as described by
+     * {@link StorageType#THREAD_SAFE}.
      *
      * @param size The size of the buffer on x and z (y in the vector)
      * @return A new biome buffer
@@ -60,7 +82,8 @@ public interface ExtentBufferFactory {
 
     /**
      * Returns a new biome buffer of the desired size.
-     * This buffer is thread safe.
+     * This buffer is thread safe, as described by
+     * {@link StorageType#THREAD_SAFE}.
      *
      * @param xSize The size of the buffer on x
      * @param zSize The size of the buffer on z
@@ -86,9 +109,32 @@ public interface ExtentBufferFactory {
      */
     MutableBlockVolume createBlockBuffer(int xSize, int ySize, int zSize);
 
+    /**
+     * Returns a new block buffer of the desired size, using the
+     * given storage type.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @param type The type of storage used by the buffer
+     * @return A new block buffer
+     */
+    MutableBlockVolume createBlockBuffer(Vector3i size, StorageType type);
+
+    /**
+     * Returns a new block buffer of the desired size, using the
+     * given storage type.
+     *
+     * @param xSize The size of the buffer on x
+     * @param ySize The size of the buffer on y
+     * @param zSize The size of the buffer on z
+     * @param type The type of storage used by the buffer
+     * @return A new block buffer
+     */
+    MutableBlockVolume createBlockBuffer(int xSize, int ySize, int zSize, StorageType type);
+
     /**
      * Returns a new block buffer of the desired size.
-     * This buffer is thread safe.
+     * This buffer is thread safe, as described by
+     * {@link StorageType#THREAD_SAFE}.
      *
      * @param size The size of the buffer on x, y and z
      * @return A new block buffer
@@ -97,7 +143,8 @@ public interface ExtentBufferFactory {
 
     /**
      * Returns a new block buffer of the desired size.
-     * This buffer is thread safe.
+     * This buffer is thread safe, as described by
+     * {@link StorageType#THREAD_SAFE}.
      *
      * @param xSize The size of the buffer on x
      * @param ySize The size of the buffer on y
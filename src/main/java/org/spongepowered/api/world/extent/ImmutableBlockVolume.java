@@ -27,6 +27,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.util.DiscreteTransform3;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
 
 /**
  * A volume containing blocks that can be accessed but not modified.
@@ -72,4 +73,13 @@ public interface ImmutableBlockVolume extends UnmodifiableBlockVolume {
     @Override
     ImmutableBlockVolume getRelativeBlockView();
 
+    /**
+     * Gets a new worker performing operations over all blocks of this
+     * volume.
+     *
+     * @return A new worker
+     */
+    @Override
+    BlockVolumeWorker<? extends ImmutableBlockVolume> getBlockWorker();
+
 }
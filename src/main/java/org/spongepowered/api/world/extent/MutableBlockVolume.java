@@ -29,6 +29,7 @@
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.util.DiscreteTransform3;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
 
 /**
  * A volume containing blocks that can be accessed and modified.
@@ -85,6 +86,44 @@ public interface MutableBlockVolume extends BlockVolume {
      */
     void setBlockType(int x, int y, int z, BlockType type);
 
+    /**
+     * Sets all blocks in a region of this volume to the same block.
+     *
+     * @param min The minimum position of the region
+     * @param max The maximum position of the region
+     * @param block The block
+     * @throws PositionOutOfBoundsException If the region is not contained in
+     *     the volume
+     */
+    void fill(Vector3i min, Vector3i max, BlockState block);
+
+    /**
+     * Copies a region of blocks from another volume into this one. The
+     * source may be this volume; the region is then copied as it was
+     * before the copy.
+     *
+     * @param source The volume to copy the blocks from
+     * @param sourceMin The minimum position of the region in the source
+     * @param destinationMin The minimum position of the region in this volume
+     * @param size The size of the region
+     * @throws PositionOutOfBoundsException If the region is not contained in
+     *     the source or in this volume
+     */
+    void copyFrom(BlockVolume source, Vector3i sourceMin, Vector3i destinationMin, Vector3i size);
+
+    /**
+     * Copies all blocks from another volume into this one, setting each
+     * block at its position in the source transformed by the transform.
+     * To copy only a region of the source, use a view of it.
+     *
+     * @param source The volume to copy the blocks from
+     * @param transform The transform from the positions in the source to
+     *     the ones in this volume
+     * @throws PositionOutOfBoundsException If the transformed source is not
+     *     contained in this volume
+     */
+    void copyFrom(BlockVolume source, DiscreteTransform3 transform);
+
     /**
      * Returns a new volume that is the same or smaller than the current
      * volume. This does not copy the blocks, it only provides a new view
@@ -121,4 +160,13 @@ public interface MutableBlockVolume extends BlockVolume {
     @Override
     MutableBlockVolume getRelativeBlockView();
 
+    /**
+     * Gets a new worker performing operations over all blocks of this
+     * volume.
+     *
+     * @return A new worker
+     */
+    @Override
+    BlockVolumeWorker<? extends MutableBlockVolume> getBlockWorker();
+
 }
@@ -0,0 +1,50 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+/**
+ * A buffer holding memory that is not managed by the garbage collector,
+ * such as the buffers using {@link StorageType#OFF_HEAP}. The memory is
+ * freed by {@link #release()}, or eventually by the garbage collector
+ * if the buffer is never released.
+ */
+public interface ReleasableBuffer {
+
+    /**
+     * Frees the memory of this buffer. Afterwards, any access to the buffer
+     * or its views throws an {@link IllegalStateException}. The buffer must
+     * not be in use by other threads while being released. Releasing a
+     * buffer more than once has no effect.
+     */
+    void release();
+
+    /**
+     * Returns whether the buffer has been released.
+     *
+     * @return Whether the buffer has been released
+     */
+    boolean isReleased();
+
+}
@@ -43,7 +43,37 @@ public enum StorageType {
      * A thread-safe storage solution. Reads and writes are
      * atomic. Necessary for multi-threaded applications, but
      * single threaded ones might suffer for extra overhead.
+     *
+     * <p>Reads and writes of single blocks or biomes should not
+     * lock, so that threads working on disjoint regions of a buffer
+     * don't wait on each other. Fills and copies are atomic for
+     * each block, but not as a whole: other threads may see them
+     * partially applied.</p>
      */
-    THREAD_SAFE
+    THREAD_SAFE,
+
+    /**
+     * A compact storage solution. Blocks are stored in sections with
+     * a palette of the blocks they contain, so each block only takes
+     * as many bits as its section needs to tell them apart. Suited to
+     * large buffers with few different blocks, such as schematics, at
+     * the cost of slightly slower reads and writes. Biome storage
+     * may treat it as {@link #STANDARD}.
+     *
+     * <p>Copies of paletted blocks, including immutable ones, may
+     * share the sections with the original until either side writes
+     * to them. Frequent copies of mostly static regions then cost
+     * little time and memory.</p>
+     */
+    PALETTED,
+
+    /**
+     * A storage solution outside of the Java heap. The blocks and
+     * biomes are stored as numeric IDs in direct memory, so large
+     * buffers don't put pressure on the garbage collector. Buffers
+     * using it implement {@link ReleasableBuffer} and should be
+     * released once they are no longer needed.
+     */
+    OFF_HEAP
 
 }
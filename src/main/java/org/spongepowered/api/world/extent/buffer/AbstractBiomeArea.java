@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.BiomeArea;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.StorageType;
+
+/**
+ * Implements the parts of {@link BiomeArea} shared by the buffers and their
+ * views: the bounds, the overloads and the copies.
+ */
+abstract class AbstractBiomeArea implements BiomeArea {
+
+    protected final Vector2i start;
+    protected final Vector2i size;
+    protected final Vector2i end;
+
+    AbstractBiomeArea(Vector2i start, Vector2i size) {
+        this.start = start;
+        this.size = size;
+        this.end = start.add(size).sub(Vector2i.ONE);
+    }
+
+    @Override
+    public Vector2i getBiomeMin() {
+        return this.start;
+    }
+
+    @Override
+    public Vector2i getBiomeMax() {
+        return this.end;
+    }
+
+    @Override
+    public Vector2i getBiomeSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsBiome(Vector2i position) {
+        return containsBiome(position.getX(), position.getY());
+    }
+
+    @Override
+    public boolean containsBiome(int x, int z) {
+        return x >= this.start.getX() && z >= this.start.getY() && x <= this.end.getX() && z <= this.end.getY();
+    }
+
+    /**
+     * Throws an exception if the position is outside of the area.
+     *
+     * @param x The x coordinate
+     * @param z The z coordinate
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *     area
+     */
+    protected final void checkRange(int x, int z) {
+        if (!containsBiome(x, z)) {
+            throw new PositionOutOfBoundsException(new Vector2i(x, z), this.start, this.end);
+        }
+    }
+
+    /**
+     * Throws an exception if the bounds of a new view are not contained in
+     * this area.
+     *
+     * @param newMin The minimum of the view
+     * @param newMax The maximum of the view
+     * @throws PositionOutOfBoundsException If the view is not contained in
+     *     this area
+     */
+    protected final void checkView(Vector2i newMin, Vector2i newMax) {
+        checkRange(newMin.getX(), newMin.getY());
+        checkRange(newMax.getX(), newMax.getY());
+        if (newMin.getX() > newMax.getX() || newMin.getY() > newMax.getY()) {
+            throw new PositionOutOfBoundsException(newMin, this.start, newMax);
+        }
+    }
+
+    /**
+     * Gets the minimum of this area when viewed through the transform.
+     *
+     * @param transform The transform of the view
+     * @return The minimum of the view
+     */
+    protected final Vector2i transformedMin(DiscreteTransform2 transform) {
+        return transform.transform(this.start).min(transform.transform(this.end));
+    }
+
+    /**
+     * Gets the maximum of this area when viewed through the transform.
+     *
+     * @param transform The transform of the view
+     * @return The maximum of the view
+     */
+    protected final Vector2i transformedMax(DiscreteTransform2 transform) {
+        return transform.transform(this.start).max(transform.transform(this.end));
+    }
+
+    @Override
+    public BiomeType getBiome(Vector2i position) {
+        return getBiome(position.getX(), position.getY());
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeCopy() {
+        return getBiomeCopy(StorageType.STANDARD);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeCopy(StorageType type) {
+        return BiomeBuffers.copy(this, type);
+    }
+
+    @Override
+    public ImmutableBiomeArea getImmutableBiomeCopy() {
+        final MutableBiomeArea copy = BiomeBuffers.copy(this, StorageType.STANDARD);
+        return new ImmutableBiomeView(copy, this.start, this.end, DiscreteTransform2.IDENTITY);
+    }
+
+}
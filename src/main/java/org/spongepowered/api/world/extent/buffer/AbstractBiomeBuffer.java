@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
+
+/**
+ * The base of the biome buffers, which store the biomes themselves. The
+ * bounds are checked before the storage is accessed with coordinates
+ * relative to the minimum of the buffer.
+ */
+abstract class AbstractBiomeBuffer extends AbstractBiomeArea implements MutableBiomeArea {
+
+    AbstractBiomeBuffer(Vector2i start, Vector2i size) {
+        super(start, size);
+    }
+
+    /**
+     * Gets the biome at the position relative to the minimum of the buffer.
+     *
+     * @param x The relative x coordinate
+     * @param z The relative z coordinate
+     * @return The biome
+     */
+    abstract BiomeType get(int x, int z);
+
+    /**
+     * Sets the biome at the position relative to the minimum of the buffer.
+     *
+     * @param x The relative x coordinate
+     * @param z The relative z coordinate
+     * @param biome The biome
+     */
+    abstract void set(int x, int z, BiomeType biome);
+
+    @Override
+    public BiomeType getBiome(int x, int z) {
+        checkRange(x, z);
+        return get(x - this.start.getX(), z - this.start.getY());
+    }
+
+    @Override
+    public void setBiome(Vector2i position, BiomeType biome) {
+        setBiome(position.getX(), position.getY(), biome);
+    }
+
+    @Override
+    public void setBiome(int x, int z, BiomeType biome) {
+        checkNotNull(biome, "biome");
+        checkRange(x, z);
+        set(x - this.start.getX(), z - this.start.getY(), biome);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(Vector2i newMin, Vector2i newMax) {
+        checkView(newMin, newMax);
+        return new MutableBiomeView(this, newMin, newMax, DiscreteTransform2.IDENTITY);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(DiscreteTransform2 transform) {
+        return new MutableBiomeView(this, transformedMin(transform), transformedMax(transform), transform.invert());
+    }
+
+    @Override
+    public MutableBiomeArea getRelativeBiomeView() {
+        return new MutableBiomeView(this, Vector2i.ZERO, this.size.sub(Vector2i.ONE), DiscreteTransform2.fromTranslation(this.start));
+    }
+
+    @Override
+    public UnmodifiableBiomeArea getUnmodifiableBiomeView() {
+        return new UnmodifiableBiomeView(this, this.start, this.end, DiscreteTransform2.IDENTITY);
+    }
+
+}
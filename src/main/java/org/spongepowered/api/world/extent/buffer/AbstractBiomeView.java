@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.matrix.Matrix3d;
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.BiomeArea;
+
+/**
+ * A view of the biomes of another area, with new bounds and possibly
+ * transformed. Views of views share the viewed area, so a stack of views
+ * transforms the coordinates only once.
+ *
+ * @param <A> The type of the viewed area
+ */
+abstract class AbstractBiomeView<A extends BiomeArea> extends AbstractBiomeArea {
+
+    protected final A area;
+    // Transforms the coordinates of the view into the ones of the area
+    protected final DiscreteTransform2 inverse;
+    protected final boolean identity;
+
+    AbstractBiomeView(A area, Vector2i min, Vector2i max, DiscreteTransform2 inverse) {
+        super(min, max.sub(min).add(Vector2i.ONE));
+        this.area = area;
+        this.inverse = inverse;
+        this.identity = inverse.getMatrix().equals(Matrix3d.IDENTITY);
+    }
+
+    /**
+     * Gets the transform from the coordinates of a view of this view, with
+     * the given transform, to the ones of the area.
+     *
+     * @param transform The transform of the new view
+     * @return The transform of the new view into the area
+     */
+    protected final DiscreteTransform2 inverse(DiscreteTransform2 transform) {
+        return transform.invert().withTransformation(this.inverse);
+    }
+
+    /**
+     * Gets the transform from the coordinates of the relative view of this
+     * view to the ones of the area.
+     *
+     * @return The transform of the relative view into the area
+     */
+    protected final DiscreteTransform2 relativeInverse() {
+        return DiscreteTransform2.fromTranslation(this.start).withTransformation(this.inverse);
+    }
+
+    @Override
+    public BiomeType getBiome(int x, int z) {
+        checkRange(x, z);
+        if (this.identity) {
+            return this.area.getBiome(x, z);
+        }
+        return this.area.getBiome(this.inverse.transformX(x, z), this.inverse.transformY(x, z));
+    }
+
+}
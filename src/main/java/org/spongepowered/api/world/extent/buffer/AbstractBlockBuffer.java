@@ -0,0 +1,248 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
+import org.spongepowered.api.world.extent.worker.DefaultBlockVolumeWorker;
+
+/**
+ * The base of the block buffers, which store the blocks themselves. The
+ * bounds are checked before the storage is accessed with coordinates
+ * relative to the minimum of the buffer.
+ */
+abstract class AbstractBlockBuffer extends AbstractBlockVolume implements MutableBlockVolume {
+
+    AbstractBlockBuffer(Vector3i start, Vector3i size) {
+        super(start, size);
+    }
+
+    /**
+     * Gets the block at the position relative to the minimum of the buffer.
+     *
+     * @param x The relative x coordinate
+     * @param y The relative y coordinate
+     * @param z The relative z coordinate
+     * @return The block
+     */
+    abstract BlockState get(int x, int y, int z);
+
+    /**
+     * Sets the block at the position relative to the minimum of the buffer.
+     *
+     * @param x The relative x coordinate
+     * @param y The relative y coordinate
+     * @param z The relative z coordinate
+     * @param block The block
+     */
+    abstract void set(int x, int y, int z, BlockState block);
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkRange(x, y, z);
+        return get(x - this.start.getX(), y - this.start.getY(), z - this.start.getZ());
+    }
+
+    @Override
+    public void setBlock(Vector3i position, BlockState block) {
+        setBlock(position.getX(), position.getY(), position.getZ(), block);
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockState block) {
+        checkNotNull(block, "block");
+        checkRange(x, y, z);
+        set(x - this.start.getX(), y - this.start.getY(), z - this.start.getZ(), block);
+    }
+
+    @Override
+    public void setBlockType(Vector3i position, BlockType type) {
+        setBlockType(position.getX(), position.getY(), position.getZ(), type);
+    }
+
+    @Override
+    public void setBlockType(int x, int y, int z, BlockType type) {
+        setBlock(x, y, z, type.getDefaultState());
+    }
+
+    /**
+     * Fills a region with coordinates relative to the minimum of the buffer.
+     * The bounds have already been checked.
+     *
+     * @param xMin The minimum relative x coordinate
+     * @param yMin The minimum relative y coordinate
+     * @param zMin The minimum relative z coordinate
+     * @param xMax The maximum relative x coordinate
+     * @param yMax The maximum relative y coordinate
+     * @param zMax The maximum relative z coordinate
+     * @param block The block
+     */
+    void fill(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockState block) {
+        for (int y = yMin; y <= yMax; y++) {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    set(x, y, z, block);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fill(Vector3i min, Vector3i max, BlockState block) {
+        checkNotNull(block, "block");
+        checkView(min, max);
+        final Vector3i relativeMin = min.sub(this.start);
+        final Vector3i relativeMax = max.sub(this.start);
+        fill(relativeMin.getX(), relativeMin.getY(), relativeMin.getZ(), relativeMax.getX(), relativeMax.getY(), relativeMax.getZ(), block);
+    }
+
+    /**
+     * Copies a region of a volume to coordinates relative to the minimum of
+     * the buffer. The bounds have already been checked, and the volume does
+     * not share the storage of this buffer.
+     *
+     * @param source The volume to copy from
+     * @param xSource The minimum x coordinate in the volume
+     * @param ySource The minimum y coordinate in the volume
+     * @param zSource The minimum z coordinate in the volume
+     * @param x The minimum relative x coordinate in this buffer
+     * @param y The minimum relative y coordinate in this buffer
+     * @param z The minimum relative z coordinate in this buffer
+     * @param xSize The size of the region on x
+     * @param ySize The size of the region on y
+     * @param zSize The size of the region on z
+     */
+    void copy(BlockVolume source, int xSource, int ySource, int zSource, int x, int y, int z, int xSize, int ySize, int zSize) {
+        if (source instanceof AbstractBlockBuffer) {
+            // Skip the bounds checks of the source too
+            final AbstractBlockBuffer buffer = (AbstractBlockBuffer) source;
+            final int xOffset = xSource - buffer.start.getX() - x;
+            final int yOffset = ySource - buffer.start.getY() - y;
+            final int zOffset = zSource - buffer.start.getZ() - z;
+            for (int yy = y; yy < y + ySize; yy++) {
+                for (int zz = z; zz < z + zSize; zz++) {
+                    for (int xx = x; xx < x + xSize; xx++) {
+                        set(xx, yy, zz, buffer.get(xx + xOffset, yy + yOffset, zz + zOffset));
+                    }
+                }
+            }
+            return;
+        }
+        final int xOffset = xSource - x;
+        final int yOffset = ySource - y;
+        final int zOffset = zSource - z;
+        for (int yy = y; yy < y + ySize; yy++) {
+            for (int zz = z; zz < z + zSize; zz++) {
+                for (int xx = x; xx < x + xSize; xx++) {
+                    set(xx, yy, zz, source.getBlock(xx + xOffset, yy + yOffset, zz + zOffset));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void copyFrom(BlockVolume source, Vector3i sourceMin, Vector3i destinationMin, Vector3i size) {
+        checkNotNull(source, "source");
+        BlockBuffers.volume(size);
+        final Vector3i sourceMax = sourceMin.add(size).sub(Vector3i.ONE);
+        checkRegion(source, sourceMin, sourceMax);
+        checkView(destinationMin, destinationMin.add(size).sub(Vector3i.ONE));
+        if (AbstractBlockView.backingVolume(source) == this) {
+            // The regions may overlap, so copy the source region first
+            source = BlockBuffers.copy(source.getBlockView(sourceMin, sourceMax), StorageType.STANDARD);
+        }
+        final Vector3i relative = destinationMin.sub(this.start);
+        copy(source, sourceMin.getX(), sourceMin.getY(), sourceMin.getZ(), relative.getX(), relative.getY(), relative.getZ(), size.getX(),
+                size.getY(), size.getZ());
+    }
+
+    @Override
+    public void copyFrom(BlockVolume source, DiscreteTransform3 transform) {
+        checkNotNull(source, "source");
+        checkNotNull(transform, "transform");
+        checkTransformed(source, transform);
+        if (AbstractBlockView.backingVolume(source) == this) {
+            source = BlockBuffers.copy(source, StorageType.STANDARD);
+        }
+        final Vector3i min = source.getBlockMin();
+        final Vector3i max = source.getBlockMax();
+        // Discrete transforms are affine, so the positions advance by the same steps on each axis
+        final Vector3i origin = transform.transform(min);
+        final Vector3i xStep = transform.transform(min.add(1, 0, 0)).sub(origin);
+        final Vector3i yStep = transform.transform(min.add(0, 1, 0)).sub(origin);
+        final Vector3i zStep = transform.transform(min.add(0, 0, 1)).sub(origin);
+        final Vector3i relative = origin.sub(this.start);
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            final Vector3i row = relative.add(yStep.mul(y - min.getY()));
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                int xx = row.getX() + zStep.getX() * (z - min.getZ());
+                int yy = row.getY() + zStep.getY() * (z - min.getZ());
+                int zz = row.getZ() + zStep.getZ() * (z - min.getZ());
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    set(xx, yy, zz, source.getBlock(x, y, z));
+                    xx += xStep.getX();
+                    yy += xStep.getY();
+                    zz += xStep.getZ();
+                }
+            }
+        }
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkView(newMin, newMax);
+        return new MutableBlockView(this, newMin, newMax, DiscreteTransform3.IDENTITY);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new MutableBlockView(this, transformedMin(transform), transformedMax(transform), transform.invert());
+    }
+
+    @Override
+    public MutableBlockVolume getRelativeBlockView() {
+        return new MutableBlockView(this, Vector3i.ZERO, this.size.sub(Vector3i.ONE), DiscreteTransform3.fromTranslation(this.start));
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return new UnmodifiableBlockView(this, this.start, this.end, DiscreteTransform3.IDENTITY);
+    }
+
+    @Override
+    public BlockVolumeWorker<MutableBlockVolume> getBlockWorker() {
+        return new DefaultBlockVolumeWorker<MutableBlockVolume>(this);
+    }
+
+}
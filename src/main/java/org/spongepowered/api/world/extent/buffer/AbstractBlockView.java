@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.matrix.Matrix4d;
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+
+/**
+ * A view of the blocks of another volume, with new bounds and possibly
+ * transformed. Views of views share the viewed volume, so a stack of views
+ * transforms the coordinates only once.
+ *
+ * @param <V> The type of the viewed volume
+ */
+abstract class AbstractBlockView<V extends BlockVolume> extends AbstractBlockVolume {
+
+    protected final V volume;
+    // Transforms the coordinates of the view into the ones of the volume
+    protected final DiscreteTransform3 inverse;
+    protected final boolean identity;
+
+    AbstractBlockView(V volume, Vector3i min, Vector3i max, DiscreteTransform3 inverse) {
+        super(min, max.sub(min).add(Vector3i.ONE));
+        this.volume = volume;
+        this.inverse = inverse;
+        this.identity = inverse.getMatrix().equals(Matrix4d.IDENTITY);
+    }
+
+    /**
+     * Gets the volume holding the blocks of a volume, which is the viewed
+     * volume for views and the volume itself otherwise. Copies between
+     * volumes with the same backing volume may overlap.
+     *
+     * @param volume The volume
+     * @return The volume holding its blocks
+     */
+    static BlockVolume backingVolume(BlockVolume volume) {
+        return volume instanceof AbstractBlockView<?> ? ((AbstractBlockView<?>) volume).volume : volume;
+    }
+
+    /**
+     * Gets the transform from the coordinates of a view of this view, with
+     * the given transform, to the ones of the volume.
+     *
+     * @param transform The transform of the new view
+     * @return The transform of the new view into the volume
+     */
+    protected final DiscreteTransform3 inverse(DiscreteTransform3 transform) {
+        return transform.invert().withTransformation(this.inverse);
+    }
+
+    /**
+     * Gets the transform from the coordinates of the relative view of this
+     * view to the ones of the volume.
+     *
+     * @return The transform of the relative view into the volume
+     */
+    protected final DiscreteTransform3 relativeInverse() {
+        return DiscreteTransform3.fromTranslation(this.start).withTransformation(this.inverse);
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkRange(x, y, z);
+        if (this.identity) {
+            return this.volume.getBlock(x, y, z);
+        }
+        return this.volume.getBlock(this.inverse.transformX(x, y, z), this.inverse.transformY(x, y, z), this.inverse.transformZ(x, y, z));
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        if (this.volume instanceof PalettedBlockBuffer) {
+            // Share the sections of the buffer rather than copying the blocks
+            return new ImmutableBlockView(((PalettedBlockBuffer) this.volume).snapshot(), this.start, this.end, this.inverse);
+        }
+        return super.getImmutableBlockCopy();
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+/**
+ * Implements the parts of {@link BlockVolume} shared by the buffers and
+ * their views: the bounds, the overloads and the copies.
+ */
+abstract class AbstractBlockVolume implements BlockVolume {
+
+    protected final Vector3i start;
+    protected final Vector3i size;
+    protected final Vector3i end;
+
+    AbstractBlockVolume(Vector3i start, Vector3i size) {
+        this.start = start;
+        this.size = size;
+        this.end = start.add(size).sub(Vector3i.ONE);
+    }
+
+    @Override
+    public Vector3i getBlockMin() {
+        return this.start;
+    }
+
+    @Override
+    public Vector3i getBlockMax() {
+        return this.end;
+    }
+
+    @Override
+    public Vector3i getBlockSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsBlock(Vector3i position) {
+        return containsBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public boolean containsBlock(int x, int y, int z) {
+        return x >= this.start.getX() && y >= this.start.getY() && z >= this.start.getZ()
+                && x <= this.end.getX() && y <= this.end.getY() && z <= this.end.getZ();
+    }
+
+    /**
+     * Throws an exception if the position is outside of the volume.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *     volume
+     */
+    protected final void checkRange(int x, int y, int z) {
+        if (!containsBlock(x, y, z)) {
+            throw new PositionOutOfBoundsException(new Vector3i(x, y, z), this.start, this.end);
+        }
+    }
+
+    /**
+     * Throws an exception if the bounds of a new view are not contained in
+     * this volume.
+     *
+     * @param newMin The minimum of the view
+     * @param newMax The maximum of the view
+     * @throws PositionOutOfBoundsException If the view is not contained in
+     *     this volume
+     */
+    protected final void checkView(Vector3i newMin, Vector3i newMax) {
+        checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
+        checkRange(newMax.getX(), newMax.getY(), newMax.getZ());
+        if (newMin.getX() > newMax.getX() || newMin.getY() > newMax.getY() || newMin.getZ() > newMax.getZ()) {
+            throw new PositionOutOfBoundsException(newMin, this.start, newMax);
+        }
+    }
+
+    /**
+     * Throws an exception if a region is not contained in the volume.
+     *
+     * @param volume The volume
+     * @param min The minimum of the region
+     * @param max The maximum of the region
+     * @throws PositionOutOfBoundsException If the region is not contained in
+     *     the volume
+     */
+    protected static void checkRegion(BlockVolume volume, Vector3i min, Vector3i max) {
+        if (!volume.containsBlock(min)) {
+            throw new PositionOutOfBoundsException(min, volume.getBlockMin(), volume.getBlockMax());
+        }
+        if (!volume.containsBlock(max)) {
+            throw new PositionOutOfBoundsException(max, volume.getBlockMin(), volume.getBlockMax());
+        }
+    }
+
+    /**
+     * Throws an exception if a volume viewed through the transform is not
+     * contained in this volume.
+     *
+     * @param source The transformed volume
+     * @param transform The transform
+     * @throws PositionOutOfBoundsException If the transformed volume is not
+     *     contained in this volume
+     */
+    protected final void checkTransformed(BlockVolume source, DiscreteTransform3 transform) {
+        final Vector3i min = transform.transform(source.getBlockMin());
+        final Vector3i max = transform.transform(source.getBlockMax());
+        checkView(min.min(max), min.max(max));
+    }
+
+    /**
+     * Gets the minimum of this volume when viewed through the transform.
+     *
+     * @param transform The transform of the view
+     * @return The minimum of the view
+     */
+    protected final Vector3i transformedMin(DiscreteTransform3 transform) {
+        return transform.transform(this.start).min(transform.transform(this.end));
+    }
+
+    /**
+     * Gets the maximum of this volume when viewed through the transform.
+     *
+     * @param transform The transform of the view
+     * @return The maximum of the view
+     */
+    protected final Vector3i transformedMax(DiscreteTransform3 transform) {
+        return transform.transform(this.start).max(transform.transform(this.end));
+    }
+
+    @Override
+    public BlockState getBlock(Vector3i position) {
+        return getBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public BlockType getBlockType(Vector3i position) {
+        return getBlockType(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public BlockType getBlockType(int x, int y, int z) {
+        return getBlock(x, y, z).getType();
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy() {
+        return getBlockCopy(StorageType.STANDARD);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy(StorageType type) {
+        return BlockBuffers.copy(this, type);
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        final MutableBlockVolume copy = BlockBuffers.copy(this, StorageType.STANDARD);
+        return new ImmutableBlockView(copy, this.start, this.end, DiscreteTransform3.IDENTITY);
+    }
+
+}
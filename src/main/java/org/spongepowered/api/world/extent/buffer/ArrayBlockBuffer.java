@@ -0,0 +1,90 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.Arrays;
+
+/**
+ * A buffer storing one reference per block, for {@link StorageType#STANDARD}.
+ */
+final class ArrayBlockBuffer extends AbstractBlockBuffer {
+
+    private final int xSize;
+    private final int area;
+    private final BlockState[] blocks;
+
+    ArrayBlockBuffer(Vector3i start, Vector3i size, BlockState fill) {
+        super(start, size);
+        this.xSize = size.getX();
+        this.area = size.getX() * size.getZ();
+        this.blocks = new BlockState[BlockBuffers.volume(size)];
+        Arrays.fill(this.blocks, fill);
+    }
+
+    @Override
+    BlockState get(int x, int y, int z) {
+        return this.blocks[y * this.area + z * this.xSize + x];
+    }
+
+    @Override
+    void set(int x, int y, int z, BlockState block) {
+        this.blocks[y * this.area + z * this.xSize + x] = block;
+    }
+
+    @Override
+    void fill(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockState block) {
+        for (int y = yMin; y <= yMax; y++) {
+            for (int z = zMin; z <= zMax; z++) {
+                final int row = y * this.area + z * this.xSize;
+                Arrays.fill(this.blocks, row + xMin, row + xMax + 1, block);
+            }
+        }
+    }
+
+    @Override
+    void copy(BlockVolume source, int xSource, int ySource, int zSource, int x, int y, int z, int xSize, int ySize, int zSize) {
+        if (!(source instanceof ArrayBlockBuffer)) {
+            super.copy(source, xSource, ySource, zSource, x, y, z, xSize, ySize, zSize);
+            return;
+        }
+        // Copy whole rows of blocks at once
+        final ArrayBlockBuffer buffer = (ArrayBlockBuffer) source;
+        final Vector3i sourceStart = buffer.start;
+        for (int yy = 0; yy < ySize; yy++) {
+            for (int zz = 0; zz < zSize; zz++) {
+                final int sourceRow = (ySource - sourceStart.getY() + yy) * buffer.area + (zSource - sourceStart.getZ() + zz) * buffer.xSize
+                        + xSource - sourceStart.getX();
+                final int row = (y + yy) * this.area + (z + zz) * this.xSize + x;
+                System.arraycopy(buffer.blocks, sourceRow, this.blocks, row, xSize);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A buffer storing one atomic reference per biome, for
+ * {@link StorageType#THREAD_SAFE}.
+ */
+final class AtomicBiomeBuffer extends AbstractBiomeBuffer {
+
+    private final int xSize;
+    private final AtomicReferenceArray<BiomeType> biomes;
+
+    AtomicBiomeBuffer(Vector2i start, Vector2i size, BiomeType fill) {
+        super(start, size);
+        this.xSize = size.getX();
+        this.biomes = new AtomicReferenceArray<BiomeType>(BiomeBuffers.area(size));
+        for (int i = 0; i < this.biomes.length(); i++) {
+            this.biomes.lazySet(i, fill);
+        }
+    }
+
+    @Override
+    BiomeType get(int x, int z) {
+        return this.biomes.get(z * this.xSize + x);
+    }
+
+    @Override
+    void set(int x, int z, BiomeType biome) {
+        this.biomes.set(z * this.xSize + x, biome);
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * A buffer storing the ID of each block in an atomic array, for
+ * {@link StorageType#THREAD_SAFE}. The IDs are unsigned shorts packed two
+ * per element, and are assigned by a palette shared by all threads.
+ *
+ * <p>Reads and writes of single blocks never lock, so threads writing to
+ * disjoint regions do not wait on each other. Fills and copies optionally
+ * lock the sections of 16x16x16 blocks that they write to, so that they
+ * don't interleave with other fills and copies. There are only
+ * {@link #STRIPES} locks, shared by sections far enough from each other.
+ * </p>
+ */
+final class AtomicBlockBuffer extends AbstractBlockBuffer {
+
+    static final int STRIPES = 64;
+    private static final int SECTION_SHIFT = 4;
+    private final int xSize;
+    private final int area;
+    private final int xSections;
+    private final int zSections;
+    private final AtomicPalette<BlockState> palette;
+    private final AtomicIntegerArray ids;
+    @Nullable private final Lock[] locks;
+
+    AtomicBlockBuffer(Vector3i start, Vector3i size, BlockState fill, boolean lockSections) {
+        super(start, size);
+        this.xSize = size.getX();
+        this.area = size.getX() * size.getZ();
+        this.xSections = (size.getX() - 1 >> SECTION_SHIFT) + 1;
+        this.zSections = (size.getZ() - 1 >> SECTION_SHIFT) + 1;
+        // The fill has ID zero, which is the initial value of the array
+        this.palette = new AtomicPalette<BlockState>(fill);
+        this.ids = new AtomicIntegerArray(BlockBuffers.volume(size) + 1 >> 1);
+        if (lockSections) {
+            this.locks = new Lock[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                this.locks[i] = new ReentrantLock();
+            }
+        } else {
+            this.locks = null;
+        }
+    }
+
+    @Override
+    BlockState get(int x, int y, int z) {
+        final int index = y * this.area + z * this.xSize + x;
+        return this.palette.get(this.ids.get(index >> 1) >>> ((index & 1) << 4) & 0xffff);
+    }
+
+    @Override
+    void set(int x, int y, int z, BlockState block) {
+        set(y * this.area + z * this.xSize + x, this.palette.id(block));
+    }
+
+    private void set(int index, int id) {
+        final int element = index >> 1;
+        final int shift = (index & 1) << 4;
+        while (true) {
+            final int old = this.ids.get(element);
+            final int ids = old & ~(0xffff << shift) | id << shift;
+            if (old == ids || this.ids.compareAndSet(element, old, ids)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Locks the sections containing a region of relative coordinates, if the
+     * buffer locks sections. The locks are always acquired in the same order,
+     * so that two threads can't wait on each other.
+     *
+     * @return The stripes that were locked, to pass to {@link #unlock(long)}
+     */
+    private long lock(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+        if (this.locks == null) {
+            return 0;
+        }
+        long stripes = 0;
+        for (int y = yMin >> SECTION_SHIFT; y <= yMax >> SECTION_SHIFT && stripes != -1; y++) {
+            for (int z = zMin >> SECTION_SHIFT; z <= zMax >> SECTION_SHIFT; z++) {
+                for (int x = xMin >> SECTION_SHIFT; x <= xMax >> SECTION_SHIFT; x++) {
+                    stripes |= 1L << ((y * this.zSections + z) * this.xSections + x & STRIPES - 1);
+                }
+            }
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            if ((stripes >>> i & 1) != 0) {
+                this.locks[i].lock();
+            }
+        }
+        return stripes;
+    }
+
+    private void unlock(long stripes) {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            if ((stripes >>> i & 1) != 0) {
+                this.locks[i].unlock();
+            }
+        }
+    }
+
+    @Override
+    void fill(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockState block) {
+        // Only look the block up once
+        final int id = this.palette.id(block);
+        final int pair = id | id << 16;
+        final long stripes = lock(xMin, yMin, zMin, xMax, yMax, zMax);
+        try {
+            for (int y = yMin; y <= yMax; y++) {
+                for (int z = zMin; z <= zMax; z++) {
+                    final int row = y * this.area + z * this.xSize;
+                    int index = row + xMin;
+                    final int end = row + xMax;
+                    if ((index & 1) != 0) {
+                        set(index++, id);
+                    }
+                    // Both IDs of the elements in the middle of the row are replaced
+                    for (; index < end; index += 2) {
+                        this.ids.set(index >> 1, pair);
+                    }
+                    if (index == end) {
+                        set(index, id);
+                    }
+                }
+            }
+        } finally {
+            unlock(stripes);
+        }
+    }
+
+    @Override
+    void copy(BlockVolume source, int xSource, int ySource, int zSource, int x, int y, int z, int xSize, int ySize, int zSize) {
+        final long stripes = lock(x, y, z, x + xSize - 1, y + ySize - 1, z + zSize - 1);
+        try {
+            super.copy(source, xSource, ySource, zSource, x, y, z, xSize, ySize, zSize);
+        } finally {
+            unlock(stripes);
+        }
+    }
+
+    @Override
+    public void copyFrom(BlockVolume source, DiscreteTransform3 transform) {
+        checkNotNull(source, "source");
+        checkNotNull(transform, "transform");
+        checkTransformed(source, transform);
+        final Vector3i first = transform.transform(source.getBlockMin());
+        final Vector3i last = transform.transform(source.getBlockMax());
+        final Vector3i min = first.min(last).sub(this.start);
+        final Vector3i max = first.max(last).sub(this.start);
+        final long stripes = lock(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+        try {
+            super.copyFrom(source, transform);
+        } finally {
+            unlock(stripes);
+        }
+    }
+
+}
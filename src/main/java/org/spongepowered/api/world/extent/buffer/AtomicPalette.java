@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.google.common.collect.Maps;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link Palette} which can be used by multiple threads. Looking up the
+ * ID of a known value does not lock, only assigning new IDs does.
+ *
+ * @param <T> The type of the values
+ */
+final class AtomicPalette<T> {
+
+    private static final int SCANNED = 16;
+    private final ConcurrentMap<T, Integer> ids = Maps.newConcurrentMap();
+    // Values are written before the size and their ID in the map, so a
+    // thread which obtained an ID, directly or through the buffer, sees the value
+    private volatile Object[] values = new Object[16];
+    private volatile int size;
+
+    AtomicPalette(T fill) {
+        id(fill);
+    }
+
+    /**
+     * Gets the ID of a value, assigning a new one if needed.
+     *
+     * @param value The value
+     * @return The ID of the value
+     * @throws IllegalStateException If the palette is full
+     */
+    int id(T value) {
+        // Most buffers hold few values, which are faster to compare by identity than to hash
+        final int scanned = Math.min(this.size, SCANNED);
+        final Object[] values = this.values;
+        for (int i = 0; i < scanned; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        final Integer id = this.ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        return assign(value);
+    }
+
+    private synchronized int assign(T value) {
+        final Integer known = this.ids.get(value);
+        if (known != null) {
+            return known;
+        }
+        if (this.size == Palette.MAX_SIZE) {
+            throw new IllegalStateException("More than " + Palette.MAX_SIZE + " different values in the buffer");
+        }
+        Object[] values = this.values;
+        if (this.size == values.length) {
+            values = Arrays.copyOf(values, this.size * 2);
+        }
+        final int id = this.size;
+        values[id] = value;
+        this.values = values;
+        this.size = id + 1;
+        this.ids.put(value, id);
+        return id;
+    }
+
+    /**
+     * Gets the value with the ID.
+     *
+     * @param id The ID
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    T get(int id) {
+        return (T) this.values[id];
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.biome.BiomeTypes;
+import org.spongepowered.api.world.extent.BiomeArea;
+import org.spongepowered.api.world.extent.ExtentBufferFactory;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.ReleasableBuffer;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reference implementations of the biome buffers for each
+ * {@link StorageType}, which implementations of
+ * {@link ExtentBufferFactory} may use. The buffers and their views support
+ * all operations of {@link MutableBiomeArea}.
+ */
+public final class BiomeBuffers {
+
+    private BiomeBuffers() {
+    }
+
+    /**
+     * Creates a new buffer filled with ocean, with its minimum at
+     * {@link Vector2i#ZERO}.
+     *
+     * @param size The size of the buffer
+     * @param type The type of storage used by the buffer
+     * @return The new buffer
+     */
+    public static MutableBiomeArea create(Vector2i size, StorageType type) {
+        return create(Vector2i.ZERO, size, type, BiomeTypes.OCEAN);
+    }
+
+    /**
+     * Creates a new buffer filled with a biome. Paletted storage is not
+     * worth it for the few biomes of an area, so {@link StorageType#PALETTED}
+     * creates the same buffer as {@link StorageType#STANDARD}.
+     *
+     * @param min The minimum position of the buffer
+     * @param size The size of the buffer
+     * @param type The type of storage used by the buffer
+     * @param fill The biome to fill the buffer with
+     * @return The new buffer
+     */
+    public static MutableBiomeArea create(Vector2i min, Vector2i size, StorageType type, BiomeType fill) {
+        checkNotNull(min, "min");
+        checkNotNull(type, "type");
+        checkNotNull(fill, "fill");
+        area(size);
+        switch (type) {
+            case STANDARD:
+            case PALETTED:
+                return new ArrayBiomeBuffer(min, size, fill);
+            case THREAD_SAFE:
+                return new AtomicBiomeBuffer(min, size, fill);
+            case OFF_HEAP:
+                return new OffHeapBiomeBuffer(min, size, fill, OffHeapStorage.allocate(area(size)));
+            default:
+                throw new IllegalArgumentException("Unsupported storage type: " + type);
+        }
+    }
+
+    /**
+     * Creates a new buffer filled with a biome, stored in a memory-mapped
+     * file. The file is overwritten and is not deleted when the buffer is
+     * released. Only the IDs of the biomes are stored in the file; it cannot
+     * be read back into a buffer.
+     *
+     * @param file The file to store the biomes in
+     * @param min The minimum position of the buffer
+     * @param size The size of the buffer
+     * @param fill The biome to fill the buffer with
+     * @return The new buffer, which implements {@link ReleasableBuffer}
+     * @throws IOException If the file cannot be mapped
+     */
+    public static MutableBiomeArea createMapped(File file, Vector2i min, Vector2i size, BiomeType fill) throws IOException {
+        checkNotNull(file, "file");
+        checkNotNull(min, "min");
+        checkNotNull(fill, "fill");
+        return new OffHeapBiomeBuffer(min, size, fill, OffHeapStorage.map(file, area(size)));
+    }
+
+    /**
+     * Copies the biomes of an area into a new buffer with the same bounds.
+     *
+     * @param area The area to copy
+     * @param type The type of storage used by the copy
+     * @return The copy
+     */
+    public static MutableBiomeArea copy(BiomeArea area, StorageType type) {
+        final Vector2i min = area.getBiomeMin();
+        final Vector2i max = area.getBiomeMax();
+        final MutableBiomeArea copy = create(min, area.getBiomeSize(), type, area.getBiome(min));
+        for (int z = min.getY(); z <= max.getY(); z++) {
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                copy.setBiome(x, z, area.getBiome(x, z));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the number of biomes in a buffer of the given size.
+     *
+     * @param size The size of the buffer
+     * @return The number of biomes
+     * @throws IllegalArgumentException If the size is not positive or the
+     *     buffer would have more than {@link Integer#MAX_VALUE} biomes
+     */
+    static int area(Vector2i size) {
+        checkNotNull(size, "size");
+        checkArgument(size.getX() > 0 && size.getY() > 0, "Size must be positive: %s", size);
+        final long area = (long) size.getX() * size.getY();
+        checkArgument(area <= Integer.MAX_VALUE, "Too many biomes: %s", size);
+        return (int) area;
+    }
+
+}
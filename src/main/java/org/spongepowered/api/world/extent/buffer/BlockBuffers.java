@@ -0,0 +1,168 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ExtentBufferFactory;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.ReleasableBuffer;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reference implementations of the block buffers for each
+ * {@link StorageType}, which implementations of
+ * {@link ExtentBufferFactory} may use. The buffers and their views support
+ * all operations of {@link MutableBlockVolume}.
+ */
+public final class BlockBuffers {
+
+    private BlockBuffers() {
+    }
+
+    /**
+     * Creates a new buffer filled with air, with its minimum at
+     * {@link Vector3i#ZERO}.
+     *
+     * @param size The size of the buffer
+     * @param type The type of storage used by the buffer
+     * @return The new buffer
+     */
+    public static MutableBlockVolume create(Vector3i size, StorageType type) {
+        return create(Vector3i.ZERO, size, type, BlockTypes.AIR.getDefaultState());
+    }
+
+    /**
+     * Creates a new buffer filled with a block.
+     *
+     * @param min The minimum position of the buffer
+     * @param size The size of the buffer
+     * @param type The type of storage used by the buffer
+     * @param fill The block to fill the buffer with
+     * @return The new buffer
+     */
+    public static MutableBlockVolume create(Vector3i min, Vector3i size, StorageType type, BlockState fill) {
+        checkNotNull(min, "min");
+        checkNotNull(type, "type");
+        checkNotNull(fill, "fill");
+        volume(size);
+        switch (type) {
+            case STANDARD:
+                return new ArrayBlockBuffer(min, size, fill);
+            case THREAD_SAFE:
+                return new AtomicBlockBuffer(min, size, fill, true);
+            case PALETTED:
+                return new PalettedBlockBuffer(min, size, fill);
+            case OFF_HEAP:
+                return new OffHeapBlockBuffer(min, size, fill, OffHeapStorage.allocate(volume(size)));
+            default:
+                throw new IllegalArgumentException("Unsupported storage type: " + type);
+        }
+    }
+
+    /**
+     * Creates a new {@link StorageType#THREAD_SAFE} buffer filled with a
+     * block. Reads and writes of single blocks never lock. Buffers created
+     * with {@link #create} also lock the sections written by
+     * {@link MutableBlockVolume#fill} and the copies, so that those are not
+     * interleaved; without the locks, they are only atomic for each block.
+     * Threads filling disjoint regions of the buffer with
+     * {@link MutableBlockVolume#setBlock} do not wait on each other either
+     * way.
+     *
+     * @param min The minimum position of the buffer
+     * @param size The size of the buffer
+     * @param fill The block to fill the buffer with
+     * @param lockSections Whether fills and copies lock the sections they
+     *     write to
+     * @return The new buffer
+     */
+    public static MutableBlockVolume createThreadSafe(Vector3i min, Vector3i size, BlockState fill, boolean lockSections) {
+        checkNotNull(min, "min");
+        checkNotNull(fill, "fill");
+        volume(size);
+        return new AtomicBlockBuffer(min, size, fill, lockSections);
+    }
+
+    /**
+     * Creates a new buffer filled with a block, stored in a memory-mapped
+     * file. This allows buffers larger than the available memory, which the
+     * operating system pages in and out of the file. The file is overwritten
+     * and is not deleted when the buffer is released. Only the IDs of the
+     * blocks are stored in the file; it cannot be read back into a buffer.
+     *
+     * @param file The file to store the blocks in
+     * @param min The minimum position of the buffer
+     * @param size The size of the buffer
+     * @param fill The block to fill the buffer with
+     * @return The new buffer, which implements {@link ReleasableBuffer}
+     * @throws IOException If the file cannot be mapped
+     */
+    public static MutableBlockVolume createMapped(File file, Vector3i min, Vector3i size, BlockState fill) throws IOException {
+        checkNotNull(file, "file");
+        checkNotNull(min, "min");
+        checkNotNull(fill, "fill");
+        return new OffHeapBlockBuffer(min, size, fill, OffHeapStorage.map(file, volume(size)));
+    }
+
+    /**
+     * Copies the blocks of a volume into a new buffer with the same bounds.
+     *
+     * @param volume The volume to copy
+     * @param type The type of storage used by the copy
+     * @return The copy
+     */
+    public static MutableBlockVolume copy(BlockVolume volume, StorageType type) {
+        final Vector3i min = volume.getBlockMin();
+        final MutableBlockVolume copy = create(min, volume.getBlockSize(), type, volume.getBlock(min));
+        copy.copyFrom(volume, min, min, volume.getBlockSize());
+        return copy;
+    }
+
+    /**
+     * Gets the number of blocks in a buffer of the given size.
+     *
+     * @param size The size of the buffer
+     * @return The number of blocks
+     * @throws IllegalArgumentException If the size is not positive or the
+     *     buffer would have more than {@link Integer#MAX_VALUE} blocks
+     */
+    static int volume(Vector3i size) {
+        checkNotNull(size, "size");
+        checkArgument(size.getX() > 0 && size.getY() > 0 && size.getZ() > 0, "Size must be positive: %s", size);
+        final long volume = (long) size.getX() * size.getY() * size.getZ();
+        checkArgument(volume <= Integer.MAX_VALUE, "Too many blocks: %s", size);
+        return (int) volume;
+    }
+
+}
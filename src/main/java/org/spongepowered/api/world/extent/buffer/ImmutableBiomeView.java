@@ -0,0 +1,70 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.world.extent.BiomeArea;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
+
+/**
+ * A view of biomes that cannot be modified at all, usually the only view of
+ * a private copy.
+ */
+final class ImmutableBiomeView extends AbstractBiomeView<BiomeArea> implements ImmutableBiomeArea {
+
+    ImmutableBiomeView(BiomeArea area, Vector2i min, Vector2i max, DiscreteTransform2 inverse) {
+        super(area, min, max, inverse);
+    }
+
+    @Override
+    public ImmutableBiomeArea getBiomeView(Vector2i newMin, Vector2i newMax) {
+        checkView(newMin, newMax);
+        return new ImmutableBiomeView(this.area, newMin, newMax, this.inverse);
+    }
+
+    @Override
+    public ImmutableBiomeArea getBiomeView(DiscreteTransform2 transform) {
+        return new ImmutableBiomeView(this.area, transformedMin(transform), transformedMax(transform), inverse(transform));
+    }
+
+    @Override
+    public ImmutableBiomeArea getRelativeBiomeView() {
+        return new ImmutableBiomeView(this.area, Vector2i.ZERO, this.size.sub(Vector2i.ONE), relativeInverse());
+    }
+
+    @Override
+    public UnmodifiableBiomeArea getUnmodifiableBiomeView() {
+        return this;
+    }
+
+    @Override
+    public ImmutableBiomeArea getImmutableBiomeCopy() {
+        // Nothing can change the biomes, so there is no need to copy them
+        return this;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
+import org.spongepowered.api.world.extent.worker.DefaultBlockVolumeWorker;
+
+/**
+ * A view of blocks that cannot be modified at all, usually the only view of
+ * a private copy.
+ */
+final class ImmutableBlockView extends AbstractBlockView<BlockVolume> implements ImmutableBlockVolume {
+
+    ImmutableBlockView(BlockVolume volume, Vector3i min, Vector3i max, DiscreteTransform3 inverse) {
+        super(volume, min, max, inverse);
+    }
+
+    @Override
+    public ImmutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkView(newMin, newMax);
+        return new ImmutableBlockView(this.volume, newMin, newMax, this.inverse);
+    }
+
+    @Override
+    public ImmutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new ImmutableBlockView(this.volume, transformedMin(transform), transformedMax(transform), inverse(transform));
+    }
+
+    @Override
+    public ImmutableBlockVolume getRelativeBlockView() {
+        return new ImmutableBlockView(this.volume, Vector3i.ZERO, this.size.sub(Vector3i.ONE), relativeInverse());
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return this;
+    }
+
+    @Override
+    public BlockVolumeWorker<ImmutableBlockVolume> getBlockWorker() {
+        return new DefaultBlockVolumeWorker<ImmutableBlockVolume>(this);
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        // Nothing can change the blocks, so there is no need to copy them
+        return this;
+    }
+
+}
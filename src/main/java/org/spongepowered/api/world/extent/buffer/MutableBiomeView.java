@@ -0,0 +1,78 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
+
+/**
+ * A view through which the biomes of a mutable area can be modified.
+ */
+final class MutableBiomeView extends AbstractBiomeView<MutableBiomeArea> implements MutableBiomeArea {
+
+    MutableBiomeView(MutableBiomeArea area, Vector2i min, Vector2i max, DiscreteTransform2 inverse) {
+        super(area, min, max, inverse);
+    }
+
+    @Override
+    public void setBiome(Vector2i position, BiomeType biome) {
+        setBiome(position.getX(), position.getY(), biome);
+    }
+
+    @Override
+    public void setBiome(int x, int z, BiomeType biome) {
+        checkRange(x, z);
+        if (this.identity) {
+            this.area.setBiome(x, z, biome);
+            return;
+        }
+        this.area.setBiome(this.inverse.transformX(x, z), this.inverse.transformY(x, z), biome);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(Vector2i newMin, Vector2i newMax) {
+        checkView(newMin, newMax);
+        return new MutableBiomeView(this.area, newMin, newMax, this.inverse);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(DiscreteTransform2 transform) {
+        return new MutableBiomeView(this.area, transformedMin(transform), transformedMax(transform), inverse(transform));
+    }
+
+    @Override
+    public MutableBiomeArea getRelativeBiomeView() {
+        return new MutableBiomeView(this.area, Vector2i.ZERO, this.size.sub(Vector2i.ONE), relativeInverse());
+    }
+
+    @Override
+    public UnmodifiableBiomeArea getUnmodifiableBiomeView() {
+        return new UnmodifiableBiomeView(this.area, this.start, this.end, this.inverse);
+    }
+
+}
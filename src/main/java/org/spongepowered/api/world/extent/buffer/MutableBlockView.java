@@ -0,0 +1,143 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
+import org.spongepowered.api.world.extent.worker.DefaultBlockVolumeWorker;
+
+/**
+ * A view through which the blocks of a mutable volume can be modified.
+ */
+final class MutableBlockView extends AbstractBlockView<MutableBlockVolume> implements MutableBlockVolume {
+
+    MutableBlockView(MutableBlockVolume volume, Vector3i min, Vector3i max, DiscreteTransform3 inverse) {
+        super(volume, min, max, inverse);
+    }
+
+    @Override
+    public void setBlock(Vector3i position, BlockState block) {
+        setBlock(position.getX(), position.getY(), position.getZ(), block);
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockState block) {
+        checkRange(x, y, z);
+        if (this.identity) {
+            this.volume.setBlock(x, y, z, block);
+            return;
+        }
+        this.volume.setBlock(this.inverse.transformX(x, y, z), this.inverse.transformY(x, y, z), this.inverse.transformZ(x, y, z), block);
+    }
+
+    @Override
+    public void setBlockType(Vector3i position, BlockType type) {
+        setBlockType(position.getX(), position.getY(), position.getZ(), type);
+    }
+
+    @Override
+    public void setBlockType(int x, int y, int z, BlockType type) {
+        setBlock(x, y, z, type.getDefaultState());
+    }
+
+    @Override
+    public void fill(Vector3i min, Vector3i max, BlockState block) {
+        checkView(min, max);
+        if (this.identity) {
+            this.volume.fill(min, max, block);
+            return;
+        }
+        // The transform is discrete, so the region is still a box in the volume
+        final Vector3i first = this.inverse.transform(min);
+        final Vector3i second = this.inverse.transform(max);
+        this.volume.fill(first.min(second), first.max(second), block);
+    }
+
+    @Override
+    public void copyFrom(BlockVolume source, Vector3i sourceMin, Vector3i destinationMin, Vector3i size) {
+        checkNotNull(source, "source");
+        BlockBuffers.volume(size);
+        final Vector3i sourceMax = sourceMin.add(size).sub(Vector3i.ONE);
+        checkRegion(source, sourceMin, sourceMax);
+        checkView(destinationMin, destinationMin.add(size).sub(Vector3i.ONE));
+        if (AbstractBlockView.backingVolume(source) == this.volume) {
+            // The regions may overlap, so copy the source region first
+            source = BlockBuffers.copy(source.getBlockView(sourceMin, sourceMax), StorageType.STANDARD);
+        }
+        if (this.identity) {
+            this.volume.copyFrom(source, sourceMin, destinationMin, size);
+            return;
+        }
+        this.volume.copyFrom(source.getBlockView(sourceMin, sourceMax),
+                DiscreteTransform3.fromTranslation(destinationMin.sub(sourceMin)).withTransformation(this.inverse));
+    }
+
+    @Override
+    public void copyFrom(BlockVolume source, DiscreteTransform3 transform) {
+        checkNotNull(source, "source");
+        checkNotNull(transform, "transform");
+        checkTransformed(source, transform);
+        if (AbstractBlockView.backingVolume(source) == this.volume) {
+            source = BlockBuffers.copy(source, StorageType.STANDARD);
+        }
+        this.volume.copyFrom(source, this.identity ? transform : transform.withTransformation(this.inverse));
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkView(newMin, newMax);
+        return new MutableBlockView(this.volume, newMin, newMax, this.inverse);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new MutableBlockView(this.volume, transformedMin(transform), transformedMax(transform), inverse(transform));
+    }
+
+    @Override
+    public MutableBlockVolume getRelativeBlockView() {
+        return new MutableBlockView(this.volume, Vector3i.ZERO, this.size.sub(Vector3i.ONE), relativeInverse());
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return new UnmodifiableBlockView(this.volume, this.start, this.end, this.inverse);
+    }
+
+    @Override
+    public BlockVolumeWorker<MutableBlockVolume> getBlockWorker() {
+        return new DefaultBlockVolumeWorker<MutableBlockVolume>(this);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.ReleasableBuffer;
+import org.spongepowered.api.world.extent.StorageType;
+
+/**
+ * A buffer storing the ID of each block outside of the Java heap, for
+ * {@link StorageType#OFF_HEAP}. The IDs are assigned by a palette on the
+ * heap, which only holds the different blocks.
+ */
+final class OffHeapBlockBuffer extends AbstractBlockBuffer implements ReleasableBuffer {
+
+    private final int xSize;
+    private final int area;
+    private final Palette<BlockState> palette;
+    private final OffHeapStorage storage;
+
+    OffHeapBlockBuffer(Vector3i start, Vector3i size, BlockState fill, OffHeapStorage storage) {
+        super(start, size);
+        this.xSize = size.getX();
+        this.area = size.getX() * size.getZ();
+        this.palette = new Palette<BlockState>(fill);
+        this.storage = storage;
+    }
+
+    @Override
+    BlockState get(int x, int y, int z) {
+        return this.palette.get(this.storage.get(y * this.area + z * this.xSize + x));
+    }
+
+    @Override
+    void set(int x, int y, int z, BlockState block) {
+        this.storage.set(y * this.area + z * this.xSize + x, this.palette.id(block));
+    }
+
+    @Override
+    void fill(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockState block) {
+        // Only look the block up once
+        final int id = this.palette.id(block);
+        for (int y = yMin; y <= yMax; y++) {
+            for (int z = zMin; z <= zMax; z++) {
+                final int row = y * this.area + z * this.xSize;
+                for (int x = xMin; x <= xMax; x++) {
+                    this.storage.set(row + x, id);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        this.storage.release();
+    }
+
+    @Override
+    public boolean isReleased() {
+        return this.storage.isReleased();
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import org.spongepowered.api.world.extent.ReleasableBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import javax.annotation.Nullable;
+
+/**
+ * Unsigned short IDs stored in direct or memory-mapped byte buffers. The
+ * memory is split into pages, since a single buffer is limited to 2 GiB.
+ * New memory is zeroed, so all IDs start at zero.
+ */
+final class OffHeapStorage implements ReleasableBuffer {
+
+    private static final int PAGE_SHIFT = 30;
+    private static final long PAGE_MASK = (1L << PAGE_SHIFT) - 1;
+    @Nullable private ByteBuffer[] pages;
+
+    private OffHeapStorage(ByteBuffer[] pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * Allocates direct memory for the IDs.
+     *
+     * @param count The number of IDs
+     * @return The new storage
+     */
+    static OffHeapStorage allocate(int count) {
+        final long bytes = (long) count << 1;
+        final ByteBuffer[] pages = new ByteBuffer[(int) (bytes - 1 >> PAGE_SHIFT) + 1];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = ByteBuffer.allocateDirect((int) Math.min(bytes - ((long) i << PAGE_SHIFT), 1L << PAGE_SHIFT));
+        }
+        return new OffHeapStorage(pages);
+    }
+
+    /**
+     * Maps a file into memory for the IDs. The previous contents of the file
+     * are discarded.
+     *
+     * @param file The file
+     * @param count The number of IDs
+     * @return The new storage
+     * @throws IOException If the file cannot be mapped
+     */
+    static OffHeapStorage map(File file, int count) throws IOException {
+        final long bytes = (long) count << 1;
+        final ByteBuffer[] pages = new ByteBuffer[(int) (bytes - 1 >> PAGE_SHIFT) + 1];
+        final RandomAccessFile access = new RandomAccessFile(file, "rw");
+        try {
+            // Shrinking then growing the file zeroes it
+            access.setLength(0);
+            access.setLength(bytes);
+            final FileChannel channel = access.getChannel();
+            for (int i = 0; i < pages.length; i++) {
+                final long position = (long) i << PAGE_SHIFT;
+                pages[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.min(bytes - position, 1L << PAGE_SHIFT));
+            }
+        } finally {
+            // The mappings stay valid after the file is closed
+            access.close();
+        }
+        return new OffHeapStorage(pages);
+    }
+
+    private ByteBuffer[] pages() {
+        final ByteBuffer[] pages = this.pages;
+        if (pages == null) {
+            throw new IllegalStateException("The buffer has been released");
+        }
+        return pages;
+    }
+
+    int get(int index) {
+        final long offset = (long) index << 1;
+        return pages()[(int) (offset >> PAGE_SHIFT)].getShort((int) (offset & PAGE_MASK)) & 0xffff;
+    }
+
+    void set(int index, int id) {
+        final long offset = (long) index << 1;
+        pages()[(int) (offset >> PAGE_SHIFT)].putShort((int) (offset & PAGE_MASK), (short) id);
+    }
+
+    @Override
+    public void release() {
+        final ByteBuffer[] pages = this.pages;
+        this.pages = null;
+        if (pages != null) {
+            for (ByteBuffer page : pages) {
+                Cleaner.clean(page);
+            }
+        }
+    }
+
+    @Override
+    public boolean isReleased() {
+        return this.pages == null;
+    }
+
+    /**
+     * Frees the memory of direct buffers without waiting for the garbage
+     * collector. There is no public API for this, so it is done through
+     * reflection and left to the garbage collector if that fails.
+     */
+    private static final class Cleaner {
+
+        @Nullable private static final Object UNSAFE;
+        @Nullable private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                // Java 9 and later
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                final Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+            } catch (Exception e) {
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        private Cleaner() {
+        }
+
+        static void clean(ByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    return;
+                }
+                // Java 8 and earlier
+                final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                final Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            } catch (Exception ignored) {
+                // Left to the garbage collector
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.google.common.collect.Maps;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Assigns numeric IDs to the values stored in a buffer, in the order in
+ * which they are first stored. The value with ID zero is the fill value of
+ * the buffer.
+ *
+ * @param <T> The type of the values
+ */
+final class Palette<T> {
+
+    // IDs are stored as unsigned shorts
+    static final int MAX_SIZE = 1 << 16;
+    private final Map<T, Integer> ids = Maps.newHashMap();
+    private Object[] values = new Object[16];
+    private int size;
+    // Consecutive writes are often of the same value
+    @Nullable private T last;
+    private int lastId;
+
+    Palette(T fill) {
+        id(fill);
+    }
+
+    /**
+     * Gets the ID of a value, assigning a new one if needed.
+     *
+     * @param value The value
+     * @return The ID of the value
+     * @throws IllegalStateException If the palette is full
+     */
+    int id(T value) {
+        if (value == this.last) {
+            return this.lastId;
+        }
+        final Integer id = this.ids.get(value);
+        if (id != null) {
+            this.last = value;
+            this.lastId = id;
+            return id;
+        }
+        if (this.size == MAX_SIZE) {
+            throw new IllegalStateException("More than " + MAX_SIZE + " different values in the buffer");
+        }
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+        this.values[this.size] = value;
+        this.ids.put(value, this.size);
+        return this.size++;
+    }
+
+    /**
+     * Gets the value with the ID.
+     *
+     * @param id The ID
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    T get(int id) {
+        return (T) this.values[id];
+    }
+
+}
@@ -0,0 +1,362 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A buffer storing the blocks in sections of 16x16x16, for
+ * {@link StorageType#PALETTED}. Each section has a palette of the blocks it
+ * contains, and stores the palette index of every block packed into longs
+ * with as few bits as the palette size allows. Sections only containing the
+ * fill block are not allocated at all.
+ *
+ * <p>Copies of the buffer share its sections, which are only copied by the
+ * first write to them on either side. Copying a buffer thus only takes time
+ * proportional to its number of sections, and the copies only take memory
+ * for the sections modified since. Immutable copies are safe to read from
+ * other threads while the buffer is being modified.</p>
+ */
+final class PalettedBlockBuffer extends AbstractBlockBuffer {
+
+    static final int SECTION_SHIFT = 4;
+    static final int SECTION_MASK = (1 << SECTION_SHIFT) - 1;
+    private final BlockState fill;
+    private final int xSections;
+    private final int sectionArea;
+    private final Section[] sections;
+
+    PalettedBlockBuffer(Vector3i start, Vector3i size, BlockState fill) {
+        super(start, size);
+        this.fill = fill;
+        this.xSections = sections(size.getX());
+        this.sectionArea = this.xSections * sections(size.getZ());
+        this.sections = new Section[this.sectionArea * sections(size.getY())];
+    }
+
+    private PalettedBlockBuffer(PalettedBlockBuffer buffer) {
+        super(buffer.start, buffer.size);
+        this.fill = buffer.fill;
+        this.xSections = buffer.xSections;
+        this.sectionArea = buffer.sectionArea;
+        this.sections = buffer.sections.clone();
+        for (Section section : this.sections) {
+            if (section != null) {
+                section.shared = true;
+            }
+        }
+    }
+
+    private static int sections(int size) {
+        return (size + SECTION_MASK) >> SECTION_SHIFT;
+    }
+
+    private int sectionIndex(int x, int y, int z) {
+        return (y >> SECTION_SHIFT) * this.sectionArea + (z >> SECTION_SHIFT) * this.xSections + (x >> SECTION_SHIFT);
+    }
+
+    private static int blockIndex(int x, int y, int z) {
+        return (y & SECTION_MASK) << SECTION_SHIFT * 2 | (z & SECTION_MASK) << SECTION_SHIFT | x & SECTION_MASK;
+    }
+
+    @Override
+    BlockState get(int x, int y, int z) {
+        final Section section = this.sections[sectionIndex(x, y, z)];
+        return section == null ? this.fill : section.get(blockIndex(x, y, z));
+    }
+
+    @Override
+    void set(int x, int y, int z, BlockState block) {
+        final int index = sectionIndex(x, y, z);
+        Section section = this.sections[index];
+        if (section == null) {
+            if (block == this.fill || block.equals(this.fill)) {
+                return;
+            }
+            section = new Section(this.fill);
+            this.sections[index] = section;
+        } else if (section.shared) {
+            if (section.get(blockIndex(x, y, z)) == block) {
+                return;
+            }
+            // Leave the section unchanged for the other buffers using it
+            section = section.copy();
+            this.sections[index] = section;
+        }
+        section.set(blockIndex(x, y, z), block);
+    }
+
+    @Override
+    void fill(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockState block) {
+        for (int ySection = yMin >> SECTION_SHIFT; ySection <= yMax >> SECTION_SHIFT; ySection++) {
+            final int y0 = Math.max(yMin, ySection << SECTION_SHIFT);
+            final int y1 = Math.min(yMax, ySection << SECTION_SHIFT | SECTION_MASK);
+            for (int zSection = zMin >> SECTION_SHIFT; zSection <= zMax >> SECTION_SHIFT; zSection++) {
+                final int z0 = Math.max(zMin, zSection << SECTION_SHIFT);
+                final int z1 = Math.min(zMax, zSection << SECTION_SHIFT | SECTION_MASK);
+                for (int xSection = xMin >> SECTION_SHIFT; xSection <= xMax >> SECTION_SHIFT; xSection++) {
+                    final int x0 = Math.max(xMin, xSection << SECTION_SHIFT);
+                    final int x1 = Math.min(xMax, xSection << SECTION_SHIFT | SECTION_MASK);
+                    if (covers(x0, x1, this.size.getX()) && covers(y0, y1, this.size.getY()) && covers(z0, z1, this.size.getZ())) {
+                        // Replace whole sections instead of writing every block
+                        this.sections[sectionIndex(x0, y0, z0)] = block.equals(this.fill) ? null : new Section(block);
+                        continue;
+                    }
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                set(x, y, z, block);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    void copy(BlockVolume source, int xSource, int ySource, int zSource, int x, int y, int z, int xSize, int ySize, int zSize) {
+        if (source instanceof AbstractBlockView<?> && ((AbstractBlockView<?>) source).identity) {
+            // The view has the same coordinates as the buffer it views
+            source = ((AbstractBlockView<?>) source).volume;
+        }
+        if (!(source instanceof PalettedBlockBuffer)) {
+            super.copy(source, xSource, ySource, zSource, x, y, z, xSize, ySize, zSize);
+            return;
+        }
+        final PalettedBlockBuffer buffer = (PalettedBlockBuffer) source;
+        final int xOffset = xSource - buffer.start.getX() - x;
+        final int yOffset = ySource - buffer.start.getY() - y;
+        final int zOffset = zSource - buffer.start.getZ() - z;
+        if (((xOffset | yOffset | zOffset) & SECTION_MASK) != 0) {
+            // The sections are not aligned and can't be copied whole
+            super.copy(source, xSource, ySource, zSource, x, y, z, xSize, ySize, zSize);
+            return;
+        }
+        for (int ySection = y >> SECTION_SHIFT; ySection <= y + ySize - 1 >> SECTION_SHIFT; ySection++) {
+            final int y0 = Math.max(y, ySection << SECTION_SHIFT);
+            final int y1 = Math.min(y + ySize - 1, ySection << SECTION_SHIFT | SECTION_MASK);
+            for (int zSection = z >> SECTION_SHIFT; zSection <= z + zSize - 1 >> SECTION_SHIFT; zSection++) {
+                final int z0 = Math.max(z, zSection << SECTION_SHIFT);
+                final int z1 = Math.min(z + zSize - 1, zSection << SECTION_SHIFT | SECTION_MASK);
+                for (int xSection = x >> SECTION_SHIFT; xSection <= x + xSize - 1 >> SECTION_SHIFT; xSection++) {
+                    final int x0 = Math.max(x, xSection << SECTION_SHIFT);
+                    final int x1 = Math.min(x + xSize - 1, xSection << SECTION_SHIFT | SECTION_MASK);
+                    if (covers(x0, x1, this.size.getX()) && covers(y0, y1, this.size.getY()) && covers(z0, z1, this.size.getZ())) {
+                        // The blocks of the source section outside of the region are outside of this buffer
+                        final Section section = buffer.sections[buffer.sectionIndex(x0 + xOffset, y0 + yOffset, z0 + zOffset)];
+                        final BlockState fill = section == null ? buffer.fill : null;
+                        this.sections[sectionIndex(x0, y0, z0)] = section != null ? section.share()
+                                : fill.equals(this.fill) ? null : new Section(fill);
+                        continue;
+                    }
+                    for (int yy = y0; yy <= y1; yy++) {
+                        for (int zz = z0; zz <= z1; zz++) {
+                            for (int xx = x0; xx <= x1; xx++) {
+                                set(xx, yy, zz, buffer.get(xx + xOffset, yy + yOffset, zz + zOffset));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of this buffer which shares its sections.
+     *
+     * @return The copy
+     */
+    PalettedBlockBuffer snapshot() {
+        return new PalettedBlockBuffer(this);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy(StorageType type) {
+        if (type == StorageType.PALETTED) {
+            return snapshot();
+        }
+        return super.getBlockCopy(type);
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        return new ImmutableBlockView(snapshot(), this.start, this.end, DiscreteTransform3.IDENTITY);
+    }
+
+    private static boolean covers(int min, int max, int size) {
+        // Whether the range covers all blocks of the section that are inside of the buffer
+        return (min & SECTION_MASK) == 0 && ((max & SECTION_MASK) == SECTION_MASK || max == size - 1);
+    }
+
+    /**
+     * A section of 16x16x16 blocks. The palette only grows; blocks that are
+     * overwritten keep their entry. Shared sections are never modified
+     * again.
+     */
+    static final class Section {
+
+        private static final int BLOCKS = 1 << SECTION_SHIFT * 3;
+        // Larger palettes are indexed with a map instead of being scanned
+        private static final int SCANNED_PALETTE = 16;
+        private BlockState[] palette = new BlockState[2];
+        private int paletteSize;
+        @Nullable private Map<BlockState, Integer> paletteIndex;
+        // The bits per block are always a power of two, so no index spans two longs
+        private int bitsShift = -1;
+        @Nullable private long[] data;
+        // Whether other buffers may use the section
+        boolean shared;
+
+        Section(BlockState fill) {
+            this.palette[0] = fill;
+            this.paletteSize = 1;
+        }
+
+        /**
+         * Marks the section as used by another buffer.
+         *
+         * @return This section
+         */
+        Section share() {
+            this.shared = true;
+            return this;
+        }
+
+        /**
+         * Copies the section.
+         *
+         * @return The copy, which is not shared
+         */
+        Section copy() {
+            final Section copy = new Section(this.palette[0]);
+            copy.palette = this.palette.clone();
+            copy.paletteSize = this.paletteSize;
+            if (this.paletteIndex != null) {
+                copy.paletteIndex = Maps.newHashMap(this.paletteIndex);
+            }
+            copy.bitsShift = this.bitsShift;
+            if (this.data != null) {
+                copy.data = this.data.clone();
+            }
+            return copy;
+        }
+
+        BlockState get(int index) {
+            if (this.data == null) {
+                return this.palette[0];
+            }
+            return this.palette[read(this.data, this.bitsShift, index)];
+        }
+
+        void set(int index, BlockState block) {
+            final int id = id(block);
+            if (this.data != null) {
+                write(this.data, this.bitsShift, index, id);
+            } else if (id != 0) {
+                resize();
+                write(this.data, this.bitsShift, index, id);
+            }
+        }
+
+        private int id(BlockState block) {
+            if (this.paletteIndex != null) {
+                final Integer id = this.paletteIndex.get(block);
+                if (id != null) {
+                    return id;
+                }
+            } else {
+                // Block states are usually shared instances, so compare the references first
+                for (int i = 0; i < this.paletteSize; i++) {
+                    if (this.palette[i] == block) {
+                        return i;
+                    }
+                }
+                for (int i = 0; i < this.paletteSize; i++) {
+                    if (this.palette[i].equals(block)) {
+                        return i;
+                    }
+                }
+            }
+            final int id = this.paletteSize++;
+            if (id == this.palette.length) {
+                this.palette = Arrays.copyOf(this.palette, id * 2);
+            }
+            this.palette[id] = block;
+            if (this.paletteIndex != null) {
+                this.paletteIndex.put(block, id);
+            } else if (this.paletteSize > SCANNED_PALETTE) {
+                this.paletteIndex = Maps.newHashMapWithExpectedSize(SCANNED_PALETTE * 2);
+                for (int i = 0; i < this.paletteSize; i++) {
+                    this.paletteIndex.put(this.palette[i], i);
+                }
+            }
+            if (this.data != null && this.paletteSize > 1 << (1 << this.bitsShift)) {
+                resize();
+            }
+            return id;
+        }
+
+        private void resize() {
+            final int newShift = this.bitsShift + 1;
+            final long[] newData = new long[BLOCKS >> 6 - newShift];
+            if (this.data != null) {
+                for (int i = 0; i < BLOCKS; i++) {
+                    write(newData, newShift, i, read(this.data, this.bitsShift, i));
+                }
+            }
+            this.bitsShift = newShift;
+            this.data = newData;
+        }
+
+        private static int read(long[] data, int bitsShift, int index) {
+            final int entriesShift = 6 - bitsShift;
+            final int offset = (index & (1 << entriesShift) - 1) << bitsShift;
+            return (int) (data[index >> entriesShift] >>> offset) & (1 << (1 << bitsShift)) - 1;
+        }
+
+        private static void write(long[] data, int bitsShift, int index, int id) {
+            final int entriesShift = 6 - bitsShift;
+            final int offset = (index & (1 << entriesShift) - 1) << bitsShift;
+            final long mask = ((1L << (1 << bitsShift)) - 1) << offset;
+            final int word = index >> entriesShift;
+            data[word] = data[word] & ~mask | (long) id << offset & mask;
+        }
+
+    }
+
+}
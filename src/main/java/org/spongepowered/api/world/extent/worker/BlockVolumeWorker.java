@@ -0,0 +1,76 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+
+/**
+ * Performs operations over all the positions of a volume, in an order
+ * chosen by the implementation to match its storage. To work on a region,
+ * use the worker of a view of that region.
+ *
+ * @param <V> The type of the volume
+ */
+public interface BlockVolumeWorker<V extends BlockVolume> {
+
+    /**
+     * Gets the volume on which this worker operates.
+     *
+     * @return The volume
+     */
+    V getVolume();
+
+    /**
+     * Maps the blocks of the volume to new blocks, which are set at the same
+     * positions in the destination. If the destination shares its storage
+     * with the volume, the mapper may see blocks that were already mapped.
+     *
+     * @param mapper The mapper of the blocks
+     * @param destination The volume in which to set the new blocks
+     * @throws PositionOutOfBoundsException If the destination does not
+     *     contain all positions of the volume
+     */
+    void map(BlockVolumeMapper mapper, MutableBlockVolume destination);
+
+    /**
+     * Visits all positions of the volume.
+     *
+     * @param visitor The visitor of the positions
+     */
+    void iterate(BlockVolumeVisitor<? super V> visitor);
+
+    /**
+     * Reduces all blocks of the volume to a single value.
+     *
+     * @param reducer The reducer of the blocks
+     * @param identity The reduction of no blocks
+     * @param <T> The type of the reduction
+     * @return The reduction of all blocks
+     */
+    <T> T reduce(BlockVolumeReducer<T> reducer, T identity);
+
+}
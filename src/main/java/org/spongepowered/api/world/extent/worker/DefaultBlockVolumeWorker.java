@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+
+/**
+ * A worker going through the positions of any volume in y, z and x order,
+ * with x changing the fastest.
+ *
+ * @param <V> The type of the volume
+ */
+public class DefaultBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
+
+    protected final V volume;
+
+    /**
+     * Creates a new worker for the volume.
+     *
+     * @param volume The volume on which the worker operates
+     */
+    public DefaultBlockVolumeWorker(V volume) {
+        this.volume = checkNotNull(volume, "volume");
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volume;
+    }
+
+    @Override
+    public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
+        checkNotNull(mapper, "mapper");
+        checkNotNull(destination, "destination");
+        final Vector3i min = this.volume.getBlockMin();
+        final Vector3i max = this.volume.getBlockMax();
+        if (!destination.containsBlock(min) || !destination.containsBlock(max)) {
+            throw new PositionOutOfBoundsException(destination.containsBlock(min) ? max : min, destination.getBlockMin(),
+                    destination.getBlockMax());
+        }
+        final UnmodifiableBlockVolume unmodifiable = this.volume.getUnmodifiableBlockView();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    destination.setBlock(x, y, z, mapper.map(unmodifiable, x, y, z));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void iterate(BlockVolumeVisitor<? super V> visitor) {
+        checkNotNull(visitor, "visitor");
+        final Vector3i min = this.volume.getBlockMin();
+        final Vector3i max = this.volume.getBlockMax();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    visitor.visit(this.volume, x, y, z);
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T> T reduce(BlockVolumeReducer<T> reducer, T identity) {
+        checkNotNull(reducer, "reducer");
+        final Vector3i min = this.volume.getBlockMin();
+        final Vector3i max = this.volume.getBlockMax();
+        final UnmodifiableBlockVolume unmodifiable = this.volume.getUnmodifiableBlockView();
+        T reduction = identity;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    reduction = reducer.reduce(unmodifiable, x, y, z, reduction);
+                }
+            }
+        }
+        return reduction;
+    }
+
+}
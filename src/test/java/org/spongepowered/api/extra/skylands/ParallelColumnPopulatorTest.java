@@ -0,0 +1,238 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.util.test.TestHooks;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.WorldCreationSettings;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.buffer.BlockBuffers;
+import org.spongepowered.api.world.gen.GeneratorPopulator;
+import org.spongepowered.api.world.gen.Populator;
+import org.spongepowered.api.world.gen.WorldGenerator;
+import org.spongepowered.api.world.storage.WorldProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests that the Skylands populators generate the same blocks serially, by
+ * columns in parallel, and from multiple threads at once.
+ */
+public class ParallelColumnPopulatorTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final long SEED = 1;
+    // Chunks with terrain and grass, and one without
+    private static final Vector3i[] CHUNKS = {new Vector3i(-3, 0, -1), new Vector3i(-1, 0, 2), new Vector3i(0, 0, 0)};
+    private static final Vector3i CHUNK_SIZE = new Vector3i(16, 256, 16);
+    private static final int PLATFORM_BOTTOM = 80;
+    private static final int PLATFORM_TOP = 82;
+    private final ImmutableBiomeArea biomes = mock(ImmutableBiomeArea.class);
+
+    static World createWorld(long seed) {
+        final WorldProperties properties = mock(WorldProperties.class);
+        when(properties.getSeed()).thenReturn(seed);
+        final World world = mock(World.class);
+        when(world.getProperties()).thenReturn(properties);
+        return world;
+    }
+
+    private static GeneratorPopulator[] createPopulators() {
+        return new GeneratorPopulator[] {new SkylandsTerrainGenerator(), new SkylandsGroundCoverPopulator(), new SkylandsGrassPopulator()};
+    }
+
+    private MutableBlockVolume generate(World world, Vector3i chunk, GeneratorPopulator... populators) {
+        final MutableBlockVolume buffer = BlockBuffers.create(chunk.mul(CHUNK_SIZE), CHUNK_SIZE, StorageType.STANDARD,
+                BlockTypes.AIR.getDefaultState());
+        for (GeneratorPopulator populator : populators) {
+            populator.populate(world, buffer, this.biomes);
+        }
+        return buffer;
+    }
+
+    private static int assertSameBlocks(BlockVolume expected, BlockVolume actual) {
+        assertEquals(expected.getBlockMin(), actual.getBlockMin());
+        assertEquals(expected.getBlockMax(), actual.getBlockMax());
+        final Vector3i min = expected.getBlockMin();
+        final Vector3i max = expected.getBlockMax();
+        int solid = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    assertSame(expected.getBlock(x, y, z), actual.getBlock(x, y, z));
+                    if (expected.getBlockType(x, y, z) != BlockTypes.AIR) {
+                        solid++;
+                    }
+                }
+            }
+        }
+        return solid;
+    }
+
+    @Test
+    public void testSameAsSerial() throws Exception {
+        final World world = createWorld(SEED);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final GeneratorPopulator[] populators = createPopulators();
+            final GeneratorPopulator sameThread = new ParallelColumnPopulator(MoreExecutors.sameThreadExecutor(), createPopulators());
+            final GeneratorPopulator pooled = new ParallelColumnPopulator(pool, createPopulators());
+            int solid = 0;
+            for (Vector3i chunk : CHUNKS) {
+                final MutableBlockVolume serial = generate(world, chunk, populators);
+                solid += assertSameBlocks(serial, generate(world, chunk, sameThread));
+                solid += assertSameBlocks(serial, generate(world, chunk, pooled));
+            }
+            // Make sure there was something to compare
+            assertTrue(solid > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sets up a world generator with the given modifier, returning the
+     * generator populators in the order of the generation phase, with the
+     * given biome generator populator after the base one.
+     */
+    private static GeneratorPopulator[] getGenerationPhase(SkylandsWorldGeneratorModifier modifier, boolean parallelSetting,
+            GeneratorPopulator biomePopulator) {
+        final WorldGenerator worldGenerator = mock(WorldGenerator.class);
+        final List<GeneratorPopulator> generatorPopulators = new ArrayList<GeneratorPopulator>();
+        when(worldGenerator.getGeneratorPopulators()).thenReturn(generatorPopulators);
+        when(worldGenerator.getPopulators()).thenReturn(new ArrayList<Populator>());
+        final DataContainer settings = mock(DataContainer.class);
+        when(settings.getBoolean(SkylandsWorldGeneratorModifier.PARALLEL)).thenReturn(Optional.of(parallelSetting));
+        modifier.modifyWorldGenerator(mock(WorldCreationSettings.class), settings, worldGenerator);
+        final ArgumentCaptor<GeneratorPopulator> base = ArgumentCaptor.forClass(GeneratorPopulator.class);
+        verify(worldGenerator).setBaseGeneratorPopulator(base.capture());
+        final List<GeneratorPopulator> phase = new ArrayList<GeneratorPopulator>();
+        phase.add(base.getValue());
+        phase.add(biomePopulator);
+        phase.addAll(generatorPopulators);
+        return phase.toArray(new GeneratorPopulator[phase.size()]);
+    }
+
+    @Test
+    public void testModifierKeepsBiomePopulatorOrder() throws Exception {
+        // A biome generator populator adding a platform, which gets covered only if it runs before the ground cover
+        final GeneratorPopulator platform = new GeneratorPopulator() {
+            @Override
+            public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeArea biomes) {
+                final Vector3i min = buffer.getBlockMin();
+                final Vector3i max = buffer.getBlockMax();
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int y = PLATFORM_BOTTOM; y <= PLATFORM_TOP; y++) {
+                        for (int x = min.getX(); x <= max.getX(); x++) {
+                            buffer.setBlockType(x, y, z, BlockTypes.STONE);
+                        }
+                    }
+                }
+            }
+        };
+        final World world = createWorld(SEED);
+        final Vector3i chunk = CHUNKS[0];
+        final MutableBlockVolume serial = generate(world, chunk, getGenerationPhase(new SkylandsWorldGeneratorModifier(), false, platform));
+        int covered = 0;
+        final Vector3i min = serial.getBlockMin();
+        for (int z = min.getZ(); z < min.getZ() + CHUNK_SIZE.getZ(); z++) {
+            for (int x = min.getX(); x < min.getX() + CHUNK_SIZE.getX(); x++) {
+                if (serial.getBlockType(x, PLATFORM_TOP, z) != BlockTypes.STONE) {
+                    covered++;
+                }
+            }
+        }
+        // Make sure the order matters
+        assertTrue(covered > 0);
+
+        assertSameBlocks(serial, generate(world, chunk, getGenerationPhase(new SkylandsWorldGeneratorModifier(), true, platform)));
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            assertSameBlocks(serial, generate(world, chunk, getGenerationPhase(new SkylandsWorldGeneratorModifier(pool), false, platform)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReentrant() throws Exception {
+        final World world = createWorld(SEED);
+        final List<MutableBlockVolume> expected = new ArrayList<MutableBlockVolume>();
+        for (Vector3i chunk : CHUNKS) {
+            expected.add(generate(world, chunk, createPopulators()));
+        }
+        // The same instances generate the chunks from all the threads at once
+        final GeneratorPopulator[] shared = createPopulators();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<MutableBlockVolume>>> results = new ArrayList<Future<List<MutableBlockVolume>>>();
+            for (int i = 0; i < 4; i++) {
+                results.add(pool.submit(new Callable<List<MutableBlockVolume>>() {
+                    @Override
+                    public List<MutableBlockVolume> call() {
+                        final List<MutableBlockVolume> generated = new ArrayList<MutableBlockVolume>();
+                        for (Vector3i chunk : CHUNKS) {
+                            generated.add(generate(world, chunk, shared));
+                        }
+                        return generated;
+                    }
+                }));
+            }
+            for (Future<List<MutableBlockVolume>> result : results) {
+                final List<MutableBlockVolume> generated = result.get();
+                for (int i = 0; i < CHUNKS.length; i++) {
+                    assertSameBlocks(expected.get(i), generated.get(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.noise.module.Module;
+import org.junit.Test;
+
+/**
+ * Tests that the grid kernels return exactly the same values as
+ * {@link Module#getValue}, so that they don't change the generated terrain.
+ */
+public class SkylandsGridNoiseTest {
+
+    private static final int[] SEEDS = {0, 1, -7, 12345, Integer.MAX_VALUE};
+    // Chunk origins, including negative ones
+    private static final int[][] ORIGINS = {{0, 0}, {16, 32}, {-16, -16}, {-48, 80}, {1000, -2000}};
+
+    private static void assertSameValues(Module module, double x, double y, double z, double xStep, double yStep, double zStep,
+            int xSize, int ySize, int zSize) {
+        final double[] values = SkylandsGridNoise.getValues(module, x, y, z, xStep, yStep, zStep, xSize, ySize, zSize);
+        assertEquals(xSize * ySize * zSize, values.length);
+        for (int zz = 0; zz < zSize; zz++) {
+            for (int yy = 0; yy < ySize; yy++) {
+                for (int xx = 0; xx < xSize; xx++) {
+                    final double xd = x + xx * xStep;
+                    final double yd = y + yy * yStep;
+                    final double zd = z + zz * zStep;
+                    final double expected = module.getValue(xd, yd, zd);
+                    final double actual = values[SkylandsUtil.index3D(xx, yy, zz, xSize, ySize)];
+                    if (Double.doubleToLongBits(expected) != Double.doubleToLongBits(actual)) {
+                        throw new AssertionError("Value at (" + xd + ", " + yd + ", " + zd + ") expected " + expected + " but was " + actual);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDensitySamplingGrid() {
+        // The grid sampled by the terrain generator, over the full height so the zero scale layers are included
+        for (int seed : SEEDS) {
+            final Module density = SkylandsTerrainGenerator.createDensityModule(seed);
+            for (int[] origin : ORIGINS) {
+                assertSameValues(density, origin[0], 0, origin[1], 4, 8, 4, 5, 33, 5);
+            }
+        }
+    }
+
+    @Test
+    public void testDensityBlockGrid() {
+        // Every block of a chunk section across the lower edge of the scaled layers
+        for (int seed : SEEDS) {
+            final Module density = SkylandsTerrainGenerator.createDensityModule(seed);
+            for (int[] origin : ORIGINS) {
+                assertSameValues(density, origin[0], 20, origin[1], 1, 1, 1, 16, 16, 16);
+            }
+        }
+    }
+
+    @Test
+    public void testDensityFractionalGrid() {
+        for (int seed : SEEDS) {
+            final Module density = SkylandsTerrainGenerator.createDensityModule(seed);
+            assertSameValues(density, -3.25, -10.5, 7.75, 0.5, 3.5, 1.25, 7, 40, 6);
+        }
+    }
+
+}
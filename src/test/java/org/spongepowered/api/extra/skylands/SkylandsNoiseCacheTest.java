@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.skylands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.flowpowered.noise.module.Module;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.test.TestHooks;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.buffer.BlockBuffers;
+
+/**
+ * Tests the cache of the Skylands terrain noise samples.
+ */
+public class SkylandsNoiseCacheTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final int SEED = 1;
+    private static final Vector3i SAMPLING_RATE = new Vector3i(4, 8, 4);
+    private static final int HEIGHT = 256;
+
+    private static void assertSameNoise(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            if (Double.doubleToLongBits(expected[i]) != Double.doubleToLongBits(actual[i])) {
+                throw new AssertionError("Value at index " + i + " expected " + expected[i] + " but was " + actual[i]);
+            }
+        }
+    }
+
+    private static void assertSameAsUncached(SkylandsNoiseCache cache, Module module, int x, int y, int z, int xSize, int ySize,
+            int zSize) {
+        final double[] expected = SkylandsUtil.fastNoise(module, SAMPLING_RATE, x, y, z, xSize, ySize, zSize);
+        assertSameNoise(expected, SkylandsUtil.fastNoise(module, cache, SAMPLING_RATE, x, y, z, xSize, ySize, zSize));
+    }
+
+    @Test
+    public void testCovers() {
+        final SkylandsNoiseCache cache = new SkylandsNoiseCache(SEED, SAMPLING_RATE, HEIGHT);
+        assertTrue(cache.covers(0, 0, 0, HEIGHT));
+        assertTrue(cache.covers(-16, 8, 32, HEIGHT - 8));
+        assertTrue(cache.covers(4, HEIGHT - 8, -4, 8));
+        assertFalse(cache.covers(0, 8, 0, HEIGHT));
+        assertFalse(cache.covers(4, HEIGHT - 8, -4, 16));
+        assertFalse(cache.covers(0, -8, 0, 16));
+        assertFalse(cache.covers(1, 0, 0, 16));
+        assertFalse(cache.covers(0, 4, 0, 16));
+        assertFalse(cache.covers(0, 0, -2, 16));
+    }
+
+    @Test
+    public void testAlignedSameAsUncached() {
+        final SkylandsNoiseCache cache = new SkylandsNoiseCache(SEED, SAMPLING_RATE, HEIGHT);
+        final Module module = SkylandsTerrainGenerator.createDensityModule(SEED);
+        assertSameAsUncached(cache, module, 0, 0, 0, 16, HEIGHT, 16);
+        assertSameAsUncached(cache, module, -48, 64, 32, 16, 128, 16);
+        // Parts of chunks, some already cached
+        assertSameAsUncached(cache, module, 8, 0, 4, 8, 64, 4);
+        assertSameAsUncached(cache, module, -40, 128, 36, 32, 128, 8);
+        // Another copy of the module with the same seed, as used by another thread
+        final Module copy = SkylandsTerrainGenerator.createDensityModule(SEED);
+        assertSameAsUncached(cache, copy, 0, 0, 0, 16, HEIGHT, 16);
+        assertSameAsUncached(cache, copy, -48, 64, 32, 16, 128, 16);
+    }
+
+    @Test
+    public void testUnalignedSameAsUncached() {
+        final SkylandsNoiseCache cache = new SkylandsNoiseCache(SEED, SAMPLING_RATE, HEIGHT);
+        final Module module = SkylandsTerrainGenerator.createDensityModule(SEED);
+        assertSameAsUncached(cache, module, 3, 0, 0, 16, 64, 16);
+        assertSameAsUncached(cache, module, 0, 4, 0, 16, 64, 16);
+        assertSameAsUncached(cache, module, -16, 0, -7, 16, 64, 16);
+        assertSameAsUncached(cache, module, 0, -8, 0, 16, 64, 16);
+        assertSameAsUncached(cache, module, 0, HEIGHT - 8, 0, 16, 16, 16);
+    }
+
+    @Test
+    public void testCacheReplacedOnSeedChange() {
+        // A chunk with terrain for the second seed
+        final Vector3i min = new Vector3i(-48, 0, -16);
+        final Vector3i size = new Vector3i(16, HEIGHT, 16);
+        final ImmutableBiomeArea biomes = mock(ImmutableBiomeArea.class);
+        final SkylandsTerrainGenerator generator = new SkylandsTerrainGenerator();
+        final MutableBlockVolume first = BlockBuffers.create(min, size, StorageType.STANDARD, BlockTypes.AIR.getDefaultState());
+        generator.populate(ParallelColumnPopulatorTest.createWorld(12345), first, biomes);
+        final MutableBlockVolume second = BlockBuffers.create(min, size, StorageType.STANDARD, BlockTypes.AIR.getDefaultState());
+        generator.populate(ParallelColumnPopulatorTest.createWorld(SEED), second, biomes);
+        final MutableBlockVolume expected = BlockBuffers.create(min, size, StorageType.STANDARD, BlockTypes.AIR.getDefaultState());
+        new SkylandsTerrainGenerator().populate(ParallelColumnPopulatorTest.createWorld(SEED), expected, biomes);
+        int solid = 0;
+        final Vector3i max = expected.getBlockMax();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    assertSame(expected.getBlock(x, y, z), second.getBlock(x, y, z));
+                    if (expected.getBlockType(x, y, z) != BlockTypes.AIR) {
+                        solid++;
+                    }
+                }
+            }
+        }
+        // Make sure there was something to compare
+        assertTrue(solid > 0);
+    }
+
+}
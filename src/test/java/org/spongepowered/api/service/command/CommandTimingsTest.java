@@ -0,0 +1,77 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.spongepowered.api.service.command.CommandTimings.Phase;
+
+public class CommandTimingsTest {
+
+    @Test
+    public void testEmpty() {
+        CommandTimings timings = new CommandTimings();
+        assertEquals(0, timings.getCount(Phase.EXECUTE));
+        assertEquals(0, timings.getPercentile(Phase.EXECUTE, 0.99));
+        assertEquals(0, timings.getMax(Phase.EXECUTE));
+    }
+
+    @Test
+    public void testPercentiles() {
+        CommandTimings timings = new CommandTimings();
+        for (long i = 1; i <= 1000; i++) {
+            timings.record(Phase.EXECUTE, i * 1000, i % 100 == 0);
+        }
+        timings.record(Phase.COMPLETE, 5, false);
+
+        assertEquals(1000, timings.getCount(Phase.EXECUTE));
+        assertEquals(10, timings.getExceptionCount(Phase.EXECUTE));
+        assertEquals(1000000, timings.getMax(Phase.EXECUTE));
+        assertWithin(500000, timings.getPercentile(Phase.EXECUTE, 0.5));
+        assertWithin(990000, timings.getPercentile(Phase.EXECUTE, 0.99));
+        assertEquals(1000000, timings.getPercentile(Phase.EXECUTE, 1));
+
+        assertEquals(0, timings.getCount(Phase.PARSE));
+        assertEquals(1, timings.getCount(Phase.COMPLETE));
+        assertEquals(5, timings.getPercentile(Phase.COMPLETE, 0.5));
+    }
+
+    @Test
+    public void testLongLatencies() {
+        CommandTimings timings = new CommandTimings();
+        timings.record(Phase.PARSE, Long.MAX_VALUE, false);
+        timings.record(Phase.PARSE, -1, false);
+        assertEquals(Long.MAX_VALUE, timings.getMax(Phase.PARSE));
+        assertEquals(0, timings.getPercentile(Phase.PARSE, 0.5));
+        assertTrue(timings.getPercentile(Phase.PARSE, 1) >= 1L << 40);
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected about " + expected + " but was " + actual, Math.abs(actual - expected) <= expected / 8);
+    }
+
+}
@@ -0,0 +1,320 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.message.CommandEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.service.event.EventManager;
+import org.spongepowered.api.service.scheduler.SchedulerService;
+import org.spongepowered.api.service.scheduler.TaskBuilder;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.Texts;
+import org.spongepowered.api.util.command.CommandException;
+import org.spongepowered.api.util.command.CommandResult;
+import org.spongepowered.api.util.command.CommandSource;
+import org.spongepowered.api.util.command.args.CommandContext;
+import org.spongepowered.api.util.command.args.GenericArguments;
+import org.spongepowered.api.util.command.spec.CommandExecutor;
+import org.spongepowered.api.util.command.spec.CommandSpec;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link SimpleCommandService#processAsync(CommandSource, String)}.
+ * Tasks submitted to the scheduler are queued, and run by the test as if it
+ * was the server thread.
+ */
+public class SimpleCommandServiceTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private final Object plugin = new Object();
+    private final Game game = mock(Game.class);
+    private final EventManager eventManager = mock(EventManager.class);
+    private final BlockingQueue<Runnable> serverTasks = new LinkedBlockingQueue<Runnable>();
+    private final CommandSource source = mock(CommandSource.class);
+    @Captor private ArgumentCaptor<Iterable<Text>> messages;
+    private SimpleCommandService service;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        final PluginContainer container = mock(PluginContainer.class);
+        when(container.getId()).thenReturn("testplugin");
+        when(container.getName()).thenReturn("TestPlugin");
+        when(container.getInstance()).thenReturn(this.plugin);
+        final PluginManager pluginManager = mock(PluginManager.class);
+        when(pluginManager.fromInstance(this.plugin)).thenReturn(Optional.of(container));
+        final SchedulerService scheduler = mock(SchedulerService.class);
+        when(scheduler.createTaskBuilder()).thenAnswer(new Answer<TaskBuilder>() {
+            @Override
+            public TaskBuilder answer(InvocationOnMock invocation) {
+                return createTaskBuilder();
+            }
+        });
+        when(this.game.getPluginManager()).thenReturn(pluginManager);
+        when(this.game.getEventManager()).thenReturn(this.eventManager);
+        when(this.game.getScheduler()).thenReturn(scheduler);
+        this.service = new SimpleCommandService(this.game, LoggerFactory.getLogger(SimpleCommandServiceTest.class));
+    }
+
+    private TaskBuilder createTaskBuilder() {
+        final TaskBuilder builder = mock(TaskBuilder.class);
+        final AtomicReference<Runnable> task = new AtomicReference<Runnable>();
+        when(builder.execute(any(Runnable.class))).thenAnswer(new Answer<TaskBuilder>() {
+            @Override
+            public TaskBuilder answer(InvocationOnMock invocation) {
+                task.set((Runnable) invocation.getArguments()[0]);
+                return builder;
+            }
+        });
+        when(builder.submit(this.plugin)).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                SimpleCommandServiceTest.this.serverTasks.add(task.get());
+                return null;
+            }
+        });
+        return builder;
+    }
+
+    private void runServerTasksUntilDone(ListenableFuture<?> future) throws InterruptedException {
+        while (!future.isDone()) {
+            final Runnable task = this.serverTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull("Timed out waiting for a server task", task);
+            task.run();
+        }
+    }
+
+    private static CommandSpec spec(boolean async, CommandExecutor executor) {
+        return CommandSpec.builder()
+                .async(async)
+                .executor(executor)
+                .build();
+    }
+
+    @Test
+    public void testEventFiredSynchronously() throws Exception {
+        final Thread testThread = Thread.currentThread();
+        final AtomicReference<Thread> eventThread = new AtomicReference<Thread>();
+        when(this.eventManager.post(any(Event.class))).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                eventThread.set(Thread.currentThread());
+                return false;
+            }
+        });
+        this.service.register(this.plugin, CommandSpec.builder()
+                .async(true)
+                .arguments(GenericArguments.remainingJoinedStrings(Texts.of("arguments")))
+                .executor(new CommandExecutor() {
+                    @Override
+                    public CommandResult execute(CommandSource src, CommandContext args) {
+                        return CommandResult.success();
+                    }
+                })
+                .build(), "test");
+
+        final ListenableFuture<CommandResult> future = this.service.processAsync(this.source, "test some arguments");
+        assertSame(testThread, eventThread.get());
+        final ArgumentCaptor<Event> event = ArgumentCaptor.forClass(Event.class);
+        verify(this.eventManager).post(event.capture());
+        assertEquals("test", ((CommandEvent) event.getValue()).getCommand());
+        assertEquals("some arguments", ((CommandEvent) event.getValue()).getArguments());
+        runServerTasksUntilDone(future);
+    }
+
+    @Test
+    public void testSyncSpecFallsBackToProcess() throws Exception {
+        final Thread testThread = Thread.currentThread();
+        final AtomicReference<Thread> executorThread = new AtomicReference<Thread>();
+        final AtomicReference<CommandSource> executorSource = new AtomicReference<CommandSource>();
+        this.service.register(this.plugin, spec(false, new CommandExecutor() {
+            @Override
+            public CommandResult execute(CommandSource src, CommandContext args) {
+                executorThread.set(Thread.currentThread());
+                executorSource.set(src);
+                return CommandResult.success();
+            }
+        }), "test");
+
+        final ListenableFuture<CommandResult> future = this.service.processAsync(this.source, "test");
+        assertTrue(future.isDone());
+        assertEquals(Optional.of(1), future.get().getSuccessCount());
+        assertSame(testThread, executorThread.get());
+        assertSame(this.source, executorSource.get());
+        verify(this.game, never()).getScheduler();
+    }
+
+    private static CommandExecutor threadRecorder(final AtomicReference<Thread> executorThread) {
+        return new CommandExecutor() {
+            @Override
+            public CommandResult execute(CommandSource src, CommandContext args) {
+                executorThread.set(Thread.currentThread());
+                return CommandResult.success();
+            }
+        };
+    }
+
+    @Test
+    public void testChildFlagApplies() throws Exception {
+        final Thread testThread = Thread.currentThread();
+        final AtomicReference<Thread> parentThread = new AtomicReference<Thread>();
+        final AtomicReference<Thread> syncChildThread = new AtomicReference<Thread>();
+        final AtomicReference<Thread> asyncChildThread = new AtomicReference<Thread>();
+        final CommandSpec syncChild = spec(false, threadRecorder(syncChildThread));
+        final CommandSpec asyncChild = spec(true, threadRecorder(asyncChildThread));
+        this.service.register(this.plugin, CommandSpec.builder()
+                .async(true)
+                .executor(threadRecorder(parentThread))
+                .child(syncChild, "sync")
+                .child(asyncChild, "async")
+                .build(), "asyncparent");
+        this.service.register(this.plugin, CommandSpec.builder()
+                .executor(threadRecorder(parentThread))
+                .child(syncChild, "sync")
+                .child(asyncChild, "async")
+                .build(), "syncparent");
+
+        // A sync child of an async parent runs on the calling thread
+        assertTrue(this.service.processAsync(this.source, "asyncparent sync").isDone());
+        assertSame(testThread, syncChildThread.get());
+        // The parent's own executor follows the flag of the parent
+        runServerTasksUntilDone(this.service.processAsync(this.source, "asyncparent"));
+        assertNotNull(parentThread.get());
+        assertNotSame(testThread, parentThread.get());
+        parentThread.set(null);
+        assertTrue(this.service.processAsync(this.source, "syncparent").isDone());
+        assertSame(testThread, parentThread.get());
+        // An async child runs asynchronously whatever its parent
+        runServerTasksUntilDone(this.service.processAsync(this.source, "syncparent async"));
+        assertNotNull(asyncChildThread.get());
+        assertNotSame(testThread, asyncChildThread.get());
+        asyncChildThread.set(null);
+        runServerTasksUntilDone(this.service.processAsync(this.source, "asyncparent async"));
+        assertNotNull(asyncChildThread.get());
+        assertNotSame(testThread, asyncChildThread.get());
+    }
+
+    @Test
+    public void testFullQueueRejected() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        this.service.register(this.plugin, spec(true, new CommandExecutor() {
+            @Override
+            public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return CommandResult.success();
+            }
+        }), "test");
+
+        // Two running executors and a full queue
+        final List<ListenableFuture<CommandResult>> accepted = new ArrayList<ListenableFuture<CommandResult>>();
+        for (int i = 0; i < 2 + 32; i++) {
+            accepted.add(this.service.processAsync(this.source, "test"));
+        }
+        final ListenableFuture<CommandResult> rejected = this.service.processAsync(this.source, "test");
+        runServerTasksUntilDone(rejected);
+        assertEquals(Optional.<Integer>absent(), rejected.get().getSuccessCount());
+        final ArgumentCaptor<Text> message = ArgumentCaptor.forClass(Text.class);
+        // The error is followed by the usage
+        verify(this.source, atLeastOnce()).sendMessage(message.capture());
+        assertTrue(Texts.toPlain(message.getAllValues().get(0)).contains("Too many commands"));
+
+        release.countDown();
+        for (ListenableFuture<CommandResult> future : accepted) {
+            runServerTasksUntilDone(future);
+            assertEquals(Optional.of(1), future.get().getSuccessCount());
+        }
+    }
+
+    @Test
+    public void testFutureCompletedThroughScheduler() throws Exception {
+        final Thread testThread = Thread.currentThread();
+        final AtomicReference<Thread> executorThread = new AtomicReference<Thread>();
+        final CountDownLatch executed = new CountDownLatch(1);
+        this.service.register(this.plugin, spec(true, new CommandExecutor() {
+            @Override
+            public CommandResult execute(CommandSource src, CommandContext args) {
+                executorThread.set(Thread.currentThread());
+                src.sendMessage(Texts.of("Hello"));
+                executed.countDown();
+                return CommandResult.success();
+            }
+        }), "test");
+
+        final ListenableFuture<CommandResult> future = this.service.processAsync(this.source, "test");
+        assertTrue(executed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertNotSame(testThread, executorThread.get());
+        // Neither the message nor the result get to the source before the server thread runs them
+        verifyZeroInteractions(this.source);
+        assertFalse(future.isDone());
+
+        runServerTasksUntilDone(future);
+        assertEquals(Optional.of(1), future.get().getSuccessCount());
+        verify(this.source).sendMessage(this.messages.capture());
+        assertEquals("Hello", Texts.toPlain(this.messages.getValue().iterator().next()));
+    }
+
+}
@@ -26,6 +26,8 @@
 
 import static org.junit.Assert.assertEquals;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 import org.spongepowered.api.util.Tristate;
 
@@ -83,7 +85,8 @@ public void testWithAll() throws Exception {
         assertEquals(Tristate.TRUE, newTree.get("generate.sunset.red"));
 
         assertEquals(Tristate.FALSE, oldTree.get("generate.thunderstorm.explosive"));
-        assertEquals(Tristate.UNDEFINED, newTree.get("generate.thunderstorm.explosive"));
+        assertEquals(Tristate.TRUE, newTree.get("generate.thunderstorm.explosive")); // Inherited from generate
+        assertEquals(Tristate.FALSE, newTree.get("generate.sunset"));
 
         assertEquals(Tristate.UNDEFINED, oldTree.get("something.new"));
         assertEquals(Tristate.FALSE, newTree.get("something.new"));
@@ -107,4 +110,57 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testGetSubtree() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("generate.rainbow", true);
+        testPermissions.put("generate.sunset", false);
+        testPermissions.put("generate", true);
+        testPermissions.put("generate.thunderstorm.explosive", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+        NodeTree subtree = nodes.getSubtree("generate.thunderstorm");
+
+        assertEquals(Tristate.FALSE, subtree.get("explosive"));
+        assertEquals(Tristate.TRUE, subtree.get("lightning"));
+        assertEquals(ImmutableMap.of("explosive", false), subtree.asMap());
+        assertEquals(Tristate.UNDEFINED, nodes.getSubtree("random").get("perm"));
+        assertEquals(ImmutableSet.of("rainbow", "sunset", "thunderstorm"), nodes.getChildren("generate"));
+        assertEquals(ImmutableSet.<String>of(), nodes.getChildren("random"));
+    }
+
+    @Test
+    public void testGetAll() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("myplugin.admin", true);
+        testPermissions.put("myplugin.admin.kick", false);
+        testPermissions.put("myplugin.user.chat", true);
+        testPermissions.put("myplugin.mod.admin.ban", true);
+        testPermissions.put("otherplugin.admin", true);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        assertEquals(ImmutableMap.of("myplugin.admin", true, "myplugin.admin.kick", false), nodes.getAll("myplugin.admin"));
+        assertEquals(ImmutableMap.of("myplugin.admin", true, "myplugin.admin.kick", false, "otherplugin.admin", true), nodes.getAll("*.admin"));
+        assertEquals(ImmutableMap.of("myplugin.mod.admin.ban", true), nodes.getAll("myplugin.*.admin"));
+        assertEquals(ImmutableMap.<String, Boolean>of(), nodes.getAll("random"));
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("generate.rainbow", true);
+        testPermissions.put("generate", true);
+
+        NodeTree oldTree = NodeTree.of(testPermissions);
+        NodeTree newTree = oldTree.toBuilder()
+                .set("generate.rainbow", Tristate.FALSE)
+                .set("generate.rainbow.double", Tristate.TRUE)
+                .set("generate", Tristate.UNDEFINED)
+                .build();
+
+        assertEquals(testPermissions, oldTree.asMap());
+        assertEquals(ImmutableMap.of("generate.rainbow", false, "generate.rainbow.double", true), newTree.asMap());
+    }
 }
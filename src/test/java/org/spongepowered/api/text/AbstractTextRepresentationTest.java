@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.base.Charsets;
+import org.junit.Test;
+import org.spongepowered.api.util.TextMessageException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+public class AbstractTextRepresentationTest {
+
+    private static final TextRepresentation LITERAL = new AbstractTextRepresentation() {
+
+        @Override
+        public String to(Text text) {
+            return to(text, Locale.ROOT);
+        }
+
+        @Override
+        public String to(Text text, Locale locale) {
+            return ((Text.Literal) text).getContent();
+        }
+
+        @Override
+        public Text from(String input) throws TextMessageException {
+            return Texts.of(input);
+        }
+
+        @Override
+        public Text fromUnchecked(String input) {
+            return Texts.of(input);
+        }
+
+    };
+
+    private static byte[] encode(String content, int capacity) {
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        LITERAL.writeTo(Texts.of(content), Locale.ROOT, buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    @Test
+    public void testWriteUtf8() {
+        String content = "aé€😀b";
+        assertArrayEquals(content.getBytes(Charsets.UTF_8), encode(content, 16));
+    }
+
+    @Test
+    public void testWriteUnpairedSurrogates() {
+        char high = 0xD83D;
+        char low = 0xDE00;
+        String content = new String(new char[] {high, 'a', low, high});
+        assertArrayEquals(content.getBytes(Charsets.UTF_8), encode(content, 16));
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testWriteOverflow() {
+        encode("€€", 5);
+    }
+
+    @Test
+    public void testWriteAppendable() throws IOException {
+        StringBuilder builder = new StringBuilder("> ");
+        LITERAL.writeTo(Texts.of("streamed"), Locale.ROOT, builder);
+        assertEquals("> streamed", builder.toString());
+    }
+
+    @Test
+    public void testRead() throws IOException, TextMessageException {
+        String content = "aé€😀b";
+        assertEquals(Texts.of(content), LITERAL.from(ByteBuffer.wrap(content.getBytes(Charsets.UTF_8))));
+        assertEquals(Texts.of(content), LITERAL.from(new StringReader(content)));
+    }
+
+}
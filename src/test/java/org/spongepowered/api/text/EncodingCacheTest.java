@@ -0,0 +1,92 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.translation.FixedTranslation;
+
+import java.util.Locale;
+
+public class EncodingCacheTest {
+
+    @Test
+    public void testBounded() {
+        EncodingCache cache = new EncodingCache();
+        Object encoder = new Object();
+        Locale[] locales = {Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, Locale.ITALIAN, Locale.CHINESE};
+        for (Locale locale : locales) {
+            cache.put(encoder, locale, locale.getLanguage());
+        }
+        assertNull(cache.get(encoder, Locale.ENGLISH));
+        for (int i = 1; i < locales.length; i++) {
+            assertEquals(locales[i].getLanguage(), cache.get(encoder, locales[i]));
+        }
+        assertNull(cache.get(new Object(), Locale.GERMAN));
+
+        cache.put(encoder, Locale.GERMAN, "replaced");
+        assertEquals("replaced", cache.get(encoder, Locale.GERMAN));
+        assertEquals("fr", cache.get(encoder, Locale.FRENCH));
+    }
+
+    @Test
+    public void testCachedRepresentation() {
+        Text text = Texts.of("cached");
+        TextFactory factory = mock(TextFactory.class);
+        TextRepresentation json = mock(TextRepresentation.class);
+        when(json.to(text, Locale.ENGLISH)).thenReturn("{\"text\":\"cached\"}");
+        CachingTextRepresentation representation = new CachingTextRepresentation(factory, json);
+
+        assertEquals("{\"text\":\"cached\"}", representation.to(text, Locale.ENGLISH));
+        assertSame(representation.to(text, Locale.ENGLISH), representation.to(text, Locale.ENGLISH));
+        verify(json, times(1)).to(text, Locale.ENGLISH);
+    }
+
+    @Test
+    public void testImmutable() {
+        assertTrue(Texts.of("a").isImmutable());
+        assertTrue(Texts.builder("a").onHover(TextActions.showText(Texts.of("b"))).build().isImmutable());
+        assertTrue(Texts.of(new FixedTranslation("a %s"), "b", 1).isImmutable());
+        assertFalse(Texts.of(new FixedTranslation("a %s"), new StringBuilder("b")).isImmutable());
+
+        Text score = Texts.of(mock(Score.class));
+        assertFalse(score.isImmutable());
+        assertFalse(Texts.builder("a").append(score).build().isImmutable());
+        score.cacheEncoding(this, null, "10");
+        assertNull(score.getCachedEncoding(this, null));
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Iterables;
+import org.junit.Test;
+import org.spongepowered.api.text.action.TextAction;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextFormat;
+import org.spongepowered.api.text.format.TextStyle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TextOptimizerTest {
+
+    private static final TextColor GOLD = color("gold");
+    private static final TextColor GRAY = color("gray");
+    private static final TextStyle BOLD = new TextStyle(true, null, null, null, null);
+    private static final TextStyle NOT_BOLD = new TextStyle(false, null, null, null, null);
+
+    private static TextColor color(String id) {
+        TextColor color = mock(TextColor.class);
+        when(color.getId()).thenReturn(id);
+        return color;
+    }
+
+    private static Text chatMessage(String name, String message) {
+        Text prefix = Texts.builder()
+                .append(Texts.builder("[").color(GRAY).build())
+                .append(Texts.builder("Admin").color(GOLD).style(BOLD).build())
+                .append(Texts.builder("] ").color(GRAY).style(NOT_BOLD).build())
+                .build();
+        Text player = Texts.builder(name)
+                .color(GOLD)
+                .onClick(TextActions.suggestCommand("/msg " + name + " "))
+                .onHover(TextActions.showText(Texts.of("Click to message " + name)))
+                .build();
+        return Texts.builder()
+                .append(prefix)
+                .append(Texts.builder().append(Texts.of("<"), Texts.builder().append(player).build(), Texts.of("> ")).build())
+                .append(Texts.of(TextFormat.of(), message))
+                .build();
+    }
+
+    @Test
+    public void testChatMessage() {
+        assertOptimized(chatMessage("Notch", "Hello world!"), 12, 446, 7, 346);
+    }
+
+    @Test
+    public void testBuilderChain() {
+        Text text = Texts.builder()
+                .color(GRAY)
+                .append(Texts.builder().append(Texts.builder().color(GRAY).append(Texts.of("Welcome ")).build()).build())
+                .append(Texts.builder("to ").color(GRAY).append(Texts.of("the ")).build())
+                .append(Texts.builder("server").color(GOLD).style(BOLD).append(Texts.builder("!").color(GOLD).build()).build())
+                .build();
+        assertOptimized(text, 8, 254, 2, 97);
+    }
+
+    @Test
+    public void testRedundantFormats() {
+        Text text = Texts.builder("Warning: ").color(GOLD).style(BOLD)
+                .onClick(TextActions.runCommand("/rules"))
+                .append(Texts.builder("read ").color(GOLD).onClick(TextActions.runCommand("/rules")).build())
+                .append(Texts.builder("the rules").style(BOLD).build())
+                .build();
+        Text optimized = assertOptimized(text, 3, 230, 1, 115);
+        assertEquals(Texts.builder("Warning: read the rules").color(GOLD).style(BOLD).onClick(TextActions.runCommand("/rules")).build(),
+                optimized);
+    }
+
+    @Test
+    public void testActionsNotMerged() {
+        Text text = Texts.builder()
+                .append(Texts.of("a"))
+                .append(Texts.builder("b").onClick(TextActions.runCommand("/b")).build())
+                .append(Texts.of("c"))
+                .build();
+        Text optimized = Texts.optimize(text);
+        assertEquals(render(text), render(optimized));
+        assertEquals(4, Iterables.size(optimized.withChildren()));
+    }
+
+    @Test
+    public void testOptimizedReused() {
+        Text optimized = Texts.optimize(chatMessage("Notch", "Hello world!"));
+        assertSame(optimized, Texts.optimize(optimized));
+        Text plain = Texts.of("plain");
+        assertSame(plain, Texts.optimize(plain));
+        assertSame(Texts.of(), Texts.optimize(Texts.builder().append(Texts.of()).build()));
+    }
+
+    /**
+     * Checks that the optimized text renders the same as the given one and
+     * has the expected number of nodes and encoded size, before and after.
+     */
+    private static Text assertOptimized(Text text, int nodes, int size, int optimizedNodes, int optimizedSize) {
+        Text optimized = Texts.optimize(text);
+        assertEquals(render(text), render(optimized));
+        assertEquals(nodes, Iterables.size(text.withChildren()));
+        assertEquals(size, encode(text).length());
+        assertEquals(optimizedNodes, Iterables.size(optimized.withChildren()));
+        assertEquals(optimizedSize, encode(optimized).length());
+        return optimized;
+    }
+
+    /**
+     * Renders the text to runs of content with their effective formatting,
+     * like a client displaying it would.
+     */
+    private static List<String> render(Text text) {
+        List<String> runs = new ArrayList<String>();
+        render(text, TextColors.NONE, new Boolean[] {null}, null, null, runs);
+        return runs;
+    }
+
+    private static void render(Text text, TextColor color, Boolean[] bold, Object click, Object hover, List<String> runs) {
+        if (text.getColor() != TextColors.NONE) {
+            color = text.getColor();
+        }
+        if (text.getStyle().isBold().isPresent()) {
+            bold = new Boolean[] {text.getStyle().isBold().get()};
+        }
+        click = text.getClickAction().isPresent() ? text.getClickAction().get() : click;
+        hover = text.getHoverAction().isPresent() ? text.getHoverAction().get() : hover;
+        String content = ((Text.Literal) text).getContent();
+        if (!content.isEmpty()) {
+            String format = "|" + color.getId() + "|" + bold[0] + "|" + click + "|" + hover;
+            int last = runs.size() - 1;
+            if (last >= 0 && runs.get(last).endsWith(format)) {
+                String previous = runs.get(last);
+                runs.set(last, previous.substring(0, previous.length() - format.length()) + content + format);
+            } else {
+                runs.add(content + format);
+            }
+        }
+        for (Text child : text.getChildren()) {
+            render(child, color, bold, click, hover, runs);
+        }
+    }
+
+    /**
+     * Encodes the text similarly to the JSON sent to clients.
+     */
+    private static String encode(Text text) {
+        StringBuilder json = new StringBuilder("{\"text\":\"").append(((Text.Literal) text).getContent()).append('"');
+        if (text.getColor() != TextColors.NONE) {
+            json.append(",\"color\":\"").append(text.getColor().getId()).append('"');
+        }
+        Optional<Boolean> bold = text.getStyle().isBold();
+        if (bold.isPresent()) {
+            json.append(",\"bold\":").append(bold.get());
+        }
+        encode(json, "clickEvent", text.getClickAction());
+        encode(json, "hoverEvent", text.getHoverAction());
+        if (!text.getChildren().isEmpty()) {
+            json.append(",\"extra\":[");
+            for (Text child : text.getChildren()) {
+                json.append(encode(child)).append(',');
+            }
+            json.setCharAt(json.length() - 1, ']');
+        }
+        return json.append('}').toString();
+    }
+
+    private static void encode(StringBuilder json, String key, Optional<? extends TextAction<?>> action) {
+        if (action.isPresent()) {
+            Object result = action.get().getResult();
+            json.append(",\"").append(key).append("\":{\"action\":\"").append(action.get().getClass().getSimpleName())
+                    .append("\",\"value\":").append(result instanceof Text ? encode((Text) result) : "\"" + result + "\"").append('}');
+        }
+    }
+
+}
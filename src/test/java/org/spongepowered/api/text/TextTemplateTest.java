@@ -0,0 +1,91 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.text.action.HoverAction;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.format.TextFormat;
+
+public class TextTemplateTest {
+
+    private static final Text PREFIX = Texts.builder("[")
+            .onClick(TextActions.runCommand("/help"))
+            .append(Texts.of("Server"), Texts.of("]"))
+            .build();
+
+    private static Text build(Text name, Text message) {
+        return Texts.builder()
+                .append(PREFIX)
+                .append(Texts.builder(" <").append(name).append(Texts.of("> ")).build())
+                .append(message)
+                .build();
+    }
+
+    @Test
+    public void testApply() {
+        final HoverAction<?> hover = TextActions.showText(Texts.of("player"));
+        Text template = build(Texts.placeholderBuilder("0").onHover(hover).build(), Texts.placeholder("1"));
+        TextTemplate compiled = TextTemplate.of(template);
+
+        Text formatted = compiled.apply("Notch", "hello");
+        assertEquals(build(Texts.of(TextFormat.of(), hover, "Notch"), Texts.of(TextFormat.of(), "hello")), formatted);
+        // The map based format is implemented separately
+        assertEquals(Texts.format(template, ImmutableMap.of("0", "Notch", "1", "hello")), formatted);
+        assertEquals(formatted, compiled.apply(ImmutableMap.of("0", "Notch", "1", "hello")));
+        // Subtrees without placeholders are shared
+        assertSame(PREFIX, formatted.getChildren().get(0));
+    }
+
+    @Test
+    public void testMissingArguments() {
+        Text template = build(Texts.placeholder("0"), Texts.placeholder("1", Texts.of("nothing")));
+        TextTemplate compiled = TextTemplate.of(template);
+
+        assertSame(template, compiled.apply());
+        assertSame(template, compiled.apply((Object) null));
+        assertEquals(Texts.format(template, ImmutableMap.of("0", "Notch")), compiled.apply("Notch"));
+        assertEquals(Texts.format(template, ImmutableMap.of("1", "hi")), compiled.apply(null, "hi"));
+    }
+
+    @Test
+    public void testNestedPlaceholders() {
+        Text template = Texts.placeholderBuilder("named").append(Texts.placeholder("0")).build();
+        TextTemplate compiled = TextTemplate.of(template);
+
+        assertEquals(Texts.format(template, ImmutableMap.of("0", "inner")), compiled.apply("inner"));
+        assertEquals(Texts.format(template, ImmutableMap.of("named", "outer")), compiled.apply(ImmutableMap.of("named", "outer")));
+    }
+
+    @Test
+    public void testNoPlaceholders() {
+        assertSame(PREFIX, TextTemplate.of(PREFIX).apply("unused"));
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+public class TextFormatTest {
+
+    private static final TextStyle.Base BOLD = new TextStyle.Base(true, null, null, null, null) {
+
+        @Override
+        public String getId() {
+            return "BOLD";
+        }
+
+        @Override
+        public String getName() {
+            return "BOLD";
+        }
+
+    };
+
+    @Test
+    public void testSharedStyles() {
+        TextStyle bold = TextStyle.of(true, null, null, null, null);
+        assertSame(bold, TextStyles.NONE.bold(true));
+        assertSame(bold, TextStyles.NONE.and(BOLD, TextStyle.of(null, false, null, null, null)).italic(null));
+        assertSame(TextStyles.NONE, bold.andNot(bold));
+        assertEquals(bold, new TextStyle(true, null, null, null, null));
+    }
+
+    @Test
+    public void testSharedFormats() {
+        TextColor color = mock(TextColor.class);
+        TextStyle italic = TextStyle.of(null, true, null, null, null);
+        TextFormat format = TextFormat.of(italic, color);
+        assertSame(format, TextFormat.of().color(color).style(italic));
+        assertSame(format, TextFormat.of(new TextStyle(null, true, null, null, null), color));
+        assertSame(italic, TextFormat.of(new TextStyle(null, true, null, null, null), color).getStyle());
+        assertSame(TextFormat.of(), TextFormat.of(color).color(TextColors.NONE));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testConstructedFormatsEqual() {
+        TextColor color = mock(TextColor.class);
+        TextStyle italic = TextStyle.of(null, true, null, null, null);
+        TextFormat format = new TextFormat(italic, color);
+        assertNotSame(TextFormat.of(italic, color), format);
+        assertEquals(TextFormat.of(italic, color), format);
+    }
+
+    @Test
+    public void testBaseStylesKept() {
+        TextFormat format = TextFormat.of(BOLD);
+        assertSame(BOLD, format.getStyle());
+        assertSame(format, TextFormat.of(BOLD));
+        assertNotSame(format, TextFormat.of(TextStyle.of(true, null, null, null, null)));
+        assertEquals(format, TextFormat.of(TextStyle.of(true, null, null, null, null)));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.sink;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TextRepresentation;
+import org.spongepowered.api.util.command.CommandSource;
+
+import java.util.List;
+import java.util.Locale;
+
+public class MessageSinkTest {
+
+    private static CommandSource receiver(TextRepresentation representation, Locale locale) {
+        CommandSource source = mock(CommandSource.class, withSettings().extraInterfaces(EncodedMessageReceiver.class));
+        when(((EncodedMessageReceiver) source).getMessageRepresentation()).thenReturn(representation);
+        when(((EncodedMessageReceiver) source).getLocale()).thenReturn(locale);
+        return source;
+    }
+
+    private static class FixedSink extends MessageSink {
+        private final List<CommandSource> recipients;
+
+        FixedSink(CommandSource... recipients) {
+            this.recipients = ImmutableList.copyOf(recipients);
+        }
+
+        @Override
+        public Iterable<CommandSource> getRecipients() {
+            return this.recipients;
+        }
+    }
+
+    @Test
+    public void testEncodeOncePerLocale() {
+        Text text = mock(Text.class);
+        TextRepresentation representation = mock(TextRepresentation.class);
+        when(representation.to(text, Locale.ENGLISH)).thenReturn("english");
+        when(representation.to(text, Locale.GERMAN)).thenReturn("german");
+        CommandSource first = receiver(representation, Locale.ENGLISH);
+        CommandSource second = receiver(representation, Locale.GERMAN);
+        CommandSource third = receiver(representation, Locale.ENGLISH);
+        CommandSource plain = mock(CommandSource.class);
+
+        new FixedSink(first, second, third, plain).sendMessage(text);
+
+        verify(representation, times(1)).to(text, Locale.ENGLISH);
+        verify(representation, times(1)).to(text, Locale.GERMAN);
+        verify((EncodedMessageReceiver) first).sendEncodedMessage(text, "english");
+        verify((EncodedMessageReceiver) second).sendEncodedMessage(text, "german");
+        verify((EncodedMessageReceiver) third).sendEncodedMessage(text, "english");
+        verify(plain).sendMessage(text);
+    }
+
+    @Test
+    public void testTransformingSink() {
+        Text text = mock(Text.class);
+        final Text transformed = mock(Text.class);
+        TextRepresentation representation = mock(TextRepresentation.class);
+        CommandSource receiver = receiver(representation, Locale.ENGLISH);
+
+        new FixedSink(receiver) {
+            @Override
+            public Text transformMessage(CommandSource target, Text text) {
+                return transformed;
+            }
+        }.sendMessage(text);
+
+        verify(receiver).sendMessage(transformed);
+        verify(representation, times(0)).to(text, Locale.ENGLISH);
+    }
+
+}
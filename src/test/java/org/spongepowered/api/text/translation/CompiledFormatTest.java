@@ -0,0 +1,102 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+public class CompiledFormatTest {
+
+    private static final Formattable FORMATTABLE = new Formattable() {
+
+        @Override
+        public void formatTo(Formatter formatter, int flags, int width, int precision) {
+            formatter.format("formatted:%d", width);
+        }
+
+    };
+
+    private static void assertFormat(String pattern, Object... args) {
+        for (Locale locale : new Locale[] {Locale.ENGLISH, Locale.GERMAN, new Locale("ar", "SA")}) {
+            assertEquals(String.format(locale, pattern, args), CompiledFormat.compile(pattern).format(locale, args));
+        }
+    }
+
+    private static void assertFails(String pattern, Object... args) {
+        Class<?> expected = null;
+        try {
+            String.format(Locale.ENGLISH, pattern, args);
+            fail("String.format accepted " + pattern);
+        } catch (IllegalFormatException e) {
+            expected = e.getClass();
+        }
+        try {
+            CompiledFormat.compile(pattern).format(Locale.ENGLISH, args);
+            fail("Compiled format accepted " + pattern);
+        } catch (IllegalFormatException e) {
+            assertEquals(expected, e.getClass());
+        }
+    }
+
+    @Test
+    public void testPlain() {
+        assertFormat("no arguments");
+        assertFormat("");
+        assertFormat("%s joined the game", "Notch");
+        assertFormat("%s: %s", "Notch", null);
+        assertFormat("100%% done%n");
+        assertFormat("%s and %s", "extra", "arguments", "ignored");
+    }
+
+    @Test
+    public void testIndexes() {
+        assertFormat("%2$s was slain by %1$s", "Notch", "Zombie");
+        assertFormat("%s %<s %s %1$s %<s %s", "a", "b", "c");
+    }
+
+    @Test
+    public void testConversions() {
+        assertFormat("%d players, %.2f TPS, %5s|%-5s|%S", 12345, 19.987, "ab", "cd", "loud");
+        assertFormat("%,d blocks %x %b %c", 1234567, 255, null, 'c');
+        assertFormat("%s %10s", FORMATTABLE, FORMATTABLE);
+    }
+
+    @Test
+    public void testErrors() {
+        assertFails("%s and %s", "one");
+        assertFails("%<s", "one");
+        assertFails("50% off", 1);
+        assertFails("%q", 1);
+        assertFails("%d", "not a number");
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.base.Function;
+import org.junit.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+public class ResourceBundleTranslationTest {
+
+    /**
+     * A bundle function counting its invocations.
+     */
+    private static final class Bundles implements Function<Locale, ResourceBundle> {
+
+        int lookups;
+
+        @Override
+        public ResourceBundle apply(final Locale input) {
+            this.lookups++;
+            if (input.equals(Locale.FRENCH)) {
+                throw new MissingResourceException("No bundle", "Translations", "");
+            }
+            return new ListResourceBundle() {
+                @Override
+                protected Object[][] getContents() {
+                    return new Object[][] {{"greeting", input.equals(Locale.GERMAN) ? "Hallo %s!" : "Hello %s!"}};
+                }
+            };
+        }
+
+    }
+
+    @Test
+    public void testCachedBundles() {
+        Bundles bundles = new Bundles();
+        Translation greeting = new ResourceBundleTranslation("greeting", bundles);
+        assertEquals("Hello %s!", greeting.get(Locale.ENGLISH));
+        assertEquals("Hello Notch!", greeting.get(Locale.ENGLISH, "Notch"));
+        assertEquals("Hallo Notch!", new ResourceBundleTranslation("greeting", bundles).get(Locale.GERMAN, "Notch"));
+        assertEquals("missing", new ResourceBundleTranslation("missing", bundles).get(Locale.ENGLISH, "Notch"));
+        assertEquals("greeting", greeting.get(Locale.FRENCH, "Notch"));
+        assertEquals(3, bundles.lookups);
+
+        ResourceBundleTranslation.clearCache();
+        assertEquals("Hallo Notch!", greeting.get(Locale.GERMAN, "Notch"));
+        assertEquals(4, bundles.lookups);
+    }
+
+}
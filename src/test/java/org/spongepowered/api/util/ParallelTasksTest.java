@@ -0,0 +1,87 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ParallelTasksTest {
+
+    private static void assertAllRunOnce(Executor executor, int count) {
+        final AtomicIntegerArray runs = new AtomicIntegerArray(count);
+        ParallelTasks.run(executor, count, new ParallelTasks.Task() {
+            @Override
+            public void run(int index) {
+                runs.incrementAndGet(index);
+            }
+        });
+        for (int i = 0; i < count; i++) {
+            assertEquals(1, runs.get(i));
+        }
+    }
+
+    @Test
+    public void testSharedExecutor() {
+        assertAllRunOnce(ParallelTasks.getSharedExecutor(), 0);
+        assertAllRunOnce(ParallelTasks.getSharedExecutor(), 1);
+        assertAllRunOnce(ParallelTasks.getSharedExecutor(), 1000);
+    }
+
+    @Test
+    public void testRejectingExecutor() {
+        assertAllRunOnce(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }, 100);
+    }
+
+    @Test
+    public void testFailureRethrown() {
+        final IllegalStateException failure = new IllegalStateException();
+        try {
+            ParallelTasks.run(ParallelTasks.getSharedExecutor(), 100, new ParallelTasks.Task() {
+                @Override
+                public void run(int index) {
+                    if (index == 50) {
+                        throw failure;
+                    }
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+public class BlockRayBatchTest {
+
+    private static final int SIZE = 16;
+    private static final Answer<Boolean> CONTAINS = new Answer<Boolean>() {
+        @Override
+        public Boolean answer(InvocationOnMock invocation) {
+            for (Object coordinate : invocation.getArguments()) {
+                if (Math.abs((Integer) coordinate) > SIZE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    };
+    // Stops at a sparse pattern of blocks, some rays will miss
+    private static final BlockRayFilter SPARSE = new BlockRayFilter() {
+        @Override
+        public boolean accept(ImmutableBlockVolume volume, int blockX, int blockY, int blockZ, double distance) {
+            return (blockX * 31 + blockY * 17 + blockZ * 7 & 63) != 0;
+        }
+    };
+
+    private static ImmutableBlockVolume volume() {
+        ImmutableBlockVolume volume = mock(ImmutableBlockVolume.class);
+        when(volume.containsBlock(anyInt(), anyInt(), anyInt())).thenAnswer(CONTAINS);
+        return volume;
+    }
+
+    private static BlockRayBatch randomBatch(ImmutableBlockVolume volume, int count) {
+        final Random random = new Random(42);
+        final BlockRayBatch batch = BlockRay.batch(volume);
+        for (int i = 0; i < count; i++) {
+            final Vector3d origin = new Vector3d(random.nextDouble(), random.nextDouble(), random.nextDouble()).mul(20).sub(10, 10, 10);
+            final Vector3d direction = new Vector3d(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+            assertEquals(i, batch.add(origin, direction, 5 + random.nextInt(30), SPARSE));
+        }
+        return batch;
+    }
+
+    private static void assertSameAsTrace(final ImmutableBlockVolume volume, BlockRayBatch batch, BlockRayBatch.Results results) {
+        final Extent extent = mock(Extent.class);
+        when(extent.containsBlock(anyInt(), anyInt(), anyInt())).thenAnswer(CONTAINS);
+        final Random random = new Random(42);
+        int hits = 0;
+        for (int ray = 0; ray < batch.size(); ray++) {
+            final Vector3d origin = new Vector3d(random.nextDouble(), random.nextDouble(), random.nextDouble()).mul(20).sub(10, 10, 10);
+            final Vector3d direction = new Vector3d(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+            final MutableBlockRayHit<?>[] found = new MutableBlockRayHit<?>[1];
+            final boolean hit = BlockRay.trace(extent, origin, direction, 5 + random.nextInt(30), new BlockRayVisitor<Extent>() {
+                @Override
+                public boolean visit(MutableBlockRayHit<Extent> hit) {
+                    if (SPARSE.accept(volume, hit.getBlockX(), hit.getBlockY(), hit.getBlockZ(), hit.getDistance())) {
+                        return true;
+                    }
+                    found[0] = hit;
+                    return false;
+                }
+            });
+            assertEquals(hit, results.isHit(ray));
+            if (hit) {
+                hits++;
+                assertEquals(found[0].getBlockX(), results.getBlockX(ray));
+                assertEquals(found[0].getBlockY(), results.getBlockY(ray));
+                assertEquals(found[0].getBlockZ(), results.getBlockZ(ray));
+                assertEquals(found[0].getNormalX(), results.getNormalX(ray));
+                assertEquals(found[0].getNormalY(), results.getNormalY(ray));
+                assertEquals(found[0].getNormalZ(), results.getNormalZ(ray));
+                assertEquals(found[0].getDistance(), results.getDistance(ray), 0);
+                assertEquals(found[0].getX(), results.getX(ray), 1e-9);
+                assertEquals(found[0].getY(), results.getY(ray), 1e-9);
+                assertEquals(found[0].getZ(), results.getZ(ray), 1e-9);
+            } else {
+                assertTrue(Double.isNaN(results.getDistance(ray)));
+            }
+        }
+        // Make sure both cases are covered
+        assertTrue(hits > 0 && hits < batch.size());
+    }
+
+    @Test
+    public void testSameAsTrace() {
+        final ImmutableBlockVolume volume = volume();
+        final BlockRayBatch batch = randomBatch(volume, 1000);
+        assertSameAsTrace(volume, batch, batch.trace());
+    }
+
+    @Test
+    public void testExecutor() {
+        final ImmutableBlockVolume volume = volume();
+        final BlockRayBatch batch = randomBatch(volume, 500);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertSameAsTrace(volume, batch, batch.trace(executor));
+        } finally {
+            executor.shutdown();
+        }
+        // The calling thread traces all rays when the executor rejects them
+        assertSameAsTrace(volume, batch, batch.trace(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }));
+    }
+
+    @Test
+    public void testEmpty() {
+        final BlockRayBatch.Results results = BlockRay.batch(volume()).trace();
+        assertEquals(0, results.size());
+    }
+
+    @Test
+    public void testFailure() {
+        final BlockRayBatch batch = randomBatch(volume(), 100);
+        batch.add(0, 0, 0, 1, 0, 0, 10, new BlockRayFilter() {
+            @Override
+            public boolean accept(ImmutableBlockVolume volume, int blockX, int blockY, int blockZ, double distance) {
+                throw new IllegalStateException("filter");
+            }
+        });
+        try {
+            batch.trace();
+            fail();
+        } catch (IllegalStateException exception) {
+            assertEquals("filter", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testMissOutsideVolume() {
+        final BlockRayBatch batch = BlockRay.batch(volume());
+        batch.add(0.5, 0.5, 0.5, 0, 1, 0, Double.POSITIVE_INFINITY, new BlockRayFilter() {
+            @Override
+            public boolean accept(ImmutableBlockVolume volume, int blockX, int blockY, int blockZ, double distance) {
+                return true;
+            }
+        });
+        batch.add(0.5, 0.5, 0.5, 0, 1, 0, Double.POSITIVE_INFINITY, new BlockRayFilter() {
+            @Override
+            public boolean accept(ImmutableBlockVolume volume, int blockX, int blockY, int blockZ, double distance) {
+                return blockY < 3;
+            }
+        });
+        final BlockRayBatch.Results results = batch.trace();
+        assertFalse(results.isHit(0));
+        assertTrue(results.isHit(1));
+        assertEquals(3, results.getBlockY(1));
+        assertEquals(-1, results.getNormalY(1));
+        assertEquals(3, results.getY(1), 0);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BlockRayTest {
+
+    private static final int SIZE = 16;
+
+    private static Extent extent() {
+        Extent extent = mock(Extent.class);
+        when(extent.containsBlock(anyInt(), anyInt(), anyInt())).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                for (Object coordinate : invocation.getArguments()) {
+                    if (Math.abs((Integer) coordinate) > SIZE) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        });
+        return extent;
+    }
+
+    private static String describe(BlockRayHit<?> hit) {
+        // Adding zero turns negative zeros into positive ones
+        return hit.getBlockPosition() + " " + hit.getNormal().add(Vector3d.ZERO) + " " + hit.getPosition();
+    }
+
+    private static void assertSameBlocks(Extent extent, Vector3d origin, Vector3d direction) {
+        final List<String> iterated = new ArrayList<String>();
+        for (BlockRayHit<Extent> hit : BlockRay.from(extent, origin).direction(direction)) {
+            iterated.add(describe(hit));
+        }
+        final List<String> traced = new ArrayList<String>();
+        assertFalse(BlockRay.trace(extent, origin, direction, Double.POSITIVE_INFINITY, new BlockRayVisitor<Extent>() {
+            @Override
+            public boolean visit(MutableBlockRayHit<Extent> hit) {
+                traced.add(describe(hit.toHit()));
+                return true;
+            }
+        }));
+        assertEquals(iterated, traced);
+    }
+
+    @Test
+    public void testSameAsIterator() {
+        Extent extent = extent();
+        assertSameBlocks(extent, new Vector3d(0.5, 0.5, 0.5), new Vector3d(1, 0.3, -0.7));
+        assertSameBlocks(extent, new Vector3d(-3.2, 4.9, 1.1), new Vector3d(-0.2, -1, 0.45));
+        assertSameBlocks(extent, new Vector3d(2, 3, 4), new Vector3d(0.6, 0.15, 0.3));
+        // Edges and corners
+        assertSameBlocks(extent, new Vector3d(0.5, 0.5, 0.25), new Vector3d(1, 1, 0.3));
+        assertSameBlocks(extent, new Vector3d(0.5, 0.5, 0.5), new Vector3d(-1, -1, -1));
+    }
+
+    @Test
+    public void testStop() {
+        final Extent extent = extent();
+        final List<Integer> distances = new ArrayList<Integer>();
+        assertTrue(BlockRay.trace(extent, 0.5, 0.5, 0.5, 2, 0, 0, 100, new BlockRayVisitor<Extent>() {
+            @Override
+            public boolean visit(MutableBlockRayHit<Extent> hit) {
+                assertEquals(-1, hit.getNormalX());
+                assertEquals(0, hit.getBlockY());
+                distances.add(hit.getBlockX());
+                return hit.getBlockX() < 5;
+            }
+        }));
+        assertEquals(5, distances.size());
+        assertEquals(5, (int) distances.get(4));
+
+        distances.clear();
+        assertFalse(BlockRay.trace(extent, 0.5, 0.5, 0.5, 0, -1, 0, 3, new BlockRayVisitor<Extent>() {
+            @Override
+            public boolean visit(MutableBlockRayHit<Extent> hit) {
+                distances.add(hit.getBlockY());
+                return true;
+            }
+        }));
+        assertEquals(3, distances.size());
+        assertEquals(-3, (int) distances.get(2));
+    }
+
+}
@@ -51,10 +51,13 @@
 import org.spongepowered.api.util.command.CommandException;
 import org.spongepowered.api.util.command.CommandResult;
 import org.spongepowered.api.util.command.CommandSource;
+import org.spongepowered.api.util.command.args.parsing.SingleArg;
 import org.spongepowered.api.util.command.spec.CommandExecutor;
 import org.spongepowered.api.util.command.spec.CommandSpec;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.List;
+
 
 /**
  * Tests for all argument types contained in GenericArguments.
@@ -200,10 +203,71 @@ public void testEnumValue() throws ArgumentParseException {
         parseForInput("notanel", enumEl);
     }
 
+    @Test
+    public void testEnumValueMatching() throws ArgumentParseException {
+        CommandElement enumEl = enumValue(untr("val"), TestEnum.class);
+        assertEquals(TestEnum.TWO, parseForInput("tw", enumEl).getOne("val").get());
+        assertEquals(ImmutableList.of(TestEnum.ONE, TestEnum.RED), ImmutableList.copyOf(parseForInput("(o|r)", enumEl).getAll("val")));
+        assertEquals(ImmutableList.of("ONE"), enumEl.complete(MOCK_SOURCE, new CommandArgs("O", ImmutableList.of(new SingleArg("O", 0, 1))),
+                new CommandContext()));
+        assertEquals(ImmutableList.of("ONE", "RED", "TWO"), enumEl.complete(MOCK_SOURCE, new CommandArgs("", ImmutableList.<SingleArg>of()),
+                new CommandContext()));
+    }
+
+    private enum CaseEnum {
+        BAR, FOO, Foo, foo, FOOBAR
+    }
+
+    @Test
+    public void testEnumValueMatchingSameLowercase() throws ArgumentParseException {
+        CommandElement enumEl = enumValue(untr("val"), CaseEnum.class);
+        assertEquals(ImmutableList.of("FOO", "Foo", "foo", "FOOBAR"), enumEl.complete(MOCK_SOURCE,
+                new CommandArgs("foo", ImmutableList.of(new SingleArg("foo", 0, 3))), new CommandContext()));
+    }
+
     @Test
     public void testRemainingJoinedStrings() throws ArgumentParseException {
         CommandElement remainingJoined = remainingJoinedStrings(untr("val"));
         assertEquals("one", parseForInput("one", remainingJoined).getOne("val").get());
         assertEquals("one big string", parseForInput("one big string", remainingJoined).getOne("val").get());
     }
+
+    @Test
+    public void testTryParse() throws ArgumentParseException {
+        CommandElement el = firstParsing(integer(untr("val")), seq(string(untr("one")), integer(untr("two"))));
+        CommandSpec spec = CommandSpec.builder()
+                .arguments(el)
+                .executor(NULL_EXECUTOR)
+                .build();
+        final CommandArgs args = new CommandArgs("a b", spec.getInputTokenizer().tokenize("a b", false));
+        final Object startState = args.getState();
+        final CommandContext context = new CommandContext();
+
+        ParseResult result = spec.tryPopulateContext(MOCK_SOURCE, args, context);
+        assertFalse(result.isSuccess());
+        assertEquals(2, result.getError().getPosition());
+        assertEquals(startState, args.getState());
+        assertFalse(context.hasAny("val"));
+    }
+
+    @Test
+    public void testTryParseCustomElement() throws ArgumentParseException {
+        CommandElement custom = new CommandElement(untr("custom")) {
+            @Override
+            public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+                context.putArg("custom", args.next().toUpperCase());
+            }
+
+            @Override
+            protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+                return null;
+            }
+
+            @Override
+            public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
+                return ImmutableList.of();
+            }
+        };
+        assertEquals("A", parseForInput("a", firstParsing(integer(untr("val")), custom)).getOne("custom").get());
+    }
 }
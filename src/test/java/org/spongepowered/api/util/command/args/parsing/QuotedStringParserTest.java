@@ -97,4 +97,29 @@ public void testEscape() throws ArgumentParseException {
                 parseFrom("this demonstrates\\ escapes \\\"of 'various\\' characters\'"));
     }
 
+    @Test
+    public void testArgumentIndexes() throws ArgumentParseException {
+        final List<SingleArg> args = new QuotedStringTokenizer(true, false).tokenize("first 'second arg' th\\ird", false);
+        assertEquals(3, args.size());
+        assertEquals(0, args.get(0).getStartIdx());
+        assertEquals(5, args.get(0).getEndIdx());
+        assertEquals(6, args.get(1).getStartIdx());
+        assertEquals(17, args.get(1).getEndIdx());
+        assertEquals("second arg", args.get(1).getValue());
+        assertEquals(19, args.get(2).getStartIdx());
+        assertEquals(24, args.get(2).getEndIdx());
+        assertEquals("third", args.get(2).getValue());
+    }
+
+    @Test
+    public void testSpaceSplit() throws ArgumentParseException {
+        final List<SingleArg> args = InputTokenizers.spaceSplitString().tokenize("a  'b c'", false);
+        assertEquals(3, args.size());
+        assertEquals("a", args.get(0).getValue());
+        assertEquals("'b", args.get(1).getValue());
+        assertEquals(3, args.get(1).getStartIdx());
+        assertEquals("c'", args.get(2).getValue());
+        assertEquals(8, args.get(2).getEndIdx());
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.util.command.CommandCallable;
+import org.spongepowered.api.util.command.CommandMapping;
+import org.spongepowered.api.util.command.CommandSource;
+import org.spongepowered.api.util.test.TestHooks;
+
+/**
+ * Tests for alias lookup and completion in {@link SimpleDispatcher}.
+ */
+public class SimpleDispatcherTest {
+    static {
+        TestHooks.initialize();
+    }
+
+    private static CommandCallable callable(boolean permitted) {
+        CommandCallable callable = mock(CommandCallable.class);
+        when(callable.testPermission(any(CommandSource.class))).thenReturn(permitted);
+        return callable;
+    }
+
+    @Test
+    public void testCompletion() throws Exception {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(callable(true), "teleport", "tp", "tphere");
+        dispatcher.register(callable(true), "team");
+        dispatcher.register(callable(false), "tpall");
+        final CommandSource source = mock(CommandSource.class);
+
+        assertEquals(ImmutableList.of("team", "teleport", "tp", "tphere"), dispatcher.getSuggestions(source, "T"));
+        assertEquals(ImmutableList.of("tp", "tphere"), dispatcher.getSuggestions(source, "tp"));
+        assertEquals(ImmutableList.of("teleport"), dispatcher.getSuggestions(source, "tel"));
+        assertEquals(ImmutableList.of(), dispatcher.getSuggestions(source, "x"));
+        assertEquals(ImmutableList.of(), dispatcher.getSuggestions(source, "teleports"));
+    }
+
+    @Test
+    public void testLookupAndRemoval() throws Exception {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CommandMapping teleport = dispatcher.register(callable(true), "teleport", "tp").get();
+        final CommandMapping team = dispatcher.register(callable(true), "team", "te").get();
+
+        assertTrue(dispatcher.containsAlias("TP"));
+        assertEquals(teleport, dispatcher.get("Teleport").get());
+        assertEquals(ImmutableSet.of("teleport", "tp", "team", "te"), dispatcher.getAliases());
+        assertEquals(ImmutableSet.of("teleport", "team"), dispatcher.getPrimaryAliases());
+        assertEquals(4, dispatcher.size());
+
+        assertEquals(ImmutableList.of(team), dispatcher.remove("te"));
+        assertFalse(dispatcher.containsAlias("te"));
+        assertTrue(dispatcher.containsAlias("team"));
+        assertTrue(dispatcher.containsAlias("teleport"));
+
+        assertSame(teleport, dispatcher.removeMapping(teleport).get());
+        assertFalse(dispatcher.removeMapping(teleport).isPresent());
+        assertFalse(dispatcher.containsAlias("tp"));
+        assertEquals(ImmutableSet.of(team), dispatcher.getCommands());
+        assertEquals(1, dispatcher.size());
+    }
+}
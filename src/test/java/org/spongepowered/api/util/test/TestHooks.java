@@ -24,9 +24,19 @@
  */
 package org.spongepowered.api.util.test;
 
+import com.google.common.base.Optional;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.text.Texts;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class TestHooks {
@@ -41,10 +51,65 @@ public static void initialize()  {
                 Field textField = Texts.class.getDeclaredField("factory");
                 textField.setAccessible(true);
                 textField.set(null, new TestTextFactory());
+                initializeTextColors();
+                initializeBlockTypes();
             } catch (Exception e) {
                 throw new ExceptionInInitializerError(e);
             }
         }
     }
 
+    /**
+     * Replace the text colors provided by the implementation, which are null
+     * outside of a game, by mocks.
+     */
+    private static void initializeTextColors() throws Exception {
+        for (Field field : TextColors.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.get(null) == null) {
+                final TextColor color = Mockito.mock(TextColor.class);
+                Mockito.when(color.getName()).thenReturn(field.getName());
+                setStaticFinal(field, color);
+            }
+        }
+    }
+
+    /**
+     * Replace the block types provided by the implementation, which are null
+     * outside of a game, by mocks. Each type has a distinct default state,
+     * which keeps its type for any change of its data.
+     */
+    private static void initializeBlockTypes() throws Exception {
+        for (Field field : BlockTypes.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.get(null) == null) {
+                // The mocks are used for every block of generated chunks, so they don't record invocations
+                final BlockType type = Mockito.mock(BlockType.class, Mockito.withSettings().stubOnly());
+                final BlockState state = Mockito.mock(BlockState.class, Mockito.withSettings().stubOnly().defaultAnswer(new Answer<Object>() {
+                    @Override
+                    public Object answer(InvocationOnMock invocation) throws Throwable {
+                        if (invocation.getMethod().getName().equals("getType")) {
+                            return type;
+                        } else if (invocation.getMethod().getName().equals("with")) {
+                            return Optional.of(invocation.getMock());
+                        }
+                        return Mockito.RETURNS_DEFAULTS.answer(invocation);
+                    }
+                }));
+                Mockito.when(type.getName()).thenReturn(field.getName().toLowerCase());
+                Mockito.when(type.getDefaultState()).thenReturn(state);
+                setStaticFinal(field, type);
+            }
+        }
+    }
+
+    private static void setStaticFinal(Field field, Object value) throws Exception {
+        // Static final fields can only be written with unsafe, which isn't visible to the compiler
+        final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        final Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        final Object unsafe = unsafeField.get(null);
+        final Object base = unsafeClass.getMethod("staticFieldBase", Field.class).invoke(unsafe, field);
+        final Object offset = unsafeClass.getMethod("staticFieldOffset", Field.class).invoke(unsafe, field);
+        unsafeClass.getMethod("putObjectVolatile", Object.class, long.class, Object.class).invoke(unsafe, base, offset, value);
+    }
+
 }
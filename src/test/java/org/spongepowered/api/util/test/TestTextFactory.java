@@ -28,6 +28,7 @@
 import org.spongepowered.api.text.TextFactory;
 import org.spongepowered.api.text.TextRepresentation;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 
@@ -44,18 +45,27 @@ public String toPlain(Text text) {
     @Override
     public String toPlain(Text text, Locale locale) {
         final StringBuilder ret = new StringBuilder();
+        try {
+            toPlain(text, locale, ret);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return ret.toString();
+    }
+
+    @Override
+    public void toPlain(Text text, Locale locale, Appendable ret) throws IOException {
         for (Text child : text.withChildren()) {
             if (child instanceof Text.Literal) {
                 ret.append(((Text.Literal) child).getContent());
             } else if (child instanceof Text.Translatable) {
                 ret.append(((Text.Translatable) child).getTranslation().get(locale, convertArgs(((Text.Translatable) child).getArguments(), locale)));
             } else if (child instanceof  Text.Score) {
-                ret.append(((Text.Score) child).getScore().getScore());
+                ret.append(String.valueOf(((Text.Score) child).getScore().getScore()));
             } else if (child instanceof Text.Selector) {
                 ret.append(((Text.Selector) child).getSelector().toPlain());
             }
         }
-        return ret.toString();
     }
 
     private Object[] convertArgs(List<Object> args, Locale locale) {
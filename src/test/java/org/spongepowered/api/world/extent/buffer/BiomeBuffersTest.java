@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.junit.Test;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.BiomeArea;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.ReleasableBuffer;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
+
+import java.util.Random;
+
+public class BiomeBuffersTest {
+
+    private static final Vector2i MIN = new Vector2i(-20, 7);
+    private static final Vector2i SIZE = new Vector2i(37, 21);
+    private static final BiomeType OCEAN = mock(BiomeType.class);
+    private static final BiomeType[] BIOMES = new BiomeType[40];
+
+    static {
+        for (int i = 0; i < BIOMES.length; i++) {
+            BIOMES[i] = mock(BiomeType.class);
+        }
+    }
+
+    private static void assertSameBiomes(BiomeArea expected, BiomeArea actual) {
+        assertEquals(expected.getBiomeMin(), actual.getBiomeMin());
+        assertEquals(expected.getBiomeMax(), actual.getBiomeMax());
+        final Vector2i min = expected.getBiomeMin();
+        final Vector2i max = expected.getBiomeMax();
+        for (int z = min.getY(); z <= max.getY(); z++) {
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                assertSame(expected.getBiome(x, z), actual.getBiome(x, z));
+            }
+        }
+    }
+
+    private static void fillRandom(MutableBiomeArea reference, MutableBiomeArea buffer) {
+        final Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            final int x = MIN.getX() + random.nextInt(SIZE.getX());
+            final int z = MIN.getY() + random.nextInt(SIZE.getY());
+            final BiomeType biome = BIOMES[random.nextInt(BIOMES.length)];
+            reference.setBiome(x, z, biome);
+            buffer.setBiome(x, z, biome);
+        }
+    }
+
+    @Test
+    public void testStorageTypes() {
+        for (StorageType type : StorageType.values()) {
+            final MutableBiomeArea reference = new ArrayBiomeBuffer(MIN, SIZE, OCEAN);
+            final MutableBiomeArea buffer = BiomeBuffers.create(MIN, SIZE, type, OCEAN);
+            assertSameBiomes(reference, buffer);
+            fillRandom(reference, buffer);
+            assertSameBiomes(reference, buffer);
+            assertSameBiomes(reference, buffer.getBiomeCopy(StorageType.OFF_HEAP));
+            try {
+                buffer.getBiome(MIN.sub(1, 0));
+                fail();
+            } catch (PositionOutOfBoundsException ignored) {
+                // Expected
+            }
+            if (buffer instanceof ReleasableBuffer) {
+                ((ReleasableBuffer) buffer).release();
+                assertTrue(((ReleasableBuffer) buffer).isReleased());
+            }
+        }
+    }
+
+    @Test
+    public void testViews() {
+        final MutableBiomeArea buffer = BiomeBuffers.create(MIN, SIZE, StorageType.STANDARD, OCEAN);
+        final Vector2i point = MIN.add(5, 3);
+        buffer.setBiome(point, BIOMES[0]);
+
+        final MutableBiomeArea relative = buffer.getRelativeBiomeView();
+        assertEquals(Vector2i.ZERO, relative.getBiomeMin());
+        assertSame(BIOMES[0], relative.getBiome(5, 3));
+        relative.setBiome(6, 3, BIOMES[1]);
+        assertSame(BIOMES[1], buffer.getBiome(point.add(1, 0)));
+
+        final DiscreteTransform2 rotation = DiscreteTransform2.rotationAroundCenter(1, SIZE).withTranslation(MIN);
+        final MutableBiomeArea rotated = relative.getBiomeView(rotation);
+        assertSame(BIOMES[0], rotated.getBiome(rotation.transform(5, 3)));
+
+        final UnmodifiableBiomeArea unmodifiable = rotated.getBiomeView(rotated.getBiomeMin(), rotated.getBiomeMin().add(10, 10))
+                .getUnmodifiableBiomeView();
+        assertEquals(new Vector2i(11, 11), unmodifiable.getBiomeSize());
+        assertSameBiomes(unmodifiable, unmodifiable.getBiomeCopy());
+
+        final ImmutableBiomeArea immutable = buffer.getImmutableBiomeCopy();
+        assertSame(immutable, immutable.getImmutableBiomeCopy());
+        buffer.setBiome(point, BIOMES[2]);
+        assertSame(BIOMES[0], immutable.getBiome(point));
+    }
+
+}
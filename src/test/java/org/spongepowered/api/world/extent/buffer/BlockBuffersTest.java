@@ -0,0 +1,552 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.Axis;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.ReleasableBuffer;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.BlockVolumeReducer;
+import org.spongepowered.api.world.extent.worker.BlockVolumeVisitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BlockBuffersTest {
+
+    private static final Vector3i MIN = new Vector3i(-20, 3, 7);
+    private static final Vector3i SIZE = new Vector3i(37, 18, 21);
+    private static final BlockState AIR = mock(BlockState.class);
+    private static final BlockState[] STATES = new BlockState[300];
+
+    static {
+        for (int i = 0; i < STATES.length; i++) {
+            STATES[i] = mock(BlockState.class);
+        }
+    }
+
+    private static void assertSameBlocks(BlockVolume expected, BlockVolume actual) {
+        assertEquals(expected.getBlockMin(), actual.getBlockMin());
+        assertEquals(expected.getBlockMax(), actual.getBlockMax());
+        final Vector3i min = expected.getBlockMin();
+        final Vector3i max = expected.getBlockMax();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    assertSame(expected.getBlock(x, y, z), actual.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+    private static void fillRandom(MutableBlockVolume reference, MutableBlockVolume buffer, int states, int count) {
+        final Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            final int x = MIN.getX() + random.nextInt(SIZE.getX());
+            final int y = MIN.getY() + random.nextInt(SIZE.getY());
+            final int z = MIN.getZ() + random.nextInt(SIZE.getZ());
+            final BlockState state = random.nextInt(4) == 0 ? AIR : STATES[random.nextInt(states)];
+            reference.setBlock(x, y, z, state);
+            buffer.setBlock(x, y, z, state);
+        }
+    }
+
+    @Test
+    public void testStorageTypes() {
+        for (StorageType type : StorageType.values()) {
+            // Small palettes, scanned palettes and palettes with an index
+            for (int states : new int[] {1, 3, 15, 40, 300}) {
+                final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+                final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+                assertSameBlocks(reference, buffer);
+                fillRandom(reference, buffer, states, 20000);
+                assertSameBlocks(reference, buffer);
+                assertSameBlocks(reference, buffer.getBlockCopy(StorageType.PALETTED));
+            }
+        }
+    }
+
+    @Test
+    public void testBounds() {
+        for (StorageType type : StorageType.values()) {
+            final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+            assertEquals(MIN.add(SIZE).sub(Vector3i.ONE), buffer.getBlockMax());
+            try {
+                buffer.getBlock(MIN.sub(0, 1, 0));
+                fail();
+            } catch (PositionOutOfBoundsException ignored) {
+                // Expected
+            }
+            try {
+                buffer.setBlock(MIN.add(SIZE), STATES[0]);
+                fail();
+            } catch (PositionOutOfBoundsException ignored) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testViews() {
+        final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+        final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.PALETTED, AIR);
+        fillRandom(reference, buffer, 10, 5000);
+
+        final Vector3i viewMin = MIN.add(3, 2, 1);
+        final Vector3i viewMax = MIN.add(20, 10, 15);
+        final MutableBlockVolume view = buffer.getBlockView(viewMin, viewMax);
+        assertSameBlocks(reference.getBlockView(viewMin, viewMax).getBlockCopy(), view);
+        assertEquals(Vector3i.ZERO, view.getRelativeBlockView().getBlockMin());
+        assertSame(reference.getBlock(viewMin), view.getRelativeBlockView().getBlock(Vector3i.ZERO));
+        try {
+            view.getBlock(MIN);
+            fail();
+        } catch (PositionOutOfBoundsException ignored) {
+            // Expected
+        }
+
+        // Writes through the views reach the buffer
+        view.getRelativeBlockView().setBlock(1, 2, 3, STATES[7]);
+        assertSame(STATES[7], buffer.getBlock(viewMin.add(1, 2, 3)));
+        assertSame(STATES[7], buffer.getUnmodifiableBlockView().getBlock(viewMin.add(1, 2, 3)));
+
+        // A quarter turn around y maps (x, z) to (-z, x)
+        final DiscreteTransform3 rotation = DiscreteTransform3.fromRotation(1, Axis.Y);
+        final MutableBlockVolume rotated = view.getBlockView(rotation);
+        assertEquals(view.getBlockSize().getX(), rotated.getBlockSize().getZ());
+        assertEquals(view.getBlockSize().getZ(), rotated.getBlockSize().getX());
+        final Vector3i position = viewMin.add(4, 5, 6);
+        assertSame(buffer.getBlock(position), rotated.getBlock(rotation.transform(position)));
+        final Vector3i relative = rotation.transform(position).sub(rotated.getBlockMin());
+        assertSame(buffer.getBlock(position), rotated.getRelativeBlockView().getBlock(relative));
+        // Views of views are composed
+        assertSame(buffer.getBlock(position), rotated.getRelativeBlockView().getBlockView(rotation.invert())
+                .getBlock(rotation.invert().transform(relative)));
+    }
+
+    @Test
+    public void testImmutableCopy() {
+        final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.STANDARD, AIR);
+        buffer.setBlock(MIN, STATES[1]);
+        final ImmutableBlockVolume copy = buffer.getImmutableBlockCopy();
+        buffer.setBlock(MIN, STATES[2]);
+        assertSame(STATES[1], copy.getBlock(MIN));
+        assertSame(copy, copy.getImmutableBlockCopy());
+        assertTrue(copy.getRelativeBlockView() instanceof ImmutableBlockVolume);
+        assertSame(STATES[1], copy.getRelativeBlockView().getBlock(Vector3i.ZERO));
+    }
+
+    private static void fillReference(MutableBlockVolume reference, Vector3i min, Vector3i max, BlockState block) {
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    reference.setBlock(x, y, z, block);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFill() {
+        for (StorageType type : StorageType.values()) {
+            final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+            final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+            fillRandom(reference, buffer, 5, 2000);
+            final Random random = new Random(7);
+            for (int i = 0; i < 30; i++) {
+                final Vector3i first = MIN.add(random.nextInt(SIZE.getX()), random.nextInt(SIZE.getY()), random.nextInt(SIZE.getZ()));
+                final Vector3i second = MIN.add(random.nextInt(SIZE.getX()), random.nextInt(SIZE.getY()), random.nextInt(SIZE.getZ()));
+                final BlockState block = i % 3 == 0 ? AIR : STATES[i];
+                fillReference(reference, first.min(second), first.max(second), block);
+                buffer.fill(first.min(second), first.max(second), block);
+                assertSameBlocks(reference, buffer);
+            }
+            // Whole sections, then partial ones on top
+            buffer.fill(MIN, buffer.getBlockMax(), STATES[1]);
+            buffer.fill(MIN.add(1, 1, 1), MIN.add(17, 17, 17), AIR);
+            fillReference(reference, MIN, buffer.getBlockMax(), STATES[1]);
+            fillReference(reference, MIN.add(1, 1, 1), MIN.add(17, 17, 17), AIR);
+            assertSameBlocks(reference, buffer);
+            try {
+                buffer.fill(MIN.sub(1, 0, 0), MIN, AIR);
+                fail();
+            } catch (PositionOutOfBoundsException ignored) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testCopy() {
+        for (StorageType sourceType : StorageType.values()) {
+            for (StorageType type : StorageType.values()) {
+                final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+                final MutableBlockVolume source = BlockBuffers.create(MIN.add(5, -3, 2), SIZE, sourceType, AIR);
+                final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+                fillRandom(reference, source.getBlockView(DiscreteTransform3.fromTranslation(-5, 3, -2)), 20, 5000);
+                final Vector3i sourceMin = MIN.add(9, -1, 4);
+                final Vector3i destinationMin = MIN.add(2, 3, 1);
+                final Vector3i size = new Vector3i(20, 10, 15);
+                buffer.copyFrom(source, sourceMin, destinationMin, size);
+                for (int y = 0; y < size.getY(); y++) {
+                    for (int z = 0; z < size.getZ(); z++) {
+                        for (int x = 0; x < size.getX(); x++) {
+                            assertSame(source.getBlock(sourceMin.add(x, y, z)), buffer.getBlock(destinationMin.add(x, y, z)));
+                        }
+                    }
+                }
+                assertSameBlocks(source, BlockBuffers.copy(source, type));
+            }
+        }
+    }
+
+    @Test
+    public void testAlignedCopy() {
+        // Paletted buffers copy whole sections when they are aligned
+        final Vector3i sourceStart = MIN.add(-16, 32, 16);
+        for (BlockState fill : new BlockState[] {AIR, STATES[5]}) {
+            final MutableBlockVolume source = BlockBuffers.create(sourceStart, SIZE, StorageType.PALETTED, fill);
+            fillRandom(new ArrayBlockBuffer(MIN, SIZE, AIR), source.getBlockView(DiscreteTransform3.fromTranslation(MIN.sub(sourceStart))),
+                    4, 3000);
+            source.fill(sourceStart, sourceStart.add(15, 15, 15), STATES[6]);
+            final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.PALETTED, AIR);
+            buffer.copyFrom(source, sourceStart, MIN, SIZE);
+            assertSameBlocks(source.getBlockView(DiscreteTransform3.fromTranslation(MIN.sub(sourceStart))).getBlockCopy(), buffer);
+
+            final MutableBlockVolume partial = BlockBuffers.create(MIN, SIZE, StorageType.PALETTED, AIR);
+            partial.copyFrom(source, sourceStart.add(16, 0, 0), MIN, new Vector3i(21, 18, 21));
+            for (int y = 0; y < 18; y++) {
+                for (int z = 0; z < 21; z++) {
+                    for (int x = 0; x < 21; x++) {
+                        assertSame(source.getBlock(sourceStart.add(16 + x, y, z)), partial.getBlock(MIN.add(x, y, z)));
+                    }
+                    assertSame(AIR, partial.getBlock(MIN.add(21, y, z)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOverlappingCopy() {
+        for (StorageType type : StorageType.values()) {
+            final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+            final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+            fillRandom(reference, buffer, 20, 5000);
+            final Vector3i size = SIZE.sub(3, 2, 1);
+            reference.copyFrom(reference.getBlockCopy(), MIN, MIN.add(3, 2, 1), size);
+            buffer.copyFrom(buffer, MIN, MIN.add(3, 2, 1), size);
+            assertSameBlocks(reference, buffer);
+        }
+    }
+
+    @Test
+    public void testOverlappingViewCopy() {
+        final Vector3i max = MIN.add(SIZE).sub(Vector3i.ONE);
+        // Unaligned and aligned with the sections of paletted buffers, both ways
+        for (Vector3i shift : new Vector3i[] {new Vector3i(1, 0, 0), new Vector3i(16, 0, 0), new Vector3i(-3, 2, -1)}) {
+            final Vector3i sourceMin = MIN.max(MIN.sub(shift));
+            final Vector3i destinationMin = sourceMin.add(shift);
+            final Vector3i size = SIZE.sub(shift.abs());
+            for (StorageType type : StorageType.values()) {
+                final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+                final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+                fillRandom(reference, buffer, 20, 5000);
+                reference.copyFrom(reference.getBlockCopy(), sourceMin, destinationMin, size);
+                buffer.copyFrom(buffer.getBlockView(MIN, max), sourceMin, destinationMin, size);
+                assertSameBlocks(reference, buffer);
+                reference.copyFrom(reference.getBlockCopy(), sourceMin, destinationMin, size);
+                buffer.getBlockView(MIN, max).copyFrom(buffer.getUnmodifiableBlockView(), sourceMin, destinationMin, size);
+                assertSameBlocks(reference, buffer);
+                reference.copyFrom(reference.getBlockCopy(), sourceMin, destinationMin, size);
+                buffer.getBlockView(MIN, max).copyFrom(buffer, sourceMin, destinationMin, size);
+                assertSameBlocks(reference, buffer);
+            }
+        }
+    }
+
+    @Test
+    public void testOverlappingTransformedViewCopy() {
+        final Vector3i regionMin = MIN.add(2, 1, 3);
+        final Vector3i regionMax = regionMin.add(12, 12, 12);
+        final DiscreteTransform3[] transforms = {
+                DiscreteTransform3.fromTranslation(1, 0, 0),
+                DiscreteTransform3.fromTranslation(16, 2, -1),
+                DiscreteTransform3.fromRotation(1, Axis.Y, regionMin.add(6, 6, 6), false).withTranslation(2, 1, 0)
+        };
+        for (DiscreteTransform3 transform : transforms) {
+            for (StorageType type : StorageType.values()) {
+                final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+                final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+                fillRandom(reference, buffer, 20, 5000);
+                reference.copyFrom(reference.getBlockCopy().getBlockView(regionMin, regionMax), transform);
+                buffer.copyFrom(buffer.getBlockView(regionMin, regionMax), transform);
+                assertSameBlocks(reference, buffer);
+                reference.copyFrom(reference.getBlockCopy().getBlockView(regionMin, regionMax), transform);
+                buffer.getRelativeBlockView().copyFrom(buffer.getBlockView(regionMin, regionMax), transform.withTranslation(MIN.negate()));
+                assertSameBlocks(reference, buffer);
+            }
+        }
+    }
+
+    @Test
+    public void testTransformedCopy() {
+        final MutableBlockVolume source = new ArrayBlockBuffer(new Vector3i(3, 1, -4), new Vector3i(9, 5, 7), AIR);
+        final Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            source.setBlock(3 + random.nextInt(9), 1 + random.nextInt(5), -4 + random.nextInt(7), STATES[random.nextInt(10)]);
+        }
+        final DiscreteTransform3[] transforms = {
+                DiscreteTransform3.fromTranslation(-20, 5, 12),
+                DiscreteTransform3.fromRotation(1, Axis.Y, new Vector3i(5, 2, -1), false).withTranslation(-10, 6, 15),
+                DiscreteTransform3.fromRotation(2, Axis.X, new Vector3i(7, 3, 0), true).withTranslation(-18, 8, 20),
+                DiscreteTransform3.fromRotation(3, Axis.Z, new Vector3i(4, 1, -2), false).withScale(1, -1, 1).withTranslation(-15, 12, 14)
+        };
+        for (DiscreteTransform3 transform : transforms) {
+            for (StorageType type : StorageType.values()) {
+                final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, type, AIR);
+                buffer.copyFrom(source, transform);
+                final MutableBlockVolume viewed = BlockBuffers.create(MIN, SIZE, type, AIR);
+                viewed.getBlockView(DiscreteTransform3.fromRotation(1, Axis.Z)).copyFrom(source,
+                        transform.withTransformation(DiscreteTransform3.fromRotation(1, Axis.Z)));
+                for (int y = 1; y <= 5; y++) {
+                    for (int z = -4; z <= 2; z++) {
+                        for (int x = 3; x <= 11; x++) {
+                            assertSame(source.getBlock(x, y, z), buffer.getBlock(transform.transform(x, y, z)));
+                            assertSame(source.getBlock(x, y, z), viewed.getBlock(transform.transform(x, y, z)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testViewFill() {
+        final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+        final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.PALETTED, AIR);
+        final MutableBlockVolume rotated = buffer.getBlockView(DiscreteTransform3.fromRotation(1, Axis.X)).getRelativeBlockView();
+        final MutableBlockVolume referenceRotated = reference.getBlockView(DiscreteTransform3.fromRotation(1, Axis.X)).getRelativeBlockView();
+        rotated.fill(new Vector3i(2, 3, 4), new Vector3i(20, 15, 10), STATES[3]);
+        fillReference(referenceRotated, new Vector3i(2, 3, 4), new Vector3i(20, 15, 10), STATES[3]);
+        assertSameBlocks(reference, buffer);
+        rotated.copyFrom(rotated, new Vector3i(0, 0, 0), new Vector3i(5, 6, 7), new Vector3i(10, 10, 10));
+        referenceRotated.copyFrom(referenceRotated.getBlockCopy(), new Vector3i(0, 0, 0), new Vector3i(5, 6, 7), new Vector3i(10, 10, 10));
+        assertSameBlocks(reference, buffer);
+    }
+
+    @Test
+    public void testWorker() {
+        final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+        final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.PALETTED, AIR);
+        fillRandom(reference, buffer, 3, 3000);
+        final BlockVolumeReducer<Integer> countAir = new BlockVolumeReducer<Integer>() {
+            @Override
+            public Integer reduce(UnmodifiableBlockVolume volume, int x, int y, int z, Integer reduction) {
+                return volume.getBlock(x, y, z) == AIR ? reduction + 1 : reduction;
+            }
+        };
+        final int air = buffer.getBlockWorker().reduce(countAir, 0);
+        assertEquals((int) reference.getBlockWorker().reduce(countAir, 0), air);
+        final Vector3i max = MIN.add(10, 10, 10);
+        assertEquals(11 * 11 * 11, (int) buffer.getBlockView(MIN, max).getBlockWorker().reduce(new BlockVolumeReducer<Integer>() {
+            @Override
+            public Integer reduce(UnmodifiableBlockVolume volume, int x, int y, int z, Integer reduction) {
+                return reduction + 1;
+            }
+        }, 0));
+
+        // Replace all air in place
+        buffer.getBlockWorker().map(new BlockVolumeMapper() {
+            @Override
+            public BlockState map(UnmodifiableBlockVolume volume, int x, int y, int z) {
+                final BlockState block = volume.getBlock(x, y, z);
+                return block == AIR ? STATES[9] : block;
+            }
+        }, buffer);
+        assertEquals(0, (int) buffer.getBlockWorker().reduce(countAir, 0));
+        final int[] replaced = new int[1];
+        buffer.getBlockWorker().iterate(new BlockVolumeVisitor<MutableBlockVolume>() {
+            @Override
+            public void visit(MutableBlockVolume volume, int x, int y, int z) {
+                if (volume.getBlock(x, y, z) == STATES[9]) {
+                    replaced[0]++;
+                }
+            }
+        });
+        assertEquals(air, replaced[0]);
+    }
+
+    @Test
+    public void testRelease() {
+        final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.OFF_HEAP, AIR);
+        buffer.setBlock(MIN, STATES[0]);
+        final ReleasableBuffer releasable = (ReleasableBuffer) buffer;
+        assertFalse(releasable.isReleased());
+        releasable.release();
+        assertTrue(releasable.isReleased());
+        // Releasing twice does nothing
+        releasable.release();
+        try {
+            buffer.getBlock(MIN);
+            fail();
+        } catch (IllegalStateException ignored) {
+            // Expected
+        }
+        try {
+            buffer.setBlock(MIN, STATES[0]);
+            fail();
+        } catch (IllegalStateException ignored) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testMapped() throws IOException {
+        final File file = File.createTempFile("blocks", ".bin");
+        try {
+            final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+            final MutableBlockVolume buffer = BlockBuffers.createMapped(file, MIN, SIZE, AIR);
+            assertEquals(BlockBuffers.volume(SIZE) * 2L, file.length());
+            fillRandom(reference, buffer, 300, 20000);
+            assertSameBlocks(reference, buffer);
+            ((ReleasableBuffer) buffer).release();
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    private static void runThreads(int count, final Runnable task) throws InterruptedException {
+        final Thread[] threads = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            threads[i] = new Thread(task);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testConcurrentWrites() throws InterruptedException {
+        for (final boolean lockSections : new boolean[] {false, true}) {
+            final MutableBlockVolume buffer = BlockBuffers.createThreadSafe(MIN, SIZE, AIR, lockSections);
+            final AtomicInteger layers = new AtomicInteger();
+            // Each thread writes its own layers, including the two blocks sharing an element of the array
+            runThreads(6, new Runnable() {
+                @Override
+                public void run() {
+                    for (int y = layers.getAndIncrement(); y < SIZE.getY(); y = layers.getAndIncrement()) {
+                        for (int z = 0; z < SIZE.getZ(); z++) {
+                            for (int x = 0; x < SIZE.getX(); x++) {
+                                buffer.setBlock(MIN.add(x, y, z), STATES[(x + y + z) % STATES.length]);
+                            }
+                        }
+                    }
+                }
+            });
+            for (int y = 0; y < SIZE.getY(); y++) {
+                for (int z = 0; z < SIZE.getZ(); z++) {
+                    for (int x = 0; x < SIZE.getX(); x++) {
+                        assertSame(STATES[(x + y + z) % STATES.length], buffer.getBlock(MIN.add(x, y, z)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentFills() throws InterruptedException {
+        final MutableBlockVolume buffer = BlockBuffers.createThreadSafe(MIN, SIZE, AIR, true);
+        final Vector3i max = MIN.add(SIZE).sub(Vector3i.ONE);
+        final AtomicInteger fills = new AtomicInteger();
+        runThreads(4, new Runnable() {
+            @Override
+            public void run() {
+                for (int i = fills.getAndIncrement(); i < 200; i = fills.getAndIncrement()) {
+                    buffer.fill(MIN, max, STATES[i]);
+                }
+            }
+        });
+        // The fills lock the sections, so one of them wrote every block last
+        final BlockState last = buffer.getBlock(MIN);
+        final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, last);
+        assertSameBlocks(reference, buffer);
+    }
+
+    @Test
+    public void testSnapshots() {
+        final MutableBlockVolume reference = new ArrayBlockBuffer(MIN, SIZE, AIR);
+        final MutableBlockVolume buffer = BlockBuffers.create(MIN, SIZE, StorageType.PALETTED, AIR);
+        fillRandom(reference, buffer, 40, 5000);
+        final ImmutableBlockVolume snapshot = buffer.getImmutableBlockCopy();
+        final MutableBlockVolume copy = buffer.getBlockCopy(StorageType.PALETTED);
+        final ImmutableBlockVolume referenceSnapshot = reference.getImmutableBlockCopy();
+        // Writes to the buffer, including to shared sections, don't change the copies
+        buffer.setBlock(MIN, STATES[0]);
+        buffer.fill(MIN.add(2, 2, 2), MIN.add(20, 9, 12), STATES[1]);
+        buffer.fill(MIN, MIN.add(15, 15, 15), STATES[2]);
+        assertSameBlocks(referenceSnapshot, snapshot);
+        assertSameBlocks(referenceSnapshot, copy);
+        // And writes to the mutable copy don't change the buffer
+        final ImmutableBlockVolume modified = buffer.getImmutableBlockCopy();
+        copy.fill(MIN, MIN.add(SIZE).sub(Vector3i.ONE), STATES[3]);
+        copy.setBlock(MIN.add(1, 2, 3), STATES[4]);
+        assertSameBlocks(modified, buffer);
+        assertSameBlocks(referenceSnapshot, snapshot);
+
+        // Roll the buffer back
+        buffer.copyFrom(snapshot, MIN, MIN, SIZE);
+        assertSameBlocks(reference, buffer);
+        buffer.setBlock(MIN, STATES[5]);
+        assertSameBlocks(referenceSnapshot, snapshot);
+
+        // Snapshots of transformed views
+        final DiscreteTransform3 rotation = DiscreteTransform3.rotationAroundCenter(1, Axis.Y, SIZE).withTranslation(MIN);
+        final MutableBlockVolume view = buffer.getRelativeBlockView().getBlockView(rotation);
+        final MutableBlockVolume viewCopy = BlockBuffers.copy(view, StorageType.STANDARD);
+        final ImmutableBlockVolume viewSnapshot = view.getImmutableBlockCopy();
+        view.fill(view.getBlockMin(), view.getBlockMax(), STATES[6]);
+        assertSameBlocks(viewCopy, viewSnapshot);
+    }
+
+}